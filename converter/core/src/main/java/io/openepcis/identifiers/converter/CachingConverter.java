@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter;
+
+import io.openepcis.core.exception.ValidationException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@link Converter} remembering the most recently used conversions in size-bounded caches, one per
+ * conversion direction and identifier level. EPCIS documents repeat the same identifiers across
+ * their events, so that most of the identifiers are converted only once.
+ *
+ * <p>Only successful conversions are cached, failing identifiers are converted and rejected again
+ * on every call. Conversions with an explicitly provided GCP length and the batch conversions are
+ * delegated without being cached.
+ */
+public class CachingConverter extends Converter {
+
+  public static final int DEFAULT_MAXIMUM_SIZE = 100_000;
+
+  private final ConversionCache<String> uriCache;
+  private final ConversionCache<EpcConversion> urnCache;
+  private final ConversionCache<String> classLevelUriCache;
+  private final ConversionCache<EpcConversion> classLevelUrnCache;
+
+  public CachingConverter() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * @param maximumSize maximum number of conversions remembered per conversion direction and
+   *     identifier level
+   */
+  public CachingConverter(final int maximumSize) {
+    uriCache = new ConversionCache<>(maximumSize);
+    urnCache = new ConversionCache<>(maximumSize);
+    classLevelUriCache = new ConversionCache<>(maximumSize);
+    classLevelUrnCache = new ConversionCache<>(maximumSize);
+  }
+
+  @Override
+  public String toURI(final String urn) throws ValidationException {
+    String uri = uriCache.get(urn);
+    if (uri == null) {
+      uri = super.toURI(urn);
+      uriCache.put(urn, uri);
+    }
+    return uri;
+  }
+
+  @Override
+  public EpcConversion toEpcConversion(final String dlURI) throws ValidationException {
+    EpcConversion conversion = urnCache.get(dlURI);
+    if (conversion == null) {
+      conversion = super.toEpcConversion(dlURI);
+      urnCache.put(dlURI, conversion);
+    }
+    return conversion;
+  }
+
+  @Override
+  public String toURIForClassLevelIdentifier(final String urn) throws ValidationException {
+    String uri = classLevelUriCache.get(urn);
+    if (uri == null) {
+      uri = super.toURIForClassLevelIdentifier(urn);
+      classLevelUriCache.put(urn, uri);
+    }
+    return uri;
+  }
+
+  @Override
+  public EpcConversion toEpcConversionForClassLevelIdentifier(final String dlURI)
+      throws ValidationException {
+    EpcConversion conversion = classLevelUrnCache.get(dlURI);
+    if (conversion == null) {
+      conversion = super.toEpcConversionForClassLevelIdentifier(dlURI);
+      classLevelUrnCache.put(dlURI, conversion);
+    }
+    return conversion;
+  }
+
+  @Override
+  public CompletionStage<Map<String, String>> toURNAsync(final String dlURI) {
+    final EpcConversion conversion = urnCache.get(dlURI);
+    return conversion != null
+        ? CompletableFuture.completedFuture(conversion.toMap())
+        : super.toURNAsync(dlURI);
+  }
+
+  @Override
+  public CompletionStage<Map<String, String>> toURNForClassLevelIdentifierAsync(
+      final String dlURI) {
+    final EpcConversion conversion = classLevelUrnCache.get(dlURI);
+    return conversion != null
+        ? CompletableFuture.completedFuture(conversion.toMap())
+        : super.toURNForClassLevelIdentifierAsync(dlURI);
+  }
+
+  @Override
+  public ConversionResult<String> tryToURI(final String urn) {
+    final String uri = uriCache.get(urn);
+    if (uri != null) {
+      return ConversionResult.success(urn, uri);
+    }
+    final ConversionResult<String> result = super.tryToURI(urn);
+    if (result.isSuccess()) {
+      uriCache.put(urn, result.value());
+    }
+    return result;
+  }
+
+  @Override
+  public ConversionResult<EpcConversion> tryToURN(final String dlURI) {
+    final EpcConversion conversion = urnCache.get(dlURI);
+    if (conversion != null) {
+      return ConversionResult.success(dlURI, conversion);
+    }
+    final ConversionResult<EpcConversion> result = super.tryToURN(dlURI);
+    if (result.isSuccess()) {
+      urnCache.put(dlURI, result.value());
+    }
+    return result;
+  }
+
+  /**
+   * @return hit, miss and eviction counters summed up over all caches of this converter
+   */
+  public ConversionCacheStats stats() {
+    return uriCache
+        .stats()
+        .plus(urnCache.stats())
+        .plus(classLevelUriCache.stats())
+        .plus(classLevelUrnCache.stats());
+  }
+
+  /** Removes all cached conversions, e.g. after the GCP length lists have been reloaded. */
+  public void clear() {
+    uriCache.clear();
+    urnCache.clear();
+    classLevelUriCache.clear();
+    classLevelUrnCache.clear();
+  }
+}
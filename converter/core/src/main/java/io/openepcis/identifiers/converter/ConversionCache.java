@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size-bounded concurrent cache evicting with the CLOCK (second chance) policy. Lookups are lock
+ * free and only mark the entry as recently used, insertions are serialized per segment so that the
+ * clock hand of one segment never blocks the others.
+ *
+ * @param <V> type of the cached values, which must be immutable as they are shared across callers
+ */
+final class ConversionCache<V> {
+
+  private static final int MAX_SEGMENTS = 16;
+
+  private final ConcurrentHashMap<String, Entry<V>> entries;
+  private final Segment<V>[] segments;
+  private final int segmentMask;
+  private final int maximumSize;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  @SuppressWarnings("unchecked")
+  ConversionCache(final int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Maximum cache size must be positive: " + maximumSize);
+    }
+    // Power of two number of segments, each of them holding at least 64 entries
+    int segmentCount = 1;
+    while (segmentCount < MAX_SEGMENTS && segmentCount * 2 * 64 <= maximumSize) {
+      segmentCount *= 2;
+    }
+    this.maximumSize = maximumSize;
+    this.segmentMask = segmentCount - 1;
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      // Spread the remainder over the first segments so that the capacities add up to the maximum
+      segments[i] =
+          new Segment<>(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+    }
+    this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+  }
+
+  /**
+   * @return cached value for the key, null if the key is not cached
+   */
+  V get(final String key) {
+    final Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+    if (!entry.referenced) {
+      entry.referenced = true;
+    }
+    hits.increment();
+    return entry.value;
+  }
+
+  /**
+   * Adds the value unless the key is already cached, evicting the first entry not used since the
+   * clock hand passed it if the segment of the key is full.
+   */
+  void put(final String key, final V value) {
+    final Segment<V> segment = segments[spread(key.hashCode()) & segmentMask];
+    segment.lock.lock();
+    try {
+      if (entries.containsKey(key)) {
+        return;
+      }
+      final Entry<V> entry = new Entry<>(key, value);
+      final int slot = segment.nextSlot();
+      final Entry<V> victim = segment.ring[slot];
+      if (victim != null) {
+        entries.remove(victim.key, victim);
+        evictions.increment();
+      }
+      segment.ring[slot] = entry;
+      entries.put(key, entry);
+    } finally {
+      segment.lock.unlock();
+    }
+  }
+
+  void clear() {
+    for (final Segment<V> segment : segments) {
+      segment.lock.lock();
+      try {
+        for (final Entry<V> entry : segment.ring) {
+          if (entry != null) {
+            entries.remove(entry.key, entry);
+          }
+        }
+        segment.clear();
+      } finally {
+        segment.lock.unlock();
+      }
+    }
+  }
+
+  ConversionCacheStats stats() {
+    return new ConversionCacheStats(
+        hits.sum(), misses.sum(), evictions.sum(), entries.size(), maximumSize);
+  }
+
+  private static int spread(final int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static final class Entry<V> {
+    private final String key;
+    private final V value;
+    // Set on hits without synchronization, a lost update only costs one second chance
+    private volatile boolean referenced;
+
+    private Entry(final String key, final V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  private static final class Segment<V> {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Entry<V>[] ring;
+    private int size;
+    private int hand;
+
+    @SuppressWarnings("unchecked")
+    private Segment(final int capacity) {
+      this.ring = new Entry[Math.max(capacity, 1)];
+    }
+
+    // Slot receiving the next entry, either a free one or the one of the entry to evict
+    private int nextSlot() {
+      if (size < ring.length) {
+        return size++;
+      }
+      while (true) {
+        final Entry<V> candidate = ring[hand];
+        final int slot = hand;
+        hand = hand + 1 == ring.length ? 0 : hand + 1;
+        if (!candidate.referenced) {
+          return slot;
+        }
+        candidate.referenced = false;
+      }
+    }
+
+    private void clear() {
+      Arrays.fill(ring, null);
+      size = 0;
+      hand = 0;
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter;
+
+/**
+ * Point in time counters of a conversion cache. The counters are cumulative since the cache was
+ * created and are not reset when the cache is cleared.
+ *
+ * @param hits number of lookups answered from the cache
+ * @param misses number of lookups which had to run the conversion
+ * @param evictions number of entries removed to stay within the maximum size
+ * @param size number of entries currently cached
+ * @param maximumSize maximum number of entries the cache holds
+ */
+public record ConversionCacheStats(
+    long hits, long misses, long evictions, long size, long maximumSize) {
+
+  /**
+   * @return share of the lookups answered from the cache, 0 if there were no lookups yet
+   */
+  public double hitRate() {
+    final long requests = hits + misses;
+    return requests == 0 ? 0 : (double) hits / requests;
+  }
+
+  ConversionCacheStats plus(final ConversionCacheStats other) {
+    return new ConversionCacheStats(
+        hits + other.hits,
+        misses + other.misses,
+        evictions + other.evictions,
+        size + other.size,
+        maximumSize + other.maximumSize);
+  }
+}
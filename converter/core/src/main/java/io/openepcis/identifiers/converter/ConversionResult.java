@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter;
+
+import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+
+/**
+ * Outcome of converting one identifier without throwing. Either carries the converted value or the
+ * reason why the identifier could not be converted, the message of which is only formatted when
+ * requested.
+ *
+ * @param identifier identifier as provided to the conversion
+ * @param value converted value, null if the conversion failed
+ * @param validation valid result on success, otherwise the error code and message of the failure
+ * @param <T> type of the converted value
+ */
+public record ConversionResult<T>(String identifier, T value, ValidationResult validation) {
+
+  public static <T> ConversionResult<T> success(final String identifier, final T value) {
+    return new ConversionResult<>(identifier, value, ValidationResult.valid());
+  }
+
+  public static <T> ConversionResult<T> failure(
+      final String identifier, final ValidationResult validation) {
+    return new ConversionResult<>(identifier, null, validation);
+  }
+
+  public static <T> ConversionResult<T> failure(
+      final String identifier, final RuntimeException error) {
+    final ValidationErrorCode code =
+        error instanceof UnsupportedGS1IdentifierException
+            ? ValidationErrorCode.UNSUPPORTED_IDENTIFIER
+            : ValidationErrorCode.INVALID_VALUE;
+    return new ConversionResult<>(identifier, null, ValidationResult.invalid(code, error));
+  }
+
+  public boolean isSuccess() {
+    return validation.isValid();
+  }
+
+  /**
+   * @return reason of the failure, null if the conversion succeeded
+   */
+  public ValidationErrorCode errorCode() {
+    return validation.getCode();
+  }
+
+  /**
+   * @return failure message formatted on demand, null if the conversion succeeded
+   */
+  public String message() {
+    return validation.getMessage();
+  }
+
+  /**
+   * @return the exception the throwing conversion API raises for this failure, null if the
+   *     conversion succeeded
+   */
+  public RuntimeException error() {
+    return validation.toException();
+  }
+}
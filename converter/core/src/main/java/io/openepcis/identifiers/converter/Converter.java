@@ -12,50 +12,87 @@ package io.openepcis.identifiers.converter;
 
 import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GCPLengthMemo;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.digitallink.utils.GS1DigitalLinkParser;
 import io.openepcis.identifiers.converter.core.*;
+import io.openepcis.identifiers.validator.ValidationContext;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.OptionalInt;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.openepcis.constants.ApplicationIdentifierConstants.*;
 
 public class Converter {
 
   private static final String INVALID_URI_MESSAGE =
       "Provided URI format does not match with any of the GS1 identifiers format.%nPlease check the URI: %s";
-  private final Set<io.openepcis.identifiers.converter.core.Converter> dl = new HashSet<>();
-  private final Set<io.openepcis.identifiers.converter.core.Converter> classLevelTranslator =
-      new HashSet<>();
+  private static final String INVALID_URN_MESSAGE =
+      "Provided URN format does not match with any of the GS1 identifiers format.%nPlease check the URN: %s";
+
+  private static final String INVALID_GCP_LENGTH_MESSAGE =
+      "Invalid GCP Length, GCP Length should be between 6-12 digits. Please check the provided GCP Length: %s";
+  private static final String GCP_LENGTH_NOT_FOUND_MESSAGE =
+      "GCP length not found for Digital Link URI: %s. Visit GEPIR (https://gepir.gs1.org/) or contact your GS1 MO.";
+
+  // Same context as used by the converters when validating a URN
+  private static final ValidationContext URN_CONTEXT = ValidationContext.defaultContext();
+
+  // Number of identifiers of the same type converted by one task during parallel batch conversion
+  private static final int BATCH_CHUNK_SIZE = 256;
+
+  // Dispatch indexes selecting the EPC instance-level and class-level converter in one pass
+  private final ConverterDispatchIndex instanceLevelIndex;
+  private final ConverterDispatchIndex classLevelIndex;
   private final EventVocabularyFormatter eventVocabularyFormatter = new EventVocabularyFormatter();
 
   public Converter() {
-    // Add all EPC instance-level converter
-    dl.add(new SGTINConverter());
-    dl.add(new SSCCConverter());
-    dl.add(new SGLNConverter());
-    dl.add(new GRAIConverter());
-    dl.add(new GIAIConverter());
-    dl.add(new GSRNConverter());
-    dl.add(new GSRNPConverter());
-    dl.add(new GDTIConverter());
-    dl.add(new CPIConverter());
-    dl.add(new GCNConverter());
-    dl.add(new GINCConverter());
-    dl.add(new GSINConverter());
-    dl.add(new ITIPConverter());
-    dl.add(new UPUIConverter());
-    dl.add(new PGLNConverter());
-
-    // Add all EPC class-level converter
-    classLevelTranslator.add(new LGTINConverter());
-    classLevelTranslator.add(new SGTINConverter(true));
-    classLevelTranslator.add(new GRAIConverter(true));
-    classLevelTranslator.add(new GDTIConverter(true));
-    classLevelTranslator.add(new GCNConverter(true));
-    classLevelTranslator.add(new CPIConverter(true));
-    classLevelTranslator.add(new ITIPConverter(true));
+    // Add all EPC instance-level converter, registration order defines the precedence
+    instanceLevelIndex =
+        ConverterDispatchIndex.builder()
+            .register(new SGTINConverter(), SGTIN_AI_URN_PREFIX, List.of("/01/", "/21/"), List.of())
+            .register(new SSCCConverter(), SSCC_AI_URN_PREFIX, List.of(SSCC_AI_URI_PREFIX), List.of())
+            .register(new SGLNConverter(), SGLN_AI_URN_PREFIX, List.of(SGLN_AI_URI_PREFIX), List.of())
+            .register(new GRAIConverter(), GRAI_AI_URN_PREFIX, List.of(GRAI_AI_URI_PREFIX), List.of())
+            .register(new GIAIConverter(), GIAI_AI_URN_PREFIX, List.of(GIAI_AI_URI_PREFIX), List.of())
+            .register(new GSRNConverter(), GSRN_AI_URN_PREFIX, List.of(GSRN_AI_URI_PREFIX), List.of())
+            .register(new GSRNPConverter(), GSRNP_AI_URN_PREFIX, List.of("/8017/"), List.of())
+            .register(new GDTIConverter(), GDTI_AI_URN_PREFIX, List.of(GDTI_AI_URI_PREFIX), List.of())
+            .register(new CPIConverter(), CPI_AI_URN_PREFIX, List.of("/8010/", "/8011/"), List.of())
+            .register(new GCNConverter(), GCN_AI_URN_PREFIX, List.of(GCN_AI_URI_PREFIX), List.of())
+            .register(new GINCConverter(), GINC_AI_URN_PREFIX, List.of(GINC_AI_URI_PREFIX), List.of())
+            .register(new GSINConverter(), GSIN_AI_URN_PREFIX, List.of(GSIN_AI_URI_PREFIX), List.of())
+            .register(new ITIPConverter(), ITIP_AI_URN_PREFIX, List.of("/8006/"), List.of())
+            .register(new UPUIConverter(), UPUI_AI_URN_PREFIX, List.of("/01/", "/235/"), List.of())
+            .register(new PGLNConverter(), PGLN_AI_URN_PREFIX, List.of(PGLN_AI_URI_PREFIX), List.of())
+            .build();
+
+    // Add all EPC class-level converter, LGTIN takes precedence over class-level SGTIN
+    classLevelIndex =
+        ConverterDispatchIndex.builder()
+            .register(new LGTINConverter(), LGTIN_AI_URN_PREFIX, List.of("/01/", "/10/"), List.of())
+            .register(new SGTINConverter(true), SGTIN_AI_URN_PREFIX, List.of("/01/"), List.of("/10/"))
+            .register(new GRAIConverter(true), GRAI_AI_URN_PREFIX, List.of(GRAI_AI_URI_PREFIX), List.of())
+            .register(new GDTIConverter(true), GDTI_AI_URN_PREFIX, List.of(GDTI_AI_URI_PREFIX), List.of())
+            .register(new GCNConverter(true), GCN_AI_URN_PREFIX, List.of(GCN_AI_URI_PREFIX), List.of())
+            .register(new CPIConverter(true), CPI_AI_URN_PREFIX, List.of("/8010/"), List.of())
+            .register(new ITIPConverter(true), ITIP_AI_URN_PREFIX, List.of("/8006/"), List.of())
+            .build();
   }
 
   /**
@@ -70,15 +107,7 @@ public class Converter {
    *     occurred during the conversion
    */
   public String toURI(final String urn) throws ValidationException {
-    for (io.openepcis.identifiers.converter.core.Converter uri : dl) {
-      if (uri.supportsDigitalLinkURI(urn)) {
-        return uri.convertToDigitalLink(urn);
-      }
-    }
-    throw new UnsupportedGS1IdentifierException(
-        String.format(
-            "Provided URN format does not match with any of the GS1 identifiers format.%nPlease check the URN: %s",
-            urn));
+    return forUrn(instanceLevelIndex, urn).convertToDigitalLink(urn);
   }
 
   /**
@@ -96,12 +125,7 @@ public class Converter {
    */
   public Map<String, String> toURN(final String dlURI, final int gcpLength)
       throws ValidationException {
-    for (io.openepcis.identifiers.converter.core.Converter inputuri : dl) {
-      if (inputuri.supportsURN(dlURI)) {
-        return inputuri.convertToURN(dlURI, gcpLength);
-      }
-    }
-    throw new UnsupportedGS1IdentifierException(String.format(INVALID_URI_MESSAGE, dlURI));
+    return toEpcConversion(dlURI, gcpLength).toMap();
   }
 
   /**
@@ -116,12 +140,56 @@ public class Converter {
    *     occurred during the conversion
    */
   public Map<String, String> toURN(final String dlURI) throws ValidationException {
-    for (io.openepcis.identifiers.converter.core.Converter inputuri : dl) {
-      if (inputuri.supportsURN(dlURI)) {
-        return inputuri.convertToURN(dlURI);
-      }
-    }
-    throw new UnsupportedGS1IdentifierException(String.format(INVALID_URI_MESSAGE, dlURI));
+    return toEpcConversion(dlURI).toMap();
+  }
+
+  /**
+   * Typed variant of {@link #toURN(String, int)} which does not build a Map for every conversion.
+   *
+   * @param dlURI Instance level DigitalLink URI that needs to be converted ex:
+   *     https://id.gs1.org/01/12345678901231/21/9999
+   * @param gcpLength GCP Length based on which URN needs to be generated (6-12 digit). Ex: 9
+   * @return returns the immutable conversion result including the URN ex:
+   *     urn:epc:id:sgtin:234567890.1123.9999
+   * @throws ValidationException throws the exception with appropriate information if some error
+   *     occurred during the conversion
+   */
+  public EpcConversion toEpcConversion(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return forDigitalLink(instanceLevelIndex, dlURI).convertToEpc(dlURI, gcpLength);
+  }
+
+  /**
+   * Typed variant of {@link #toURN(String)} which does not build a Map for every conversion.
+   *
+   * @param dlURI Instance level DigitalLink URI that needs to be converted ex:
+   *     https://id.gs1.org/01/12345678901231/21/9999
+   * @return returns the immutable conversion result including the URN ex:
+   *     urn:epc:id:sgtin:234567890.1123.9999
+   * @throws ValidationException throws the exception with appropriate information if some error
+   *     occurred during the conversion
+   */
+  public EpcConversion toEpcConversion(final String dlURI) throws ValidationException {
+    return forDigitalLink(instanceLevelIndex, dlURI).convertToEpc(dlURI);
+  }
+
+  /**
+   * Variant of {@link #toEpcConversion(String)} for an already parsed Digital Link, the GCP length
+   * is resolved from the parsed primary key. The converter is selected on the URI string, which the
+   * parsed link returns without copying when it was parsed from a String, the built-in converters
+   * then validate and convert the parsed AI elements, see {@link
+   * io.openepcis.identifiers.converter.core.Converter#convertToEpc(GS1DigitalLink, int)}.
+   *
+   * @param digitalLink Instance level DigitalLink URI parsed with {@link
+   *     GS1DigitalLinkParser#parse(CharSequence)}
+   * @return returns the immutable conversion result including the URN ex:
+   *     urn:epc:id:sgtin:234567890.1123.9999
+   * @throws ValidationException throws the exception with appropriate information if some error
+   *     occurred during the conversion
+   */
+  public EpcConversion toEpcConversion(final GS1DigitalLink digitalLink)
+      throws ValidationException {
+    return forDigitalLink(instanceLevelIndex, digitalLink.toString()).convertToEpc(digitalLink);
   }
 
   /**
@@ -136,15 +204,7 @@ public class Converter {
    *     occurred during the conversion
    */
   public String toURIForClassLevelIdentifier(final String urn) throws ValidationException {
-    for (io.openepcis.identifiers.converter.core.Converter uri : classLevelTranslator) {
-      if (uri.supportsDigitalLinkURI(urn)) {
-        return uri.convertToDigitalLink(urn);
-      }
-    }
-    throw new UnsupportedGS1IdentifierException(
-        String.format(
-            "Provided URN format does not match with any of the GS1 identifiers format.%nPlease check the URN: %s",
-            urn));
+    return forUrn(classLevelIndex, urn).convertToDigitalLink(urn);
   }
 
   /**
@@ -160,12 +220,7 @@ public class Converter {
    */
   public Map<String, String> toURNForClassLevelIdentifier(final String dlURI)
       throws ValidationException {
-    for (io.openepcis.identifiers.converter.core.Converter inputuri : classLevelTranslator) {
-      if (inputuri.supportsURN(dlURI)) {
-        return inputuri.convertToURN(dlURI);
-      }
-    }
-    throw new UnsupportedGS1IdentifierException(String.format(INVALID_URI_MESSAGE, dlURI));
+    return toEpcConversionForClassLevelIdentifier(dlURI).toMap();
   }
 
   /**
@@ -183,12 +238,40 @@ public class Converter {
    */
   public Map<String, String> toURNForClassLevelIdentifier(final String dlURI, int gcpLength)
       throws ValidationException {
-    for (io.openepcis.identifiers.converter.core.Converter inputuri : classLevelTranslator) {
-      if (inputuri.supportsURN(dlURI)) {
-        return inputuri.convertToURN(dlURI, gcpLength);
-      }
-    }
-    throw new UnsupportedGS1IdentifierException(String.format(INVALID_URI_MESSAGE, dlURI));
+    return toEpcConversionForClassLevelIdentifier(dlURI, gcpLength).toMap();
+  }
+
+  /**
+   * Typed variant of {@link #toURNForClassLevelIdentifier(String)} which does not build a Map for
+   * every conversion.
+   *
+   * @param dlURI Class level DigitalLink Class URI that needs to be converted ex:
+   *     https://id.gs1.org/01/12345678901234
+   * @return returns the immutable conversion result including the URN ex:
+   *     urn:epc:idpat:sgtin:234567.1890123.*
+   * @throws ValidationException throws the exception with appropriate information if some error
+   *     occurred during the conversion
+   */
+  public EpcConversion toEpcConversionForClassLevelIdentifier(final String dlURI)
+      throws ValidationException {
+    return forDigitalLink(classLevelIndex, dlURI).convertToEpc(dlURI);
+  }
+
+  /**
+   * Typed variant of {@link #toURNForClassLevelIdentifier(String, int)} which does not build a Map
+   * for every conversion.
+   *
+   * @param dlURI Class level DigitalLink Class URI that needs to be converted ex:
+   *     https://id.gs1.org/01/12345678901234
+   * @param gcpLength GCP Length based on which URN needs to be generated (6-12 digit). Ex: 10
+   * @return returns the immutable conversion result including the URN ex:
+   *     urn:epc:idpat:sgtin:234567.1890123.*
+   * @throws ValidationException throws the exception with appropriate information if some error
+   *     occurred during the conversion
+   */
+  public EpcConversion toEpcConversionForClassLevelIdentifier(
+      final String dlURI, final int gcpLength) throws ValidationException {
+    return forDigitalLink(classLevelIndex, dlURI).convertToEpc(dlURI, gcpLength);
   }
 
   /**
@@ -198,13 +281,12 @@ public class Converter {
    * @return CompletionStage completing with the converted URN map
    */
   public CompletionStage<Map<String, String>> toURNAsync(final String dlURI) {
-    for (io.openepcis.identifiers.converter.core.Converter inputuri : dl) {
-      if (inputuri.supportsURN(dlURI)) {
-        return inputuri.convertToURNAsync(dlURI);
-      }
+    final io.openepcis.identifiers.converter.core.Converter converter = instanceLevelIndex.forDigitalLink(dlURI);
+    if (converter == null) {
+      return CompletableFuture.failedFuture(
+          new UnsupportedGS1IdentifierException(String.format(INVALID_URI_MESSAGE, dlURI)));
     }
-    return CompletableFuture.failedFuture(
-        new UnsupportedGS1IdentifierException(String.format(INVALID_URI_MESSAGE, dlURI)));
+    return converter.convertToURNAsync(dlURI);
   }
 
   /**
@@ -214,13 +296,304 @@ public class Converter {
    * @return CompletionStage completing with the converted URN map
    */
   public CompletionStage<Map<String, String>> toURNForClassLevelIdentifierAsync(final String dlURI) {
-    for (io.openepcis.identifiers.converter.core.Converter inputuri : classLevelTranslator) {
-      if (inputuri.supportsURN(dlURI)) {
-        return inputuri.convertToURNAsync(dlURI);
+    final io.openepcis.identifiers.converter.core.Converter converter = classLevelIndex.forDigitalLink(dlURI);
+    if (converter == null) {
+      return CompletableFuture.failedFuture(
+          new UnsupportedGS1IdentifierException(String.format(INVALID_URI_MESSAGE, dlURI)));
+    }
+    return converter.convertToURNAsync(dlURI);
+  }
+
+  /**
+   * Non-throwing variant of {@link #toURI(String)}. Unsupported identifiers and identifiers failing
+   * the syntax validation are reported through the result without creating an exception, the
+   * failure message is only formatted when requested.
+   *
+   * @param urn instance level application identifier in URN format ex:
+   *     urn:epc:id:sgtin:234567890.1123.9999
+   * @return result holding either the WebURI or the error code and message
+   */
+  public ConversionResult<String> tryToURI(final String urn) {
+    final io.openepcis.identifiers.converter.core.Converter converter = instanceLevelIndex.forUrn(urn);
+    if (converter == null) {
+      return ConversionResult.failure(
+          urn,
+          ValidationResult.invalid(
+              ValidationErrorCode.UNSUPPORTED_IDENTIFIER, INVALID_URN_MESSAGE, urn));
+    }
+    return tryConvertToDigitalLink(converter, urn);
+  }
+
+  /**
+   * Non-throwing variant of {@link #toEpcConversion(String, int)}. Unsupported identifiers and
+   * identifiers failing the syntax validation are reported through the result without creating an
+   * exception, the failure message is only formatted when requested.
+   *
+   * @param dlURI Instance level DigitalLink URI that needs to be converted ex:
+   *     https://id.gs1.org/01/12345678901231/21/9999
+   * @param gcpLength GCP Length based on which URN needs to be generated (6-12 digit). Ex: 9
+   * @return result holding either the converted information or the error code and message
+   */
+  public ConversionResult<EpcConversion> tryToURN(final String dlURI, final int gcpLength) {
+    final io.openepcis.identifiers.converter.core.Converter converter =
+        instanceLevelIndex.forDigitalLink(dlURI);
+    if (converter == null) {
+      return unsupportedDigitalLink(dlURI);
+    }
+    return tryConvertToEpc(converter, dlURI, gcpLength);
+  }
+
+  /**
+   * Non-throwing variant of {@link #toEpcConversion(String)}. Unsupported identifiers, identifiers
+   * without a resolvable GCP length and identifiers failing the syntax validation are reported
+   * through the result without creating an exception, the failure message is only formatted when
+   * requested.
+   *
+   * @param dlURI Instance level DigitalLink URI that needs to be converted ex:
+   *     https://id.gs1.org/01/12345678901231/21/9999
+   * @return result holding either the converted information or the error code and message
+   */
+  public ConversionResult<EpcConversion> tryToURN(final String dlURI) {
+    final io.openepcis.identifiers.converter.core.Converter converter =
+        instanceLevelIndex.forDigitalLink(dlURI);
+    if (converter == null) {
+      return unsupportedDigitalLink(dlURI);
+    }
+    return tryConvertToEpc(converter, dlURI, null);
+  }
+
+  /**
+   * Method to convert many instance level GS1 identifiers from URN to digital link WebURI format on
+   * the calling thread. Identifiers are grouped by their type before being converted, a failing
+   * identifier does not stop the conversion of the others.
+   *
+   * @param urns instance level application identifiers in URN format, a Stream can be passed as
+   *     {@code stream::iterator}
+   * @return one result per identifier in input order, holding either the WebURI or the error
+   */
+  public List<ConversionResult<String>> toURIBatch(final Iterable<String> urns) {
+    return toURIBatch(urns, null);
+  }
+
+  /**
+   * Method to convert many instance level GS1 identifiers from URN to digital link WebURI format in
+   * parallel. Identifiers are grouped by their type and split into chunks, each chunk is converted
+   * by one task of the executor.
+   *
+   * @param urns instance level application identifiers in URN format
+   * @param executor executor running the conversion tasks ex: {@code ForkJoinPool.commonPool()},
+   *     the identifiers are converted on the calling thread if null
+   * @return one result per identifier in input order, holding either the WebURI or the error
+   */
+  public List<ConversionResult<String>> toURIBatch(
+      final Iterable<String> urns, final Executor executor) {
+    return convertBatch(
+        urns,
+        instanceLevelIndex::forUrn,
+        () -> this::tryConvertToDigitalLink,
+        urn ->
+            ValidationResult.invalid(
+                ValidationErrorCode.UNSUPPORTED_IDENTIFIER, INVALID_URN_MESSAGE, urn),
+        executor);
+  }
+
+  /**
+   * Method to convert many instance level GS1 identifiers from Digital Link WebURI to URN format on
+   * the calling thread. Identifiers are grouped by their type before being converted and GCP
+   * lengths which are not part of the GS1 prefix list are resolved only once per company prefix.
+   *
+   * @param dlURIs instance level DigitalLink URIs, a Stream can be passed as {@code
+   *     stream::iterator}
+   * @return one result per identifier in input order, holding either the converted information
+   *     including the URN or the error
+   */
+  public List<ConversionResult<Map<String, String>>> toURNBatch(final Iterable<String> dlURIs) {
+    return toURNBatch(dlURIs, null);
+  }
+
+  /**
+   * Method to convert many instance level GS1 identifiers from Digital Link WebURI to URN format in
+   * parallel. Identifiers are grouped by their type and split into chunks, each chunk is converted
+   * by one task of the executor.
+   *
+   * @param dlURIs instance level DigitalLink URIs
+   * @param executor executor running the conversion tasks ex: {@code ForkJoinPool.commonPool()},
+   *     the identifiers are converted on the calling thread if null
+   * @return one result per identifier in input order, holding either the converted information
+   *     including the URN or the error
+   */
+  public List<ConversionResult<Map<String, String>>> toURNBatch(
+      final Iterable<String> dlURIs, final Executor executor) {
+    return convertBatch(
+        dlURIs,
+        instanceLevelIndex::forDigitalLink,
+        () -> {
+          final GCPLengthMemo memo = new GCPLengthMemo();
+          return (converter, dlURI) -> {
+            final ConversionResult<EpcConversion> result = tryConvertToEpc(converter, dlURI, memo);
+            return result.isSuccess()
+                ? ConversionResult.success(dlURI, result.value().toMap())
+                : ConversionResult.failure(dlURI, result.validation());
+          };
+        },
+        dlURI ->
+            ValidationResult.invalid(
+                ValidationErrorCode.UNSUPPORTED_IDENTIFIER, INVALID_URI_MESSAGE, dlURI),
+        executor);
+  }
+
+  // Group the identifiers by converter, convert each group chunk-wise and collect the results in
+  // input order. Every task gets its own conversion, which may hold state such as a GCP length memo
+  private <T> List<ConversionResult<T>> convertBatch(
+      final Iterable<String> identifiers,
+      final Function<String, io.openepcis.identifiers.converter.core.Converter> dispatcher,
+      final Supplier<
+              BiFunction<
+                  io.openepcis.identifiers.converter.core.Converter, String, ConversionResult<T>>>
+          conversions,
+      final Function<String, ValidationResult> unsupported,
+      final Executor executor) {
+    final List<String> input = new ArrayList<>();
+    identifiers.forEach(input::add);
+
+    final List<ConversionResult<T>> results = new ArrayList<>(Collections.nCopies(input.size(), null));
+    final Map<io.openepcis.identifiers.converter.core.Converter, List<Integer>> groups =
+        new LinkedHashMap<>();
+    for (int i = 0; i < input.size(); i++) {
+      final io.openepcis.identifiers.converter.core.Converter converter =
+          dispatcher.apply(input.get(i));
+      if (converter == null) {
+        results.set(i, ConversionResult.failure(input.get(i), unsupported.apply(input.get(i))));
+      } else {
+        groups.computeIfAbsent(converter, c -> new ArrayList<>()).add(i);
+      }
+    }
+
+    final List<Runnable> tasks = new ArrayList<>();
+    for (final Map.Entry<io.openepcis.identifiers.converter.core.Converter, List<Integer>> group :
+        groups.entrySet()) {
+      final int chunkSize = executor == null ? group.getValue().size() : BATCH_CHUNK_SIZE;
+      for (int from = 0; from < group.getValue().size(); from += chunkSize) {
+        final List<Integer> chunk =
+            group.getValue().subList(from, Math.min(from + chunkSize, group.getValue().size()));
+        tasks.add(
+            () -> {
+              final BiFunction<
+                      io.openepcis.identifiers.converter.core.Converter, String, ConversionResult<T>>
+                  conversion = conversions.get();
+              for (final int index : chunk) {
+                results.set(index, conversion.apply(group.getKey(), input.get(index)));
+              }
+            });
       }
     }
-    return CompletableFuture.failedFuture(
-        new UnsupportedGS1IdentifierException(String.format(INVALID_URI_MESSAGE, dlURI)));
+
+    if (executor == null) {
+      tasks.forEach(Runnable::run);
+    } else {
+      CompletableFuture.allOf(
+              tasks.stream()
+                  .map(task -> CompletableFuture.runAsync(task, executor))
+                  .toArray(CompletableFuture[]::new))
+          .join();
+    }
+    return results;
+  }
+
+  // Validate the URN without throwing, a valid URN is converted without validating it again
+  private ConversionResult<String> tryConvertToDigitalLink(
+      final io.openepcis.identifiers.converter.core.Converter converter, final String urn) {
+    final ValidationResult validation = check(converter, urn, URN_CONTEXT);
+    if (!validation.isValid()) {
+      return ConversionResult.failure(urn, validation);
+    }
+
+    try {
+      return ConversionResult.success(urn, converter.convertValidatedToDigitalLink(urn));
+    } catch (RuntimeException exception) {
+      return ConversionResult.failure(urn, exception);
+    }
+  }
+
+  // Resolve the GCP length without throwing, the same way as the converters do on their own
+  private ConversionResult<EpcConversion> tryConvertToEpc(
+      final io.openepcis.identifiers.converter.core.Converter converter,
+      final String dlURI,
+      final GCPLengthMemo memo) {
+    final OptionalInt gcpLength = DefaultGCPLengthProvider.getInstance().findGcpLength(dlURI, memo);
+    if (gcpLength.isEmpty()) {
+      return ConversionResult.failure(
+          dlURI,
+          ValidationResult.invalid(
+              ValidationErrorCode.MISSING_GCP_LENGTH, GCP_LENGTH_NOT_FOUND_MESSAGE, dlURI));
+    }
+    return tryConvertToEpc(converter, dlURI, gcpLength.getAsInt());
+  }
+
+  // Validate the DL URI without throwing, a valid URI is converted without validating it again
+  private ConversionResult<EpcConversion> tryConvertToEpc(
+      final io.openepcis.identifiers.converter.core.Converter converter,
+      final String dlURI,
+      final int gcpLength) {
+    if (gcpLength < 6 || gcpLength > 12) {
+      return ConversionResult.failure(
+          dlURI,
+          ValidationResult.invalid(
+              ValidationErrorCode.INVALID_VALUE, INVALID_GCP_LENGTH_MESSAGE, gcpLength));
+    }
+
+    final ValidationResult validation = check(converter, dlURI, digitalLinkContext(gcpLength));
+    if (!validation.isValid()) {
+      return ConversionResult.failure(dlURI, validation);
+    }
+
+    try {
+      return ConversionResult.success(dlURI, converter.convertValidatedToEpc(dlURI, gcpLength));
+    } catch (RuntimeException exception) {
+      return ConversionResult.failure(dlURI, exception);
+    }
+  }
+
+  private static <T> ConversionResult<T> unsupportedDigitalLink(final String dlURI) {
+    return ConversionResult.failure(
+        dlURI,
+        ValidationResult.invalid(
+            ValidationErrorCode.UNSUPPORTED_IDENTIFIER, INVALID_URI_MESSAGE, dlURI));
+  }
+
+  // Same context as used by the converters when validating a DL URI
+  private static ValidationContext digitalLinkContext(final int gcpLength) {
+    return ValidationContext.builder().validateCheckDigit(false).gcpLength(gcpLength).build();
+  }
+
+  // Dispatch index of the EPC instance-level converters, exposed for tests
+  ConverterDispatchIndex instanceLevelIndex() {
+    return instanceLevelIndex;
+  }
+
+  // Dispatch index of the EPC class-level converters, exposed for tests
+  ConverterDispatchIndex classLevelIndex() {
+    return classLevelIndex;
+  }
+
+  // Find the converter for the URN or fail if the URN does not belong to any GS1 identifier
+  private io.openepcis.identifiers.converter.core.Converter forUrn(
+      final ConverterDispatchIndex index, final String urn) {
+    final io.openepcis.identifiers.converter.core.Converter converter = index.forUrn(urn);
+    if (converter == null) {
+      throw new UnsupportedGS1IdentifierException(String.format(INVALID_URN_MESSAGE, urn));
+    }
+    return converter;
+  }
+
+  // Find the converter for the DL URI or fail if the URI does not belong to any GS1 identifier
+  private io.openepcis.identifiers.converter.core.Converter forDigitalLink(
+      final ConverterDispatchIndex index, final String dlURI) {
+    final io.openepcis.identifiers.converter.core.Converter converter = index.forDigitalLink(dlURI);
+    if (converter == null) {
+      throw new UnsupportedGS1IdentifierException(String.format(INVALID_URI_MESSAGE, dlURI));
+    }
+    return converter;
   }
 
   /**
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter;
+
+import io.openepcis.digitallink.utils.TokenDispatchIndex;
+import io.openepcis.identifiers.converter.core.Converter;
+
+import java.util.List;
+
+/**
+ * Dispatch index that selects the {@link Converter} responsible for an identifier in a single pass
+ * over the input, instead of probing every converter in turn, see {@link TokenDispatchIndex}.
+ *
+ * <ul>
+ *   <li>URNs are dispatched on their scheme token (ex: {@code :sgtin:}, {@code :sscc:}).
+ *   <li>Digital Link URIs are dispatched on the set of AI path segments they contain (ex: {@code
+ *       /01/}, {@code /21/}, {@code /8003/}). Each registration declares the segments it requires
+ *       and the segments it excludes.
+ * </ul>
+ *
+ * <p>Registrations are evaluated in the order they were added, which gives a deterministic
+ * precedence when more than one could apply (ex: LGTIN before class-level SGTIN). URNs and Digital
+ * Link URIs are kept in separate indexes, so that a URN is never dispatched on an AI segment.
+ */
+final class ConverterDispatchIndex {
+
+  private final TokenDispatchIndex<Converter> urns;
+  private final TokenDispatchIndex<Converter> digitalLinks;
+
+  private ConverterDispatchIndex(final Builder builder) {
+    this.urns = builder.urns.build();
+    this.digitalLinks = builder.digitalLinks.build();
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Find the converter responsible for converting the URN into Digital Link.
+   *
+   * @param urn identifier in URN format ex: urn:epc:id:sgtin:234567890.1123.9999
+   * @return the first matching converter in registration order or null if none applies
+   */
+  Converter forUrn(final String urn) {
+    return urns.select(urn);
+  }
+
+  /**
+   * Find the converter responsible for converting the Digital Link URI into URN.
+   *
+   * @param dlURI identifier in Digital Link format ex: https://id.gs1.org/01/12345678901231/21/9999
+   * @return the first matching converter in registration order or null if none applies
+   */
+  Converter forDigitalLink(final String dlURI) {
+    return digitalLinks.select(dlURI);
+  }
+
+  static final class Builder {
+    private final TokenDispatchIndex.Builder<Converter> urns = TokenDispatchIndex.builder();
+    private final TokenDispatchIndex.Builder<Converter> digitalLinks = TokenDispatchIndex.builder();
+
+    private Builder() {}
+
+    /**
+     * Register a converter under its URN scheme token and the Digital Link AI path segments it
+     * supports.
+     *
+     * @param converter converter to dispatch to
+     * @param urnToken URN scheme token ex: :sgtin:
+     * @param requiredSegments Digital Link path segments which all must be present ex: /01/, /21/
+     * @param excludedSegments Digital Link path segments which must not be present ex: /10/
+     * @return this builder
+     */
+    Builder register(
+        final Converter converter,
+        final String urnToken,
+        final List<String> requiredSegments,
+        final List<String> excludedSegments) {
+      urns.register(converter, List.of(urnToken), List.of());
+      digitalLinks.register(converter, requiredSegments, excludedSegments);
+      return this;
+    }
+
+    ConverterDispatchIndex build() {
+      return new ConverterDispatchIndex(this);
+    }
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter;
+
+import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
+
+/**
+ * Immutable result of converting a GS1 Digital Link WebURI to its URN representation.
+ *
+ * <p>Only the values computed during the conversion are held, the canonical Digital Link is
+ * derived from the captured URI on first access. {@link #toMap()} provides the key/value view
+ * returned by {@link Converter#toURN(String)}.
+ */
+public final class EpcConversion {
+
+  private final String asCaptured;
+  private final String asURN;
+  private final String identifierKey;
+  private final String identifier;
+  private final String serial;
+  private final String primaryKeyPrefix;
+  // Entries of a conversion map besides the known keys, empty for the built-in converters
+  private final Map<String, String> additional;
+
+  // Lazily derived, racy single-check is safe as Strings are immutable
+  private String canonicalDL;
+
+  /**
+   * @param asCaptured Digital Link WebURI as provided for the conversion
+   * @param asURN converted URN
+   * @param identifierKey name of the identifier type ex: gtin, sscc
+   * @param identifier value of the primary identifier as present in the Digital Link
+   * @param serial serial or lot part of the identifier, null if the identifier has none
+   * @param primaryKeyPrefix Digital Link path prefix of the primary identifier ex: /01/
+   */
+  public EpcConversion(
+      final String asCaptured,
+      final String asURN,
+      final String identifierKey,
+      final String identifier,
+      final String serial,
+      final String primaryKeyPrefix) {
+    this(asCaptured, asURN, identifierKey, identifier, serial, primaryKeyPrefix, Map.of());
+  }
+
+  private EpcConversion(
+      final String asCaptured,
+      final String asURN,
+      final String identifierKey,
+      final String identifier,
+      final String serial,
+      final String primaryKeyPrefix,
+      final Map<String, String> additional) {
+    this.asCaptured = asCaptured;
+    this.asURN = asURN;
+    this.identifierKey = identifierKey;
+    this.identifier = identifier;
+    this.serial = serial;
+    this.primaryKeyPrefix = primaryKeyPrefix;
+    this.additional = additional;
+  }
+
+  /**
+   * Typed view of a conversion map as returned by the map based converters.
+   *
+   * <p>The identifier key is only known if the map holds a single entry besides asCaptured,
+   * canonicalDL, asURN and serial, otherwise {@link #identifierKey()} is null and all these
+   * entries are kept as they are. Use {@link #of(Map, String)} if the identifier key is known.
+   *
+   * @param map map with asCaptured, canonicalDL, asURN, the identifier and the serial if present
+   * @return the conversion holding the values of the map
+   * @throws IllegalArgumentException if asCaptured, canonicalDL or asURN is missing
+   */
+  public static EpcConversion of(final Map<String, String> map) {
+    String identifierKey = null;
+    for (final String key : map.keySet()) {
+      if (!isConversionKey(key)) {
+        if (identifierKey != null) {
+          return of(map, null);
+        }
+        identifierKey = key;
+      }
+    }
+    return of(map, identifierKey);
+  }
+
+  /**
+   * Typed view of a conversion map as returned by the map based converters.
+   *
+   * @param map map with asCaptured, canonicalDL, asURN, the identifier and the serial if present
+   * @param identifierKey name of the identifier type in the map ex: gtin, sscc, null if unknown
+   * @return the conversion holding the values of the map, entries besides the identifier are kept
+   * @throws IllegalArgumentException if asCaptured, canonicalDL, asURN or the identifier is missing
+   */
+  public static EpcConversion of(final Map<String, String> map, final String identifierKey) {
+    final String asCaptured = require(map, ConstantDigitalLinkTranslatorInfo.AS_CAPTURED);
+    final String canonicalDL = require(map, ConstantDigitalLinkTranslatorInfo.CANONICAL_DL);
+    final String asURN = require(map, ConstantDigitalLinkTranslatorInfo.AS_URN);
+    final String identifier = identifierKey == null ? null : require(map, identifierKey);
+
+    Map<String, String> additional = Map.of();
+    for (final Map.Entry<String, String> entry : map.entrySet()) {
+      if (!isConversionKey(entry.getKey()) && !entry.getKey().equals(identifierKey)) {
+        if (additional.isEmpty()) {
+          additional = new HashMap<>(4);
+        }
+        additional.put(entry.getKey(), entry.getValue());
+      }
+    }
+
+    final EpcConversion conversion =
+        new EpcConversion(
+            asCaptured,
+            asURN,
+            identifierKey,
+            identifier,
+            map.get(ConstantDigitalLinkTranslatorInfo.SERIAL),
+            null,
+            additional);
+    conversion.canonicalDL = canonicalDL;
+    return conversion;
+  }
+
+  private static boolean isConversionKey(final String key) {
+    return ConstantDigitalLinkTranslatorInfo.AS_CAPTURED.equals(key)
+        || ConstantDigitalLinkTranslatorInfo.CANONICAL_DL.equals(key)
+        || ConstantDigitalLinkTranslatorInfo.AS_URN.equals(key)
+        || ConstantDigitalLinkTranslatorInfo.SERIAL.equals(key);
+  }
+
+  private static String require(final Map<String, String> map, final String key) {
+    final String value = map.get(key);
+    if (value == null) {
+      throw new IllegalArgumentException(
+          "Conversion map has no " + key + " entry, keys present: " + map.keySet());
+    }
+    return value;
+  }
+
+  public String asCaptured() {
+    return asCaptured;
+  }
+
+  public String asURN() {
+    return asURN;
+  }
+
+  public String identifierKey() {
+    return identifierKey;
+  }
+
+  public String identifier() {
+    return identifier;
+  }
+
+  public String serial() {
+    return serial;
+  }
+
+  public String canonicalDL() {
+    String result = canonicalDL;
+    if (result == null) {
+      // If the captured URI contains GS1 domain then captured and canonical are same, otherwise
+      // canonicalDL is based on GS1 domain
+      result =
+          asCaptured.contains(GS1_IDENTIFIER_DOMAIN)
+              ? asCaptured
+              : asCaptured.replace(
+                  asCaptured.substring(0, asCaptured.indexOf(primaryKeyPrefix)),
+                  GS1_IDENTIFIER_DOMAIN);
+      canonicalDL = result;
+    }
+    return result;
+  }
+
+  /**
+   * Key/value view of the conversion, a new mutable map on every call.
+   *
+   * @return map with asCaptured, canonicalDL, asURN, the identifier and the serial if present
+   */
+  public Map<String, String> toMap() {
+    final Map<String, String> map = new HashMap<>(8 + additional.size());
+    map.putAll(additional);
+    map.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL());
+    map.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, asCaptured);
+    map.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
+    if (identifierKey != null) {
+      map.put(identifierKey, identifier);
+    }
+    if (serial != null) {
+      map.put(ConstantDigitalLinkTranslatorInfo.SERIAL, serial);
+    }
+    return map;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof EpcConversion that)) {
+      return false;
+    }
+    return asCaptured.equals(that.asCaptured)
+        && asURN.equals(that.asURN)
+        && Objects.equals(identifierKey, that.identifierKey)
+        && Objects.equals(identifier, that.identifier)
+        && Objects.equals(serial, that.serial)
+        && additional.equals(that.additional);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(asCaptured, asURN, identifierKey, identifier, serial, additional);
+  }
+
+  @Override
+  public String toString() {
+    return "EpcConversion[asCaptured=" + asCaptured + ", asURN=" + asURN + "]";
+  }
+}
@@ -12,10 +12,12 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.CPIValidator;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Pattern;
@@ -26,6 +28,8 @@ import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
 public class CPIConverter implements Converter {
 
   private static final CPIValidator CPI_VALIDATOR = new CPIValidator();
+  private static final Pattern INSTANCE_DL_PATTERN = Pattern.compile("(?=.*/8010/)(?=.*/8011/)");
+  private static final Pattern CLASS_DL_PATTERN = Pattern.compile("(?=.*/8010/)");
   private boolean isClassLevel;
 
   public CPIConverter() {
@@ -43,15 +47,32 @@ public class CPIConverter implements Converter {
 
   // Check if the provided Digital Link URI is of CPI Type
   public boolean supportsURN(final String dlURI) {
-    if (isClassLevel) return Pattern.compile("(?=.*/8010/)").matcher(dlURI).find();
-    else return Pattern.compile("(?=.*/8010/)(?=.*/8011/)").matcher(dlURI).find();
+    if (isClassLevel) return CLASS_DL_PATTERN.matcher(dlURI).find();
+    else return INSTANCE_DL_PATTERN.matcher(dlURI).find();
+  }
+
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return CPI_VALIDATOR;
   }
 
   // Convert the provided URN to respective Digital Link URI of CPI type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Validate the URN to check if they match the CPI syntax
-      CPI_VALIDATOR.validate(urn);
+      if (validate) {
+        CPI_VALIDATOR.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       final String gcp =
@@ -74,12 +95,40 @@ public class CPIConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of CPI Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (digitalLink.size() != (isClassLevel ? 1 : 2)
+        || !CPI_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(
+        digitalLink.toString(),
+        gcpLength,
+        digitalLink.rawValue(0),
+        isClassLevel ? null : digitalLink.rawValue(1));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
 
     try {
       // Validate the DLURI to check if they match the CPI syntax
-      CPI_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        CPI_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
       String cpi;
@@ -91,7 +140,7 @@ public class CPIConverter implements Converter {
                 dlURI.indexOf(CPI_AI_URI_PREFIX) + CPI_AI_URI_PREFIX.length(),
                 dlURI.indexOf(CPI_AI_URI_SERIAL_PREFIX));
       }
-      return getEPCMap(dlURI, gcpLength, cpi);
+      return getEpcConversion(dlURI, gcpLength, cpi);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of CPI identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -103,8 +152,17 @@ public class CPIConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(final String dlURI, final int gcpLength, final String cpi) {
-    final Map<String, String> buildURN = new HashMap<>();
+  private EpcConversion getEpcConversion(final String dlURI, final int gcpLength, final String cpi) {
+    final String serial =
+        isClassLevel
+            ? null
+            : dlURI.substring(dlURI.indexOf(CPI_AI_URI_SERIAL_PREFIX) + CPI_AI_URI_SERIAL_PREFIX.length());
+    return getEpcConversion(dlURI, gcpLength, cpi, serial);
+  }
+
+  private EpcConversion getEpcConversion(
+      final String dlURI, final int gcpLength, final String cpi, final String serial) {
+    final EpcConversion conversion;
     String asURN;
 
     try {
@@ -116,8 +174,6 @@ public class CPIConverter implements Converter {
                 + cpi.substring(gcpLength)
                 + ".*";
       } else {
-        final String serial =
-            dlURI.substring(dlURI.indexOf(CPI_AI_URI_SERIAL_PREFIX) + CPI_AI_URI_SERIAL_PREFIX.length());
         asURN =
             "urn:epc:id:cpi:"
                 + cpi.substring(0, gcpLength)
@@ -125,22 +181,9 @@ public class CPIConverter implements Converter {
                 + cpi.substring(gcpLength)
                 + "."
                 + serial;
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.SERIAL, serial);
-      }
-
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(CPI_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
       }
 
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("cpi", cpi);
+      conversion = new EpcConversion(dlURI, asURN, "cpi", cpi, serial, CPI_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the CPI identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -154,10 +197,10 @@ public class CPIConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     CPI_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
-  public Map<String, String> convertToURN(final String dlURI) {
+  public EpcConversion convertToEpc(final String dlURI) {
     int gcpLength = 0;
     try {
       String cpi;
@@ -177,7 +220,7 @@ public class CPIConverter implements Converter {
       CPI_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, cpi);
+      return getEpcConversion(dlURI, gcpLength, cpi);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of CPI identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -204,7 +247,7 @@ public class CPIConverter implements Converter {
         .getGcpLengthAsync(dlURI, cpi, CPI_AI_URI_PREFIX)
         .thenApply(gcpLength -> {
           CPI_VALIDATOR.validate(dlURI, gcpLength);
-          return getEPCMap(dlURI, gcpLength, cpi);
+          return getEpcConversion(dlURI, gcpLength, cpi).toMap();
         });
   }
 }
@@ -12,6 +12,10 @@ package io.openepcis.identifiers.converter.core;
 
 
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -27,10 +31,118 @@ public interface Converter {
   // Check if the URI is supported and belongs to which class in the project
   boolean supportsURN(String dlURI);
 
-  // Process the URI and return the URN with other information
-  Map<String, String> convertToURN(String dlURI, int gcpLength) throws ValidationException;
+  /**
+   * Validator applied to the identifiers before they are converted, so that invalid identifiers are
+   * reported without a conversion attempt.
+   *
+   * @return the validator of the identifiers or null if the converter only validates during the
+   *     conversion
+   */
+  default ApplicationIdentifierValidator getValidator() {
+    return null;
+  }
+
+  /**
+   * Process the URI and return the URN with other information.
+   *
+   * <p>Implementations override this method or the deprecated {@link #convertToURN(String, int)},
+   * the default of each delegates to the other. The map must hold asCaptured, canonicalDL and
+   * asURN, see {@link EpcConversion#of(Map)}.
+   */
+  default EpcConversion convertToEpc(String dlURI, int gcpLength) throws ValidationException {
+    return EpcConversion.of(convertToURN(dlURI, gcpLength));
+  }
+
+  /**
+   * Process the URI and return the URN with other information, the GCP length is looked up.
+   *
+   * <p>Implementations override this method or the deprecated {@link #convertToURN(String)}, the
+   * default of each delegates to the other. The map must hold asCaptured, canonicalDL and asURN,
+   * see {@link EpcConversion#of(Map)}.
+   */
+  default EpcConversion convertToEpc(String dlURI) throws ValidationException {
+    return EpcConversion.of(convertToURN(dlURI));
+  }
+
+  /**
+   * Process the URN which already passed the check of {@link #getValidator()}, without validating
+   * it again. The default implementation validates it again through {@link
+   * #convertToDigitalLink(String)}.
+   */
+  default String convertValidatedToDigitalLink(String urn) throws ValidationException {
+    return convertToDigitalLink(urn);
+  }
+
+  /**
+   * Process the URI which already passed the check of {@link #getValidator()} with the GCP length,
+   * without validating it again. The default implementation validates it again through {@link
+   * #convertToEpc(String, int)}.
+   */
+  default EpcConversion convertValidatedToEpc(String dlURI, int gcpLength)
+      throws ValidationException {
+    return convertToEpc(dlURI, gcpLength);
+  }
 
-  Map<String, String> convertToURN(String dlURI) throws ValidationException;
+  /**
+   * Check if the parsed URI is supported. Compatibility bridge only: the default checks the URI
+   * string, as none of the built-in converters decides on the parsed AI elements.
+   */
+  default boolean supportsURN(GS1DigitalLink digitalLink) {
+    return supportsURN(digitalLink.toString());
+  }
+
+  /**
+   * Process the parsed URI and return the URN with other information. The default converts the URI
+   * string, the built-in converters check the parsed AI elements with {@link
+   * io.openepcis.identifiers.validator.core.CompiledValidator#matchesCompiled(GS1DigitalLink, int)}
+   * and take the identifier and serial from their values instead of locating them in the URI again.
+   */
+  default EpcConversion convertToEpc(GS1DigitalLink digitalLink, int gcpLength)
+      throws ValidationException {
+    return convertToEpc(digitalLink.toString(), gcpLength);
+  }
+
+  /**
+   * Process the parsed URI and return the URN with other information. The GCP length is resolved
+   * from the primary key of the parsed URI instead of locating the identifier in the URI string
+   * again, the conversion itself is done by {@link #convertToEpc(GS1DigitalLink, int)}.
+   */
+  default EpcConversion convertToEpc(GS1DigitalLink digitalLink) throws ValidationException {
+    final int gcpLength;
+    try {
+      gcpLength = DefaultGCPLengthProvider.getInstance().getGcpLength(digitalLink);
+    } catch (Exception exception) {
+      throw new ValidationException(
+          "Exception occurred during the conversion of identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
+              + digitalLink
+              + "\n"
+              + exception.getMessage());
+    }
+    return convertToEpc(digitalLink, gcpLength);
+  }
+
+  /**
+   * Process the URI and return the URN with other information as key/value pairs.
+   *
+   * @deprecated implement {@link #convertToEpc(String, int)}, kept for converters written against
+   *     the map based API
+   */
+  @Deprecated
+  default Map<String, String> convertToURN(String dlURI, int gcpLength) throws ValidationException {
+    return convertToEpc(dlURI, gcpLength).toMap();
+  }
+
+  /**
+   * Process the URI and return the URN with other information as key/value pairs, the GCP length
+   * is looked up.
+   *
+   * @deprecated implement {@link #convertToEpc(String)}, kept for converters written against the
+   *     map based API
+   */
+  @Deprecated
+  default Map<String, String> convertToURN(String dlURI) throws ValidationException {
+    return convertToEpc(dlURI).toMap();
+  }
 
   /**
    * Asynchronous variant of {@link #convertToURN(String)} — resolves GCP length
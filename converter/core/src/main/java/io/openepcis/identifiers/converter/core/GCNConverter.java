@@ -12,14 +12,14 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.GCNValidator;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.openepcis.constants.ApplicationIdentifierConstants.GCN_AI_URI_PREFIX;
 import static io.openepcis.constants.ApplicationIdentifierConstants.GCN_AI_URN_PREFIX;
 import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
@@ -46,11 +46,28 @@ public class GCNConverter implements Converter {
         return dlURI.contains(GCN_AI_URI_PREFIX);
     }
 
+    @Override
+    public ApplicationIdentifierValidator getValidator() {
+        return GCN_VALIDATOR;
+    }
+
     // Convert the provided URN to respective Digital Link URI of GCN type
     public String convertToDigitalLink(final String urn) throws ValidationException {
+        return toDigitalLink(urn, true);
+    }
+
+    @Override
+    public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+        return toDigitalLink(urn, false);
+    }
+
+    private String toDigitalLink(final String urn, final boolean validate)
+            throws ValidationException {
         try {
             // Call the Validator class for the GCN to check the URN syntax
-            GCN_VALIDATOR.validate(urn);
+            if (validate) {
+                GCN_VALIDATOR.validate(urn);
+            }
 
             // If the URN passed the validation then convert the URN to URI
             final String gcp = urn.substring(urn.lastIndexOf(":") + 1, urn.indexOf("."));
@@ -72,15 +89,38 @@ public class GCNConverter implements Converter {
     }
 
     // Convert the provided Digital Link URI to respective URN of GCN Type
-    public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+    public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+            throws ValidationException {
+        return toEpc(dlURI, gcpLength, true);
+    }
+
+    @Override
+    public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+            throws ValidationException {
+        return toEpc(dlURI, gcpLength, false);
+    }
+
+    @Override
+    public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+            throws ValidationException {
+        // Links of the plain form are converted from their parsed elements, others from the URI string
+        if (!GCN_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+            return convertToEpc(digitalLink.toString(), gcpLength);
+        }
+        return getEpcConversion(digitalLink.toString(), gcpLength, digitalLink.rawValue(0));
+    }
+
+    private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
             throws ValidationException {
         try {
             // Call the Validator class for the GCN to check the DLURI syntax
-            GCN_VALIDATOR.validate(dlURI, gcpLength);
+            if (validate) {
+                GCN_VALIDATOR.validate(dlURI, gcpLength);
+            }
 
             // If the URI passed the validation then convert the URI to URN
             String sgcn = dlURI.substring(dlURI.indexOf(GCN_AI_URI_PREFIX) + GCN_AI_URI_PREFIX.length());
-            return getEPCMap(dlURI, gcpLength, sgcn);
+            return getEpcConversion(dlURI, gcpLength, sgcn);
         } catch (Exception exception) {
             throw new ValidationException(
                     "Exception occurred during the conversion of GCN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -92,8 +132,9 @@ public class GCNConverter implements Converter {
         }
     }
 
-    private Map<String, String> getEPCMap(String dlURI, int gcpLength, String sgcn) {
-        final Map<String, String> buildURN = new HashMap<>();
+    private EpcConversion getEpcConversion(String dlURI, int gcpLength, String sgcn) {
+        String serial = null;
+        final EpcConversion conversion;
         String asURN;
 
         try {
@@ -106,28 +147,15 @@ public class GCNConverter implements Converter {
             if (isClassLevel) {
                 asURN = "urn:epc:idpat:sgcn:" + tempSgcn + ".*";
             } else {
-                final String serial = sgcn.substring(13);
+                serial = sgcn.substring(13);
                 if (StringUtils.isNotBlank(serial)) {
                     asURN = "urn:epc:id:sgcn:" + tempSgcn + "." + serial;
                 } else {
                     asURN = "urn:epc:id:sgcn:" + tempSgcn;
                 }
-                buildURN.put(ConstantDigitalLinkTranslatorInfo.SERIAL, serial);
-            }
-
-            // If dlURI contains GS1 domain then captured and canonical are same
-            if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-                buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-            } else {
-                // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-                final String canonicalDL =
-                        dlURI.replace(dlURI.substring(0, dlURI.indexOf(GCN_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-                buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
             }
 
-            buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-            buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-            buildURN.put("sgcn", sgcn);
+            conversion = new EpcConversion(dlURI, asURN, "sgcn", sgcn, serial, GCN_AI_URI_PREFIX);
         } catch (Exception exception) {
             throw new ValidationException(
                     "The conversion of the GCN identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -141,11 +169,11 @@ public class GCNConverter implements Converter {
         // After generating the URN validate it again and ensure GCP validates
         GCN_VALIDATOR.validate(asURN);
 
-        return buildURN;
+        return conversion;
     }
 
     // Convert the provided Digital Link URI to respective URN of GCN Type
-    public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+    public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
         int gcpLength = 0;
 
         try {
@@ -156,7 +184,7 @@ public class GCNConverter implements Converter {
             GCN_VALIDATOR.validate(dlURI, gcpLength);
 
             // If the URI passed the validation then convert the URI to URN
-            return getEPCMap(dlURI, gcpLength, sgcn);
+            return getEpcConversion(dlURI, gcpLength, sgcn);
         } catch (Exception exception) {
             throw new ValidationException(
                     "Exception occurred during the conversion of GCN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
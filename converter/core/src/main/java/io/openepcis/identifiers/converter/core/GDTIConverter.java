@@ -12,13 +12,13 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.GDTIValidator;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.openepcis.constants.ApplicationIdentifierConstants.GDTI_AI_URI_PREFIX;
 import static io.openepcis.constants.ApplicationIdentifierConstants.GDTI_AI_URN_PREFIX;
 import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
@@ -43,12 +43,29 @@ public class GDTIConverter implements Converter {
     return dlURI.contains(GDTI_AI_URI_PREFIX);
   }
 
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return GDTI_VALIDATOR;
+  }
+
   // Convert the provided URN to respective Digital Link URI of GDTI type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
 
       // Call the Validator class for the GDTI to check the URN syntax
-      GDTI_VALIDATOR.validate(urn);
+      if (validate) {
+        GDTI_VALIDATOR.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       final String gcp =
@@ -71,11 +88,39 @@ public class GDTIConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of GDTI Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!GDTI_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    final String value = digitalLink.rawValue(0);
+    return getEpcConversion(
+        digitalLink.toString(),
+        gcpLength,
+        value.substring(0, 13),
+        isClassLevel ? null : value.substring(13));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Call the Validator class for the GDTI to check the DLURI syntax
-      GDTI_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        GDTI_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
 
@@ -84,7 +129,7 @@ public class GDTIConverter implements Converter {
               dlURI.indexOf(GDTI_AI_URI_PREFIX) + GDTI_AI_URI_PREFIX.length(),
               dlURI.indexOf(GDTI_AI_URI_PREFIX) + GDTI_AI_URI_PREFIX.length() + 13);
 
-      return getEPCMap(dlURI, gcpLength, gdti);
+      return getEpcConversion(dlURI, gcpLength, gdti);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GDTI identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -96,9 +141,18 @@ public class GDTIConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(
+  private EpcConversion getEpcConversion(
       final String dlURI, final int gcpLength, final String gdti) {
-    final Map<String, String> buildURN = new HashMap<>();
+    final String serial =
+        isClassLevel
+            ? null
+            : dlURI.substring(dlURI.indexOf(GDTI_AI_URI_PREFIX) + GDTI_AI_URI_PREFIX.length() + 13);
+    return getEpcConversion(dlURI, gcpLength, gdti, serial);
+  }
+
+  private EpcConversion getEpcConversion(
+      final String dlURI, final int gcpLength, final String gdti, final String serial) {
+    final EpcConversion conversion;
     String asURN;
 
     try {
@@ -107,26 +161,11 @@ public class GDTIConverter implements Converter {
       if (isClassLevel) {
         asURN = "urn:epc:idpat:gdti:" + gdti.substring(0, gcpLength) + "." + gdtiSubString + ".*";
       } else {
-        final String serial =
-            dlURI.substring(dlURI.indexOf(GDTI_AI_URI_PREFIX) + GDTI_AI_URI_PREFIX.length() + 13);
         asURN =
             "urn:epc:id:gdti:" + gdti.substring(0, gcpLength) + "." + gdtiSubString + "." + serial;
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.SERIAL, serial);
-      }
-
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(GDTI_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
       }
 
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("gdti", gdti);
+      conversion = new EpcConversion(dlURI, asURN, "gdti", gdti, serial, GDTI_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the GDTI identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -140,11 +179,11 @@ public class GDTIConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     GDTI_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of GDTI Type
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
 
     try {
@@ -165,7 +204,7 @@ public class GDTIConverter implements Converter {
       GDTI_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, gdti);
+      return getEpcConversion(dlURI, gcpLength, gdti);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GDTI identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -12,12 +12,12 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.GIAIValidator;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.openepcis.constants.ApplicationIdentifierConstants.GIAI_AI_URI_PREFIX;
 import static io.openepcis.constants.ApplicationIdentifierConstants.GIAI_AI_URN_PREFIX;
 import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
@@ -35,12 +35,29 @@ public class GIAIConverter implements Converter {
     return dlURI.contains(GIAI_AI_URI_PREFIX);
   }
 
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return GIAI_VALIDATOR;
+  }
+
   // Convert the provided URN to respective Digital Link URI of GIAI type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
 
       // Call the Validator class for the GIAI to check the URN syntax
-      GIAI_VALIDATOR.validate(urn);
+      if (validate) {
+        GIAI_VALIDATOR.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       final String gcp =
@@ -57,15 +74,38 @@ public class GIAIConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of GIAI Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!GIAI_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(digitalLink.toString(), gcpLength, digitalLink.rawValue(0));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Call the Validator class for the GIAI to check the DLURI syntax
-      GIAI_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        GIAI_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
       final String giai = dlURI.substring(dlURI.indexOf(GIAI_AI_URI_PREFIX) + GIAI_AI_URI_PREFIX.length());
-      return getEPCMap(dlURI, gcpLength, giai);
+      return getEpcConversion(dlURI, gcpLength, giai);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GIAI identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -77,26 +117,14 @@ public class GIAIConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(
+  private EpcConversion getEpcConversion(
       final String dlURI, final int gcpLength, final String giai) {
-    final Map<String, String> buildURN = new HashMap<>();
+    final EpcConversion conversion;
     String asURN;
     try {
       asURN = "urn:epc:id:giai:" + giai.substring(0, gcpLength) + "." + giai.substring(gcpLength);
 
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(GIAI_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
-      }
-
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("giai", giai);
+      conversion = new EpcConversion(dlURI, asURN, "giai", giai, null, GIAI_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the GIAI identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -110,11 +138,11 @@ public class GIAIConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     GIAI_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of GIAI Type
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
 
     try {
@@ -127,7 +155,7 @@ public class GIAIConverter implements Converter {
       GIAI_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, giai);
+      return getEpcConversion(dlURI, gcpLength, giai);
 
     } catch (Exception exception) {
       throw new ValidationException(
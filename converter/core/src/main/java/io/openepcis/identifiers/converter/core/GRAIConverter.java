@@ -12,14 +12,14 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.GRAIValidator;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.openepcis.constants.ApplicationIdentifierConstants.GRAI_AI_URI_PREFIX;
 import static io.openepcis.constants.ApplicationIdentifierConstants.GRAI_AI_URN_PREFIX;
 import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
@@ -46,11 +46,28 @@ public class GRAIConverter implements Converter {
     return dlURI.contains(GRAI_AI_URI_PREFIX);
   }
 
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return GRAI_VALIDATOR;
+  }
+
   // Convert the provided URN to respective Digital Link URI of GRAI type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Call the Validator class for the GRAI to check the URN syntax
-      GRAI_VALIDATOR.validate(urn);
+      if (validate) {
+        GRAI_VALIDATOR.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       final String gcp =
@@ -77,18 +94,43 @@ public class GRAIConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of GRAI Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!GRAI_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    final String value = digitalLink.rawValue(0);
+    return getEpcConversion(
+        digitalLink.toString(), gcpLength, value.substring(1, 14), value.substring(14));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Call the Validator class for the GRAI to check the DLURI syntax
-      GRAI_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        GRAI_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN, +1 skips the mandatory leading 0 and 20 = prefix(6) + 14-digit value
       final String grai =
           dlURI.substring(
               dlURI.indexOf(GRAI_AI_URI_PREFIX) + GRAI_AI_URI_PREFIX.length() + 1,
               dlURI.indexOf(GRAI_AI_URI_PREFIX) + 20);
-      return getEPCMap(dlURI, gcpLength, grai);
+      return getEpcConversion(dlURI, gcpLength, grai);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GRAI identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -100,37 +142,29 @@ public class GRAIConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(
+  private EpcConversion getEpcConversion(
       final String dlURI, final int gcpLength, final String grai) {
-    final Map<String, String> buildURN = new HashMap<>();
+    return getEpcConversion(
+        dlURI, gcpLength, grai, dlURI.substring(dlURI.indexOf(GRAI_AI_URI_PREFIX) + 20));
+  }
+
+  private EpcConversion getEpcConversion(
+      final String dlURI, final int gcpLength, final String grai, final String serial) {
+    final EpcConversion conversion;
     String asURN;
 
     try {
-      String serial;
       final String graiSubString = grai.substring(gcpLength, grai.length() - 1);
 
       if (isClassLevel) {
         asURN = "urn:epc:idpat:grai:" + grai.substring(0, gcpLength) + "." + graiSubString + ".*";
       } else {
-        serial = dlURI.substring(dlURI.indexOf(GRAI_AI_URI_PREFIX) + 20);
         final String urnBase =
             "urn:epc:id:grai:" + grai.substring(0, gcpLength) + "." + graiSubString;
         asURN = StringUtils.isNotBlank(serial) ? urnBase + "." + serial : urnBase;
       }
 
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(GRAI_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
-      }
-
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("grai", grai);
+      conversion = new EpcConversion(dlURI, asURN, "grai", grai, null, GRAI_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the GRAI identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -144,11 +178,11 @@ public class GRAIConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     GRAI_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of GRAI Type
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
     try {
       String grai;
@@ -170,7 +204,7 @@ public class GRAIConverter implements Converter {
       GRAI_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, grai);
+      return getEpcConversion(dlURI, gcpLength, grai);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GRAI identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -12,13 +12,13 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.GSINValidator;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.openepcis.constants.ApplicationIdentifierConstants.GSIN_AI_URI_PREFIX;
 import static io.openepcis.constants.ApplicationIdentifierConstants.GSIN_AI_URN_PREFIX;
 import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
@@ -37,11 +37,28 @@ public class GSINConverter implements Converter {
     return dlURI.contains(GSIN_AI_URI_PREFIX);
   }
 
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return gsinValidator;
+  }
+
   // Convert the provided URN to respective Digital Link URI of GSIN type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Call the Validator class for the GSIN to check the URN syntax
-      gsinValidator.validate(urn);
+      if (validate) {
+        gsinValidator.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       String gsin =
@@ -59,15 +76,38 @@ public class GSINConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of GSIN Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!gsinValidator.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(digitalLink.toString(), gcpLength, digitalLink.rawValue(0));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Call the Validator class for the GSIN to check the DLURI syntax
-      gsinValidator.validate(dlURI, gcpLength);
+      if (validate) {
+        gsinValidator.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
       final String gsin = dlURI.substring(dlURI.indexOf(GSIN_AI_URI_PREFIX) + GSIN_AI_URI_PREFIX.length());
-      return getEPCMap(dlURI, gcpLength, gsin);
+      return getEpcConversion(dlURI, gcpLength, gsin);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GSIN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -79,10 +119,10 @@ public class GSINConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(
+  private EpcConversion getEpcConversion(
       final String dlURI, final int gcpLength, final String gsin) {
 
-    final Map<String, String> buildURN = new HashMap<>();
+    final EpcConversion conversion;
     String asURN;
     try {
       asURN =
@@ -91,19 +131,7 @@ public class GSINConverter implements Converter {
               + "."
               + gsin.substring(gcpLength, gsin.length() - 1);
 
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(GSIN_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
-      }
-
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("gsin", gsin);
+      conversion = new EpcConversion(dlURI, asURN, "gsin", gsin, null, GSIN_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the GSIN identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -117,11 +145,11 @@ public class GSINConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     gsinValidator.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of GSIN Type
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
     try {
       final String gsin = dlURI.substring(dlURI.indexOf(GSIN_AI_URI_PREFIX) + GSIN_AI_URI_PREFIX.length());
@@ -131,7 +159,7 @@ public class GSINConverter implements Converter {
       gsinValidator.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, gsin);
+      return getEpcConversion(dlURI, gcpLength, gsin);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GSIN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
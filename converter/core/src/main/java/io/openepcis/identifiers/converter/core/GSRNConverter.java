@@ -12,13 +12,13 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.GSRNValidator;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.openepcis.constants.ApplicationIdentifierConstants.GSRN_AI_URI_PREFIX;
 import static io.openepcis.constants.ApplicationIdentifierConstants.GSRN_AI_URN_PREFIX;
 import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
@@ -37,11 +37,28 @@ public class GSRNConverter implements Converter {
     return dlURI.contains(GSRN_AI_URI_PREFIX);
   }
 
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return GSRN_VALIDATOR;
+  }
+
   // Convert the provided URN to respective Digital Link URI of GSRN type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Call the Validator class for the GSRN to check the URN syntax
-      GSRN_VALIDATOR.validate(urn);
+      if (validate) {
+        GSRN_VALIDATOR.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       final String gcp = urn.substring(urn.lastIndexOf(":") + 1, urn.indexOf('.'));
@@ -58,15 +75,38 @@ public class GSRNConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of GSRN Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!GSRN_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(digitalLink.toString(), gcpLength, digitalLink.rawValue(0));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Call the Validator class for the GSRN to check the DLURI syntax
-      GSRN_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        GSRN_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
       final String gsrn = dlURI.substring(dlURI.indexOf(GSRN_AI_URI_PREFIX) + GSRN_AI_URI_PREFIX.length());
-      return getEPCMap(dlURI, gcpLength, gsrn);
+      return getEpcConversion(dlURI, gcpLength, gsrn);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GSRN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -78,9 +118,9 @@ public class GSRNConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(
+  private EpcConversion getEpcConversion(
       final String dlURI, final int gcpLength, final String gsrn) {
-    final Map<String, String> buildURN = new HashMap<>();
+    final EpcConversion conversion;
     String asURN;
 
     try {
@@ -90,19 +130,7 @@ public class GSRNConverter implements Converter {
               + "."
               + gsrn.substring(gcpLength, gsrn.length() - 1);
 
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(GSRN_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
-      }
-
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("gsrn", gsrn);
+      conversion = new EpcConversion(dlURI, asURN, "gsrn", gsrn, null, GSRN_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the GSRN identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -116,11 +144,11 @@ public class GSRNConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     GSRN_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of GSRN Type
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
     try {
       final String gsrn = dlURI.substring(dlURI.indexOf(GSRN_AI_URI_PREFIX) + GSRN_AI_URI_PREFIX.length());
@@ -130,7 +158,7 @@ public class GSRNConverter implements Converter {
       GSRN_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, gsrn);
+      return getEpcConversion(dlURI, gcpLength, gsrn);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GSRN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -12,13 +12,13 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.GSRNPValidator;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.openepcis.constants.ApplicationIdentifierConstants.GSRNP_AI_URN_PREFIX;
 import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
 
@@ -37,11 +37,28 @@ public class GSRNPConverter implements Converter {
     return dlURI.contains(GSRNP_URI_PART);
   }
 
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return GSRNP_VALIDATOR;
+  }
+
   // Convert the provided URN to respective Digital Link URI of GSRNP type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Call the Validator class for the GSRNP to check the URN syntax
-      GSRNP_VALIDATOR.validate(urn);
+      if (validate) {
+        GSRNP_VALIDATOR.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       final String gcp = urn.substring(urn.lastIndexOf(":") + 1, urn.indexOf('.'));
@@ -58,15 +75,38 @@ public class GSRNPConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of GSRNP Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!GSRNP_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(digitalLink.toString(), gcpLength, digitalLink.rawValue(0));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Call the Validator class for the GSRNP to check the DLURI syntax
-      GSRNP_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        GSRNP_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
       final String gsrnp = dlURI.substring(dlURI.indexOf(GSRNP_URI_PART) + GSRNP_URI_PART.length());
-      return getEPCMap(dlURI, gcpLength, gsrnp);
+      return getEpcConversion(dlURI, gcpLength, gsrnp);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GSRNP identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -78,9 +118,9 @@ public class GSRNPConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(
+  private EpcConversion getEpcConversion(
       final String dlURI, final int gcpLength, final String gsrnp) {
-    final Map<String, String> buildURN = new HashMap<>();
+    final EpcConversion conversion;
     String asURN;
     try {
       asURN =
@@ -89,19 +129,7 @@ public class GSRNPConverter implements Converter {
               + "."
               + gsrnp.substring(gcpLength, gsrnp.length() - 1);
 
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(GSRNP_URI_PART)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
-      }
-
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("gsrnp", gsrnp);
+      conversion = new EpcConversion(dlURI, asURN, "gsrnp", gsrnp, null, GSRNP_URI_PART);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the GSRNP identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -115,11 +143,11 @@ public class GSRNPConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     GSRNP_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of GSRNP Type
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
     try {
       final String gsrnp = dlURI.substring(dlURI.indexOf(GSRNP_URI_PART) + GSRNP_URI_PART.length());
@@ -129,7 +157,7 @@ public class GSRNPConverter implements Converter {
       GSRNP_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, gsrnp);
+      return getEpcConversion(dlURI, gcpLength, gsrnp);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of GSRNP identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
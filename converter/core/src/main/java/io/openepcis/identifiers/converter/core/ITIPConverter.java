@@ -12,12 +12,14 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.ITIPValidator;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Pattern;
@@ -28,6 +30,7 @@ import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
 public class ITIPConverter implements Converter {
 
   private static final ITIPValidator ITIP_VALIDATOR = new ITIPValidator();
+  private static final Pattern DL_PATTERN = Pattern.compile("(?=.*/8006/)");
   private boolean isClassLevel;
 
   public ITIPConverter() {
@@ -45,14 +48,31 @@ public class ITIPConverter implements Converter {
 
   // Check if the provided Digital Link URI is of ITIP Type
   public boolean supportsURN(final String dlURI) {
-    return Pattern.compile("(?=.*/8006/)").matcher(dlURI).find();
+    return DL_PATTERN.matcher(dlURI).find();
+  }
+
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return ITIP_VALIDATOR;
   }
 
   // Convert the provided URN to respective Digital Link URI of ITIP type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Call the Validator class for the ITIP to check the URN syntax
-      ITIP_VALIDATOR.validate(urn);
+      if (validate) {
+        ITIP_VALIDATOR.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       String itip =
@@ -96,11 +116,39 @@ public class ITIPConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of ITIP Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (digitalLink.size() != (isClassLevel ? 1 : 2)
+        || !ITIP_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(
+        digitalLink.toString(),
+        gcpLength,
+        digitalLink.rawValue(0),
+        isClassLevel ? null : digitalLink.rawValue(1));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Call the Validator class for the ITIP to check the DLURI syntax
-      ITIP_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        ITIP_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
       String itip;
@@ -112,7 +160,7 @@ public class ITIPConverter implements Converter {
                 dlURI.indexOf(ITIP_AI_URI_PREFIX) + ITIP_AI_URI_PREFIX.length(),
                 dlURI.indexOf(ITIP_AI_URI_SERIAL_PREFIX));
       }
-      return getEPCMap(dlURI, gcpLength, itip);
+      return getEpcConversion(dlURI, gcpLength, itip);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of ITIP identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -124,8 +172,16 @@ public class ITIPConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(String dlURI, int gcpLength, String itip) {
-    final Map<String, String> buildURN = new HashMap<>();
+  private EpcConversion getEpcConversion(String dlURI, int gcpLength, String itip) {
+    final String serial =
+        isClassLevel
+            ? null
+            : dlURI.substring(dlURI.indexOf(ITIP_AI_URI_SERIAL_PREFIX) + ITIP_AI_URI_SERIAL_PREFIX.length());
+    return getEpcConversion(dlURI, gcpLength, itip, serial);
+  }
+
+  private EpcConversion getEpcConversion(String dlURI, int gcpLength, String itip, String serial) {
+    final EpcConversion conversion;
     String asURN;
 
     try {
@@ -141,8 +197,6 @@ public class ITIPConverter implements Converter {
                 + ".*";
       } else {
         asURN = "urn:epc:id:itip:" + itip.substring(1, gcpLength + 1) + "." + itip.charAt(0);
-        final String serial =
-            dlURI.substring(dlURI.indexOf(ITIP_AI_URI_SERIAL_PREFIX) + ITIP_AI_URI_SERIAL_PREFIX.length());
         asURN =
             asURN
                 + itip.substring(gcpLength + 1, 13)
@@ -152,22 +206,9 @@ public class ITIPConverter implements Converter {
                 + itip.substring(16, 18)
                 + "."
                 + serial;
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.SERIAL, serial);
-      }
-
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(ITIP_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
       }
 
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("itip", itip);
+      conversion = new EpcConversion(dlURI, asURN, "itip", itip, serial, ITIP_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the ITIP identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -181,11 +222,11 @@ public class ITIPConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     ITIP_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of ITIP Type
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
     try {
       String itip;
@@ -205,7 +246,7 @@ public class ITIPConverter implements Converter {
       ITIP_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, itip);
+      return getEpcConversion(dlURI, gcpLength, itip);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of ITIP identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -232,7 +273,7 @@ public class ITIPConverter implements Converter {
         .getGcpLengthAsync(dlURI, itip, ITIP_AI_URI_PREFIX)
         .thenApply(gcpLength -> {
           ITIP_VALIDATOR.validate(dlURI, gcpLength);
-          return getEPCMap(dlURI, gcpLength, itip);
+          return getEpcConversion(dlURI, gcpLength, itip).toMap();
         });
   }
 }
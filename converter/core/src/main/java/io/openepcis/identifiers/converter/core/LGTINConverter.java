@@ -12,11 +12,13 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.LGTINValidator;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Pattern;
@@ -26,6 +28,7 @@ import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
 
 public class LGTINConverter implements Converter {
   private static final LGTINValidator LGTIN_VALIDATOR = new LGTINValidator();
+  private static final Pattern DL_PATTERN = Pattern.compile("(?=.*/01/)(?=.*/10/)");
 
   // Check if the provided URN is of LGTIN type
   public boolean supportsDigitalLinkURI(final String urn) {
@@ -34,14 +37,31 @@ public class LGTINConverter implements Converter {
 
   // Check if the provided Digital Link URI is of LGTIN Type
   public boolean supportsURN(final String dlURI) {
-    return Pattern.compile("(?=.*/01/)(?=.*/10/)").matcher(dlURI).find();
+    return DL_PATTERN.matcher(dlURI).find();
+  }
+
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return LGTIN_VALIDATOR;
   }
 
   // Convert the provided URN to respective Digital Link URI of LGTIN type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Call the Validator class for the LGTIN to check the URN syntax
-      LGTIN_VALIDATOR.validate(urn);
+      if (validate) {
+        LGTIN_VALIDATOR.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       final String gcp =
@@ -63,18 +83,42 @@ public class LGTINConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of LGTIN Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!LGTIN_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(
+        digitalLink.toString(), gcpLength, digitalLink.rawValue(0), digitalLink.rawValue(1));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Call the Validator class for the LGTIN to check the DLURI syntax
-      LGTIN_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        LGTIN_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
       final String lgtin =
           dlURI.substring(
               dlURI.indexOf(LGTIN_AI_URI_PREFIX) + LGTIN_AI_URI_PREFIX.length(),
               dlURI.indexOf(LGTIN_AI_BATCH_LOT_PREFIX));
-      return getEPCMap(dlURI, gcpLength, lgtin);
+      return getEpcConversion(dlURI, gcpLength, lgtin);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of LGTIN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -86,13 +130,19 @@ public class LGTINConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(String dlURI, int gcpLength, String lgtin) {
-    final Map<String, String> buildURN = new HashMap<>();
+  private EpcConversion getEpcConversion(String dlURI, int gcpLength, String lgtin) {
+    return getEpcConversion(
+        dlURI,
+        gcpLength,
+        lgtin,
+        dlURI.substring(dlURI.indexOf(LGTIN_AI_BATCH_LOT_PREFIX) + LGTIN_AI_BATCH_LOT_PREFIX.length()));
+  }
+
+  private EpcConversion getEpcConversion(String dlURI, int gcpLength, String lgtin, String serial) {
+    final EpcConversion conversion;
     String asURN;
 
     try {
-      final String serial =
-          dlURI.substring(dlURI.indexOf(LGTIN_AI_BATCH_LOT_PREFIX) + LGTIN_AI_BATCH_LOT_PREFIX.length());
       asURN =
           "urn:epc:class:lgtin:"
               + lgtin.substring(1, gcpLength + 1)
@@ -102,20 +152,7 @@ public class LGTINConverter implements Converter {
               + "."
               + serial;
 
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(LGTIN_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
-      }
-
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("lgtin", lgtin);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.SERIAL, serial);
+      conversion = new EpcConversion(dlURI, asURN, "lgtin", lgtin, serial, LGTIN_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the LGTIN identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -129,11 +166,11 @@ public class LGTINConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     LGTIN_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of LGTIN Type
-  public Map<String, String> convertToURN(String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(String dlURI) throws ValidationException {
     int gcpLength = 0;
     try {
       final String lgtin =
@@ -146,7 +183,7 @@ public class LGTINConverter implements Converter {
       LGTIN_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, lgtin);
+      return getEpcConversion(dlURI, gcpLength, lgtin);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of LGTIN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -168,7 +205,7 @@ public class LGTINConverter implements Converter {
         .getGcpLengthAsync(dlURI, lgtin, LGTIN_AI_URI_PREFIX)
         .thenApply(gcpLength -> {
           LGTIN_VALIDATOR.validate(dlURI, gcpLength);
-          return getEPCMap(dlURI, gcpLength, lgtin);
+          return getEpcConversion(dlURI, gcpLength, lgtin).toMap();
         });
   }
 }
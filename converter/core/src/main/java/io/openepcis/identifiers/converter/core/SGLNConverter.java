@@ -12,14 +12,14 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.SGLNValidator;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.openepcis.constants.ApplicationIdentifierConstants.*;
 import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
 
@@ -38,11 +38,28 @@ public class SGLNConverter implements Converter {
     return dlURI.contains(SGLN_AI_URI_PREFIX);
   }
 
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return SGLN_VALIDATOR;
+  }
+
   // Convert the provided URN to respective Digital Link URI of SGLN type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Validate the URN to check if they match the SGLN syntax
-      SGLN_VALIDATOR.validate(urn);
+      if (validate) {
+        SGLN_VALIDATOR.validate(urn);
+      }
 
       String sgln =
           urn.substring(
@@ -75,14 +92,41 @@ public class SGLNConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of SGLN Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!SGLN_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(
+        digitalLink.toString(),
+        gcpLength,
+        digitalLink.rawValue(0),
+        digitalLink.size() == 2 ? digitalLink.rawValue(1) : null);
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Validate the URI to check if they match the SGLN syntax
-      SGLN_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        SGLN_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength);
+      return getEpcConversion(dlURI, gcpLength);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of SGLN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -94,20 +138,29 @@ public class SGLNConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(final String dlURI, final int gcpLength) {
-    final Map<String, String> buildURN = new HashMap<>();
+  private EpcConversion getEpcConversion(final String dlURI, final int gcpLength) {
+    final String sgln;
+    String serial = null;
+    if (dlURI.contains(SGLN_AI_URI_SERIAL_PREFIX)) {
+      sgln =
+          dlURI.substring(
+              dlURI.indexOf(SGLN_AI_URI_PREFIX) + SGLN_AI_URI_PREFIX.length(),
+              dlURI.indexOf(SGLN_AI_URI_SERIAL_PREFIX));
+      serial =
+          dlURI.substring(dlURI.indexOf(SGLN_AI_URI_SERIAL_PREFIX) + SGLN_AI_URI_SERIAL_PREFIX.length());
+    } else {
+      sgln = dlURI.substring(dlURI.indexOf(SGLN_AI_URI_PREFIX) + SGLN_AI_URI_PREFIX.length());
+    }
+    return getEpcConversion(dlURI, gcpLength, sgln, serial);
+  }
+
+  private EpcConversion getEpcConversion(
+      final String dlURI, final int gcpLength, final String sgln, final String serial) {
+    final EpcConversion conversion;
     String asURN;
 
     try {
-      String sgln;
-
-      if (dlURI.contains(SGLN_AI_URI_SERIAL_PREFIX)) {
-        sgln =
-            dlURI.substring(
-                dlURI.indexOf(SGLN_AI_URI_PREFIX) + SGLN_AI_URI_PREFIX.length(),
-                dlURI.indexOf(SGLN_AI_URI_SERIAL_PREFIX));
-        final String serial =
-            dlURI.substring(dlURI.indexOf(SGLN_AI_URI_SERIAL_PREFIX) + SGLN_AI_URI_SERIAL_PREFIX.length());
+      if (serial != null) {
         asURN =
             SGLN_URN_PREFIX
                 + sgln.substring(0, gcpLength)
@@ -115,9 +168,7 @@ public class SGLNConverter implements Converter {
                 + sgln.substring(gcpLength, sgln.length() - 1)
                 + "."
                 + serial;
-        buildURN.put("serial", serial);
       } else {
-        sgln = dlURI.substring(dlURI.indexOf(SGLN_AI_URI_PREFIX) + SGLN_AI_URI_PREFIX.length());
         asURN =
             SGLN_URN_PREFIX
                 + sgln.substring(0, gcpLength)
@@ -126,19 +177,7 @@ public class SGLNConverter implements Converter {
                 + ".0";
       }
 
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(SGLN_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
-      }
-
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("sgln", sgln);
+      conversion = new EpcConversion(dlURI, asURN, "sgln", sgln, serial, SGLN_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the SGLN identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -152,10 +191,10 @@ public class SGLNConverter implements Converter {
     // Validate the URN to check if they match the SGLN syntax
     SGLN_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
     try {
       String sgln;
@@ -176,7 +215,7 @@ public class SGLNConverter implements Converter {
       SGLN_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength);
+      return getEpcConversion(dlURI, gcpLength);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of SGLN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -12,11 +12,13 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.SGTINValidator;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Pattern;
@@ -26,6 +28,8 @@ import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
 
 public class SGTINConverter implements Converter {
   private static final SGTINValidator SGTIN_VALIDATOR = new SGTINValidator();
+  private static final Pattern INSTANCE_DL_PATTERN = Pattern.compile("(?=.*/01/)(?=.*/21/)");
+  private static final Pattern CLASS_DL_PATTERN = Pattern.compile("(?=.*/01/)(?!.*/10/)");
   private boolean isClassLevel;
 
   public SGTINConverter() {
@@ -44,17 +48,34 @@ public class SGTINConverter implements Converter {
   // Check if the provided DL URI is SGTIN
   public boolean supportsURN(final String dlURI) {
     if (isClassLevel) {
-      return Pattern.compile("(?=.*/01/)(?!.*/10/)").matcher(dlURI).find();
+      return CLASS_DL_PATTERN.matcher(dlURI).find();
     } else {
-      return Pattern.compile("(?=.*/01/)(?=.*/21/)").matcher(dlURI).find();
+      return INSTANCE_DL_PATTERN.matcher(dlURI).find();
     }
   }
 
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return SGTIN_VALIDATOR;
+  }
+
   // Convert to SGTIN Digital Link URI
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Validate the URN to check if they match the SGTIN syntax
-      SGTIN_VALIDATOR.validate(urn);
+      if (validate) {
+        SGTIN_VALIDATOR.validate(urn);
+      }
 
       final String gcp =
           urn.charAt(urn.indexOf('.') + 1)
@@ -82,7 +103,33 @@ public class SGTINConverter implements Converter {
   }
 
   // Convert to SGTIN URN
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (digitalLink.size() != (isClassLevel ? 1 : 2)
+        || !SGTIN_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(
+        digitalLink.toString(),
+        gcpLength,
+        digitalLink.rawValue(0),
+        isClassLevel ? null : digitalLink.rawValue(1));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       String sgtin;
@@ -90,16 +137,20 @@ public class SGTINConverter implements Converter {
       // Validate the URN to check if they match the SGTIN syntax
       if (isClassLevel) {
         sgtin = dlURI.substring(dlURI.indexOf(SGTIN_AI_URI_PREFIX) + SGTIN_AI_URI_PREFIX.length());
-        SGTIN_VALIDATOR.validate(dlURI, gcpLength);
+        if (validate) {
+          SGTIN_VALIDATOR.validate(dlURI, gcpLength);
+        }
       } else {
         sgtin =
             dlURI.substring(
                 dlURI.indexOf(SGTIN_AI_URI_PREFIX) + SGTIN_AI_URI_PREFIX.length(),
                 dlURI.indexOf(SGTIN_AI_URI_SERIAL_PREFIX));
-        SGTIN_VALIDATOR.validate(dlURI, gcpLength);
+        if (validate) {
+          SGTIN_VALIDATOR.validate(dlURI, gcpLength);
+        }
       }
 
-      return getEPCMap(dlURI, gcpLength, sgtin);
+      return getEpcConversion(dlURI, gcpLength, sgtin);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of SGTIN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -111,9 +162,18 @@ public class SGTINConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(
+  private EpcConversion getEpcConversion(
       final String dlURI, final int gcpLength, final String sgtin) {
-    final Map<String, String> buildURN = new HashMap<>();
+    final String serial =
+        isClassLevel
+            ? null
+            : dlURI.substring(dlURI.indexOf(SGTIN_AI_URI_SERIAL_PREFIX) + SGTIN_AI_URI_SERIAL_PREFIX.length());
+    return getEpcConversion(dlURI, gcpLength, sgtin, serial);
+  }
+
+  private EpcConversion getEpcConversion(
+      final String dlURI, final int gcpLength, final String sgtin, final String serial) {
+    final EpcConversion conversion;
     String asURN;
 
     try {
@@ -126,25 +186,10 @@ public class SGTINConverter implements Converter {
       if (isClassLevel) {
         asURN = "urn:epc:idpat:sgtin:" + sgtinUrn + ".*";
       } else {
-        final String serial =
-            dlURI.substring(dlURI.indexOf(SGTIN_AI_URI_SERIAL_PREFIX) + SGTIN_AI_URI_SERIAL_PREFIX.length());
         asURN = "urn:epc:id:sgtin:" + sgtinUrn + "." + serial;
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.SERIAL, serial);
-      }
-
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(SGTIN_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
       }
 
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("gtin", sgtin);
+      conversion = new EpcConversion(dlURI, asURN, "gtin", sgtin, serial, SGTIN_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the SGTIN identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -158,11 +203,11 @@ public class SGTINConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     SGTIN_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert to SGTIN URN
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
 
     try {
@@ -181,7 +226,7 @@ public class SGTINConverter implements Converter {
       // Validate the URN to check if they match the SGTIN syntax
       SGTIN_VALIDATOR.validate(dlURI, gcpLength);
 
-      return getEPCMap(dlURI, gcpLength, sgtin);
+      return getEpcConversion(dlURI, gcpLength, sgtin);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of SGTIN identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -208,7 +253,7 @@ public class SGTINConverter implements Converter {
         .getGcpLengthAsync(dlURI, sgtin, SGTIN_AI_URI_PREFIX)
         .thenApply(gcpLength -> {
           SGTIN_VALIDATOR.validate(dlURI, gcpLength);
-          return getEPCMap(dlURI, gcpLength, sgtin);
+          return getEpcConversion(dlURI, gcpLength, sgtin).toMap();
         });
   }
 }
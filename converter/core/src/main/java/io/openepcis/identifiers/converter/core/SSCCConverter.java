@@ -12,13 +12,13 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.SSCCValidator;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.openepcis.constants.ApplicationIdentifierConstants.SSCC_AI_URI_PREFIX;
 import static io.openepcis.constants.ApplicationIdentifierConstants.SSCC_AI_URN_PREFIX;
 import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
@@ -36,11 +36,28 @@ public class SSCCConverter implements Converter {
     return dlURI.contains(SSCC_AI_URI_PREFIX);
   }
 
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return SSCC_VALIDATOR;
+  }
+
   // Convert the provided URN to respective Digital Link URI of SSCC type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Validate the DLURI to check if they match the SSCC syntax
-      SSCC_VALIDATOR.validate(urn);
+      if (validate) {
+        SSCC_VALIDATOR.validate(urn);
+      }
 
       final String gcp =
           urn.charAt(urn.indexOf('.') + 1)
@@ -59,14 +76,37 @@ public class SSCCConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of SSCC Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!SSCC_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(digitalLink.toString(), gcpLength, digitalLink.rawValue(0));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Validate the URN to check if they match the SGTIN syntax
-      SSCC_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        SSCC_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       final String sscc = dlURI.substring(dlURI.indexOf(SSCC_AI_URI_PREFIX) + SSCC_AI_URI_PREFIX.length());
-      return getEPCMap(dlURI, gcpLength, sscc);
+      return getEpcConversion(dlURI, gcpLength, sscc);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of SSCC identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -78,9 +118,9 @@ public class SSCCConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(
+  private EpcConversion getEpcConversion(
       final String dlURI, final int gcpLength, final String sscc) {
-    final Map<String, String> buildURN = new HashMap<>();
+    final EpcConversion conversion;
     String asURN;
 
     try {
@@ -91,19 +131,7 @@ public class SSCCConverter implements Converter {
               + sscc.substring(gcpLength + 1, sscc.length() - 1);
       asURN = "urn:epc:id:sscc:" + ssccURN;
 
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(SSCC_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
-      }
-
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("sscc", sscc);
+      conversion = new EpcConversion(dlURI, asURN, "sscc", sscc, null, SSCC_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the SSCC identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -115,11 +143,11 @@ public class SSCCConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     SSCC_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of SSCC Type
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
     try {
       final String sscc = dlURI.substring(dlURI.indexOf(SSCC_AI_URI_PREFIX) + SSCC_AI_URI_PREFIX.length());
@@ -128,7 +156,7 @@ public class SSCCConverter implements Converter {
       // Validate the URN to check if they match the SGTIN syntax
       SSCC_VALIDATOR.validate(dlURI, gcpLength);
 
-      return getEPCMap(dlURI, gcpLength, sscc);
+      return getEpcConversion(dlURI, gcpLength, sscc);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of SSCC identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
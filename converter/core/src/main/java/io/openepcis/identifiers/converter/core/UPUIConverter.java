@@ -12,12 +12,14 @@ package io.openepcis.identifiers.converter.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.converter.EpcConversion;
 import io.openepcis.identifiers.converter.constants.ConstantDigitalLinkTranslatorInfo;
 import io.openepcis.identifiers.converter.util.ConverterUtil;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.UPUIValidator;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Pattern;
@@ -27,6 +29,7 @@ import static io.openepcis.constants.EPCIS.GS1_IDENTIFIER_DOMAIN;
 
 public class UPUIConverter implements Converter {
   private static final UPUIValidator UPUI_VALIDATOR = new UPUIValidator();
+  private static final Pattern DL_PATTERN = Pattern.compile("(?=.*/01/)(?=.*/235/)");
 
   // Check if the provided URN is of UPUI type
   public boolean supportsDigitalLinkURI(final String urn) {
@@ -35,14 +38,31 @@ public class UPUIConverter implements Converter {
 
   // Check if the provided Digital Link URI is of UPUI Type
   public boolean supportsURN(final String dlURI) {
-    return Pattern.compile("(?=.*/01/)(?=.*/235/)").matcher(dlURI).find();
+    return DL_PATTERN.matcher(dlURI).find();
+  }
+
+  @Override
+  public ApplicationIdentifierValidator getValidator() {
+    return UPUI_VALIDATOR;
   }
 
   // Convert the provided URN to respective Digital Link URI of UPUI type
   public String convertToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, true);
+  }
+
+  @Override
+  public String convertValidatedToDigitalLink(final String urn) throws ValidationException {
+    return toDigitalLink(urn, false);
+  }
+
+  private String toDigitalLink(final String urn, final boolean validate)
+      throws ValidationException {
     try {
       // Call the Validator class for the UPUI to check the URN syntax
-      UPUI_VALIDATOR.validate(urn);
+      if (validate) {
+        UPUI_VALIDATOR.validate(urn);
+      }
 
       // If the URN passed the validation then convert the URN to URI
       String upui =
@@ -68,18 +88,42 @@ public class UPUIConverter implements Converter {
   }
 
   // Convert the provided Digital Link URI to respective URN of UPUI Type
-  public Map<String, String> convertToURN(final String dlURI, final int gcpLength)
+  public EpcConversion convertToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, true);
+  }
+
+  @Override
+  public EpcConversion convertValidatedToEpc(final String dlURI, final int gcpLength)
+      throws ValidationException {
+    return toEpc(dlURI, gcpLength, false);
+  }
+
+  @Override
+  public EpcConversion convertToEpc(final GS1DigitalLink digitalLink, final int gcpLength)
+      throws ValidationException {
+    // Links of the plain form are converted from their parsed elements, others from the URI string
+    if (!UPUI_VALIDATOR.matchesCompiled(digitalLink, gcpLength)) {
+      return convertToEpc(digitalLink.toString(), gcpLength);
+    }
+    return getEpcConversion(
+        digitalLink.toString(), gcpLength, digitalLink.rawValue(0), digitalLink.rawValue(1));
+  }
+
+  private EpcConversion toEpc(final String dlURI, final int gcpLength, final boolean validate)
       throws ValidationException {
     try {
       // Call the Validator class for the UPUI to check the DLURI syntax
-      UPUI_VALIDATOR.validate(dlURI, gcpLength);
+      if (validate) {
+        UPUI_VALIDATOR.validate(dlURI, gcpLength);
+      }
 
       // If the URI passed the validation then convert the URI to URN
       final String upui =
           dlURI.substring(
               dlURI.indexOf(UPUI_AI_URI_PREFIX) + UPUI_AI_URI_PREFIX.length(),
               dlURI.indexOf(UPUI_AI_URI_SERIAL_PREFIX));
-      return getEPCMap(dlURI, gcpLength, upui);
+      return getEpcConversion(dlURI, gcpLength, upui);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of UPUI identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -91,8 +135,17 @@ public class UPUIConverter implements Converter {
     }
   }
 
-  private Map<String, String> getEPCMap(final String dlURI, final int gcpLength, String upui) {
-    final Map<String, String> buildURN = new HashMap<>();
+  private EpcConversion getEpcConversion(final String dlURI, final int gcpLength, String upui) {
+    return getEpcConversion(
+        dlURI,
+        gcpLength,
+        upui,
+        dlURI.substring(dlURI.indexOf(UPUI_AI_URI_SERIAL_PREFIX) + UPUI_AI_URI_SERIAL_PREFIX.length()));
+  }
+
+  private EpcConversion getEpcConversion(
+      final String dlURI, final int gcpLength, String upui, final String serial) {
+    final EpcConversion conversion;
     String asURN;
     try {
       upui =
@@ -100,24 +153,9 @@ public class UPUIConverter implements Converter {
               + "."
               + upui.charAt(0)
               + upui.substring(gcpLength + 1, upui.length() - 1);
-      final String serial =
-          dlURI.substring(dlURI.indexOf(UPUI_AI_URI_SERIAL_PREFIX) + UPUI_AI_URI_SERIAL_PREFIX.length());
       asURN = "urn:epc:id:upui:" + upui + "." + serial;
 
-      // If dlURI contains GS1 domain then captured and canonical are same
-      if (dlURI.contains(GS1_IDENTIFIER_DOMAIN)) {
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, dlURI);
-      } else {
-        // If dlURI does not contain GS1 domain then canonicalDL is based on GS1 domain
-        final String canonicalDL =
-            dlURI.replace(dlURI.substring(0, dlURI.indexOf(UPUI_AI_URI_PREFIX)), GS1_IDENTIFIER_DOMAIN);
-        buildURN.put(ConstantDigitalLinkTranslatorInfo.CANONICAL_DL, canonicalDL);
-      }
-
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_CAPTURED, dlURI);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.AS_URN, asURN);
-      buildURN.put("upui", upui);
-      buildURN.put(ConstantDigitalLinkTranslatorInfo.SERIAL, serial);
+      conversion = new EpcConversion(dlURI, asURN, "upui", upui, serial, UPUI_AI_URI_PREFIX);
     } catch (Exception exception) {
       throw new ValidationException(
           "The conversion of the UPUI identifier from digital link WebURI to URN when creating the URN map encountered an error,\nPlease check the provided identifier : "
@@ -129,11 +167,11 @@ public class UPUIConverter implements Converter {
     // After generating the URN validate it again and ensure GCP validates
     UPUI_VALIDATOR.validate(asURN);
 
-    return buildURN;
+    return conversion;
   }
 
   // Convert the provided Digital Link URI to respective URN of UPUI Type
-  public Map<String, String> convertToURN(final String dlURI) throws ValidationException {
+  public EpcConversion convertToEpc(final String dlURI) throws ValidationException {
     int gcpLength = 0;
 
     try {
@@ -147,7 +185,7 @@ public class UPUIConverter implements Converter {
       UPUI_VALIDATOR.validate(dlURI, gcpLength);
 
       // If the URI passed the validation then convert the URI to URN
-      return getEPCMap(dlURI, gcpLength, upui);
+      return getEpcConversion(dlURI, gcpLength, upui);
     } catch (Exception exception) {
       throw new ValidationException(
           "Exception occurred during the conversion of UPUI identifier from digital link WebURI to URN,\nPlease check the provided identifier : "
@@ -169,7 +207,7 @@ public class UPUIConverter implements Converter {
         .getGcpLengthAsync(dlURI, upui, UPUI_AI_URI_PREFIX)
         .thenApply(gcpLength -> {
           UPUI_VALIDATOR.validate(dlURI, gcpLength);
-          return getEPCMap(dlURI, gcpLength, upui);
+          return getEpcConversion(dlURI, gcpLength, upui).toMap();
         });
   }
 }
@@ -11,6 +11,9 @@
 package io.openepcis.identifiers.converter.util;
 
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.GS1CheckDigit;
+import io.openepcis.identifiers.converter.CachingConverter;
+import io.openepcis.identifiers.converter.ConversionCacheStats;
 import io.openepcis.identifiers.converter.Converter;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -21,10 +24,14 @@ import java.util.Map;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ConverterUtil {
 
+  // JVM property enabling the conversion cache with the given maximum size, ex: 100000
+  public static final String CACHE_SIZE_PROPERTY = ConverterUtil.class.getName() + ".cacheSize";
+
   private static final Converter converter;
 
   static {
-    converter = new Converter();
+    final int cacheSize = Integer.getInteger(CACHE_SIZE_PROPERTY, 0);
+    converter = cacheSize > 0 ? new CachingConverter(cacheSize) : new Converter();
   }
 
   // Check through each class and find URN belongs to which particular class
@@ -60,6 +67,11 @@ public class ConverterUtil {
     return converter.toURNForClassLevelIdentifier(dlURI, gcpLength);
   }
 
+  // Counters of the conversion cache, null if the cache is not enabled
+  public static ConversionCacheStats cacheStats() {
+    return converter instanceof CachingConverter cachingConverter ? cachingConverter.stats() : null;
+  }
+
   // Convert the CBV URN formatted vocabularies into WebURI vocabulary. Used during event hash
   // generator.
   public static String toWebURIVocabulary(final String urnVocabulary) {
@@ -89,6 +101,12 @@ public class ConverterUtil {
   }
 
   public static char checksum(final String s) {
+    final int checkDigit = GS1CheckDigit.compute(s);
+    if (checkDigit >= 0) {
+      return (char) ('0' + checkDigit);
+    }
+
+    // Values with other characters than digits keep the former scalar result
     int odd = 0;
     int even = 0;
     int index;
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static io.openepcis.identifiers.converter.ConverterDispatchIndexTest.*;
+
+/**
+ * Dispatch of URNs and Digital Link URIs by the {@link ConverterDispatchIndex} compared with
+ * probing every converter in turn as before the index, enabled with the number of operations per
+ * case, ex: {@code mvn test -Dtest=ConverterDispatchIndexBenchmarkTest
+ * -Dbenchmark.iterations=10000000}.
+ *
+ * <p>Every case is run twice, the first round warms up the JIT. Time per operation of the second
+ * round is published to the JUnit {@link TestReporter}.
+ */
+@EnabledIfSystemProperty(named = "benchmark.iterations", matches = "\\d+")
+class ConverterDispatchIndexBenchmarkTest {
+
+  // Results of all operations, read by nobody, so that the JIT cannot drop the operations
+  private static volatile long blackhole;
+
+  @Test
+  void benchmarkDispatch(final TestReporter reporter) {
+    final ConverterDispatchIndex index = new Converter().instanceLevelIndex();
+    final int iterations = Integer.getInteger("benchmark.iterations");
+
+    final List<String> identifiers = new ArrayList<>(URNS);
+    identifiers.addAll(DIGITAL_LINKS);
+    final List<Function<String, Object>> probing =
+        List.of(
+            urn -> probeUrn(INSTANCE_LEVEL, urn),
+            dlURI -> probeDigitalLink(INSTANCE_LEVEL, dlURI));
+    final List<Function<String, Object>> indexed =
+        List.of(index::forUrn, index::forDigitalLink);
+
+    for (int round = 0; round < 2; round++) {
+      final String probed = measure(identifiers, URNS.size(), probing, iterations);
+      final String dispatched = measure(identifiers, URNS.size(), indexed, iterations);
+      if (round == 1) {
+        reporter.publishEntry("probing", probed);
+        reporter.publishEntry("index", dispatched);
+      }
+    }
+  }
+
+  // Dispatch the identifiers in turn, the URNs before the Digital Link URIs
+  private static String measure(
+      final List<String> identifiers,
+      final int urns,
+      final List<Function<String, Object>> dispatch,
+      final int iterations) {
+    final long start = System.nanoTime();
+    long found = 0;
+    for (int i = 0; i < iterations; i++) {
+      final int input = i % identifiers.size();
+      if (dispatch.get(input < urns ? 0 : 1).apply(identifiers.get(input)) != null) {
+        found++;
+      }
+    }
+    final long nanos = System.nanoTime() - start;
+    blackhole += found;
+    return String.format("%.1f ns/op", (double) nanos / iterations);
+  }
+}
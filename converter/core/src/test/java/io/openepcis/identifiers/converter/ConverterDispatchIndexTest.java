@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter;
+
+import io.openepcis.identifiers.converter.core.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConverterDispatchIndexTest {
+
+  static final List<String> URNS =
+      List.of(
+          "urn:epc:id:sgtin:234567890.1123.9999",
+          "urn:epc:id:sscc:0614141.1234567890",
+          "urn:epc:id:sgln:0614141.12345.400",
+          "urn:epc:id:grai:0614141.12345.400",
+          "urn:epc:id:giai:0614141.12345400",
+          "urn:epc:id:gsrn:0614141.1234567890",
+          "urn:epc:id:gsrnp:0614141.1234567890",
+          "urn:epc:id:gdti:0614141.12345.400",
+          "urn:epc:id:cpi:0614141.123ABC.123456789",
+          "urn:epc:id:sgcn:4012345.67890.04711",
+          "urn:epc:id:ginc:0614141.xyz3311cba",
+          "urn:epc:id:gsin:0614141.123456789",
+          "urn:epc:id:itip:4012345.012345.01.02.987",
+          "urn:epc:id:upui:1234567.089456.51qIgY)%3C%26Jp3*j7'SDB",
+          "urn:epc:id:pgln:1234567.89012");
+
+  static final List<String> DIGITAL_LINKS =
+      List.of(
+          "https://id.gs1.org/01/12345678901231/21/9999",
+          "https://id.gs1.org/00/106141412345678908",
+          "https://id.gs1.org/414/0614141123452/254/400",
+          "https://id.gs1.org/8003/006141411234524000",
+          "https://id.gs1.org/8004/061414112345400",
+          "https://id.gs1.org/8018/061414112345678902",
+          "https://id.gs1.org/8017/061414112345678902",
+          "https://id.gs1.org/253/0614141123452400",
+          "https://id.gs1.org/8010/0614141123ABC/8011/123456789",
+          "https://id.gs1.org/255/401234567890604711",
+          "https://id.gs1.org/401/0614141xyz3311cba",
+          "https://id.gs1.org/402/06141411234567890",
+          "https://id.gs1.org/8006/040123450123450102/21/987",
+          "https://id.gs1.org/01/10614141234564/235/51qIgY)%3C%26Jp3*j7'SDB",
+          "https://id.gs1.org/417/1234567890128");
+
+  // Converters probed in turn as before the dispatch index, in the order of the Converter
+  static final List<io.openepcis.identifiers.converter.core.Converter> INSTANCE_LEVEL =
+      List.of(
+          new SGTINConverter(),
+          new SSCCConverter(),
+          new SGLNConverter(),
+          new GRAIConverter(),
+          new GIAIConverter(),
+          new GSRNConverter(),
+          new GSRNPConverter(),
+          new GDTIConverter(),
+          new CPIConverter(),
+          new GCNConverter(),
+          new GINCConverter(),
+          new GSINConverter(),
+          new ITIPConverter(),
+          new UPUIConverter(),
+          new PGLNConverter());
+
+  private static final List<io.openepcis.identifiers.converter.core.Converter> CLASS_LEVEL =
+      List.of(
+          new LGTINConverter(),
+          new SGTINConverter(true),
+          new GRAIConverter(true),
+          new GDTIConverter(true),
+          new GCNConverter(true),
+          new CPIConverter(true),
+          new ITIPConverter(true));
+
+  private ConverterDispatchIndex instanceLevel;
+  private ConverterDispatchIndex classLevel;
+
+  @BeforeEach
+  void before() {
+    final Converter converter = new Converter();
+    instanceLevel = converter.instanceLevelIndex();
+    classLevel = converter.classLevelIndex();
+  }
+
+  @Test
+  void indexSelectsSameConverterAsProbing() {
+    for (final String urn : URNS) {
+      assertNotNull(instanceLevel.forUrn(urn), urn);
+      assertSame(probeUrn(INSTANCE_LEVEL, urn).getClass(), instanceLevel.forUrn(urn).getClass(), urn);
+    }
+    for (final String dlURI : DIGITAL_LINKS) {
+      assertNotNull(instanceLevel.forDigitalLink(dlURI), dlURI);
+      assertSame(
+          probeDigitalLink(INSTANCE_LEVEL, dlURI).getClass(),
+          instanceLevel.forDigitalLink(dlURI).getClass(),
+          dlURI);
+    }
+
+    // Unknown identifiers are not dispatched
+    assertNull(instanceLevel.forUrn("urn:epc:id:unknown:1234567.89012"));
+    assertNull(instanceLevel.forDigitalLink("https://id.gs1.org/01/12345678901231"));
+    assertNull(instanceLevel.forDigitalLink("https://id.gs1.org/9999/12345678901231"));
+
+    // URNs are only dispatched on their scheme and Digital Link URIs only on their AI segments
+    assertInstanceOf(SSCCConverter.class, instanceLevel.forUrn("urn:epc:id:sscc:0614141.123/01/4/21/5"));
+    assertNull(instanceLevel.forDigitalLink("urn:epc:id:sscc:0614141.1234567890"));
+  }
+
+  @Test
+  void classLevelIndexSelectsSameConverterAsProbing() {
+    for (final String dlURI :
+        List.of(
+            "https://id.gs1.org/01/12345678901231",
+            "https://id.gs1.org/01/12345678901231/10/ABC",
+            "https://id.gs1.org/8003/01234567890128",
+            "https://id.gs1.org/253/4602443000331",
+            "https://id.gs1.org/255/0614141000019",
+            "https://id.gs1.org/8010/0614141123ABC",
+            "https://id.gs1.org/8006/040123450123450102")) {
+      assertNotNull(classLevel.forDigitalLink(dlURI), dlURI);
+      assertSame(
+          probeDigitalLink(CLASS_LEVEL, dlURI).getClass(),
+          classLevel.forDigitalLink(dlURI).getClass(),
+          dlURI);
+    }
+    assertNull(classLevel.forDigitalLink("https://id.gs1.org/00/106141412345678908"));
+  }
+
+  @Test
+  void classLevelPrecedence() {
+    assertInstanceOf(SGTINConverter.class, classLevel.forDigitalLink("https://id.gs1.org/01/12345678901231"));
+    assertInstanceOf(
+        LGTINConverter.class, classLevel.forDigitalLink("https://id.gs1.org/01/12345678901231/10/ABC"));
+
+    // Both probes match when the batch segment precedes the GTIN, LGTIN always wins
+    assertInstanceOf(
+        LGTINConverter.class, classLevel.forDigitalLink("https://example.com/10/ABC/01/12345678901231"));
+
+    assertInstanceOf(SGTINConverter.class, classLevel.forUrn("urn:epc:idpat:sgtin:234567.1890123.*"));
+    assertInstanceOf(LGTINConverter.class, classLevel.forUrn("urn:epc:class:lgtin:234567.1890123.ABC"));
+  }
+
+  static io.openepcis.identifiers.converter.core.Converter probeUrn(
+      final List<io.openepcis.identifiers.converter.core.Converter> converters, final String urn) {
+    for (final io.openepcis.identifiers.converter.core.Converter converter : converters) {
+      if (converter.supportsDigitalLinkURI(urn)) {
+        return converter;
+      }
+    }
+    return null;
+  }
+
+  static io.openepcis.identifiers.converter.core.Converter probeDigitalLink(
+      final List<io.openepcis.identifiers.converter.core.Converter> converters, final String dlURI) {
+    for (final io.openepcis.identifiers.converter.core.Converter converter : converters) {
+      if (converter.supportsURN(dlURI)) {
+        return converter;
+      }
+    }
+    return null;
+  }
+}
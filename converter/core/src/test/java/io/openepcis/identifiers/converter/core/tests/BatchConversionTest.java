@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.core.tests;
+
+import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
+import io.openepcis.identifiers.converter.ConversionResult;
+import io.openepcis.identifiers.converter.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchConversionTest {
+
+  private static final List<String> URNS =
+      List.of(
+          "urn:epc:id:sgtin:234567890.1123.9999",
+          "urn:epc:id:sscc:0614141.1234567890",
+          "urn:epc:id:unknown:0614141.1234567890",
+          "urn:epc:id:grai:1234567890.12.4ABC",
+          "urn:epc:id:grai:123456.12.4ABC",
+          "urn:epc:id:sgtin:234567890.1123.10000");
+
+  private Converter converter;
+
+  @BeforeEach
+  void before() {
+    converter = new Converter();
+  }
+
+  @Test
+  void testToURIBatchKeepsOrderAndErrors() {
+    final List<ConversionResult<String>> results = converter.toURIBatch(URNS);
+
+    assertEquals(URNS.size(), results.size());
+    for (int i = 0; i < URNS.size(); i++) {
+      final ConversionResult<String> result = results.get(i);
+      assertEquals(URNS.get(i), result.identifier());
+      try {
+        assertEquals(converter.toURI(URNS.get(i)), result.value());
+        assertTrue(result.isSuccess());
+      } catch (RuntimeException exception) {
+        assertFalse(result.isSuccess());
+        assertNull(result.value());
+        assertEquals(exception.getClass(), result.error().getClass());
+      }
+    }
+    assertInstanceOf(UnsupportedGS1IdentifierException.class, results.get(2).error());
+  }
+
+  @Test
+  void testToURNBatchWithExecutor() {
+    final List<String> dlURIs = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      dlURIs.add("https://id.gs1.org/01/12345678901231/21/" + i);
+      dlURIs.add("https://id.gs1.org/00/106141412345678908");
+    }
+    dlURIs.add("https://id.gs1.org/9999/12345678901231");
+
+    final List<ConversionResult<Map<String, String>>> sequential = converter.toURNBatch(dlURIs);
+    final List<ConversionResult<Map<String, String>>> parallel =
+        converter.toURNBatch(dlURIs, ForkJoinPool.commonPool());
+
+    assertEquals(dlURIs.size(), parallel.size());
+    for (int i = 0; i < dlURIs.size() - 1; i++) {
+      assertTrue(parallel.get(i).isSuccess(), dlURIs.get(i));
+      assertEquals(converter.toURN(dlURIs.get(i)), parallel.get(i).value());
+      assertEquals(sequential.get(i).value(), parallel.get(i).value());
+    }
+    assertFalse(parallel.get(dlURIs.size() - 1).isSuccess());
+  }
+}
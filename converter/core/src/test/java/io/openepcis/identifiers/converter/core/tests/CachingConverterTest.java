@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.core.tests;
+
+import io.openepcis.core.exception.ValidationException;
+import io.openepcis.identifiers.converter.CachingConverter;
+import io.openepcis.identifiers.converter.ConversionCacheStats;
+import io.openepcis.identifiers.converter.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingConverterTest {
+
+  private Converter converter;
+  private CachingConverter cachingConverter;
+
+  @BeforeEach
+  void before() {
+    converter = new Converter();
+    cachingConverter = new CachingConverter(1_000);
+  }
+
+  @Test
+  void testCachedConversionsMatchUncached() {
+    final String urn = "urn:epc:id:sgtin:234567890.1123.9999";
+    final String dlURI = "https://id.gs1.org/01/12345678901231/21/9999";
+    final String classLevelDlURI = "https://id.gs1.org/01/12345678901231";
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(converter.toURI(urn), cachingConverter.toURI(urn));
+      assertEquals(converter.toURN(dlURI), cachingConverter.toURN(dlURI));
+      assertEquals(
+          converter.toURNForClassLevelIdentifier(classLevelDlURI),
+          cachingConverter.toURNForClassLevelIdentifier(classLevelDlURI));
+      assertEquals(converter.tryToURN(dlURI).value(), cachingConverter.tryToURN(dlURI).value());
+    }
+
+    final ConversionCacheStats stats = cachingConverter.stats();
+    assertEquals(3, stats.misses());
+    assertEquals(9, stats.hits());
+    assertEquals(3, stats.size());
+    assertEquals(0, stats.evictions());
+  }
+
+  @Test
+  void testReturnedMapsAreNotShared() {
+    final String dlURI = "https://id.gs1.org/01/12345678901231/21/9999";
+    cachingConverter.toURN(dlURI).clear();
+    assertEquals(converter.toURN(dlURI), cachingConverter.toURN(dlURI));
+  }
+
+  @Test
+  void testFailuresAreNotCached() {
+    final String invalid = "urn:epc:id:sgtin:12345.1123.9999";
+    assertThrows(ValidationException.class, () -> cachingConverter.toURI(invalid));
+    assertThrows(ValidationException.class, () -> cachingConverter.toURI(invalid));
+    assertFalse(cachingConverter.tryToURI(invalid).isSuccess());
+    assertEquals(0, cachingConverter.stats().size());
+  }
+
+  @Test
+  void testSizeIsBounded() {
+    for (int i = 0; i < 5_000; i++) {
+      final String urn = "urn:epc:id:sgtin:234567890.1123." + i;
+      assertEquals(converter.toURI(urn), cachingConverter.toURI(urn));
+    }
+    final ConversionCacheStats stats = cachingConverter.stats();
+    assertTrue(stats.size() <= 1_000);
+    assertEquals(5_000 - stats.size(), stats.evictions());
+
+    cachingConverter.clear();
+    assertEquals(0, cachingConverter.stats().size());
+  }
+
+  @Test
+  void testRecentlyUsedEntriesSurviveEviction() {
+    final CachingConverter small = new CachingConverter(64);
+    final String hot = "urn:epc:id:sgtin:234567890.1123.hot";
+    small.toURI(hot);
+    for (int i = 0; i < 1_000; i++) {
+      small.toURI(hot);
+      small.toURI("urn:epc:id:sgtin:234567890.1123." + i);
+    }
+    // every lookup of the hot identifier but the first one is answered from the cache
+    assertEquals(1_000, small.stats().hits());
+  }
+}
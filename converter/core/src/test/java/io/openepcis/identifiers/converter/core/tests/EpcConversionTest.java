@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.core.tests;
+
+import io.openepcis.identifiers.converter.Converter;
+import io.openepcis.identifiers.converter.EpcConversion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpcConversionTest {
+
+  private Converter converter;
+
+  @BeforeEach
+  void before() {
+    converter = new Converter();
+  }
+
+  @Test
+  void testTypedResultMatchesMap() {
+    final List<String> dlURIs =
+        List.of(
+            "https://id.gs1.org/01/12345678901231/21/9999",
+            "https://example.com/01/12345678901231/21/9999",
+            "https://id.gs1.org/00/106141412345678908",
+            "https://id.gs1.org/414/0614141123452/254/400",
+            "https://id.gs1.org/8003/006141411234524000",
+            "https://id.gs1.org/255/401234567890604711",
+            "https://id.gs1.org/8006/040123450123450102/21/987");
+
+    for (final String dlURI : dlURIs) {
+      final EpcConversion conversion = converter.toEpcConversion(dlURI, 7);
+      final Map<String, String> map = converter.toURN(dlURI, 7);
+
+      assertEquals(map, conversion.toMap(), dlURI);
+      assertEquals(map.get("asURN"), conversion.asURN());
+      assertEquals(map.get("canonicalDL"), conversion.canonicalDL());
+      assertEquals(dlURI, conversion.asCaptured());
+      assertEquals(map.get(conversion.identifierKey()), conversion.identifier());
+    }
+  }
+
+  @Test
+  void testCanonicalAndSerial() {
+    final EpcConversion conversion =
+        converter.toEpcConversion("https://example.com/01/12345678901231/21/9999", 9);
+
+    assertEquals("urn:epc:id:sgtin:234567890.1123.9999", conversion.asURN());
+    assertEquals("https://id.gs1.org/01/12345678901231/21/9999", conversion.canonicalDL());
+    assertSame(conversion.canonicalDL(), conversion.canonicalDL());
+    assertEquals("9999", conversion.serial());
+    assertEquals("gtin", conversion.identifierKey());
+
+    final EpcConversion classLevel =
+        converter.toEpcConversionForClassLevelIdentifier("https://id.gs1.org/01/12345678901231", 9);
+    assertNull(classLevel.serial());
+    assertFalse(classLevel.toMap().containsKey("serial"));
+  }
+
+  @Test
+  void testMapAdapterIsMutableCopy() {
+    final EpcConversion conversion =
+        converter.toEpcConversion("https://id.gs1.org/00/106141412345678908");
+    final Map<String, String> map = conversion.toMap();
+    map.put("extension", "value");
+
+    assertNotSame(map, conversion.toMap());
+    assertFalse(conversion.toMap().containsKey("extension"));
+  }
+
+  @Test
+  void testLgtinAndUpuiKeepSerialKey() {
+    // Same maps as built by the LGTIN and UPUI converters before the typed result, the serial key is
+    // present for every identifier having a serial and absent for all others
+    assertEquals(
+        Map.of(
+            "canonicalDL", "https://id.gs1.org/01/59850359038590/10/2z32746",
+            "asCaptured", "https://id.gs1.org/01/59850359038590/10/2z32746",
+            "asURN", "urn:epc:class:lgtin:9850359038.559.2z32746",
+            "lgtin", "59850359038590",
+            "serial", "2z32746"),
+        converter.toURNForClassLevelIdentifier(
+            "https://id.gs1.org/01/59850359038590/10/2z32746", 10));
+    assertEquals(
+        Map.of(
+            "canonicalDL", "https://id.gs1.org/01/12345678901231/235/1111ANC",
+            "asCaptured", "https://id.gs1.org/01/12345678901231/235/1111ANC",
+            "asURN", "urn:epc:id:upui:234567.1890123.1111ANC",
+            "upui", "234567.1890123",
+            "serial", "1111ANC"),
+        converter.toURN("https://id.gs1.org/01/12345678901231/235/1111ANC", 6));
+  }
+
+  @Test
+  void testMapWithSeveralAdditionalKeys() {
+    // Map of a converter adding the expiry next to the identifier, no key is picked arbitrarily
+    final Map<String, String> map = new HashMap<>();
+    map.put("canonicalDL", "https://id.gs1.org/01/12345678901231/10/ABC");
+    map.put("asCaptured", "https://example.com/01/12345678901231/10/ABC");
+    map.put("asURN", "urn:epc:class:lgtin:234567890.1123.ABC");
+    map.put("lgtin", "12345678901231");
+    map.put("expiry", "261231");
+    map.put("serial", "ABC");
+
+    final EpcConversion conversion = EpcConversion.of(map);
+    assertNull(conversion.identifierKey());
+    assertNull(conversion.identifier());
+    assertEquals("ABC", conversion.serial());
+    assertEquals(map, conversion.toMap());
+
+    // Same conversion whatever the iteration order of the map
+    final Map<String, String> reordered = new TreeMap<>(Comparator.reverseOrder());
+    reordered.putAll(map);
+    assertEquals(conversion, EpcConversion.of(reordered));
+    assertEquals(conversion.hashCode(), EpcConversion.of(reordered).hashCode());
+
+    final EpcConversion explicit = EpcConversion.of(map, "lgtin");
+    assertEquals("lgtin", explicit.identifierKey());
+    assertEquals("12345678901231", explicit.identifier());
+    assertEquals(map, explicit.toMap());
+    assertNotEquals(conversion, explicit);
+
+    assertThrows(IllegalArgumentException.class, () -> EpcConversion.of(map, "gtin"));
+  }
+
+  @Test
+  void testMapWithoutCanonicalDL() {
+    final Map<String, String> map =
+        Map.of(
+            "asCaptured", "https://example.com/01/12345678901231/21/9999",
+            "asURN", "urn:epc:id:sgtin:234567890.1123.9999",
+            "gtin", "12345678901231",
+            "serial", "9999");
+
+    final IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> EpcConversion.of(map));
+    assertTrue(exception.getMessage().contains("canonicalDL"));
+  }
+
+  @Test
+  void testMapBasedConverter() {
+    // Converter written against the map based API, implementing convertToURN only
+    final io.openepcis.identifiers.converter.core.Converter legacy =
+        new io.openepcis.identifiers.converter.core.Converter() {
+          @Override
+          public boolean supportsDigitalLinkURI(final String urn) {
+            return true;
+          }
+
+          @Override
+          public String convertToDigitalLink(final String urn) {
+            return converter.toURI(urn);
+          }
+
+          @Override
+          public boolean supportsURN(final String dlURI) {
+            return true;
+          }
+
+          @Override
+          public Map<String, String> convertToURN(final String dlURI, final int gcpLength) {
+            return converter.toURN(dlURI, gcpLength);
+          }
+
+          @Override
+          public Map<String, String> convertToURN(final String dlURI) {
+            return converter.toURN(dlURI);
+          }
+        };
+
+    final String dlURI = "https://example.com/01/12345678901231/21/9999";
+    final EpcConversion conversion = legacy.convertToEpc(dlURI, 9);
+    assertEquals(converter.toEpcConversion(dlURI, 9), conversion);
+    assertEquals(converter.toURN(dlURI, 9), conversion.toMap());
+    assertEquals("https://id.gs1.org/01/12345678901231/21/9999", conversion.canonicalDL());
+    assertNull(legacy.getValidator());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.core.tests;
+
+import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
+import io.openepcis.core.exception.ValidationException;
+import io.openepcis.identifiers.converter.ConversionResult;
+import io.openepcis.identifiers.converter.Converter;
+import io.openepcis.identifiers.converter.EpcConversion;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TryConversionTest {
+
+  private Converter converter;
+
+  @BeforeEach
+  void before() {
+    converter = new Converter();
+  }
+
+  @Test
+  void testTryToURI() {
+    final ConversionResult<String> valid = converter.tryToURI("urn:epc:id:sgtin:234567890.1123.9999");
+    assertTrue(valid.isSuccess());
+    assertNull(valid.errorCode());
+    assertEquals(converter.toURI("urn:epc:id:sgtin:234567890.1123.9999"), valid.value());
+
+    // Pattern mismatch is reported with the message of the validator
+    final ConversionResult<String> invalid = converter.tryToURI("urn:epc:id:sgtin:12345.1123.9999");
+    assertFalse(invalid.isSuccess());
+    assertNull(invalid.value());
+    assertEquals(ValidationErrorCode.INVALID_FORMAT, invalid.errorCode());
+    assertTrue(invalid.message().contains("urn:epc:id:sgtin:12345.1123.9999"));
+    assertInstanceOf(ValidationException.class, invalid.error());
+    assertThrows(ValidationException.class, () -> converter.toURI("urn:epc:id:sgtin:12345.1123.9999"));
+
+    final ConversionResult<String> unsupported = converter.tryToURI("urn:epc:id:unknown:12345.1123");
+    assertEquals(ValidationErrorCode.UNSUPPORTED_IDENTIFIER, unsupported.errorCode());
+    final UnsupportedGS1IdentifierException thrown =
+        assertThrows(
+            UnsupportedGS1IdentifierException.class,
+            () -> converter.toURI("urn:epc:id:unknown:12345.1123"));
+    assertEquals(thrown.getMessage(), unsupported.message());
+  }
+
+  @Test
+  void testTryToURN() {
+    final String dlURI = "https://id.gs1.org/01/12345678901231/21/9999";
+
+    final ConversionResult<EpcConversion> valid = converter.tryToURN(dlURI, 9);
+    assertTrue(valid.isSuccess());
+    assertEquals(converter.toEpcConversion(dlURI, 9), valid.value());
+
+    final ConversionResult<EpcConversion> resolved = converter.tryToURN(dlURI);
+    assertTrue(resolved.isSuccess());
+    assertEquals(converter.toEpcConversion(dlURI), resolved.value());
+
+    // Invalid GCP length is reported by a further rule of the validator
+    final ConversionResult<EpcConversion> invalidGcp = converter.tryToURN(dlURI, 4);
+    assertEquals(ValidationErrorCode.INVALID_VALUE, invalidGcp.errorCode());
+    assertTrue(invalidGcp.message().contains("GCP Length"));
+    assertInstanceOf(ValidationException.class, invalidGcp.error());
+
+    // Class-level URI of an instance-level identifier is rejected by the syntax validation
+    final ConversionResult<EpcConversion> withoutSerial =
+        converter.tryToURN("https://id.gs1.org/01/12345678901231/21/", 9);
+    assertFalse(withoutSerial.isSuccess());
+    assertEquals(ValidationErrorCode.INVALID_FORMAT, withoutSerial.errorCode());
+
+    // GTIN with 13 instead of 14 digits
+    final ConversionResult<EpcConversion> invalid =
+        converter.tryToURN("https://id.gs1.org/01/1234567890123/21/9999");
+    assertFalse(invalid.isSuccess());
+    assertNotNull(invalid.message());
+    assertThrows(
+        ValidationException.class,
+        () -> converter.toURN("https://id.gs1.org/01/1234567890123/21/9999"));
+
+    final ConversionResult<EpcConversion> unsupported =
+        converter.tryToURN("https://id.gs1.org/9999/12345678901231");
+    assertEquals(ValidationErrorCode.UNSUPPORTED_IDENTIFIER, unsupported.errorCode());
+    assertInstanceOf(UnsupportedGS1IdentifierException.class, unsupported.error());
+  }
+}
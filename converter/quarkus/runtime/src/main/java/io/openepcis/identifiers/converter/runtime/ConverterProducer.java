@@ -1,22 +1,33 @@
 package io.openepcis.identifiers.converter.runtime;
 
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.identifiers.converter.CachingConverter;
 import io.openepcis.identifiers.converter.Converter;
 import io.openepcis.identifiers.converter.EventVocabularyFormatter;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 @ApplicationScoped
 public class ConverterProducer {
 
+    @ConfigProperty(name = "openepcis.converter.cache.enabled", defaultValue = "false")
+    boolean cacheEnabled;
+
+    @ConfigProperty(name = "openepcis.converter.cache.maximum-size", defaultValue = "" + CachingConverter.DEFAULT_MAXIMUM_SIZE)
+    int cacheMaximumSize;
+
     @Produces
     public DefaultGCPLengthProvider createDefaultGCPLengthProvider() {
         return DefaultGCPLengthProvider.getInstance();
     }
 
+    // Shared by all injection points so that they use the same conversion cache
     @Produces
+    @Singleton
     public Converter createConverter() {
-        return new Converter();
+        return cacheEnabled ? new CachingConverter(cacheMaximumSize) : new Converter();
     }
 
     @Produces
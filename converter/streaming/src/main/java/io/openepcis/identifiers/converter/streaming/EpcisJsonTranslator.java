@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.streaming;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import io.openepcis.identifiers.converter.Converter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Translator of the identifiers and CBV vocabularies of EPCIS 2.0 JSON/JSON-LD documents, ex:
+ * {@code epcList}, {@code parentID}, {@code bizLocation}, {@code bizStep} or the type of the
+ * business transactions. The document is rewritten token by token using the Jackson streaming API,
+ * only the names of the enclosing fields are kept so that the memory does not grow with the size
+ * of the document.
+ *
+ * <p>Instances are thread safe, the conversions of repeated identifiers can be cached by passing a
+ * {@link io.openepcis.identifiers.converter.CachingConverter}.
+ */
+public class EpcisJsonTranslator {
+
+  private static final JsonFactory JSON_FACTORY =
+      JsonFactory.builder()
+          .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+          .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+          .build();
+
+  private final EpcisValueTranslator translator;
+
+  public EpcisJsonTranslator(final TranslationMode mode) {
+    this(mode, new Converter());
+  }
+
+  public EpcisJsonTranslator(final TranslationMode mode, final Converter converter) {
+    this.translator = new EpcisValueTranslator(mode, converter);
+  }
+
+  /**
+   * Method to translate the EPCIS JSON/JSON-LD document. The streams are not closed.
+   *
+   * @param input EPCIS document in UTF-8
+   * @param output stream receiving the translated document in UTF-8
+   * @throws IOException if the document could not be read or written
+   */
+  public void translate(final InputStream input, final OutputStream output) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(input);
+        JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8)) {
+      translate(parser, generator);
+    }
+  }
+
+  /**
+   * Method to translate the document read from the parser into the generator, ex: to configure
+   * pretty printing. The parser and generator are not closed, the generator is flushed.
+   *
+   * @param parser parser positioned before the document
+   * @param generator generator receiving the translated document
+   * @throws IOException if the document could not be read or written
+   */
+  public void translate(final JsonParser parser, final JsonGenerator generator)
+      throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != null) {
+      if (token == JsonToken.VALUE_STRING) {
+        generator.writeString(translate(parser.getParsingContext(), parser.getText()));
+      } else {
+        generator.copyCurrentEvent(parser);
+      }
+    }
+    generator.flush();
+  }
+
+  // Translates the string value depending on the field it belongs to
+  private String translate(final JsonStreamContext context, final String value) {
+    if (context.inArray()) {
+      final JsonStreamContext holder = context.getParent();
+      final String list = holder.getCurrentName();
+      if (list == null) {
+        return value;
+      }
+      return switch (list) {
+        case "epcList", "childEPCs", "inputEPCList", "outputEPCList" -> translator.identifier(
+            value);
+        case "set", "unset" -> "persistentDisposition".equals(containerName(holder))
+            ? translator.vocabulary(value, "persistentDisposition")
+            : value;
+        default -> value;
+      };
+    }
+
+    final String field = context.getCurrentName();
+    if (field == null) {
+      return value;
+    }
+    return switch (field) {
+      case "parentID" -> translator.identifier(value);
+      case "epcClass" -> translator.classIdentifier(value);
+      case "bizStep", "disposition" -> translator.vocabulary(value, field);
+      case "id", "reason", "type", "bizTransaction", "source", "destination" -> translateNested(
+          field, containerName(context), value);
+      default -> value;
+    };
+  }
+
+  // Fields which are only translated inside of specific objects
+  private String translateNested(final String field, final String container, final String value) {
+    if (container == null) {
+      return value;
+    }
+    return switch (field + '/' + container) {
+      case "id/readPoint", "id/bizLocation" -> translator.identifier(value);
+      case "reason/errorDeclaration" -> translator.vocabulary(value, "reason");
+      case "type/bizTransactionList" -> translator.vocabulary(value, "bizTransaction");
+      case "type/sourceList" -> translator.vocabulary(value, "source");
+      case "type/destinationList" -> translator.vocabulary(value, "destination");
+      case "bizTransaction/bizTransactionList",
+          "source/sourceList",
+          "destination/destinationList" -> translator.identifier(value);
+      default -> value;
+    };
+  }
+
+  // Name of the field holding the object, the name of the list for objects inside of a list
+  private static String containerName(final JsonStreamContext object) {
+    final JsonStreamContext parent = object.getParent();
+    if (parent == null) {
+      return null;
+    }
+    if (parent.inArray()) {
+      return parent.getParent() == null ? null : parent.getParent().getCurrentName();
+    }
+    return parent.getCurrentName();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.streaming;
+
+import io.openepcis.identifiers.converter.ConversionResult;
+import io.openepcis.identifiers.converter.Converter;
+import io.openepcis.identifiers.converter.EpcConversion;
+
+import static io.openepcis.constants.EPCIS.WEBURI;
+
+/**
+ * Translation of single identifier and vocabulary values into the format of the {@link
+ * TranslationMode}, shared by the JSON and XML translators. Values which are already in the target
+ * format or are no GS1 identifier, ex: private URIs, are returned unchanged.
+ */
+final class EpcisValueTranslator {
+
+  private static final String URN = "URN";
+
+  private final TranslationMode mode;
+  private final Converter converter;
+
+  EpcisValueTranslator(final TranslationMode mode, final Converter converter) {
+    this.mode = mode;
+    this.converter = converter;
+  }
+
+  // Instance level identifier ex: epcList, parentID, readPoint, bizLocation, source
+  String identifier(final String value) {
+    if (isBlank(value)) {
+      return value;
+    }
+    if (mode == TranslationMode.URN) {
+      if (!isWebURI(value)) {
+        return value;
+      }
+      final ConversionResult<EpcConversion> result = converter.tryToURN(value);
+      return result.isSuccess() ? result.value().asURN() : value;
+    }
+    if (!isURN(value)) {
+      return value;
+    }
+    final ConversionResult<String> result = converter.tryToURI(value);
+    return result.isSuccess() ? result.value() : value;
+  }
+
+  // Class level identifier ex: epcClass of the quantity elements
+  String classIdentifier(final String value) {
+    if (isBlank(value)) {
+      return value;
+    }
+    try {
+      if (mode == TranslationMode.URN) {
+        return isWebURI(value)
+            ? converter.toEpcConversionForClassLevelIdentifier(value).asURN()
+            : value;
+      }
+      return isURN(value) ? converter.toURIForClassLevelIdentifier(value) : value;
+    } catch (RuntimeException exception) {
+      // Not a GS1 class level identifier, kept as provided
+      return value;
+    }
+  }
+
+  /**
+   * CBV vocabulary ex: bizStep, disposition or the type of the business transaction.
+   *
+   * @param fieldName name of the EPCIS field used to qualify bare strings ex: bizStep, source
+   */
+  String vocabulary(final String value, final String fieldName) {
+    if (isBlank(value)) {
+      return value;
+    }
+    return switch (mode) {
+      case WEB_URI -> converter.toWebURIVocabulary(
+          converter.toCbvVocabulary(value, fieldName, WEBURI));
+      case URN -> converter.toUrnVocabulary(converter.toCbvVocabulary(value, fieldName, URN));
+      case BARE_STRING -> converter.toBareStringVocabulary(value);
+    };
+  }
+
+  private static boolean isURN(final String value) {
+    return value.startsWith("urn:");
+  }
+
+  private static boolean isWebURI(final String value) {
+    return value.startsWith("https://") || value.startsWith("http://");
+  }
+
+  private static boolean isBlank(final String value) {
+    return value == null || value.isBlank();
+  }
+}
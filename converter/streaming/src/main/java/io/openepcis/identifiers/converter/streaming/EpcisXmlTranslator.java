@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.streaming;
+
+import io.openepcis.identifiers.converter.Converter;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Translator of the identifiers and CBV vocabularies of EPCIS 1.2/2.0 XML documents, ex: {@code
+ * <epc>}, {@code <parentID>}, {@code <bizStep>}, {@code <disposition>} or the {@code type}
+ * attribute of {@code <bizTransaction>}. The document is pulled event by event using StAX and
+ * written to the output as it is read, only the names of the enclosing elements and the text of the
+ * element being translated are kept so that the memory does not grow with the size of the document.
+ *
+ * <p>Only the unqualified EPCIS elements are translated, elements of user extensions with the same
+ * local name are copied unchanged. Instances are thread safe.
+ */
+public class EpcisXmlTranslator {
+
+  private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newFactory();
+  private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+  static {
+    // EPCIS documents have no DTD, do not resolve external entities of untrusted documents
+    INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, false);
+  }
+
+  // Kind of the value held by an element or attribute
+  private enum Target {
+    NONE,
+    IDENTIFIER,
+    CLASS_IDENTIFIER,
+    VOCABULARY
+  }
+
+  private final EpcisValueTranslator translator;
+
+  public EpcisXmlTranslator(final TranslationMode mode) {
+    this(mode, new Converter());
+  }
+
+  public EpcisXmlTranslator(final TranslationMode mode, final Converter converter) {
+    this.translator = new EpcisValueTranslator(mode, converter);
+  }
+
+  /**
+   * Method to translate the EPCIS XML document. The streams are not closed.
+   *
+   * @param input EPCIS document, the encoding is detected from the XML declaration
+   * @param output stream receiving the translated document in UTF-8
+   * @throws XMLStreamException if the document is not well-formed or could not be written
+   */
+  public void translate(final InputStream input, final OutputStream output)
+      throws XMLStreamException {
+    final XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(input);
+    final XMLStreamWriter writer =
+        OUTPUT_FACTORY.createXMLStreamWriter(output, StandardCharsets.UTF_8.name());
+    try {
+      translate(reader, writer);
+    } finally {
+      writer.close();
+      reader.close();
+    }
+  }
+
+  /**
+   * Method to translate the document read from the reader into the writer. The reader and writer
+   * are not closed, the writer is flushed.
+   *
+   * @param reader reader positioned at the start of the document
+   * @param writer writer receiving the translated document
+   * @throws XMLStreamException if the document is not well-formed or could not be written
+   */
+  public void translate(final XMLStreamReader reader, final XMLStreamWriter writer)
+      throws XMLStreamException {
+    final ElementPath path = new ElementPath();
+    final StringBuilder text = new StringBuilder(128);
+    Target pending = Target.NONE;
+
+    int event = reader.getEventType();
+    while (true) {
+      switch (event) {
+        case XMLStreamConstants.START_DOCUMENT -> writer.writeStartDocument(
+            StandardCharsets.UTF_8.name(),
+            reader.getVersion() == null ? "1.0" : reader.getVersion());
+        case XMLStreamConstants.START_ELEMENT -> {
+          if (pending != Target.NONE) {
+            // Translated elements hold text only, keep mixed content as provided
+            writer.writeCharacters(text.toString());
+            pending = Target.NONE;
+          }
+          final String name = localName(reader);
+          final String parent = path.name();
+          path.push(name);
+          writeStartElement(reader, writer, name, parent);
+          pending = target(name, parent);
+          text.setLength(0);
+        }
+        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE -> {
+          if (pending != Target.NONE) {
+            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+          } else {
+            writer.writeCharacters(
+                reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+          }
+        }
+        case XMLStreamConstants.CDATA -> {
+          if (pending != Target.NONE) {
+            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+          } else {
+            writer.writeCData(reader.getText());
+          }
+        }
+        case XMLStreamConstants.END_ELEMENT -> {
+          if (pending != Target.NONE) {
+            writer.writeCharacters(translate(pending, path.name(), path.parentName(), text));
+            pending = Target.NONE;
+          }
+          path.pop();
+          writer.writeEndElement();
+        }
+        case XMLStreamConstants.COMMENT -> writer.writeComment(reader.getText());
+        case XMLStreamConstants.PROCESSING_INSTRUCTION -> writer.writeProcessingInstruction(
+            reader.getPITarget(), reader.getPIData());
+        case XMLStreamConstants.ENTITY_REFERENCE -> writer.writeEntityRef(reader.getLocalName());
+        case XMLStreamConstants.DTD -> writer.writeDTD(reader.getText());
+        case XMLStreamConstants.END_DOCUMENT -> {
+          writer.writeEndDocument();
+          writer.flush();
+          return;
+        }
+        default -> {
+          // Attributes and namespaces are written along with their element
+        }
+      }
+      event = reader.next();
+    }
+  }
+
+  private void writeStartElement(
+      final XMLStreamReader reader,
+      final XMLStreamWriter writer,
+      final String name,
+      final String parent)
+      throws XMLStreamException {
+    final String prefix = reader.getPrefix();
+    final String namespace = reader.getNamespaceURI();
+    if (namespace == null || namespace.isEmpty()) {
+      writer.writeStartElement(reader.getLocalName());
+    } else {
+      writer.writeStartElement(prefix == null ? "" : prefix, reader.getLocalName(), namespace);
+    }
+
+    for (int i = 0; i < reader.getNamespaceCount(); i++) {
+      final String namespacePrefix = reader.getNamespacePrefix(i);
+      final String namespaceURI = reader.getNamespaceURI(i);
+      if (namespacePrefix == null || namespacePrefix.isEmpty()) {
+        writer.writeDefaultNamespace(namespaceURI == null ? "" : namespaceURI);
+      } else {
+        writer.writeNamespace(namespacePrefix, namespaceURI);
+      }
+    }
+
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      final String attributeNamespace = reader.getAttributeNamespace(i);
+      final String attributeName = reader.getAttributeLocalName(i);
+      if (attributeNamespace == null || attributeNamespace.isEmpty()) {
+        final String value = reader.getAttributeValue(i);
+        writer.writeAttribute(
+            attributeName, translateAttribute(name, parent, attributeName, value));
+      } else {
+        writer.writeAttribute(
+            reader.getAttributePrefix(i),
+            attributeNamespace,
+            attributeName,
+            reader.getAttributeValue(i));
+      }
+    }
+  }
+
+  // Kind of the text of the element, name and parent are null for qualified elements
+  private static Target target(final String name, final String parent) {
+    if (name == null) {
+      return Target.NONE;
+    }
+    return switch (name) {
+      case "epc" -> isEpcList(parent) ? Target.IDENTIFIER : Target.NONE;
+      case "parentID" -> Target.IDENTIFIER;
+      case "epcClass" -> Target.CLASS_IDENTIFIER;
+      case "bizStep", "disposition" -> Target.VOCABULARY;
+      case "id" -> "readPoint".equals(parent) || "bizLocation".equals(parent)
+          ? Target.IDENTIFIER
+          : Target.NONE;
+      case "bizTransaction", "source", "destination" -> (name + "List").equals(parent)
+          ? Target.IDENTIFIER
+          : Target.NONE;
+      case "reason" -> "errorDeclaration".equals(parent) ? Target.VOCABULARY : Target.NONE;
+      case "set", "unset" -> "persistentDisposition".equals(parent)
+          ? Target.VOCABULARY
+          : Target.NONE;
+      default -> Target.NONE;
+    };
+  }
+
+  private static boolean isEpcList(final String parent) {
+    return "epcList".equals(parent)
+        || "childEPCs".equals(parent)
+        || "inputEPCList".equals(parent)
+        || "outputEPCList".equals(parent);
+  }
+
+  private String translate(
+      final Target target, final String name, final String parent, final StringBuilder text) {
+    final String value = text.toString();
+    final String trimmed = value.strip();
+    final String translated =
+        switch (target) {
+          case IDENTIFIER -> translator.identifier(trimmed);
+          case CLASS_IDENTIFIER -> translator.classIdentifier(trimmed);
+          case VOCABULARY -> translator.vocabulary(trimmed, vocabularyField(name, parent));
+          case NONE -> trimmed;
+        };
+    // Keep the formatting of values which are not translated
+    return translated.equals(trimmed) ? value : translated;
+  }
+
+  // Field used to qualify bare string vocabularies
+  private static String vocabularyField(final String name, final String parent) {
+    return "persistentDisposition".equals(parent) ? parent : name;
+  }
+
+  private String translateAttribute(
+      final String element, final String parent, final String attribute, final String value) {
+    if (element == null) {
+      return value;
+    }
+    // Type of the business transaction, source or destination ex: <bizTransaction type="...">
+    if ("type".equals(attribute) && target(element, parent) == Target.IDENTIFIER) {
+      return switch (element) {
+        case "bizTransaction", "source", "destination" -> translator.vocabulary(value, element);
+        default -> value;
+      };
+    }
+    // Identifiers of the master data ex: <VocabularyElement id="urn:epc:id:sgln:...">
+    if ("id".equals(attribute) && "VocabularyElement".equals(element)) {
+      return translator.identifier(value);
+    }
+    return value;
+  }
+
+  // Local name of unqualified elements, null for elements of extensions
+  private static String localName(final XMLStreamReader reader) {
+    final String namespace = reader.getNamespaceURI();
+    return namespace == null || namespace.isEmpty() ? reader.getLocalName() : null;
+  }
+
+  // Names of the open elements, bounded by the nesting depth of the document
+  private static final class ElementPath {
+
+    private String[] names = new String[16];
+    private int depth;
+
+    void push(final String name) {
+      if (depth == names.length) {
+        names = Arrays.copyOf(names, depth * 2);
+      }
+      names[depth++] = name;
+    }
+
+    void pop() {
+      names[--depth] = null;
+    }
+
+    // Name of the innermost open element
+    String name() {
+      return depth > 0 ? names[depth - 1] : null;
+    }
+
+    // Name of the element enclosing the innermost open element
+    String parentName() {
+      return depth > 1 ? names[depth - 2] : null;
+    }
+  }
+}
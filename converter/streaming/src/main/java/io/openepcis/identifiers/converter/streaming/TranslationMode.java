@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.streaming;
+
+/** Target format of the identifiers and CBV vocabularies of a translated EPCIS document. */
+public enum TranslationMode {
+
+  // Identifiers as Digital Link WebURI, vocabularies as WebURI ex:
+  // https://ref.gs1.org/cbv/BizStep-shipping
+  WEB_URI,
+
+  // Identifiers as URN, vocabularies as URN ex: urn:epcglobal:cbv:bizstep:shipping
+  URN,
+
+  // Identifiers as Digital Link WebURI, vocabularies as bare strings ex: shipping
+  BARE_STRING
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.streaming.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openepcis.identifiers.converter.Converter;
+import io.openepcis.identifiers.converter.streaming.EpcisJsonTranslator;
+import io.openepcis.identifiers.converter.streaming.TranslationMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpcisJsonTranslatorTest {
+
+  private static final String DOCUMENT =
+      """
+      {
+        "@context": ["https://ref.gs1.org/standards/epcis/2.0.0/epcis-context.jsonld"],
+        "type": "EPCISDocument",
+        "schemaVersion": "2.0",
+        "creationDate": "2024-01-01T00:00:00Z",
+        "epcisBody": {
+          "eventList": [
+            {
+              "type": "AggregationEvent",
+              "eventTime": "2024-01-01T00:00:00Z",
+              "eventTimeZoneOffset": "+01:00",
+              "parentID": "urn:epc:id:sscc:0614141.1234567890",
+              "childEPCs": ["urn:epc:id:sgtin:234567890.1123.9999", "urn:example:private:1"],
+              "action": "ADD",
+              "bizStep": "urn:epcglobal:cbv:bizstep:packing",
+              "disposition": "urn:epcglobal:cbv:disp:in_progress",
+              "persistentDisposition": {"set": ["urn:epcglobal:cbv:disp:completeness_verified"]},
+              "readPoint": {"id": "urn:epc:id:sgln:0614141.00777.0"},
+              "bizLocation": {"id": "urn:epc:id:sgln:0614141.00888.0"},
+              "childQuantityList": [
+                {"epcClass": "urn:epc:idpat:sgtin:4012345.098765.*", "quantity": 10.5, "uom": "KGM"}
+              ],
+              "bizTransactionList": [
+                {"type": "urn:epcglobal:cbv:btt:po", "bizTransaction": "http://transaction.acme.com/po/12345678"}
+              ],
+              "sourceList": [
+                {"type": "urn:epcglobal:cbv:sdt:owning_party", "source": "urn:epc:id:pgln:9520001.11111"}
+              ],
+              "sensorElementList": [
+                {"sensorReport": [{"type": "Temperature", "value": 26.0}]}
+              ]
+            }
+          ]
+        }
+      }
+      """;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private Converter converter;
+
+  @BeforeEach
+  void before() {
+    converter = new Converter();
+  }
+
+  @Test
+  void testURNToWebURI() throws IOException {
+    final JsonNode event = firstEvent(translate(DOCUMENT, TranslationMode.WEB_URI));
+
+    assertEquals(converter.toURI("urn:epc:id:sscc:0614141.1234567890"), event.get("parentID").asText());
+    assertEquals(
+        converter.toURI("urn:epc:id:sgtin:234567890.1123.9999"), event.get("childEPCs").get(0).asText());
+    // Identifiers which are no GS1 identifiers are kept
+    assertEquals("urn:example:private:1", event.get("childEPCs").get(1).asText());
+    assertEquals(converter.toWebURIVocabulary("urn:epcglobal:cbv:bizstep:packing"), event.get("bizStep").asText());
+    assertEquals(
+        converter.toWebURIVocabulary("urn:epcglobal:cbv:disp:completeness_verified"),
+        event.get("persistentDisposition").get("set").get(0).asText());
+    assertEquals(
+        converter.toURI("urn:epc:id:sgln:0614141.00777.0"), event.get("readPoint").get("id").asText());
+    assertEquals(
+        converter.toURIForClassLevelIdentifier("urn:epc:idpat:sgtin:4012345.098765.*"),
+        event.get("childQuantityList").get(0).get("epcClass").asText());
+    assertEquals(10.5, event.get("childQuantityList").get(0).get("quantity").asDouble());
+    assertEquals(
+        converter.toWebURIVocabulary("urn:epcglobal:cbv:btt:po"),
+        event.get("bizTransactionList").get(0).get("type").asText());
+    assertEquals(
+        "http://transaction.acme.com/po/12345678",
+        event.get("bizTransactionList").get(0).get("bizTransaction").asText());
+    assertEquals(
+        converter.toURI("urn:epc:id:pgln:9520001.11111"), event.get("sourceList").get(0).get("source").asText());
+
+    // Fields with the same name outside of the EPCIS structure are kept
+    assertEquals("AggregationEvent", event.get("type").asText());
+    assertEquals(
+        "Temperature",
+        event.get("sensorElementList").get(0).get("sensorReport").get(0).get("type").asText());
+  }
+
+  @Test
+  void testRoundTrip() throws IOException {
+    final String webURI = translate(DOCUMENT, TranslationMode.WEB_URI);
+    final String urn = translate(webURI, TranslationMode.URN);
+    assertEquals(objectMapper.readTree(DOCUMENT), objectMapper.readTree(urn));
+  }
+
+  @Test
+  void testBareString() throws IOException {
+    final JsonNode event = firstEvent(translate(DOCUMENT, TranslationMode.BARE_STRING));
+    assertEquals("packing", event.get("bizStep").asText());
+    assertEquals("in_progress", event.get("disposition").asText());
+    assertEquals("po", event.get("bizTransactionList").get(0).get("type").asText());
+    assertEquals("owning_party", event.get("sourceList").get(0).get("type").asText());
+
+    // Bare strings are qualified again when translating to URN
+    final JsonNode urnEvent = firstEvent(translate(objectMapper.writeValueAsString(event), TranslationMode.URN));
+    assertEquals("urn:epcglobal:cbv:bizstep:packing", urnEvent.get("bizStep").asText());
+    assertEquals("urn:epcglobal:cbv:btt:po", urnEvent.get("bizTransactionList").get(0).get("type").asText());
+  }
+
+  private JsonNode firstEvent(final String document) throws IOException {
+    final JsonNode root = objectMapper.readTree(document);
+    return root.has("epcisBody") ? root.get("epcisBody").get("eventList").get(0) : root;
+  }
+
+  private static String translate(final String document, final TranslationMode mode) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new EpcisJsonTranslator(mode)
+        .translate(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), output);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.streaming.tests;
+
+import io.openepcis.identifiers.converter.CachingConverter;
+import io.openepcis.identifiers.converter.Converter;
+import io.openepcis.identifiers.converter.streaming.EpcisXmlTranslator;
+import io.openepcis.identifiers.converter.streaming.TranslationMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput of the XML translation of a synthetic URN based document, ex: 1 GB using {@code mvn
+ * test -Dtest=EpcisXmlTranslatorBenchmarkTest -Dbenchmark.megabytes=1024}. The document is
+ * generated while being read and the output is discarded, so that the measured heap only holds the
+ * state of the translator. Throughput and peak heap are published to the JUnit {@link TestReporter}.
+ */
+@EnabledIfSystemProperty(named = "benchmark.megabytes", matches = "\\d+")
+class EpcisXmlTranslatorBenchmarkTest {
+
+  @Test
+  void benchmarkURNToWebURI(final TestReporter reporter) throws Exception {
+    final long size = Long.getLong("benchmark.megabytes") * 1024 * 1024;
+
+    run(reporter, new Converter(), "Converter", size);
+    run(reporter, new CachingConverter(), "CachingConverter", size);
+  }
+
+  private static void run(
+      final TestReporter reporter, final Converter converter, final String name, final long size)
+      throws Exception {
+    final EpcisXmlTranslator translator =
+        new EpcisXmlTranslator(TranslationMode.WEB_URI, converter);
+    final SyntheticEpcisDocument document = new SyntheticEpcisDocument(size);
+    final CountingOutputStream output = new CountingOutputStream();
+
+    System.gc();
+    resetPeakUsage();
+    final long start = System.nanoTime();
+    translator.translate(document, output);
+    final double seconds = (System.nanoTime() - start) / 1e9;
+
+    final Map<String, String> results = new LinkedHashMap<>();
+    results.put(name + " events", String.valueOf(document.events()));
+    results.put(
+        name + " MB in/out",
+        String.format("%.1f / %.1f", size / 1048576.0, output.count / 1048576.0));
+    results.put(name + " seconds", String.format("%.2f", seconds));
+    results.put(name + " MB/s", String.format("%.1f", size / 1048576.0 / seconds));
+    results.put(name + " events/s", String.format("%.0f", document.events() / seconds));
+    results.put(name + " peak heap MB", String.format("%.1f", peakUsage() / 1048576.0));
+    reporter.publishEntry(results);
+    assertTrue(output.count > size);
+  }
+
+  private static void resetPeakUsage() {
+    for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      pool.resetPeakUsage();
+    }
+  }
+
+  // Sum of the peak usage of the heap pools, an upper bound of the heap used at the same time
+  private static long peakUsage() {
+    long peak = 0;
+    for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        peak += pool.getPeakUsage().getUsed();
+      }
+    }
+    return peak;
+  }
+
+  private static final class CountingOutputStream extends OutputStream {
+
+    private long count;
+
+    @Override
+    public void write(final int b) {
+      count++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      count += len;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.streaming.tests;
+
+import io.openepcis.identifiers.converter.Converter;
+import io.openepcis.identifiers.converter.streaming.EpcisXmlTranslator;
+import io.openepcis.identifiers.converter.streaming.TranslationMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLStreamException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpcisXmlTranslatorTest {
+
+  private static final String DOCUMENT =
+      """
+      <?xml version="1.0" encoding="UTF-8"?>
+      <epcis:EPCISDocument xmlns:epcis="urn:epcglobal:epcis:xsd:1" xmlns:ext="https://example.com/ext" schemaVersion="1.2" creationDate="2024-01-01T00:00:00Z">
+        <EPCISBody>
+          <EventList>
+            <ObjectEvent>
+              <eventTime>2024-01-01T00:00:00Z</eventTime>
+              <eventTimeZoneOffset>+01:00</eventTimeZoneOffset>
+              <epcList>
+                <epc>urn:epc:id:sgtin:234567890.1123.9999</epc>
+                <epc>urn:example:private:1</epc>
+              </epcList>
+              <action>OBSERVE</action>
+              <bizStep>urn:epcglobal:cbv:bizstep:shipping</bizStep>
+              <disposition>urn:epcglobal:cbv:disp:in_transit</disposition>
+              <readPoint><id>urn:epc:id:sgln:0614141.07346.1234</id></readPoint>
+              <bizLocation><id>urn:epc:id:sgln:0614141.00888.0</id></bizLocation>
+              <bizTransactionList>
+                <bizTransaction type="urn:epcglobal:cbv:btt:po">http://transaction.acme.com/po/12345678</bizTransaction>
+              </bizTransactionList>
+              <extension>
+                <quantityList>
+                  <quantityElement>
+                    <epcClass>urn:epc:idpat:sgtin:4012345.098765.*</epcClass>
+                    <quantity>200</quantity>
+                  </quantityElement>
+                </quantityList>
+                <sourceList>
+                  <source type="urn:epcglobal:cbv:sdt:owning_party">urn:epc:id:pgln:9520001.11111</source>
+                </sourceList>
+              </extension>
+              <ext:epc>urn:epc:id:sgtin:234567890.1123.9999</ext:epc>
+            </ObjectEvent>
+            <AggregationEvent>
+              <eventTime>2024-01-01T00:00:00Z</eventTime>
+              <eventTimeZoneOffset>+01:00</eventTimeZoneOffset>
+              <parentID>urn:epc:id:sscc:0614141.1234567890</parentID>
+              <childEPCs>
+                <epc>
+                  urn:epc:id:sgtin:234567890.1123.9999
+                </epc>
+              </childEPCs>
+              <action>ADD</action>
+            </AggregationEvent>
+          </EventList>
+        </EPCISBody>
+      </epcis:EPCISDocument>
+      """;
+
+  private Converter converter;
+
+  @BeforeEach
+  void before() {
+    converter = new Converter();
+  }
+
+  @Test
+  void testURNToWebURI() throws XMLStreamException {
+    final String translated = translate(DOCUMENT, TranslationMode.WEB_URI);
+
+    final String sgtin = converter.toURI("urn:epc:id:sgtin:234567890.1123.9999");
+    assertTrue(translated.contains("<epc>" + sgtin + "</epc>"));
+    assertTrue(translated.contains("<epc>urn:example:private:1</epc>"));
+    assertTrue(
+        translated.contains(
+            "<bizStep>" + converter.toWebURIVocabulary("urn:epcglobal:cbv:bizstep:shipping")));
+    assertTrue(
+        translated.contains(
+            "<disposition>" + converter.toWebURIVocabulary("urn:epcglobal:cbv:disp:in_transit")));
+    assertTrue(
+        translated.contains(
+            "<readPoint><id>" + converter.toURI("urn:epc:id:sgln:0614141.07346.1234")));
+    assertTrue(
+        translated.contains(
+            "<bizTransaction type=\""
+                + converter.toWebURIVocabulary("urn:epcglobal:cbv:btt:po")
+                + "\">http://transaction.acme.com/po/12345678</bizTransaction>"));
+    assertTrue(
+        translated.contains(
+            "<epcClass>"
+                + converter.toURIForClassLevelIdentifier("urn:epc:idpat:sgtin:4012345.098765.*")));
+    assertTrue(
+        translated.contains(
+            "<source type=\""
+                + converter.toWebURIVocabulary("urn:epcglobal:cbv:sdt:owning_party")
+                + "\">"
+                + converter.toURI("urn:epc:id:pgln:9520001.11111")));
+    assertTrue(
+        translated.contains(
+            "<parentID>" + converter.toURI("urn:epc:id:sscc:0614141.1234567890")));
+    // Values are trimmed when translated
+    assertTrue(translated.contains("<childEPCs>\n          <epc>" + sgtin + "</epc>"));
+
+    // Elements of extensions are kept
+    assertTrue(translated.contains("<ext:epc>urn:epc:id:sgtin:234567890.1123.9999</ext:epc>"));
+    assertTrue(translated.contains("xmlns:ext=\"https://example.com/ext\""));
+    assertTrue(translated.contains("<quantity>200</quantity>"));
+  }
+
+  @Test
+  void testRoundTrip() throws XMLStreamException {
+    final String urn =
+        translate(translate(DOCUMENT, TranslationMode.WEB_URI), TranslationMode.URN);
+
+    assertTrue(urn.contains("<epc>urn:epc:id:sgtin:234567890.1123.9999</epc>"));
+    assertTrue(urn.contains("<bizStep>urn:epcglobal:cbv:bizstep:shipping</bizStep>"));
+    assertTrue(urn.contains("<bizTransaction type=\"urn:epcglobal:cbv:btt:po\">"));
+    assertTrue(urn.contains("<epcClass>urn:epc:idpat:sgtin:4012345.098765.*</epcClass>"));
+    assertTrue(urn.contains("<source type=\"urn:epcglobal:cbv:sdt:owning_party\">"));
+    assertTrue(urn.contains("<parentID>urn:epc:id:sscc:0614141.1234567890</parentID>"));
+  }
+
+  @Test
+  void testBareString() throws XMLStreamException {
+    final String translated = translate(DOCUMENT, TranslationMode.BARE_STRING);
+    assertTrue(translated.contains("<bizStep>shipping</bizStep>"));
+    assertTrue(translated.contains("<disposition>in_transit</disposition>"));
+    assertTrue(translated.contains("<bizTransaction type=\"po\">"));
+  }
+
+  @Test
+  void testSyntheticDocument() throws XMLStreamException {
+    final SyntheticEpcisDocument document = new SyntheticEpcisDocument(256 * 1024);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new EpcisXmlTranslator(TranslationMode.WEB_URI, converter).translate(document, output);
+
+    final String translated = output.toString(StandardCharsets.UTF_8);
+    assertTrue(document.events() > 0);
+    assertFalse(translated.contains("<epc>urn:"));
+    assertTrue(translated.strip().endsWith("</epcis:EPCISDocument>"));
+  }
+
+  @Test
+  void testMalformedDocument() {
+    assertThrows(
+        XMLStreamException.class,
+        () -> translate("<EPCISDocument><EPCISBody></EPCISDocument>", TranslationMode.WEB_URI));
+  }
+
+  private static String translate(final String document, final TranslationMode mode)
+      throws XMLStreamException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new EpcisXmlTranslator(mode)
+        .translate(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), output);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+}
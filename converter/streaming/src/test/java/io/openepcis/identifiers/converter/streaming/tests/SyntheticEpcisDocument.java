@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.streaming.tests;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * URN based EPCIS 1.2 XML document of the requested size which is generated while being read, so
+ * that documents of several GB can be translated without being held in memory or on disk.
+ */
+class SyntheticEpcisDocument extends InputStream {
+
+  private static final byte[] HEADER =
+      ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+              + "<epcis:EPCISDocument xmlns:epcis=\"urn:epcglobal:epcis:xsd:1\""
+              + " schemaVersion=\"1.2\" creationDate=\"2024-01-01T00:00:00Z\">\n"
+              + "  <EPCISBody>\n"
+              + "    <EventList>\n")
+          .getBytes(StandardCharsets.UTF_8);
+
+  private static final byte[] FOOTER =
+      ("    </EventList>\n" + "  </EPCISBody>\n" + "</epcis:EPCISDocument>\n")
+          .getBytes(StandardCharsets.UTF_8);
+
+  private static final String EVENT =
+      """
+            <ObjectEvent>
+              <eventTime>2024-01-01T00:00:00Z</eventTime>
+              <eventTimeZoneOffset>+01:00</eventTimeZoneOffset>
+              <epcList>
+                <epc>urn:epc:id:sgtin:0614141.107346.%1$d</epc>
+                <epc>urn:epc:id:sgtin:0614141.107346.%2$d</epc>
+                <epc>urn:epc:id:sscc:0614141.%3$010d</epc>
+              </epcList>
+              <action>OBSERVE</action>
+              <bizStep>urn:epcglobal:cbv:bizstep:shipping</bizStep>
+              <disposition>urn:epcglobal:cbv:disp:in_transit</disposition>
+              <readPoint><id>urn:epc:id:sgln:0614141.07346.1234</id></readPoint>
+              <bizLocation><id>urn:epc:id:sgln:0614141.00888.0</id></bizLocation>
+              <bizTransactionList>
+                <bizTransaction type="urn:epcglobal:cbv:btt:po">urn:epc:id:gdti:0614141.00001.%1$d</bizTransaction>
+              </bizTransactionList>
+            </ObjectEvent>
+      """;
+
+  private final long size;
+  private long events;
+  private long position;
+  private byte[] chunk = HEADER;
+  private int chunkPosition;
+
+  /**
+   * @param size approximate size of the document in bytes, the document ends after the first event
+   *     exceeding it
+   */
+  SyntheticEpcisDocument(final long size) {
+    this.size = size;
+  }
+
+  long events() {
+    return events;
+  }
+
+  @Override
+  public int read() {
+    final byte[] single = new byte[1];
+    return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] target, final int offset, final int length) {
+    if (length == 0) {
+      return 0;
+    }
+    if (chunkPosition == chunk.length && !nextChunk()) {
+      return -1;
+    }
+    final int count = Math.min(length, chunk.length - chunkPosition);
+    System.arraycopy(chunk, chunkPosition, target, offset, count);
+    chunkPosition += count;
+    position += count;
+    return count;
+  }
+
+  private boolean nextChunk() {
+    if (chunk == FOOTER) {
+      return false;
+    }
+    if (position >= size) {
+      chunk = FOOTER;
+    } else {
+      events++;
+      chunk =
+          String.format(EVENT, events * 2, events * 2 + 1, events)
+              .getBytes(StandardCharsets.UTF_8);
+    }
+    chunkPosition = 0;
+    return true;
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.tag;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Bit level access to an EPC held as big endian packed {@code long} words, the first bit of the EPC
+ * being the most significant bit of the first word. Fields are read and written with shifts on the
+ * words instead of going through bit strings or BigInteger.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class EpcBits {
+
+  // Words needed for the longest supported scheme (GIAI-202)
+  static final int MAX_WORDS = 4;
+
+  // Bits of one character of an alphanumeric field (ISO/IEC 646)
+  static final int CHARACTER_BITS = 7;
+
+  static final long[] POWERS_OF_TEN = new long[19];
+
+  private static final byte[] HEX_VALUES = new byte[128];
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  // Characters of GS1 AI encodable character set 82, the only ones allowed in alphanumeric fields
+  private static final boolean[] ENCODABLE = new boolean[128];
+
+  // Percent escape of the characters which are not allowed verbatim in the pure identity URI
+  private static final String[] URI_ESCAPES = new String[128];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    Arrays.fill(HEX_VALUES, (byte) -1);
+    for (int i = 0; i < 10; i++) {
+      HEX_VALUES['0' + i] = (byte) i;
+    }
+    for (int i = 0; i < 6; i++) {
+      HEX_VALUES['A' + i] = (byte) (10 + i);
+      HEX_VALUES['a' + i] = (byte) (10 + i);
+    }
+
+    for (final char c : "!\"%&'()*+,-./:;<=>?_".toCharArray()) {
+      ENCODABLE[c] = true;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      ENCODABLE[c] = true;
+    }
+    for (char c = 'A'; c <= 'Z'; c++) {
+      ENCODABLE[c] = true;
+      ENCODABLE[c + ('a' - 'A')] = true;
+    }
+
+    URI_ESCAPES['"'] = "%22";
+    URI_ESCAPES['%'] = "%25";
+    URI_ESCAPES['&'] = "%26";
+    URI_ESCAPES['/'] = "%2F";
+    URI_ESCAPES['<'] = "%3C";
+    URI_ESCAPES['>'] = "%3E";
+    URI_ESCAPES['?'] = "%3F";
+  }
+
+  /**
+   * Parses the leading hex characters into the words.
+   *
+   * @return false if one of the characters is not a hex digit
+   */
+  static boolean parseHex(final CharSequence hex, final int nibbles, final long[] words) {
+    Arrays.fill(words, 0L);
+    for (int i = 0; i < nibbles; i++) {
+      final int value = hexValue(hex.charAt(i));
+      if (value < 0) {
+        return false;
+      }
+      words[i >>> 4] |= (long) value << (60 - ((i & 15) << 2));
+    }
+    return true;
+  }
+
+  // Value of the field of 1 to 64 bits starting at the bit offset
+  static long read(final long[] words, final int offset, final int width) {
+    final int index = offset >>> 6;
+    final int shift = offset & 63;
+    long value = words[index] << shift;
+    if (shift + width > 64) {
+      value |= words[index + 1] >>> (64 - shift);
+    }
+    return value >>> (64 - width);
+  }
+
+  // Sets the field of 1 to 64 bits starting at the bit offset, the value must fit into the width
+  static void write(final long[] words, final int offset, final int width, final long value) {
+    final int index = offset >>> 6;
+    final int shift = offset & 63;
+    final long mask = width == 64 ? -1L : (1L << width) - 1;
+    final int end = shift + width;
+    if (end <= 64) {
+      final int low = 64 - end;
+      words[index] = words[index] & ~(mask << low) | (value & mask) << low;
+    } else {
+      // Field spans two words, the high bits go to the end of the first one
+      final int spill = end - 64;
+      words[index] = words[index] & ~(mask >>> spill) | (value & mask) >>> spill;
+      final int low = 64 - spill;
+      words[index + 1] = words[index + 1] & ~(-1L << low) | value << low;
+    }
+  }
+
+  // Copies the leading bytes of the words to the target
+  static void toBytes(final long[] words, final int length, final byte[] target, final int offset) {
+    for (int i = 0; i < length; i++) {
+      target[offset + i] = (byte) (words[i >>> 3] >>> (56 - ((i & 7) << 3)));
+    }
+  }
+
+  // Puts the leading bytes of the words into the buffer
+  static void toBytes(final long[] words, final int length, final ByteBuffer target) {
+    if (target.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+    for (int i = 0; i < length; i++) {
+      target.put((byte) (words[i >>> 3] >>> (56 - ((i & 7) << 3))));
+    }
+  }
+
+  // Appends the leading nibbles of the words as upper case hex characters
+  static void appendHex(final StringBuilder target, final long[] words, final int nibbles) {
+    for (int i = 0; i < nibbles; i++) {
+      target.append(HEX_DIGITS[(int) (words[i >>> 4] >>> (60 - ((i & 15) << 2))) & 15]);
+    }
+  }
+
+  /**
+   * Parses the digits of the range as decimal integer.
+   *
+   * @return the value, -1 if the range is empty, contains other characters than digits or exceeds
+   *     the range of long
+   */
+  static long parseDigits(final CharSequence value, final int start, final int end) {
+    if (start >= end) {
+      return -1;
+    }
+    long result = 0;
+    for (int i = start; i < end; i++) {
+      final int digit = value.charAt(i) - '0';
+      if (digit < 0 || digit > 9 || result > (Long.MAX_VALUE - digit) / 10) {
+        return -1;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
+  /**
+   * Writes the alphanumeric field of the pure identity URI as 7 bit characters, decoding the
+   * percent escapes. The bits following the last character are expected to be zero already.
+   *
+   * @return false if the field contains a character outside the encodable character set, an
+   *     invalid escape or more than the maximum number of characters
+   */
+  static boolean writeAlphanumeric(
+      final long[] words,
+      final int offset,
+      final int maxCharacters,
+      final CharSequence value,
+      final int start,
+      final int end) {
+    int position = offset;
+    int characters = 0;
+    for (int i = start; i < end; i++) {
+      int c = value.charAt(i);
+      if (c == '%') {
+        if (i + 2 >= end) {
+          return false;
+        }
+        final int high = hexValue(value.charAt(i + 1));
+        final int low = hexValue(value.charAt(i + 2));
+        if (high < 0 || low < 0) {
+          return false;
+        }
+        c = high << 4 | low;
+        i += 2;
+      }
+      if (c >= ENCODABLE.length || !ENCODABLE[c] || ++characters > maxCharacters) {
+        return false;
+      }
+      write(words, position, CHARACTER_BITS, c);
+      position += CHARACTER_BITS;
+    }
+    return true;
+  }
+
+  private static int hexValue(final char c) {
+    return c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+  }
+
+  // True if all bits of the range are zero
+  static boolean isZero(final long[] words, int offset, final int end) {
+    while (offset < end) {
+      final int width = Math.min(64, end - offset);
+      if (read(words, offset, width) != 0) {
+        return false;
+      }
+      offset += width;
+    }
+    return true;
+  }
+
+  // Appends the value left padded with zeros to the number of digits
+  static void appendPadded(final StringBuilder target, long value, final int digits) {
+    for (int i = digits - 1; i >= 0; i--) {
+      final long power = POWERS_OF_TEN[i];
+      final int digit = (int) (value / power);
+      target.append((char) ('0' + digit));
+      value -= digit * power;
+    }
+  }
+
+  /**
+   * Appends the zero terminated alphanumeric field to the pure identity URI, escaping the
+   * characters not allowed verbatim.
+   *
+   * @return false if the field contains a character outside the encodable character set or non
+   *     zero bits after the terminating character
+   */
+  static boolean appendAlphanumeric(
+      final StringBuilder target,
+      final long[] words,
+      final int offset,
+      final int bits,
+      final int maxCharacters) {
+    final int end = offset + bits;
+    final int characters = Math.min(bits / CHARACTER_BITS, maxCharacters);
+    int position = offset;
+    for (int i = 0; i < characters; i++) {
+      final int c = (int) read(words, position, CHARACTER_BITS);
+      position += CHARACTER_BITS;
+      if (c == 0) {
+        break;
+      }
+      if (!ENCODABLE[c]) {
+        return false;
+      }
+      final String escape = URI_ESCAPES[c];
+      if (escape == null) {
+        target.append((char) c);
+      } else {
+        target.append(escape);
+      }
+    }
+    return isZero(words, position, end);
+  }
+}
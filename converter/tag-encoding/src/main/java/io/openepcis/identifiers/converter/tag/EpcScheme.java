@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.tag;
+
+/**
+ * EPC binary encoding schemes of the GS1 EPC Tag Data Standard supported by the tag encoding. Every
+ * scheme is laid out as header, filter, partition, GS1 Company Prefix, a partition dependent
+ * second field and an optional trailing serial field.
+ */
+public enum EpcScheme {
+  SGTIN_96(
+      0x30, "sgtin-96", "sgtin", 96, new int[] {4, 7, 10, 14, 17, 20, 24}, 13, true, 38, false),
+  SGTIN_198(
+      0x36, "sgtin-198", "sgtin", 198, new int[] {4, 7, 10, 14, 17, 20, 24}, 13, true, 140, true),
+  SSCC_96(
+      0x31, "sscc-96", "sscc", 96, new int[] {18, 21, 24, 28, 31, 34, 38}, 17, true, 0, false),
+  SGLN_96(
+      0x32, "sgln-96", "sgln", 96, new int[] {1, 4, 7, 11, 14, 17, 21}, 12, true, 41, false),
+  SGLN_195(
+      0x39, "sgln-195", "sgln", 195, new int[] {1, 4, 7, 11, 14, 17, 21}, 12, true, 140, true),
+  GRAI_96(
+      0x33, "grai-96", "grai", 96, new int[] {4, 7, 10, 14, 17, 20, 24}, 12, true, 38, false),
+  GRAI_170(
+      0x37, "grai-170", "grai", 170, new int[] {4, 7, 10, 14, 17, 20, 24}, 12, true, 112, true),
+  GIAI_96(
+      0x34, "giai-96", "giai", 96, new int[] {42, 45, 48, 52, 55, 58, 62}, 25, false, 0, false),
+  GIAI_202(
+      0x38, "giai-202", "giai", 202, new int[] {148, 151, 154, 158, 161, 164, 168}, 30, false, 0,
+      false);
+
+  // Bits and digits of the GS1 Company Prefix per partition value, shared by all schemes
+  static final int[] COMPANY_PREFIX_BITS = {40, 37, 34, 30, 27, 24, 20};
+  static final int[] COMPANY_PREFIX_DIGITS = {12, 11, 10, 9, 8, 7, 6};
+
+  static final int HEADER_BITS = 8;
+  static final int FILTER_BITS = 3;
+  static final int PARTITION_BITS = 3;
+  static final int COMPANY_PREFIX_OFFSET = HEADER_BITS + FILTER_BITS + PARTITION_BITS;
+
+  private static final EpcScheme[] BY_HEADER = new EpcScheme[256];
+
+  static {
+    for (final EpcScheme scheme : values()) {
+      BY_HEADER[scheme.header] = scheme;
+    }
+  }
+
+  private final int header;
+  private final String tagName;
+  private final String identityPrefix;
+  private final int bitLength;
+  private final int[] secondFieldBits;
+  private final int secondFieldDigits;
+  private final boolean secondFieldPadded;
+  private final int serialBits;
+  private final boolean serialAlphanumeric;
+
+  EpcScheme(
+      final int header,
+      final String tagName,
+      final String identityScheme,
+      final int bitLength,
+      final int[] secondFieldBits,
+      final int secondFieldDigits,
+      final boolean secondFieldPadded,
+      final int serialBits,
+      final boolean serialAlphanumeric) {
+    this.header = header;
+    this.tagName = tagName;
+    this.identityPrefix = "urn:epc:id:" + identityScheme + ":";
+    this.bitLength = bitLength;
+    this.secondFieldBits = secondFieldBits;
+    this.secondFieldDigits = secondFieldDigits;
+    this.secondFieldPadded = secondFieldPadded;
+    this.serialBits = serialBits;
+    this.serialAlphanumeric = serialAlphanumeric;
+  }
+
+  /**
+   * @return scheme identified by the 8 bit EPC header, null if the header is not supported
+   */
+  public static EpcScheme forHeader(final int header) {
+    return header >= 0 && header < BY_HEADER.length ? BY_HEADER[header] : null;
+  }
+
+  public int header() {
+    return header;
+  }
+
+  // Name of the scheme as used in the EPC Tag URI ex: sgtin-96
+  public String tagName() {
+    return tagName;
+  }
+
+  // Prefix of the pure identity EPC URI ex: urn:epc:id:sgtin:
+  public String identityPrefix() {
+    return identityPrefix;
+  }
+
+  public int bitLength() {
+    return bitLength;
+  }
+
+  // Number of hex characters of the EPC padded to whole 16 bit words as stored in the EPC bank
+  public int hexLength() {
+    return (bitLength + 15) / 16 * 4;
+  }
+
+  // Bits of the field following the GS1 Company Prefix for the partition value
+  int secondFieldBits(final int partition) {
+    return secondFieldBits[partition];
+  }
+
+  // Digits (or characters of an alphanumeric field) of the field following the GS1 Company Prefix
+  int secondFieldDigits(final int partition) {
+    return secondFieldDigits - COMPANY_PREFIX_DIGITS[partition];
+  }
+
+  // GIAI stores its alphanumeric or integer asset reference without zero padding
+  boolean secondFieldPadded() {
+    return secondFieldPadded;
+  }
+
+  boolean secondFieldAlphanumeric() {
+    return this == GIAI_202;
+  }
+
+  int serialBits() {
+    return serialBits;
+  }
+
+  boolean serialAlphanumeric() {
+    return serialAlphanumeric;
+  }
+}
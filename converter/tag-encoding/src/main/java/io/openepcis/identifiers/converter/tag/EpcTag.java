@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.tag;
+
+/**
+ * EPC decoded from its binary encoding.
+ *
+ * @param scheme binary encoding scheme identified by the header ex: SGTIN-96
+ * @param filter filter value (0-7) which is not part of the pure identity
+ * @param urn pure identity EPC URI ex: urn:epc:id:sgtin:0614141.812345.6789
+ */
+public record EpcTag(EpcScheme scheme, int filter, String urn) {
+
+  /**
+   * @return EPC Tag URI including the scheme and filter value ex:
+   *     urn:epc:tag:sgtin-96:3.0614141.812345.6789
+   */
+  public String tagURI() {
+    return "urn:epc:tag:"
+        + scheme.tagName()
+        + ":"
+        + filter
+        + "."
+        + urn.substring(scheme.identityPrefix().length());
+  }
+}
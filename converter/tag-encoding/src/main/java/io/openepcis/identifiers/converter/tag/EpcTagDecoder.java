@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.tag;
+
+import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
+import io.openepcis.core.exception.ValidationException;
+import io.openepcis.identifiers.converter.ConversionResult;
+import io.openepcis.identifiers.converter.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static io.openepcis.identifiers.converter.tag.EpcBits.*;
+import static io.openepcis.identifiers.converter.tag.EpcScheme.*;
+
+/**
+ * Decoder of EPC binary encodings as read from the EPC memory bank of RFID tags into pure identity
+ * EPC URIs and Digital Link WebURIs. Supports SGTIN-96/198, SSCC-96, SGLN-96/195, GRAI-96/170 and
+ * GIAI-96/202 according to the GS1 EPC Tag Data Standard.
+ *
+ * <p>The hex is parsed into packed {@code long} words from which the fields are read with shifts,
+ * the partition table lookups select the widths of the GS1 Company Prefix and the following field.
+ * Instances are thread safe.
+ */
+public class EpcTagDecoder {
+
+  private static final String INVALID_HEX_MESSAGE =
+      "Provided EPC hex is not a valid %s binary encoding.%nPlease check the EPC: %s";
+  private static final String UNSUPPORTED_HEX_MESSAGE =
+      "Provided EPC hex does not start with a supported EPC header.%nPlease check the EPC: %s";
+
+  private final Converter converter;
+
+  public EpcTagDecoder() {
+    this(new Converter());
+  }
+
+  /**
+   * @param converter converter used to translate the decoded URN into Digital Link WebURI, ex: a
+   *     shared {@link io.openepcis.identifiers.converter.CachingConverter}
+   */
+  public EpcTagDecoder(final Converter converter) {
+    this.converter = converter;
+  }
+
+  /**
+   * Method to decode the EPC binary encoding of a tag.
+   *
+   * @param hex EPC as hex characters ex: 3074257BF7194E4000001A85, additional characters after the
+   *     EPC such as the padding to whole words of the EPC bank are ignored
+   * @return the scheme, filter value and pure identity URI of the EPC
+   * @throws ValidationException throws the exception if the hex is not a valid encoding of a
+   *     supported scheme
+   */
+  public EpcTag decode(final CharSequence hex) throws ValidationException {
+    return decode(hex, new long[MAX_WORDS], new StringBuilder(64));
+  }
+
+  /**
+   * Method to decode the EPC binary encoding of a tag into the pure identity URI.
+   *
+   * @param hex EPC as hex characters ex: 3074257BF7194E4000001A85
+   * @return the pure identity URI ex: urn:epc:id:sgtin:0614141.812345.6789
+   * @throws ValidationException throws the exception if the hex is not a valid encoding of a
+   *     supported scheme
+   */
+  public String decodeToURN(final CharSequence hex) throws ValidationException {
+    return decode(hex).urn();
+  }
+
+  /**
+   * Method to decode the EPC binary encoding of a tag into Digital Link WebURI, identical to
+   * converting the decoded URN using {@link Converter#toURI(String)}.
+   *
+   * @param hex EPC as hex characters ex: 3074257BF7194E4000001A85
+   * @return the Digital Link WebURI ex: https://id.gs1.org/01/80614141123458/21/6789
+   * @throws ValidationException throws the exception if the hex is not a valid encoding of a
+   *     supported scheme or the decoded EPC could not be converted
+   */
+  public String decodeToURI(final CharSequence hex) throws ValidationException {
+    return converter.toURI(decodeToURN(hex));
+  }
+
+  /**
+   * Method to decode many EPC binary encodings into pure identity URIs, ex: a burst of tags read by
+   * an RFID reader. The buffers used for decoding are shared by all tags of the batch and a failing
+   * tag does not stop the decoding of the others.
+   *
+   * @param hexes EPCs as hex characters
+   * @return one result per EPC in input order, holding either the URN or the error
+   */
+  public List<ConversionResult<String>> decodeToURNBatch(
+      final Iterable<? extends CharSequence> hexes) {
+    final long[] words = new long[MAX_WORDS];
+    final StringBuilder urn = new StringBuilder(64);
+    final List<ConversionResult<String>> results = new ArrayList<>();
+    for (final CharSequence hex : hexes) {
+      try {
+        results.add(ConversionResult.success(hex.toString(), decode(hex, words, urn).urn()));
+      } catch (RuntimeException exception) {
+        results.add(ConversionResult.failure(hex.toString(), exception));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Method to decode many EPC binary encodings into Digital Link WebURIs on the calling thread.
+   *
+   * @param hexes EPCs as hex characters
+   * @return one result per EPC in input order, holding either the WebURI or the error
+   */
+  public List<ConversionResult<String>> decodeToURIBatch(
+      final Iterable<? extends CharSequence> hexes) {
+    return decodeToURIBatch(hexes, null);
+  }
+
+  /**
+   * Method to decode many EPC binary encodings into Digital Link WebURIs. The EPCs are decoded on
+   * the calling thread, the decoded URNs are converted using {@link Converter#toURIBatch(Iterable,
+   * Executor)}.
+   *
+   * @param hexes EPCs as hex characters
+   * @param executor executor running the conversion in parallel, null to convert on the calling
+   *     thread
+   * @return one result per EPC in input order, holding either the WebURI or the error
+   */
+  public List<ConversionResult<String>> decodeToURIBatch(
+      final Iterable<? extends CharSequence> hexes, final Executor executor) {
+    final List<ConversionResult<String>> decoded = decodeToURNBatch(hexes);
+
+    final List<String> urns = new ArrayList<>(decoded.size());
+    for (final ConversionResult<String> result : decoded) {
+      if (result.isSuccess()) {
+        urns.add(result.value());
+      }
+    }
+    final List<ConversionResult<String>> converted = converter.toURIBatch(urns, executor);
+
+    // Report the results against the hex the URN was decoded from
+    final List<ConversionResult<String>> results = new ArrayList<>(decoded.size());
+    int next = 0;
+    for (final ConversionResult<String> result : decoded) {
+      if (result.isSuccess()) {
+        final ConversionResult<String> uri = converted.get(next++);
+        results.add(new ConversionResult<>(result.identifier(), uri.value(), uri.validation()));
+      } else {
+        results.add(result);
+      }
+    }
+    return results;
+  }
+
+  private EpcTag decode(final CharSequence hex, final long[] words, final StringBuilder urn) {
+    final EpcScheme scheme = hex.length() >= 2 ? forHeader(headerOf(hex)) : null;
+    if (scheme == null) {
+      throw new UnsupportedGS1IdentifierException(String.format(UNSUPPORTED_HEX_MESSAGE, hex));
+    }
+    if (hex.length() < (scheme.bitLength() + 3) / 4
+        || !parseHex(hex, (scheme.bitLength() + 3) / 4, words)) {
+      throw invalid(scheme, hex);
+    }
+
+    final int filter = (int) read(words, HEADER_BITS, FILTER_BITS);
+    final int partition = (int) read(words, HEADER_BITS + FILTER_BITS, PARTITION_BITS);
+    if (partition >= COMPANY_PREFIX_BITS.length) {
+      throw invalid(scheme, hex);
+    }
+
+    urn.setLength(0);
+    urn.append(scheme.identityPrefix());
+
+    // GS1 Company Prefix
+    int offset = COMPANY_PREFIX_OFFSET;
+    final int companyPrefixDigits = COMPANY_PREFIX_DIGITS[partition];
+    final long companyPrefix = read(words, offset, COMPANY_PREFIX_BITS[partition]);
+    if (companyPrefix >= POWERS_OF_TEN[companyPrefixDigits]) {
+      throw invalid(scheme, hex);
+    }
+    appendPadded(urn, companyPrefix, companyPrefixDigits);
+    offset += COMPANY_PREFIX_BITS[partition];
+
+    // Item reference, serial reference, location reference, asset type or asset reference
+    urn.append('.');
+    final int secondFieldBits = scheme.secondFieldBits(partition);
+    final int secondFieldDigits = scheme.secondFieldDigits(partition);
+    if (scheme.secondFieldAlphanumeric()) {
+      if (!appendAlphanumeric(urn, words, offset, secondFieldBits, secondFieldDigits)) {
+        throw invalid(scheme, hex);
+      }
+    } else {
+      final long value = read(words, offset, secondFieldBits);
+      if (secondFieldDigits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[secondFieldDigits]) {
+        throw invalid(scheme, hex);
+      }
+      if (scheme.secondFieldPadded()) {
+        appendPadded(urn, value, secondFieldDigits);
+      } else {
+        urn.append(value);
+      }
+    }
+    offset += secondFieldBits;
+
+    // Serial number, GLN extension or serial of the returnable asset
+    if (scheme.serialBits() > 0) {
+      urn.append('.');
+      if (scheme.serialAlphanumeric()) {
+        if (!appendAlphanumeric(
+            urn, words, offset, scheme.serialBits(), scheme.serialBits() / CHARACTER_BITS)) {
+          throw invalid(scheme, hex);
+        }
+      } else {
+        urn.append(read(words, offset, scheme.serialBits()));
+      }
+    }
+    return new EpcTag(scheme, filter, urn.toString());
+  }
+
+  private static int headerOf(final CharSequence hex) {
+    final int high = Character.digit(hex.charAt(0), 16);
+    final int low = Character.digit(hex.charAt(1), 16);
+    return high < 0 || low < 0 ? -1 : high << 4 | low;
+  }
+
+  private static ValidationException invalid(final EpcScheme scheme, final CharSequence hex) {
+    return new ValidationException(String.format(INVALID_HEX_MESSAGE, scheme.tagName(), hex));
+  }
+}
@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.tag;
+
+import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
+import io.openepcis.core.exception.ValidationException;
+import io.openepcis.identifiers.converter.Converter;
+import io.openepcis.identifiers.validator.ValidationContext;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.core.epcis.compliant.GIAIValidator;
+import io.openepcis.identifiers.validator.core.epcis.compliant.GRAIValidator;
+import io.openepcis.identifiers.validator.core.epcis.compliant.SGLNValidator;
+import io.openepcis.identifiers.validator.core.epcis.compliant.SGTINValidator;
+import io.openepcis.identifiers.validator.core.epcis.compliant.SSCCValidator;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static io.openepcis.identifiers.converter.tag.EpcBits.*;
+import static io.openepcis.identifiers.converter.tag.EpcScheme.*;
+
+/**
+ * Encoder of pure identity EPC URIs into the EPC binary encodings written to the EPC memory bank of
+ * RFID tags, the reverse of {@link EpcTagDecoder}. The URN is validated with the validator of its
+ * identifier and its fields are written straight into packed {@code long} words, which are copied
+ * into the caller provided {@code byte[]} or {@link ByteBuffer} padded to whole 16 bit words.
+ *
+ * <p>Unless a scheme is requested, the 96 bit scheme is used if the identifier fits into it, else
+ * the scheme supporting alphanumeric serials. Instances are thread safe.
+ */
+public class EpcTagEncoder {
+
+  private static final String INVALID_URN_MESSAGE =
+      "Provided URN can not be encoded as %s.%nPlease check the URN: %s";
+  private static final String UNSUPPORTED_URN_MESSAGE =
+      "Provided URN has no supported EPC binary encoding.%nPlease check the URN: %s";
+  private static final String INVALID_FILTER_MESSAGE =
+      "Provided filter value %d is not in the range 0-7";
+  private static final String INVALID_RANGE_MESSAGE =
+      "Serial range of %d EPCs starting at the provided URN can not be encoded as %s."
+          + "%nPlease check the URN: %s";
+
+  private static final ValidationContext URN_CONTEXT = ValidationContext.defaultContext();
+
+  private static final Family[] FAMILIES = {
+    new Family(SGTIN_96, SGTIN_198, new SGTINValidator()),
+    new Family(SSCC_96, null, new SSCCValidator()),
+    new Family(SGLN_96, SGLN_195, new SGLNValidator()),
+    new Family(GRAI_96, GRAI_170, new GRAIValidator()),
+    new Family(GIAI_96, GIAI_202, new GIAIValidator())
+  };
+
+  private final Converter converter;
+
+  public EpcTagEncoder() {
+    this(new Converter());
+  }
+
+  /**
+   * @param converter converter used to translate Digital Link WebURI into URN before encoding
+   */
+  public EpcTagEncoder(final Converter converter) {
+    this.converter = converter;
+  }
+
+  /**
+   * Method to encode the URN into the binary encoding of the smallest scheme it fits into.
+   *
+   * @param urn pure identity EPC URI ex: urn:epc:id:sgtin:0614141.812345.6789
+   * @param filter filter value (0-7) ex: 3 for retail consumer trade item
+   * @param target array receiving the EPC
+   * @param offset index of the first byte written
+   * @return number of bytes written ex: 12 for SGTIN-96
+   * @throws ValidationException throws the exception if the URN is invalid or can not be encoded
+   */
+  public int encode(final String urn, final int filter, final byte[] target, final int offset)
+      throws ValidationException {
+    return encode(urn, null, filter, target, offset);
+  }
+
+  /**
+   * Method to encode the URN into the binary encoding of the requested scheme.
+   *
+   * @param urn pure identity EPC URI ex: urn:epc:id:sgtin:0614141.812345.6789
+   * @param scheme binary encoding scheme, null to select the smallest scheme the URN fits into
+   * @param filter filter value (0-7)
+   * @param target array receiving the EPC
+   * @param offset index of the first byte written
+   * @return number of bytes written
+   * @throws ValidationException throws the exception if the URN is invalid or can not be encoded
+   *     using the scheme
+   */
+  public int encode(
+      final String urn,
+      final EpcScheme scheme,
+      final int filter,
+      final byte[] target,
+      final int offset)
+      throws ValidationException {
+    final long[] words = new long[MAX_WORDS];
+    final int length = byteLength(encode(urn, scheme, filter, words));
+    Objects.checkFromIndexSize(offset, length, target.length);
+    toBytes(words, length, target, offset);
+    return length;
+  }
+
+  /**
+   * Method to encode the URN into the binary encoding of the smallest scheme it fits into.
+   *
+   * @param urn pure identity EPC URI ex: urn:epc:id:sgtin:0614141.812345.6789
+   * @param filter filter value (0-7)
+   * @param target buffer receiving the EPC at its current position
+   * @return number of bytes written
+   * @throws ValidationException throws the exception if the URN is invalid or can not be encoded
+   */
+  public int encode(final String urn, final int filter, final ByteBuffer target)
+      throws ValidationException {
+    return encode(urn, null, filter, target);
+  }
+
+  /**
+   * Method to encode the URN into the binary encoding of the requested scheme.
+   *
+   * @param urn pure identity EPC URI ex: urn:epc:id:sgtin:0614141.812345.6789
+   * @param scheme binary encoding scheme, null to select the smallest scheme the URN fits into
+   * @param filter filter value (0-7)
+   * @param target buffer receiving the EPC at its current position
+   * @return number of bytes written
+   * @throws ValidationException throws the exception if the URN is invalid or can not be encoded
+   *     using the scheme
+   */
+  public int encode(
+      final String urn, final EpcScheme scheme, final int filter, final ByteBuffer target)
+      throws ValidationException {
+    final long[] words = new long[MAX_WORDS];
+    final int length = byteLength(encode(urn, scheme, filter, words));
+    toBytes(words, length, target);
+    return length;
+  }
+
+  /**
+   * Method to encode the URN into the hex representation of the binary encoding.
+   *
+   * @param urn pure identity EPC URI ex: urn:epc:id:sgtin:0614141.812345.6789
+   * @param filter filter value (0-7) ex: 3
+   * @return the EPC as upper case hex ex: 3074257BF7194E4000001A85
+   * @throws ValidationException throws the exception if the URN is invalid or can not be encoded
+   */
+  public String encodeToHex(final String urn, final int filter) throws ValidationException {
+    final long[] words = new long[MAX_WORDS];
+    final EpcScheme scheme = encode(urn, null, filter, words);
+    final StringBuilder hex = new StringBuilder(scheme.hexLength());
+    appendHex(hex, words, scheme.hexLength());
+    return hex.toString();
+  }
+
+  /**
+   * Method to encode the Digital Link WebURI, which is converted into URN using {@link
+   * Converter#toEpcConversion(String)} first.
+   *
+   * @param dlURI Instance level DigitalLink URI ex: https://id.gs1.org/01/80614141123458/21/6789
+   * @param filter filter value (0-7)
+   * @param target array receiving the EPC
+   * @param offset index of the first byte written
+   * @return number of bytes written
+   * @throws ValidationException throws the exception if the URI is invalid or can not be encoded
+   */
+  public int encodeDigitalLink(
+      final String dlURI, final int filter, final byte[] target, final int offset)
+      throws ValidationException {
+    return encode(converter.toEpcConversion(dlURI).asURN(), filter, target, offset);
+  }
+
+  /**
+   * Method to encode consecutive EPCs, ex: for commissioning a run of tags for the same GTIN. The
+   * URN is encoded once, afterwards only the serial field of the packed words is incremented for
+   * every further EPC. The EPCs are written back to back into the array.
+   *
+   * @param urn pure identity EPC URI of the first EPC of the range ex:
+   *     urn:epc:id:sgtin:0614141.812345.1000
+   * @param filter filter value (0-7)
+   * @param count number of EPCs to encode
+   * @param target array receiving the EPCs
+   * @param offset index of the first byte written
+   * @return number of bytes written
+   * @throws ValidationException throws the exception if the URN is invalid, has no numeric serial
+   *     or the last serial of the range does not fit into the scheme
+   */
+  public int encodeSerialRange(
+      final String urn, final int filter, final int count, final byte[] target, final int offset)
+      throws ValidationException {
+    final long[] words = new long[MAX_WORDS];
+    final EpcScheme scheme = encode(urn, null, filter, words);
+    final int length = byteLength(scheme);
+    Objects.checkFromIndexSize(offset, Math.multiplyExact(length, count), target.length);
+
+    final SerialField serial = serialField(scheme, words, urn, count);
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        serial.increment(words);
+      }
+      toBytes(words, length, target, offset + i * length);
+    }
+    return length * count;
+  }
+
+  /**
+   * Method to encode consecutive EPCs back to back into the buffer, see {@link
+   * #encodeSerialRange(String, int, int, byte[], int)}.
+   *
+   * @param urn pure identity EPC URI of the first EPC of the range
+   * @param filter filter value (0-7)
+   * @param count number of EPCs to encode
+   * @param target buffer receiving the EPCs at its current position
+   * @return number of bytes written
+   * @throws ValidationException throws the exception if the URN is invalid, has no numeric serial
+   *     or the last serial of the range does not fit into the scheme
+   */
+  public int encodeSerialRange(
+      final String urn, final int filter, final int count, final ByteBuffer target)
+      throws ValidationException {
+    final long[] words = new long[MAX_WORDS];
+    final EpcScheme scheme = encode(urn, null, filter, words);
+    final int length = byteLength(scheme);
+    final SerialField serial = serialField(scheme, words, urn, count);
+    if (target.remaining() < Math.multiplyExact(length, count)) {
+      throw new BufferOverflowException();
+    }
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        serial.increment(words);
+      }
+      toBytes(words, length, target);
+    }
+    return length * count;
+  }
+
+  private EpcScheme encode(
+      final String urn, final EpcScheme requested, final int filter, final long[] words) {
+    if (filter < 0 || filter > 7) {
+      throw new ValidationException(String.format(INVALID_FILTER_MESSAGE, filter));
+    }
+    final Family family = familyOf(urn);
+    if (family == null) {
+      throw new UnsupportedGS1IdentifierException(String.format(UNSUPPORTED_URN_MESSAGE, urn));
+    }
+    if (requested != null && requested != family.compact() && requested != family.extended()) {
+      throw invalid(requested, urn);
+    }
+    family.validator().check(urn, URN_CONTEXT).throwIfInvalid();
+
+    final int companyPrefixStart = family.compact().identityPrefix().length();
+    final int companyPrefixEnd = urn.indexOf('.', companyPrefixStart);
+    final int partition = 12 - (companyPrefixEnd - companyPrefixStart);
+    if (companyPrefixEnd < 0 || partition < 0 || partition >= COMPANY_PREFIX_BITS.length) {
+      throw invalid(requested != null ? requested : family.compact(), urn);
+    }
+
+    if (requested != null) {
+      if (!encodeFields(requested, filter, partition, urn, companyPrefixStart, words)) {
+        throw invalid(requested, urn);
+      }
+      return requested;
+    }
+    if (encodeFields(family.compact(), filter, partition, urn, companyPrefixStart, words)) {
+      return family.compact();
+    }
+    if (family.extended() != null
+        && encodeFields(family.extended(), filter, partition, urn, companyPrefixStart, words)) {
+      return family.extended();
+    }
+    throw invalid(family.compact(), urn);
+  }
+
+  // Writes all fields of the scheme, false if the URN does not fit into the scheme
+  private static boolean encodeFields(
+      final EpcScheme scheme,
+      final int filter,
+      final int partition,
+      final String urn,
+      final int companyPrefixStart,
+      final long[] words) {
+    Arrays.fill(words, 0L);
+    write(words, 0, HEADER_BITS, scheme.header());
+    write(words, HEADER_BITS, FILTER_BITS, filter);
+    write(words, HEADER_BITS + FILTER_BITS, PARTITION_BITS, partition);
+
+    // GS1 Company Prefix
+    int offset = COMPANY_PREFIX_OFFSET;
+    final int companyPrefixEnd = companyPrefixStart + COMPANY_PREFIX_DIGITS[partition];
+    final long companyPrefix = parseDigits(urn, companyPrefixStart, companyPrefixEnd);
+    if (companyPrefix < 0) {
+      return false;
+    }
+    write(words, offset, COMPANY_PREFIX_BITS[partition], companyPrefix);
+    offset += COMPANY_PREFIX_BITS[partition];
+
+    // Item reference, serial reference, location reference, asset type or asset reference
+    // The field runs to the end of the URN if there is no serial, GIAI asset references may
+    // contain dots
+    final int secondStart = companyPrefixEnd + 1;
+    final boolean hasSerial = scheme.serialBits() > 0;
+    final int separator = hasSerial ? urn.indexOf('.', secondStart) : -1;
+    if (hasSerial && separator < 0) {
+      return false;
+    }
+    final int secondEnd = hasSerial ? separator : urn.length();
+    final int secondFieldBits = scheme.secondFieldBits(partition);
+    final int secondFieldDigits = scheme.secondFieldDigits(partition);
+    if (scheme.secondFieldAlphanumeric()) {
+      if (!writeAlphanumeric(words, offset, secondFieldDigits, urn, secondStart, secondEnd)) {
+        return false;
+      }
+    } else {
+      final long value;
+      if (scheme.secondFieldPadded()) {
+        if (secondEnd - secondStart != secondFieldDigits) {
+          return false;
+        }
+        value = secondFieldDigits == 0 ? 0 : parseDigits(urn, secondStart, secondEnd);
+      } else {
+        value = parseInteger(urn, secondStart, secondEnd, secondFieldBits);
+        if (secondFieldDigits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[secondFieldDigits]) {
+          return false;
+        }
+      }
+      if (value < 0) {
+        return false;
+      }
+      write(words, offset, secondFieldBits, value);
+    }
+    offset += secondFieldBits;
+
+    // Serial number, GLN extension or serial of the returnable asset
+    if (!hasSerial) {
+      return true;
+    }
+    if (scheme.serialAlphanumeric()) {
+      return writeAlphanumeric(
+          words,
+          offset,
+          scheme.serialBits() / CHARACTER_BITS,
+          urn,
+          separator + 1,
+          urn.length());
+    }
+    final long serial = parseInteger(urn, separator + 1, urn.length(), scheme.serialBits());
+    if (serial < 0) {
+      return false;
+    }
+    write(words, offset, scheme.serialBits(), serial);
+    return true;
+  }
+
+  // Integer field of the binary encoding, -1 if it has leading zeros or does not fit into the bits
+  private static long parseInteger(
+      final String urn, final int start, final int end, final int bits) {
+    if (end - start > 1 && urn.charAt(start) == '0') {
+      return -1;
+    }
+    final long value = parseDigits(urn, start, end);
+    return value < 0 || bits < 64 && value >>> bits != 0 ? -1 : value;
+  }
+
+  // Numeric field incremented for every EPC of a serial range
+  private static SerialField serialField(
+      final EpcScheme scheme, final long[] words, final String urn, final int count) {
+    final SerialField serial;
+    if (scheme.serialBits() > 0 && !scheme.serialAlphanumeric()) {
+      serial =
+          new SerialField(
+              scheme.bitLength() - scheme.serialBits(),
+              scheme.serialBits(),
+              1L << scheme.serialBits());
+    } else if (scheme == SSCC_96 || scheme == GIAI_96) {
+      final int partition = (int) read(words, HEADER_BITS + FILTER_BITS, PARTITION_BITS);
+      final int digits = scheme.secondFieldDigits(partition);
+      serial =
+          new SerialField(
+              COMPANY_PREFIX_OFFSET + COMPANY_PREFIX_BITS[partition],
+              scheme.secondFieldBits(partition),
+              digits < POWERS_OF_TEN.length ? POWERS_OF_TEN[digits] : Long.MAX_VALUE);
+    } else {
+      throw new ValidationException(
+          String.format(INVALID_RANGE_MESSAGE, count, scheme.tagName(), urn));
+    }
+
+    final long first = read(words, serial.offset(), serial.width());
+    if (count < 0 || count > 0 && first > serial.limit() - count) {
+      throw new ValidationException(
+          String.format(INVALID_RANGE_MESSAGE, count, scheme.tagName(), urn));
+    }
+    return serial;
+  }
+
+  private static Family familyOf(final String urn) {
+    for (final Family family : FAMILIES) {
+      if (urn.startsWith(family.compact().identityPrefix())) {
+        return family;
+      }
+    }
+    return null;
+  }
+
+  // Bytes written for the scheme, padded to whole 16 bit words as stored in the EPC bank
+  private static int byteLength(final EpcScheme scheme) {
+    return scheme.hexLength() / 2;
+  }
+
+  private static ValidationException invalid(final EpcScheme scheme, final String urn) {
+    return new ValidationException(String.format(INVALID_URN_MESSAGE, scheme.tagName(), urn));
+  }
+
+  /**
+   * Schemes encoding the same identifier.
+   *
+   * @param compact 96 bit scheme
+   * @param extended scheme supporting alphanumeric serials, null if there is none
+   * @param validator validator of the URN
+   */
+  private record Family(
+      EpcScheme compact, EpcScheme extended, ApplicationIdentifierValidator validator) {}
+
+  /**
+   * Position of the numeric serial field in the packed words.
+   *
+   * @param offset bit offset of the field
+   * @param width bits of the field
+   * @param limit exclusive upper bound of the serial
+   */
+  private record SerialField(int offset, int width, long limit) {
+
+    private void increment(final long[] words) {
+      write(words, offset, width, read(words, offset, width) + 1);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.tag.tests;
+
+import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
+import io.openepcis.core.exception.ValidationException;
+import io.openepcis.identifiers.converter.ConversionResult;
+import io.openepcis.identifiers.converter.Converter;
+import io.openepcis.identifiers.converter.tag.EpcScheme;
+import io.openepcis.identifiers.converter.tag.EpcTag;
+import io.openepcis.identifiers.converter.tag.EpcTagDecoder;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpcTagDecoderTest {
+
+  private Converter converter;
+  private EpcTagDecoder decoder;
+
+  @BeforeEach
+  void before() {
+    converter = new Converter();
+    decoder = new EpcTagDecoder(converter);
+  }
+
+  @Test
+  void testSGTIN() {
+    final EpcTag tag = decoder.decode("3074257BF7194E4000001A85");
+    assertEquals(EpcScheme.SGTIN_96, tag.scheme());
+    assertEquals(3, tag.filter());
+    assertEquals("urn:epc:id:sgtin:0614141.812345.6789", tag.urn());
+    assertEquals("urn:epc:tag:sgtin-96:3.0614141.812345.6789", tag.tagURI());
+    assertEquals(converter.toURI(tag.urn()), decoder.decodeToURI("3074257bf7194e4000001a85"));
+
+    // Alphanumeric serial with a character escaped in the URN
+    assertEquals(
+        "urn:epc:id:sgtin:0614141.712345.32a%2Fb",
+        decoder.decodeToURN("3674257BF6B7A659B2C2BF100000000000000000000000000000"));
+  }
+
+  @Test
+  void testSSCC() {
+    final EpcTag tag = decoder.decode("3174257BF4499602D2000000");
+    assertEquals(EpcScheme.SSCC_96, tag.scheme());
+    assertEquals("urn:epc:id:sscc:0614141.1234567890", tag.urn());
+    assertEquals(converter.toURI(tag.urn()), decoder.decodeToURI("3174257BF4499602D2000000"));
+  }
+
+  @Test
+  void testSGLN() {
+    assertEquals(
+        "urn:epc:id:sgln:0614141.12345.5678", decoder.decodeToURN("3274257BF46072000000162E"));
+    assertEquals(
+        "urn:epc:id:sgln:0614141.12345.32a%2Fb",
+        decoder.decodeToURN("3974257BF46072CD9615F8800000000000000000000000000000"));
+
+    // 12 digit GS1 Company Prefix leaves no digits for the location reference
+    final EpcTag tag = decoder.decode("3220393243F1640000000000");
+    assertEquals(1, tag.filter());
+    assertEquals("urn:epc:id:sgln:061414112345..0", tag.urn());
+    assertEquals(converter.toURI(tag.urn()), decoder.decodeToURI("3220393243F1640000000000"));
+  }
+
+  @Test
+  void testGRAI() {
+    assertEquals(
+        "urn:epc:id:grai:0614141.12345.5678", decoder.decodeToURN("3374257BF40C0E400000162E"));
+    assertEquals(
+        "urn:epc:id:grai:0614141.12345.32a%2Fb",
+        decoder.decodeToURN("3774257BF40C0E59B2C2BF1000000000000000000000"));
+  }
+
+  @Test
+  void testGIAI() {
+    assertEquals("urn:epc:id:giai:0614141.5678", decoder.decodeToURN("3474257BF40000000000162E"));
+    assertEquals(
+        "urn:epc:id:giai:0614141.12345ABc%25",
+        decoder.decodeToURN("3874257BF58B266D1AC1858D2800000000000000000000000000"));
+  }
+
+  @Test
+  void testInvalidEncodings() {
+    // Unknown header
+    assertThrows(UnsupportedGS1IdentifierException.class, () -> decoder.decode("FF00"));
+    // Partition value 7 is not defined
+    assertThrows(ValidationException.class, () -> decoder.decode("307C257BF7194E4000001A85"));
+    // Too short for SGTIN-96
+    assertThrows(ValidationException.class, () -> decoder.decode("3074257BF7194E4000001A8"));
+    // Not a hex character
+    assertThrows(ValidationException.class, () -> decoder.decode("3074257BF7194E400000XA85"));
+    // Non zero bits after the terminating character of the alphanumeric serial
+    assertThrows(
+        ValidationException.class,
+        () -> decoder.decode("3674257BF6B7A659B2C2BF100000000000000000100000000000"));
+  }
+
+  @Test
+  void testBatch() {
+    final List<ConversionResult<String>> results =
+        decoder.decodeToURIBatch(
+            List.of("3074257BF7194E4000001A85", "FF00", "3174257BF4499602D2000000"));
+    assertEquals(3, results.size());
+    assertEquals("3074257BF7194E4000001A85", results.get(0).identifier());
+    assertEquals(converter.toURI("urn:epc:id:sgtin:0614141.812345.6789"), results.get(0).value());
+    assertEquals(ValidationErrorCode.UNSUPPORTED_IDENTIFIER, results.get(1).errorCode());
+    assertEquals(converter.toURI("urn:epc:id:sscc:0614141.1234567890"), results.get(2).value());
+
+    final List<ConversionResult<String>> urns =
+        decoder.decodeToURNBatch(List.of("3374257BF40C0E400000162E", "307C257BF7194E4000001A85"));
+    assertEquals("urn:epc:id:grai:0614141.12345.5678", urns.get(0).value());
+    assertFalse(urns.get(1).isSuccess());
+  }
+}
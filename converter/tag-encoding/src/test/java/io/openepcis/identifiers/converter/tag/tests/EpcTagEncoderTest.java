@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.converter.tag.tests;
+
+import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
+import io.openepcis.core.exception.ValidationException;
+import io.openepcis.identifiers.converter.Converter;
+import io.openepcis.identifiers.converter.tag.EpcScheme;
+import io.openepcis.identifiers.converter.tag.EpcTagDecoder;
+import io.openepcis.identifiers.converter.tag.EpcTagEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpcTagEncoderTest {
+
+  private Converter converter;
+  private EpcTagEncoder encoder;
+  private EpcTagDecoder decoder;
+
+  @BeforeEach
+  void before() {
+    converter = new Converter();
+    encoder = new EpcTagEncoder(converter);
+    decoder = new EpcTagDecoder(converter);
+  }
+
+  @Test
+  void testRoundTrip() {
+    final List<String> urns =
+        List.of(
+            "urn:epc:id:sgtin:0614141.812345.6789",
+            "urn:epc:id:sgtin:0614141.712345.32a%2Fb",
+            "urn:epc:id:sgtin:0614141.712345.0123",
+            "urn:epc:id:sscc:0614141.1234567890",
+            "urn:epc:id:sgln:0614141.12345.5678",
+            "urn:epc:id:sgln:0614141.12345.32a%2Fb",
+            "urn:epc:id:sgln:061414112345..0",
+            "urn:epc:id:grai:0614141.12345.5678",
+            "urn:epc:id:grai:0614141.12345.32a%2Fb",
+            "urn:epc:id:giai:0614141.5678",
+            "urn:epc:id:giai:0614141.12345ABc%25");
+    for (final String urn : urns) {
+      assertEquals(urn, decoder.decodeToURN(encoder.encodeToHex(urn, 3)), urn);
+    }
+  }
+
+  @Test
+  void testSchemeSelection() {
+    assertEquals("3074257BF7194E4000001A85", encoder.encodeToHex("urn:epc:id:sgtin:0614141.812345.6789", 3));
+    // Leading zeros and characters do not fit into the integer serial of SGTIN-96
+    assertEquals(
+        EpcScheme.SGTIN_198,
+        decoder.decode(encoder.encodeToHex("urn:epc:id:sgtin:0614141.712345.0123", 3)).scheme());
+    assertEquals(
+        "3674257BF6B7A659B2C2BF100000000000000000000000000000",
+        encoder.encodeToHex("urn:epc:id:sgtin:0614141.712345.32a%2Fb", 3));
+    // Largest serial of SGTIN-96 is 2^38 - 1
+    assertEquals(
+        EpcScheme.SGTIN_96,
+        decoder.decode(encoder.encodeToHex("urn:epc:id:sgtin:0614141.812345.274877906943", 0)).scheme());
+    assertEquals(
+        EpcScheme.SGTIN_198,
+        decoder.decode(encoder.encodeToHex("urn:epc:id:sgtin:0614141.812345.274877906944", 0)).scheme());
+  }
+
+  @Test
+  void testEncodeIntoTarget() {
+    final byte[] target = new byte[20];
+    assertEquals(12, encoder.encode("urn:epc:id:sgtin:0614141.812345.6789", 3, target, 4));
+    assertEquals(
+        "000000003074257BF7194E4000001A8500000000", HexFormat.of().withUpperCase().formatHex(target));
+
+    final ByteBuffer buffer = ByteBuffer.allocate(32);
+    assertEquals(
+        26, encoder.encode("urn:epc:id:sgtin:0614141.812345.6789", EpcScheme.SGTIN_198, 3, buffer));
+    assertEquals(26, buffer.position());
+    buffer.flip();
+    final byte[] written = new byte[buffer.remaining()];
+    buffer.get(written);
+    assertEquals(
+        "urn:epc:id:sgtin:0614141.812345.6789",
+        decoder.decodeToURN(HexFormat.of().formatHex(written)));
+
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> encoder.encode("urn:epc:id:sgtin:0614141.812345.6789", 3, new byte[12], 1));
+  }
+
+  @Test
+  void testEncodeDigitalLink() {
+    final byte[] target = new byte[12];
+    encoder.encodeDigitalLink("https://id.gs1.org/01/80614141123458/21/6789", 3, target, 0);
+    assertEquals(
+        converter.toURN("https://id.gs1.org/01/80614141123458/21/6789").get("asURN"),
+        decoder.decodeToURN(HexFormat.of().formatHex(target)));
+  }
+
+  @Test
+  void testSerialRange() {
+    final byte[] target = new byte[36];
+    assertEquals(
+        36, encoder.encodeSerialRange("urn:epc:id:sgtin:0614141.812345.999", 1, 3, target, 0));
+    final String hex = HexFormat.of().formatHex(target);
+    assertEquals("urn:epc:tag:sgtin-96:1.0614141.812345.999", decoder.decode(hex.substring(0, 24)).tagURI());
+    assertEquals("urn:epc:id:sgtin:0614141.812345.1000", decoder.decodeToURN(hex.substring(24, 48)));
+    assertEquals("urn:epc:id:sgtin:0614141.812345.1001", decoder.decodeToURN(hex.substring(48)));
+
+    final ByteBuffer buffer = ByteBuffer.allocate(24);
+    encoder.encodeSerialRange("urn:epc:id:sscc:0614141.1234567890", 0, 2, buffer);
+    assertEquals(
+        "urn:epc:id:sscc:0614141.1234567891",
+        decoder.decodeToURN(HexFormat.of().formatHex(buffer.array(), 12, 24)));
+
+    // Last serial of the range exceeds 2^38 - 1
+    assertThrows(
+        ValidationException.class,
+        () ->
+            encoder.encodeSerialRange(
+                "urn:epc:id:sgtin:0614141.812345.274877906942", 1, 3, new byte[36], 0));
+    // Alphanumeric serials can not be incremented
+    assertThrows(
+        ValidationException.class,
+        () -> encoder.encodeSerialRange("urn:epc:id:sgtin:0614141.812345.A1", 1, 2, new byte[52], 0));
+  }
+
+  @Test
+  void testInvalidInput() {
+    assertThrows(
+        ValidationException.class,
+        () -> encoder.encodeToHex("urn:epc:id:sgtin:0614141.812345.6789", 8));
+    assertThrows(
+        UnsupportedGS1IdentifierException.class,
+        () -> encoder.encodeToHex("urn:epc:id:gdti:0614141.12345.006847", 0));
+    // Rejected by the SGTIN validator
+    assertThrows(
+        ValidationException.class, () -> encoder.encodeToHex("urn:epc:id:sgtin:12345.1123.9999", 0));
+    // Scheme of another identifier
+    assertThrows(
+        ValidationException.class,
+        () ->
+            encoder.encode(
+                "urn:epc:id:sgtin:0614141.812345.6789", EpcScheme.SSCC_96, 0, new byte[12], 0));
+    // Alphanumeric serial does not fit into SGTIN-96
+    assertThrows(
+        ValidationException.class,
+        () ->
+            encoder.encode(
+                "urn:epc:id:sgtin:0614141.812345.A1", EpcScheme.SGTIN_96, 0, new byte[12], 0));
+  }
+}
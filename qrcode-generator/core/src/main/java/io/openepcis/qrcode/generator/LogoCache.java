@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.qrcode.generator;
+
+import io.openepcis.qrcode.generator.exception.QrCodeGeneratorException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the decoded logos drawn in the centre of the QR codes, together with the logos scaled to the
+ * requested logo sizes, so that a logo is neither read nor decoded nor scaled again for every QR code.
+ *
+ * <p>Cached logos are checked for changes before they are used:
+ *
+ * <ul>
+ *   <li>Files, given by a relative path or a {@code file:} URL, are read again when their modification time
+ *       or length changes.
+ *   <li>HTTP logos are revalidated with a conditional request (ETag and Last-Modified) at most once per
+ *       {@link #REVALIDATE_AFTER_SECONDS}, all remote requests are bounded by {@link #TIMEOUT_MILLIS}. If the
+ *       revalidation fails, ex: times out, the cached logo is used until the next revalidation.
+ *   <li>Other URLs, ex: the {@code jar:} resources of the design presets, never change.
+ * </ul>
+ *
+ * <p>The cache is bounded by the bytes of the decoded and scaled pixels, the least recently used logos are
+ * evicted first. Logos larger than a share of the bound are not cached, ex: a large remote logo of a single
+ * request. Cached images are shared across threads and must not be modified.
+ */
+@Slf4j
+final class LogoCache {
+
+    static final LogoCache INSTANCE = new LogoCache(32L << 20);
+
+    // Connect and read timeout of remote logos
+    static final int TIMEOUT_MILLIS = 5000;
+
+    // Interval after which a remote logo is revalidated
+    static final long REVALIDATE_AFTER_SECONDS = 60;
+
+    // Scaled sizes kept per logo, logos are usually drawn in a handful of sizes only
+    private static final int MAX_SCALED_SIZES = 8;
+
+    // Logos larger than this share of the cache are not cached, so that a single logo never evicts most others
+    private static final int MAX_ENTRY_SHARE = 8;
+
+    private final long maxBytes;
+    private final int timeoutMillis;
+    private final long revalidateAfterNanos;
+
+    // Least recently used logos are evicted first, guarded by itself
+    private final Map<String, Logo> logos = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    LogoCache(final long maxBytes) {
+        this(maxBytes, TIMEOUT_MILLIS, TimeUnit.SECONDS.toNanos(REVALIDATE_AFTER_SECONDS));
+    }
+
+    // Package-private to test the revalidation of remote logos without waiting
+    LogoCache(final long maxBytes, final int timeoutMillis, final long revalidateAfterNanos) {
+        this.maxBytes = maxBytes;
+        this.timeoutMillis = timeoutMillis;
+        this.revalidateAfterNanos = revalidateAfterNanos;
+    }
+
+    /**
+     * Get the logo scaled to the given size.
+     *
+     * @param logoResourceUrl relative file path or URL of the logo
+     * @param width           width of the logo in pixels
+     * @param height          height of the logo in pixels
+     * @return the scaled logo or null if the logo cannot be decoded or the size is empty
+     * @throws QrCodeGeneratorException if the logo file does not exist
+     */
+    BufferedImage get(final String logoResourceUrl, final int width, final int height) throws IOException, URISyntaxException {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+
+        Logo logo;
+        synchronized (logos) {
+            logo = logos.get(logoResourceUrl);
+        }
+        if (logo == null || !logo.validator.isCurrent(revalidateAfterNanos)) {
+            // Loaded outside the lock, a slow remote logo must not block the other logos
+            logo = load(logoResourceUrl, logo);
+            if (logo == null) {
+                return null;
+            }
+        }
+
+        final BufferedImage scaled = logo.scaled(width, height);
+        synchronized (logos) {
+            final long addedBytes = logo.takeAddedBytes();
+            final Logo cached = logos.get(logoResourceUrl);
+            if (logo.bytes > maxBytes / MAX_ENTRY_SHARE) {
+                if (cached != null) {
+                    logos.remove(logoResourceUrl);
+                    cachedBytes -= cached == logo ? logo.bytes - addedBytes : cached.bytes;
+                }
+            } else if (cached != logo) {
+                logos.put(logoResourceUrl, logo);
+                cachedBytes += logo.bytes - (cached == null ? 0 : cached.bytes);
+                evict(logo);
+            } else {
+                cachedBytes += addedBytes;
+                evict(logo);
+            }
+        }
+        return scaled;
+    }
+
+    /**
+     * Get the version of the logo, which changes whenever the logo drawn for the URL changes.
+     *
+     * @param logoResourceUrl relative file path or URL of the logo
+     * @return modification time and length of a logo file, ETag or Last-Modified of a cached HTTP logo that needs
+     * no revalidation, a constant for other URLs, or null if the version is unknown
+     */
+    String version(final String logoResourceUrl) {
+        final URI logoUri;
+        try {
+            logoUri = new URI(logoResourceUrl);
+            if (!logoUri.isAbsolute()) {
+                return fileVersion(new File(logoResourceUrl));
+            }
+            if ("file".equalsIgnoreCase(logoUri.getScheme())) {
+                return fileVersion(new File(logoUri));
+            }
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+
+        if (!"http".equalsIgnoreCase(logoUri.getScheme()) && !"https".equalsIgnoreCase(logoUri.getScheme())) {
+            return "immutable";
+        }
+        final Logo logo;
+        synchronized (logos) {
+            logo = logos.get(logoResourceUrl);
+        }
+        if (logo == null || !logo.validator.isCurrent(revalidateAfterNanos)) {
+            return null;
+        }
+        final Validator validator = logo.validator;
+        if (validator.entityTag() != null) {
+            return "etag:" + validator.entityTag();
+        }
+        return validator.lastModified() > 0 ? "modified:" + validator.lastModified() : null;
+    }
+
+    private static String fileVersion(final File logoFile) {
+        return logoFile.isFile() ? "file:" + logoFile.lastModified() + ":" + logoFile.length() : null;
+    }
+
+    void clear() {
+        synchronized (logos) {
+            logos.clear();
+            cachedBytes = 0;
+        }
+    }
+
+    // Evict the least recently used logos beyond the size bound, except the logo just used
+    private void evict(final Logo used) {
+        final Iterator<Logo> eldest = logos.values().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            final Logo logo = eldest.next();
+            if (logo != used) {
+                cachedBytes -= logo.bytes;
+                eldest.remove();
+            }
+        }
+    }
+
+    // Read and decode the logo, the previous version is kept if a remote logo has not been modified or cannot be
+    // revalidated
+    private Logo load(final String logoResourceUrl, final Logo previous) throws IOException, URISyntaxException {
+        final URI logoUri = new URI(logoResourceUrl);
+
+        if (!logoUri.isAbsolute()) {
+            // Treat as a relative file path
+            return loadFile(new File(logoResourceUrl), "Relative logo file not found: ");
+        }
+
+        final URL logoUrl = logoUri.toURL();
+        if ("file".equalsIgnoreCase(logoUrl.getProtocol())) {
+            return loadFile(new File(logoUrl.toURI()), "Logo file not found: ");
+        }
+
+        final URLConnection connection = logoUrl.openConnection();
+        connection.setConnectTimeout(timeoutMillis);
+        connection.setReadTimeout(timeoutMillis);
+
+        if (!(connection instanceof HttpURLConnection http)) {
+            try (InputStream in = connection.getInputStream()) {
+                return Logo.of(ImageIO.read(in), Validator.IMMUTABLE);
+            }
+        }
+
+        if (previous != null && previous.validator.entityTag() != null) {
+            http.setRequestProperty("If-None-Match", previous.validator.entityTag());
+        }
+        if (previous != null && previous.validator.lastModified() > 0) {
+            http.setIfModifiedSince(previous.validator.lastModified());
+        }
+        try {
+            if (previous != null && http.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return previous.revalidated();
+            }
+            final Logo logo;
+            try (InputStream in = http.getInputStream()) {
+                logo = Logo.of(ImageIO.read(in), Validator.remote(http.getHeaderField("ETag"), http.getLastModified()));
+            }
+            if (logo == null && previous != null) {
+                log.warn("Modified logo {} cannot be decoded, using the cached logo", logoResourceUrl);
+                return previous.revalidated();
+            }
+            return logo;
+        } catch (IOException e) {
+            if (previous == null) {
+                throw e;
+            }
+            log.warn("Revalidation of logo {} failed, using the cached logo: {}", logoResourceUrl, e.getMessage());
+            return previous.revalidated();
+        } finally {
+            http.disconnect();
+        }
+    }
+
+    private static Logo loadFile(final File logoFile, final String notFoundMessage) throws IOException {
+        // Modification time and length are taken before reading, a concurrent change is detected next time
+        final long lastModified = logoFile.lastModified();
+        final long length = logoFile.length();
+        if (!logoFile.exists()) {
+            log.error(notFoundMessage + logoFile.getAbsolutePath());
+            throw new QrCodeGeneratorException(notFoundMessage + logoFile.getAbsolutePath());
+        }
+        return Logo.of(ImageIO.read(logoFile), Validator.file(logoFile, lastModified, length));
+    }
+
+    /**
+     * Change detection of a cached logo.
+     *
+     * @param file         logo file, null for URLs
+     * @param lastModified modification time of the file or Last-Modified of the HTTP response, 0 if unknown
+     * @param length       length of the file
+     * @param entityTag    ETag of the HTTP response, null if unknown
+     * @param checkedAt    {@link System#nanoTime()} of the last HTTP validation, 0 for other logos
+     */
+    private record Validator(File file, long lastModified, long length, String entityTag, long checkedAt) {
+
+        private static final Validator IMMUTABLE = new Validator(null, 0, 0, null, 0);
+
+        static Validator file(final File file, final long lastModified, final long length) {
+            return new Validator(file, lastModified, length, null, 0);
+        }
+
+        static Validator remote(final String entityTag, final long lastModified) {
+            return new Validator(null, lastModified, 0, entityTag, System.nanoTime());
+        }
+
+        boolean isCurrent(final long revalidateAfterNanos) {
+            if (file != null) {
+                return file.lastModified() == lastModified && file.length() == length;
+            }
+            return checkedAt == 0 || System.nanoTime() - checkedAt < revalidateAfterNanos;
+        }
+    }
+
+    private static final class Logo {
+        private final BufferedImage image;
+
+        // Scaled images keyed on width << 32 | height, guarded by itself
+        private final Map<Long, BufferedImage> scaled = new LinkedHashMap<>(4, 0.75f, true);
+
+        private volatile Validator validator;
+
+        // Bytes of the decoded and scaled pixels, updated while holding the lock of the cache
+        private long bytes;
+
+        // Bytes of the scaled images not yet accounted in the cache
+        private long addedBytes;
+
+        private Logo(final BufferedImage image, final Validator validator) {
+            this.image = image;
+            this.validator = validator;
+            this.bytes = pixelBytes(image);
+        }
+
+        static Logo of(final BufferedImage image, final Validator validator) {
+            return image == null ? null : new Logo(image, validator);
+        }
+
+        // Keep the logo until the next revalidation, after it has not been modified or could not be revalidated
+        Logo revalidated() {
+            validator = Validator.remote(validator.entityTag(), validator.lastModified());
+            return this;
+        }
+
+        // Scale with bicubic interpolation, same as drawing the logo scaled onto the QR code
+        BufferedImage scaled(final int width, final int height) {
+            final long size = (long) width << 32 | height;
+            synchronized (scaled) {
+                final BufferedImage cached = scaled.get(size);
+                if (cached != null) {
+                    return cached;
+                }
+
+                final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                final Graphics2D g2d = image.createGraphics();
+                try {
+                    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                    g2d.drawImage(this.image, 0, 0, width, height, null);
+                } finally {
+                    g2d.dispose();
+                }
+
+                scaled.put(size, image);
+                addedBytes += pixelBytes(image);
+                if (scaled.size() > MAX_SCALED_SIZES) {
+                    final Iterator<BufferedImage> eldest = scaled.values().iterator();
+                    addedBytes -= pixelBytes(eldest.next());
+                    eldest.remove();
+                }
+                return image;
+            }
+        }
+
+        // Take the bytes added by scaling since the last call, called while holding the lock of the cache
+        long takeAddedBytes() {
+            synchronized (scaled) {
+                final long added = addedBytes;
+                bytes += added;
+                addedBytes = 0;
+                return added;
+            }
+        }
+
+        private static long pixelBytes(final BufferedImage image) {
+            return (long) image.getWidth() * image.getHeight() * Integer.BYTES;
+        }
+    }
+}
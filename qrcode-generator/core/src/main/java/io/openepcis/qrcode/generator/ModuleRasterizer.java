@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.qrcode.generator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Writes square QR code modules of one solid colour straight into the {@code int[]} pixels of an ARGB
+ * {@link BufferedImage}, instead of filling a {@code Rectangle2D} through {@link Graphics2D} per module.
+ *
+ * <p>The output is pixel-identical to the antialiased Java2D fill of the module paint used by
+ * {@link QrCodeGenerator}: the coverage of each pixel is sampled the same way as the Marlin renderer does
+ * (256 sub-pixel columns, 8 sub-pixel rows, sample rows at the sub-pixel centres) and mapped to an alpha
+ * value with the same table, edge pixels are blended with the same 8-bit source-over arithmetic. Modules
+ * are filled one at a time in drawing order, the blended seams between neighbouring modules stay the same.
+ *
+ * <p>Only opaque colours on an opaque background are supported, see {@link #supports(QrCodeConfig)}. The
+ * sub-pixel grid and the rounding are copied from the Marlin renderer of the JDK, the modules are drawn by Java2D
+ * instead if the grid is configured with the {@code sun.java2d.renderer.subPixel_*} properties or if a probe
+ * fill on class initialization differs from the Java2D fill of the running JVM.
+ */
+@Slf4j
+final class ModuleRasterizer {
+
+    // Prefix of the Marlin properties changing the sub-pixel grid, ex: sun.java2d.renderer.subPixel_log2_X
+    private static final String SUBPIXEL_PROPERTIES = "sun.java2d.renderer.subPixel_";
+
+    private static final int SUBPIXELS_X = 256;
+    private static final int SUBPIXELS_Y = 8;
+
+    // Sub-pixel samples of a fully covered pixel
+    private static final int MAX_COVERAGE = SUBPIXELS_X * SUBPIXELS_Y;
+
+    // Covered sub-pixel samples -> alpha, rounded as done by the Marlin renderer
+    private static final int[] ALPHA_MAP = new int[MAX_COVERAGE + 1];
+
+    // MUL8[(a << 8) | b] = a * b / 255, rounded as done by the Java2D blending loops
+    private static final byte[] MUL8 = new byte[256 * 256];
+
+    // Whether the output is the same as the Java2D fill of the running JVM
+    private static final boolean MATCHES_JAVA2D;
+
+    static {
+        final int quarterCoverage = MAX_COVERAGE >> 2;
+        for (int i = 0; i <= MAX_COVERAGE; i++) {
+            ALPHA_MAP[i] = (i * 255 + quarterCoverage) / MAX_COVERAGE;
+        }
+        for (int a = 1; a < 256; a++) {
+            final int increment = (a << 16) + (a << 8) + a;
+            int value = increment + (1 << 23);
+            for (int b = 1; b < 256; b++) {
+                MUL8[(a << 8) | b] = (byte) (value >>> 24);
+                value += increment;
+            }
+        }
+        MATCHES_JAVA2D = !isSubpixelGridConfigured() && probe();
+        if (!MATCHES_JAVA2D) {
+            log.info("Square QR code modules are drawn by Java2D, the renderer of the JVM samples the edges differently");
+        }
+    }
+
+    private final int[] pixels;
+    private final int width;
+    private final int height;
+    private final int color;
+
+    // Coverage of the current module per pixel column, reused across modules
+    private int[] columnCoverage = new int[16];
+
+    ModuleRasterizer(final BufferedImage image, final Color color) {
+        if (image.getType() != BufferedImage.TYPE_INT_ARGB) {
+            throw new IllegalArgumentException("Only TYPE_INT_ARGB images are supported");
+        }
+        this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        this.width = image.getWidth();
+        this.height = image.getHeight();
+        this.color = color.getRGB();
+    }
+
+    /**
+     * Check if the modules of the configuration can be rasterized directly: square modules without shadows,
+     * filled with a gradient of one opaque colour on an opaque background.
+     *
+     * @param config effective configuration of the QR code
+     * @return true if {@link ModuleRasterizer} produces the same pixels as the Java2D module drawing
+     */
+    static boolean supports(final QrCodeConfig config) {
+        final Color start = config.getGradientStart();
+        final Color end = config.getGradientEnd();
+        final Color background = config.getBackgroundColor();
+        return MATCHES_JAVA2D
+                && config.getModuleShape() == QrCodeConfig.ModuleShape.SQUARE
+                && !(config.isDrawShadows() && config.getShadowColor() != null)
+                && start != null && end != null && background != null
+                && start.getRGB() == end.getRGB()
+                && start.getAlpha() == 255
+                && background.getAlpha() == 255;
+    }
+
+    /**
+     * Fill the square module at the given pixel position, same as filling a {@code Rectangle2D.Float} of
+     * the given size with antialiasing.
+     *
+     * @param x    left edge of the module in pixels
+     * @param y    top edge of the module in pixels
+     * @param size width and height of the module in pixels
+     */
+    void fillSquare(final float x, final float y, final float size) {
+        // Covered sub-pixel rows and columns, a sample is covered if its centre lies within the module
+        final int top = Math.max(subpixel(SUBPIXELS_Y * (double) y), 0);
+        final int bottom = Math.min(subpixel(SUBPIXELS_Y * ((double) y + size)), SUBPIXELS_Y * height);
+        final int left = Math.max(subpixel(SUBPIXELS_X * (double) x), 0);
+        final int right = Math.min(subpixel(SUBPIXELS_X * ((double) x + size)), SUBPIXELS_X * width);
+        if (top >= bottom || left >= right) {
+            return;
+        }
+
+        final int firstColumn = left / SUBPIXELS_X;
+        final int lastColumn = (right - 1) / SUBPIXELS_X;
+        final int columns = lastColumn - firstColumn + 1;
+        if (columnCoverage.length < columns) {
+            columnCoverage = new int[columns];
+        }
+        for (int c = 0; c < columns; c++) {
+            final int columnLeft = (firstColumn + c) * SUBPIXELS_X;
+            columnCoverage[c] = Math.min(right, columnLeft + SUBPIXELS_X) - Math.max(left, columnLeft);
+        }
+
+        // Columns which are fully covered in the horizontal direction
+        int fullFrom = 0;
+        while (fullFrom < columns && columnCoverage[fullFrom] != SUBPIXELS_X) {
+            fullFrom++;
+        }
+        int fullTo = columns;
+        while (fullTo > fullFrom && columnCoverage[fullTo - 1] != SUBPIXELS_X) {
+            fullTo--;
+        }
+
+        final int firstRow = top / SUBPIXELS_Y;
+        final int lastRow = (bottom - 1) / SUBPIXELS_Y;
+        for (int row = firstRow; row <= lastRow; row++) {
+            final int rowTop = row * SUBPIXELS_Y;
+            final int rows = Math.min(bottom, rowTop + SUBPIXELS_Y) - Math.max(top, rowTop);
+            final int offset = row * width + firstColumn;
+
+            if (rows == SUBPIXELS_Y) {
+                blend(offset, 0, fullFrom, rows);
+                Arrays.fill(pixels, offset + fullFrom, offset + fullTo, color);
+                blend(offset, fullTo, columns, rows);
+            } else {
+                blend(offset, 0, columns, rows);
+            }
+        }
+    }
+
+    // Blend the module colour into the columns [from, to) of the row starting at offset
+    private void blend(final int offset, final int from, final int to, final int rows) {
+        for (int c = from; c < to; c++) {
+            final int alpha = ALPHA_MAP[rows * columnCoverage[c]];
+            if (alpha == 0) {
+                continue;
+            }
+            if (alpha == 255) {
+                pixels[offset + c] = color;
+                continue;
+            }
+
+            final int destination = pixels[offset + c];
+            final int source = alpha << 8;
+            final int inverse = (255 - alpha) << 8;
+            final int red = mul8(source, color >>> 16) + mul8(inverse, destination >>> 16);
+            final int green = mul8(source, color >>> 8) + mul8(inverse, destination >>> 8);
+            final int blue = mul8(source, color) + mul8(inverse, destination);
+            pixels[offset + c] = 0xFF000000 | red << 16 | green << 8 | blue;
+        }
+    }
+
+    private static int mul8(final int factor, final int component) {
+        return MUL8[factor | (component & 0xFF)] & 0xFF;
+    }
+
+    private static boolean isSubpixelGridConfigured() {
+        for (final String property : System.getProperties().stringPropertyNames()) {
+            if (property.startsWith(SUBPIXEL_PROPERTIES)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Fill a few modules on fractional positions both ways, a renderer sampling differently changes their edges
+    private static boolean probe() {
+        final int side = 24;
+        final Color color = new Color(0x1A, 0x4D, 0x80);
+        final BufferedImage rasterized = probeImage(side);
+        final BufferedImage drawn = probeImage(side);
+        final ModuleRasterizer rasterizer = new ModuleRasterizer(rasterized, color);
+        final Graphics2D g2d = drawn.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setPaint(new GradientPaint(0, 0, color, side, side, color));
+            final float size = 2.71f;
+            for (int i = 0; i < 8; i++) {
+                final float x = 0.13f + i * size;
+                final float y = 0.37f + (i * 5 % 8) * size;
+                rasterizer.fillSquare(x, y, size);
+                g2d.fill(new Rectangle2D.Float(x, y, size, size));
+            }
+        } finally {
+            g2d.dispose();
+        }
+        return Arrays.equals(((DataBufferInt) rasterized.getRaster().getDataBuffer()).getData(),
+                ((DataBufferInt) drawn.getRaster().getDataBuffer()).getData());
+    }
+
+    private static BufferedImage probeImage(final int side) {
+        final BufferedImage image = new BufferedImage(side, side, BufferedImage.TYPE_INT_ARGB);
+        Arrays.fill(((DataBufferInt) image.getRaster().getDataBuffer()).getData(), 0xFFF5E6C8);
+        return image;
+    }
+
+    // Index of the first sub-pixel sample at or after the coordinate, the samples lie at the sub-pixel centres
+    private static int subpixel(final double coordinate) {
+        return (int) Math.ceil(coordinate - 0.5d);
+    }
+}
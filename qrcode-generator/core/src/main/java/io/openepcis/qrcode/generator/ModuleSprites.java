@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.qrcode.generator;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Draws decorative QR code modules (CIRCLE, HEART, STAR, WAVE, LETTER, ...) by copying a pre-rendered sprite
+ * of the module shape instead of building and filling a new {@code Path2D}, ellipse or glyph for every module.
+ *
+ * <p>All modules of one code have the same size, so a shape is rendered once per module size, colour and
+ * sub-pixel position ({@link #PHASES} positions per axis) and copied to each dark module with a plain image
+ * blit. Sprites are kept in a cache shared by all generators, bounded by the bytes of the sprite pixels.
+ *
+ * <ul>
+ *   <li>Modules of one solid colour are copied straight onto the QR code image, each shadow right before its
+ *       module, same as the Java2D drawing.
+ *   <li>Modules of a gradient are copied as coverage masks onto a layer, the gradient is filled once into the
+ *       masks and the layer is drawn onto the QR code image by {@link #finish()}. Shadows are drawn below the
+ *       layer.
+ * </ul>
+ *
+ * <p>Modules on whole pixel positions are identical to the modules filled by
+ * {@link QrCodeGenerator#createShape(Graphics2D, float, float, float, QrCodeConfig.ModuleShape)}, other positions
+ * are rounded to an eighth of a pixel and their antialiased edges may differ slightly. DOT and LETTER are placed
+ * on the whole pixel below their position by {@code createShape}, their sprites are rendered for that pixel only.
+ * BARCODE rounds its position and width separately and is left to Java2D.
+ */
+final class ModuleSprites {
+
+    // Sub-pixel positions per axis a sprite is rendered for
+    static final int PHASES = 8;
+
+    // Upper bound of the bytes held by the pixels of the cached sprites
+    private static final long MAX_CACHE_BYTES = 16L << 20;
+
+    // Colour of the coverage masks of gradient modules
+    private static final int MASK = 0xFFFFFFFF;
+
+    // Least recently used sprites are evicted first, guarded by itself
+    private static final Map<Key, Sprite> CACHE = new LinkedHashMap<>(64, 0.75f, true);
+    private static long cacheBytes;
+
+    private final Graphics2D graphics;
+    private final QrCodeConfig.ModuleShape shape;
+    private final float moduleSize;
+    private final Paint modulePaint;
+    private final int moduleColor;
+    private final int shadowColor;
+    private final float shadowOffset;
+    private final boolean drawShadows;
+
+    // Shape placed on the whole pixel below its position by createShape, drawn from the sprite of phase 0
+    private final boolean pixelAligned;
+
+    // Layer holding the coverage of gradient modules, null for modules of a solid colour
+    private final BufferedImage layer;
+    private final Graphics2D layerGraphics;
+
+    /**
+     * @param graphics    graphics of the QR code image, modules and shadows are drawn onto it
+     * @param config      effective configuration of the QR code
+     * @param moduleSize  width and height of a module in pixels
+     * @param modulePaint paint of the modules
+     */
+    ModuleSprites(final Graphics2D graphics, final QrCodeConfig config, final float moduleSize, final Paint modulePaint) {
+        this.graphics = graphics;
+        this.shape = config.getModuleShape();
+        this.moduleSize = moduleSize;
+        this.modulePaint = modulePaint;
+        this.drawShadows = config.isDrawShadows() && config.getShadowColor() != null;
+        this.shadowColor = drawShadows ? config.getShadowColor().getRGB() : 0;
+        this.shadowOffset = moduleSize * config.getShadowOffsetPct();
+        this.pixelAligned = shape == QrCodeConfig.ModuleShape.DOT || shape == QrCodeConfig.ModuleShape.LETTER;
+
+        if (isSolid(config)) {
+            this.moduleColor = config.getGradientStart().getRGB();
+            this.layer = null;
+            this.layerGraphics = null;
+        } else {
+            this.moduleColor = MASK;
+            this.layer = new BufferedImage(config.getQrWidth(), config.getQrHeight(), BufferedImage.TYPE_INT_ARGB);
+            this.layerGraphics = layer.createGraphics();
+        }
+    }
+
+    /**
+     * Check if the modules of the configuration are drawn from sprites: all shapes except SQUARE, which is
+     * drawn by {@link ModuleRasterizer} or a single rectangle fill, and BARCODE, which is a single rectangle fill
+     * on rounded pixel bounds.
+     *
+     * @param config effective configuration of the QR code
+     * @return true if {@link ModuleSprites} draws the modules of the configuration
+     */
+    static boolean supports(final QrCodeConfig config) {
+        return config.getModuleShape() != null
+                && config.getModuleShape() != QrCodeConfig.ModuleShape.SQUARE
+                && config.getModuleShape() != QrCodeConfig.ModuleShape.BARCODE
+                && config.getGradientStart() != null
+                && config.getGradientEnd() != null;
+    }
+
+    /**
+     * Draw the module, with its shadow if enabled, at the given pixel position.
+     *
+     * @param x left edge of the module in pixels
+     * @param y top edge of the module in pixels
+     */
+    void draw(final float x, final float y) {
+        if (drawShadows) {
+            blit(graphics, shadowColor, x + shadowOffset, y + shadowOffset);
+        }
+        blit(layer == null ? graphics : layerGraphics, moduleColor, x, y);
+    }
+
+    /**
+     * Fill the gradient into the modules drawn so far and draw them onto the QR code image, nothing to do for
+     * modules of a solid colour.
+     */
+    void finish() {
+        if (layer == null) {
+            return;
+        }
+        layerGraphics.setComposite(AlphaComposite.SrcIn);
+        layerGraphics.setPaint(modulePaint);
+        layerGraphics.fillRect(0, 0, layer.getWidth(), layer.getHeight());
+        layerGraphics.dispose();
+        graphics.drawImage(layer, 0, 0, null);
+    }
+
+    // Copy the sprite of the colour closest to the sub-pixel position
+    private void blit(final Graphics2D target, final int color, final float x, final float y) {
+        final int quantizedX = quantize(x);
+        final int quantizedY = quantize(y);
+        final Sprite sprite = sprite(new Key(shape, Float.floatToIntBits(moduleSize), color,
+                Math.floorMod(quantizedX, PHASES), Math.floorMod(quantizedY, PHASES)));
+        target.drawImage(sprite.image(),
+                Math.floorDiv(quantizedX, PHASES) - sprite.origin(),
+                Math.floorDiv(quantizedY, PHASES) - sprite.origin(),
+                null);
+    }
+
+    // Position in eighths of a pixel, the whole pixel below the position for pixel aligned shapes
+    private int quantize(final float coordinate) {
+        return pixelAligned ? (int) Math.floor(coordinate) * PHASES : Math.round(coordinate * PHASES);
+    }
+
+    private static Sprite sprite(final Key key) {
+        synchronized (CACHE) {
+            final Sprite cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Rendered outside the lock, a sprite rendered twice by concurrent requests is identical
+        final Sprite sprite = render(key);
+        synchronized (CACHE) {
+            if (CACHE.putIfAbsent(key, sprite) == null) {
+                cacheBytes += sprite.bytes();
+                final var iterator = CACHE.values().iterator();
+                while (cacheBytes > MAX_CACHE_BYTES && iterator.hasNext()) {
+                    final Sprite eldest = iterator.next();
+                    if (eldest != sprite) {
+                        cacheBytes -= eldest.bytes();
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+        return sprite;
+    }
+
+    private static Sprite render(final Key key) {
+        final float moduleSize = Float.intBitsToFloat(key.moduleSize());
+
+        // Margin around the module for shapes reaching beyond it, ex: the STAR points
+        final int origin = (int) Math.ceil(moduleSize * 0.1f) + 2;
+        final int side = (int) Math.ceil(moduleSize) + 2 * origin + 1;
+
+        final BufferedImage image = new BufferedImage(side, side, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setColor(new Color(key.color(), true));
+            QrCodeGenerator.createShape(g2d,
+                    origin + (float) key.phaseX() / PHASES,
+                    origin + (float) key.phaseY() / PHASES,
+                    moduleSize, key.shape());
+        } finally {
+            g2d.dispose();
+        }
+        return new Sprite(image, origin);
+    }
+
+    private static boolean isSolid(final QrCodeConfig config) {
+        return config.getGradientStart().getRGB() == config.getGradientEnd().getRGB();
+    }
+
+    private record Key(QrCodeConfig.ModuleShape shape, int moduleSize, int color, int phaseX, int phaseY) {
+    }
+
+    private record Sprite(BufferedImage image, int origin) {
+        long bytes() {
+            return (long) image.getWidth() * image.getHeight() * Integer.BYTES;
+        }
+    }
+}
@@ -31,7 +31,6 @@ import java.awt.geom.Rectangle2D;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
@@ -49,6 +48,9 @@ public class QrCodeGenerator {
     private final QrCodeConfigService qrCodeConfigService = QrCodeConfigService.getInstance();
     private static Font OCR_B_FONT;
 
+    // Write solid square modules straight into the image pixels and copy decorative modules from sprites,
+    // see ModuleRasterizer and ModuleSprites
+    private final boolean rasterizeModules;
 
     static {
         try {
@@ -63,6 +65,15 @@ public class QrCodeGenerator {
         }
     }
 
+    public QrCodeGenerator() {
+        this(true);
+    }
+
+    // Package-private to compare the rasterized and sprite modules with the Java2D drawing
+    QrCodeGenerator(final boolean rasterizeModules) {
+        this.rasterizeModules = rasterizeModules;
+    }
+
     /**
      * Generates a QR code image according to the provided configuration.
      *
@@ -118,6 +129,16 @@ public class QrCodeGenerator {
                 skipLogoArea = true; // We want to skip drawing modules in that center area
             }
 
+            // Solid square modules are written to the pixels directly, with the same result as the Java2D drawing
+            final ModuleRasterizer rasterizer = rasterizeModules && ModuleRasterizer.supports(config)
+                    ? new ModuleRasterizer(qrImage, config.getGradientStart())
+                    : null;
+
+            // Decorative shapes are copied from sprites rendered once per module size, see ModuleSprites
+            final ModuleSprites sprites = rasterizeModules && ModuleSprites.supports(config)
+                    ? new ModuleSprites(qrGraphics, config, moduleSize, modulePaint)
+                    : null;
+
             // Draw regular modules (excluding finder pattern areas, and excluding center area if skipLogoArea is true
             for (int y = 0; y < matrixHeight; y++) {
                 for (int x = 0; x < matrixWidth; x++) {
@@ -138,11 +159,23 @@ public class QrCodeGenerator {
                         }
 
                         // Otherwise, draw the module
+                        if (rasterizer != null) {
+                            rasterizer.fillSquare(px, py, moduleSize);
+                            continue;
+                        }
+                        if (sprites != null) {
+                            sprites.draw(px, py);
+                            continue;
+                        }
                         drawSingleModule(qrGraphics, x, y, moduleSizeX, moduleSizeY, moduleSize, config.getModuleShape(), config.isDrawShadows(), config.getShadowColor(), config.getShadowOffsetPct(), modulePaint);
                     }
                 }
             }
 
+            if (sprites != null) {
+                sprites.finish();
+            }
+
             // Draw the finder patterns (3 corner squares) for easy detection by QR code readers
             final Paint finderPaint = (config.isDrawFinderGradient()) ? modulePaint : config.getFinderColor();
             drawFinderPattern(qrGraphics, bitMatrix, 0, 0, moduleSize, config, finderPaint); // top-left
@@ -197,6 +230,26 @@ public class QrCodeGenerator {
         }
     }
 
+    /**
+     * Content encoded into the QR code: the trimmed data, compressed and converted to upper case if enabled.
+     *
+     * @param config effective configuration, after {@code QrCodeConfigService.applyDefaultConfig}
+     * @return the data as encoded into the QR code
+     */
+    public String qrContent(final QrCodeConfig config) {
+        return prepareQrData(config);
+    }
+
+    /**
+     * Version of the logo drawn for the URL, to tell apart images rendered before and after the logo changed.
+     *
+     * @param logoResourceUrl relative file path or URL of the logo
+     * @return version of the logo or null if unknown, ex: an HTTP logo not loaded yet or due for revalidation
+     */
+    public static String logoVersion(final String logoResourceUrl) {
+        return LogoCache.INSTANCE.version(logoResourceUrl);
+    }
+
     // Method to prepare the content to be added for the generated QR Code
     private String prepareQrData(final QrCodeConfig config) {
         // Get the raw content
@@ -355,8 +408,8 @@ public class QrCodeGenerator {
     /**
      * Creates a shape for the module based on the chosen CustomShape (SQUARE, ROUNDED_RECT, CIRCLE, etc.).
      */
-    private void createShape(final Graphics2D g2d, final float x, final float y,
-                             final float moduleSize, final QrCodeConfig.ModuleShape shape) {
+    static void createShape(final Graphics2D g2d, final float x, final float y,
+                            final float moduleSize, final QrCodeConfig.ModuleShape shape) {
 
         switch (shape) {
             // If the shape is SQUARE, create a Rectangle2D.Float.
@@ -459,47 +512,18 @@ public class QrCodeGenerator {
     }
 
     /**
-     * Draw logo image (keeps proportions and center).
+     * Draw logo image (keeps proportions and center), decoded and scaled logos are cached by {@link LogoCache}.
      */
     private void drawLogo(final Graphics2D g2d, final String logoResourceUrl,
                           final int x, final int y,
                           final int w, final int h) {
         try {
-            BufferedImage logo;
             Log.debug("reading logo from " + logoResourceUrl);
-            final URI logoUri = new URI(logoResourceUrl);
-
-            if (!logoUri.isAbsolute()) {
-                Log.debug("use logo from absolute file path");
-                // Treat as a relative file path. Adjust the base directory as needed.
-                final File logoFile = new File(logoResourceUrl);
-                if (!logoFile.exists()) {
-                    log.error("Relative logo file not found: " + logoFile.getAbsolutePath());
-                    throw new QrCodeGeneratorException("Relative logo file not found: " + logoFile.getAbsolutePath());
-                }
-                logo = ImageIO.read(logoFile);
-            } else {
-                Log.debug("use logo from url");
-                // Absolute URI; convert to URL
-                final URL logoUrl = logoUri.toURL();
-                if ("file".equalsIgnoreCase(logoUrl.getProtocol())) {
-                    // For local file URLs, read from file.
-                    final File logoFile = new File(logoUrl.toURI());
-                    if (!logoFile.exists()) {
-                        log.error("Logo file not found: " + logoFile.getAbsolutePath());
-                        throw new QrCodeGeneratorException("Logo file not found: " + logoFile.getAbsolutePath());
-                    }
-                    logo = ImageIO.read(logoFile);
-                } else {
-                    // For remote URLs, read directly.
-                    logo = ImageIO.read(logoUrl);
-                }
-            }
+            final BufferedImage logo = LogoCache.INSTANCE.get(logoResourceUrl, w, h);
 
             if (logo != null) {
-                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-                g2d.drawImage(logo, x, y, w, h, null); // Draw the logo onto the blank region
-            } else {
+                g2d.drawImage(logo, x, y, null); // Draw the pre-scaled logo onto the blank region
+            } else if (w > 0 && h > 0) {
                 log.warn("Logo image could not be loaded from URL: {}", logoResourceUrl);
             }
         } catch (Exception ex) {
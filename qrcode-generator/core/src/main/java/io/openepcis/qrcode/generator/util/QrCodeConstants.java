@@ -16,8 +16,10 @@ public class QrCodeConstants {
     public static final String GET_API_TAG_DESCRIPTION = "Endpoint for generating QR codes with default configurations.";
     public static final String API_SUCCESS_RESPONSE = "Successfully generated QR code image.";
     public static final String API_INVALID_REQUEST_RESPONSE = "Invalid request or configuration.";
+    public static final String API_NOT_MODIFIED_RESPONSE = "QR code image not modified, the If-None-Match header lists its ETag.";
     public static final String API_UNSUPPORTED_ACCEPT_RESPONSE = "Unsupported Accept header value.";
     public static final String API__SERVER_ERROR_RESPONSE = "Internal error generating the QR code";
+    public static final String API_SERVICE_UNAVAILABLE_RESPONSE = "All QR code render threads are busy, retry after the seconds given by the Retry-After header.";
     public static final String GS1_IDENTIFIER_DOMAIN = "https://id.gs1.org/";
     public static final String GET_API_PATH_PARAMETER_DESCRIPTION = "Identifiers to be encoded in generated QR code.";
     public static final String API_ACCEPT_PARAMETER_DESCRIPTION = "Accept header to control image media type (defaults to image/png if not provided).";
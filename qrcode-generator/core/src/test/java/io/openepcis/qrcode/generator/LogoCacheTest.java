@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.qrcode.generator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.openepcis.qrcode.generator.exception.QrCodeGeneratorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogoCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void cachesScaledLogos() throws Exception {
+        final String logoResourceUrl = LogoCacheTest.class.getClassLoader().getResource("images/Logo.png").toString();
+        final LogoCache cache = new LogoCache(4L << 20);
+
+        final BufferedImage scaled = cache.get(logoResourceUrl, 80, 60);
+        assertEquals(80, scaled.getWidth());
+        assertEquals(60, scaled.getHeight());
+        assertSame(scaled, cache.get(logoResourceUrl, 80, 60));
+        assertNotSame(scaled, cache.get(logoResourceUrl, 60, 80));
+        assertNull(cache.get(logoResourceUrl, 0, 60));
+    }
+
+    @Test
+    void reloadsModifiedLogoFile() throws Exception {
+        final File logoFile = tempDir.resolve("logo.png").toFile();
+        writeLogo(logoFile, Color.RED, 20);
+        final LogoCache cache = new LogoCache(1L << 20);
+
+        final BufferedImage first = cache.get(logoFile.getAbsolutePath(), 10, 10);
+        assertEquals(Color.RED.getRGB(), first.getRGB(5, 5));
+        assertSame(first, cache.get(logoFile.getAbsolutePath(), 10, 10));
+
+        // Rewritten with a newer modification time
+        writeLogo(logoFile, Color.BLUE, 20);
+        assertTrue(logoFile.setLastModified(logoFile.lastModified() + 2000));
+        final BufferedImage second = cache.get(logoFile.getAbsolutePath(), 10, 10);
+        assertNotSame(first, second);
+        assertEquals(Color.BLUE.getRGB(), second.getRGB(5, 5));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedLogos() throws Exception {
+        final File[] logoFiles = new File[9];
+        for (int i = 0; i < logoFiles.length; i++) {
+            logoFiles[i] = tempDir.resolve("logo" + i + ".png").toFile();
+            writeLogo(logoFiles[i], Color.RED, 16);
+        }
+
+        // Room for eight logos of 16x16 pixels with one scaled 16x16 image each
+        final LogoCache cache = new LogoCache(8 * 2 * 16 * 16 * 4);
+        final BufferedImage first = cache.get(logoFiles[0].getAbsolutePath(), 16, 16);
+        BufferedImage last = null;
+        for (int i = 1; i < logoFiles.length; i++) {
+            last = cache.get(logoFiles[i].getAbsolutePath(), 16, 16);
+        }
+        assertSame(last, cache.get(logoFiles[8].getAbsolutePath(), 16, 16));
+        assertNotSame(first, cache.get(logoFiles[0].getAbsolutePath(), 16, 16));
+    }
+
+    @Test
+    void skipsLogosBeyondShareOfBound() throws Exception {
+        final File small = tempDir.resolve("small.png").toFile();
+        final File large = tempDir.resolve("large.png").toFile();
+        writeLogo(small, Color.RED, 8);
+        writeLogo(large, Color.BLUE, 64);
+
+        // A logo of 64x64 pixels alone fills the cache
+        final LogoCache cache = new LogoCache(64 * 64 * 4);
+        final BufferedImage scaled = cache.get(large.getAbsolutePath(), 8, 8);
+        assertEquals(Color.BLUE.getRGB(), scaled.getRGB(4, 4));
+        assertNotSame(scaled, cache.get(large.getAbsolutePath(), 8, 8));
+
+        final BufferedImage smallScaled = cache.get(small.getAbsolutePath(), 8, 8);
+        assertSame(smallScaled, cache.get(small.getAbsolutePath(), 8, 8));
+    }
+
+    @Test
+    void revalidatesRemoteLogos() throws Exception {
+        final RemoteLogo remote = new RemoteLogo();
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/logo.png", remote);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        try {
+            final String logoResourceUrl = "http://localhost:" + server.getAddress().getPort() + "/logo.png";
+            // Revalidated on every use, timing out after 500 ms
+            final LogoCache cache = new LogoCache(1L << 20, 500, 0);
+
+            remote.update(Color.RED, "\"v1\"");
+            final BufferedImage first = cache.get(logoResourceUrl, 10, 10);
+            assertEquals(Color.RED.getRGB(), first.getRGB(5, 5));
+            assertNull(remote.ifNoneMatch);
+
+            // Not modified
+            assertSame(first, cache.get(logoResourceUrl, 10, 10));
+            assertEquals("\"v1\"", remote.ifNoneMatch);
+            assertEquals(1, remote.loads.get());
+
+            // Modified
+            remote.update(Color.BLUE, "\"v2\"");
+            final BufferedImage second = cache.get(logoResourceUrl, 10, 10);
+            assertNotSame(first, second);
+            assertEquals(Color.BLUE.getRGB(), second.getRGB(5, 5));
+            assertEquals(2, remote.loads.get());
+
+            // Cached logo used while the revalidation times out or fails
+            remote.delayMillis = 2000;
+            assertSame(second, cache.get(logoResourceUrl, 10, 10));
+            remote.delayMillis = 0;
+            remote.status = HttpURLConnection.HTTP_INTERNAL_ERROR;
+            assertSame(second, cache.get(logoResourceUrl, 10, 10));
+
+            // No cached logo to fall back to
+            assertThrows(IOException.class, () -> new LogoCache(1L << 20, 500, 0).get(logoResourceUrl, 10, 10));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void versionOfRemoteLogos() throws Exception {
+        final RemoteLogo remote = new RemoteLogo();
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/logo.png", remote);
+        server.start();
+        try {
+            final String logoResourceUrl = "http://localhost:" + server.getAddress().getPort() + "/logo.png";
+            final LogoCache cache = new LogoCache(1L << 20, 500, TimeUnit.MINUTES.toNanos(1));
+            assertNull(cache.version(logoResourceUrl));
+
+            remote.update(Color.RED, "\"v1\"");
+            cache.get(logoResourceUrl, 10, 10);
+            assertEquals("etag:\"v1\"", cache.version(logoResourceUrl));
+
+            // Due for revalidation on every use
+            final LogoCache revalidating = new LogoCache(1L << 20, 500, 0);
+            revalidating.get(logoResourceUrl, 10, 10);
+            assertNull(revalidating.version(logoResourceUrl));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void missingLogoFile() {
+        final LogoCache cache = new LogoCache(1L << 20);
+        assertThrows(QrCodeGeneratorException.class,
+                () -> cache.get(tempDir.resolve("missing.png").toString(), 10, 10));
+    }
+
+    private static void writeLogo(final File file, final Color color, final int size) throws Exception {
+        ImageIO.write(logo(color, size), "png", file);
+    }
+
+    private static BufferedImage logo(final Color color, final int size) {
+        final BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2d = image.createGraphics();
+        g2d.setColor(color);
+        g2d.fillRect(0, 0, size, size);
+        g2d.dispose();
+        return image;
+    }
+
+    // Remote logo answering conditional requests on its ETag
+    private static final class RemoteLogo implements HttpHandler {
+        private final AtomicInteger loads = new AtomicInteger();
+        private volatile byte[] png;
+        private volatile String entityTag;
+        private volatile String ifNoneMatch;
+        private volatile int status = HttpURLConnection.HTTP_OK;
+        private volatile long delayMillis;
+
+        void update(final Color color, final String entityTag) throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(logo(color, 20), "png", out);
+            this.png = out.toByteArray();
+            this.entityTag = entityTag;
+        }
+
+        @Override
+        public void handle(final HttpExchange exchange) throws IOException {
+            try {
+                ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                if (status != HttpURLConnection.HTTP_OK) {
+                    exchange.sendResponseHeaders(status, -1);
+                } else if (entityTag.equals(ifNoneMatch)) {
+                    exchange.sendResponseHeaders(HttpURLConnection.HTTP_NOT_MODIFIED, -1);
+                } else {
+                    loads.incrementAndGet();
+                    exchange.getResponseHeaders().set("ETag", entityTag);
+                    exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, png.length);
+                    exchange.getResponseBody().write(png);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+}
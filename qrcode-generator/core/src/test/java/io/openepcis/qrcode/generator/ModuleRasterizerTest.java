@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.qrcode.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModuleRasterizerTest {
+
+    // The rasterized modules must be the same as the Java2D fill for any position, size and colours
+    @Test
+    void fillSquareMatchesJava2D() {
+        final Random random = new Random(21);
+        for (int n = 0; n < 2000; n++) {
+            final int width = 1 + random.nextInt(60);
+            final int height = 1 + random.nextInt(60);
+            final Color color = new Color(random.nextInt(0x1000000));
+            final Color background = new Color(random.nextInt(0x1000000));
+            final BufferedImage rasterized = image(width, height, background);
+            final BufferedImage drawn = image(width, height, background);
+
+            final ModuleRasterizer rasterizer = new ModuleRasterizer(rasterized, color);
+            final Graphics2D g2d = drawn.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            // Same paint as the QrCodeGenerator uses for a gradient of one colour
+            g2d.setPaint(new GradientPaint(0, 0, color, width, height, color));
+
+            // Modules on a grid share their blended seams, others overlap or reach beyond the image
+            final float size = 0.2f + random.nextFloat() * 12;
+            final boolean grid = random.nextBoolean();
+            for (int i = 0, modules = 1 + random.nextInt(20); i < modules; i++) {
+                float x = random.nextFloat() * width - 2;
+                float y = random.nextFloat() * height - 2;
+                if (grid) {
+                    x = (int) (x / size) * size;
+                    y = (int) (y / size) * size;
+                }
+                rasterizer.fillSquare(x, y, size);
+                g2d.fill(new Rectangle2D.Float(x, y, size, size));
+            }
+            g2d.dispose();
+
+            assertArrayEquals(pixels(drawn), pixels(rasterized), "Rasterized modules differ from Java2D, case " + n);
+        }
+    }
+
+    @Test
+    void supportsSolidSquareModules() {
+        final QrCodeConfig.QrCodeConfigBuilder config = QrCodeConfig.builder()
+                .data("https://id.gs1.org/01/09520123456788")
+                .moduleShape(QrCodeConfig.ModuleShape.SQUARE)
+                .gradientStart(Color.BLACK).gradientEnd(Color.BLACK).backgroundColor(Color.WHITE);
+
+        // The probe fill on class initialization matches Java2D on a JVM with the default renderer settings
+        assertTrue(ModuleRasterizer.supports(config.build()));
+        assertFalse(ModuleRasterizer.supports(config.gradientEnd(Color.BLUE).build()));
+        assertFalse(ModuleRasterizer.supports(config.gradientEnd(Color.BLACK).backgroundColor(new Color(0, 0, 0, 0)).build()));
+        assertFalse(ModuleRasterizer.supports(config.backgroundColor(Color.WHITE).moduleShape(QrCodeConfig.ModuleShape.CIRCLE).build()));
+    }
+
+    private static BufferedImage image(final int width, final int height, final Color background) {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2d = image.createGraphics();
+        g2d.setColor(background);
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+        return image;
+    }
+
+    private static int[] pixels(final BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+}
@@ -13,12 +13,17 @@ package io.openepcis.qrcode.generator;
 import lombok.extern.slf4j.Slf4j;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @Slf4j
 public class QrCodeGeneratorTest {
@@ -335,4 +340,120 @@ public class QrCodeGeneratorTest {
         // assert that no exception is thrown during QR code generation
         assertDoesNotThrow(() -> barCodeGenerator.generateQRCode(minimalConfig), "QR code generation should not throw an exception");
     }
+
+    // Solid square modules are rasterized directly, the image must be the same as drawn by Java2D
+    @Test
+    public void rasterizedModulesTest() {
+        final QrCodeGenerator java2dGenerator = new QrCodeGenerator(false);
+        final List<QrCodeConfig> configs = List.of(
+                QrCodeConfig.builder().data("https://id.gs1.org/01/09520123456788/21/12345").build(),
+                QrCodeConfig.builder().data("https://id.gs1.org/01/09520123456788/21/12345").qrWidth(333).qrHeight(257).margin(2).build(),
+                QrCodeConfig.builder().data("https://www.example.com").qrWidth(120).qrHeight(120).margin(0)
+                        .gradientStart(new Color(0x1A, 0x4D, 0x80)).gradientEnd(new Color(0x1A, 0x4D, 0x80))
+                        .backgroundColor(new Color(0xF5, 0xE6, 0xC8)).finderColor(Color.RED).build(),
+                QrCodeConfig.builder().data("https://www.example.com").useRadialGradient(true)
+                        .drawFinderGradient(true).logoResourceUrl(logoResourceUrl).logoScale(0.2f).build());
+
+        for (final QrCodeConfig config : configs) {
+            assertArrayEquals(java2dGenerator.generateQRCode(config), barCodeGenerator.generateQRCode(config),
+                    "Rasterized modules differ from Java2D for " + config);
+        }
+    }
+
+    // Decorative modules are copied from sprites, each module must cover the same box as drawn by Java2D. The box
+    // is taken from the ink moments, its bounds are exact for rectangles and a module one pixel off moves it by a pixel
+    @Test
+    public void spriteModulesTest() {
+        final QrCodeGenerator java2dGenerator = new QrCodeGenerator(false);
+        final Random random = new Random(22);
+        for (final QrCodeConfig.ModuleShape shape : QrCodeConfig.ModuleShape.values()) {
+            for (final boolean gradient : new boolean[]{false, true}) {
+                final QrCodeConfig.QrCodeConfigBuilder builder = QrCodeConfig.builder()
+                        .data("https://id.gs1.org/01/09520123456788/21/12345").moduleShape(shape)
+                        .gradientStart(gradient ? Color.BLUE : Color.BLACK).gradientEnd(gradient ? Color.MAGENTA : Color.BLACK)
+                        .drawShadows(gradient);
+
+                // SQUARE and BARCODE are not drawn from sprites, the image must be the same as drawn by Java2D
+                if (!ModuleSprites.supports(builder.build())) {
+                    final QrCodeConfig config = builder.build();
+                    assertArrayEquals(java2dGenerator.generateQRCode(config), barCodeGenerator.generateQRCode(config),
+                            "Modules differ from Java2D for " + config);
+                    continue;
+                }
+
+                for (int n = 0; n < 300; n++) {
+                    final float moduleSize = 4 + random.nextFloat() * 12;
+                    final int side = (int) Math.ceil(moduleSize * 3);
+                    final QrCodeConfig config = builder.qrWidth(side).qrHeight(side).build();
+                    float x = moduleSize + random.nextFloat() * 2 - 1;
+                    final float y = moduleSize + random.nextFloat() * 2 - 1;
+                    if (n % 4 == 0) {
+                        // Just below the next whole pixel, ex: 12.97
+                        x = (int) x + 0.95f + random.nextFloat() * 0.05f;
+                    }
+                    final Paint paint = gradient ? new GradientPaint(0, 0, Color.BLUE, side, side, Color.MAGENTA) : Color.BLACK;
+
+                    // One module with its shadow, the same way as drawSingleModule
+                    final BufferedImage expected = whiteImage(side);
+                    final Graphics2D java2d = expected.createGraphics();
+                    java2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                    if (config.isDrawShadows()) {
+                        final float offset = moduleSize * config.getShadowOffsetPct();
+                        java2d.setColor(config.getShadowColor());
+                        QrCodeGenerator.createShape(java2d, x + offset, y + offset, moduleSize, shape);
+                    }
+                    java2d.setPaint(paint);
+                    QrCodeGenerator.createShape(java2d, x, y, moduleSize, shape);
+                    java2d.dispose();
+
+                    final BufferedImage actual = whiteImage(side);
+                    final Graphics2D graphics = actual.createGraphics();
+                    graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                    final ModuleSprites sprites = new ModuleSprites(graphics, config, moduleSize, paint);
+                    sprites.draw(x, y);
+                    sprites.finish();
+                    graphics.dispose();
+
+                    final double[] expectedBox = inkBox(expected);
+                    final double[] actualBox = inkBox(actual);
+                    final String module = shape + " module of " + moduleSize + " at " + x + "," + y + " gradient=" + gradient;
+                    for (int edge = 0; edge < 4; edge++) {
+                        assertEquals(expectedBox[edge], actualBox[edge], 0.3, "Box of the sprite differs for " + module);
+                    }
+                    assertEquals(expectedBox[4], actualBox[4], expectedBox[4] * 0.08, "Ink of the sprite differs for " + module);
+                }
+            }
+        }
+    }
+
+    private static BufferedImage whiteImage(final int side) {
+        final BufferedImage image = new BufferedImage(side, side, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2d = image.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, side, side);
+        g2d.dispose();
+        return image;
+    }
+
+    // Left, right, top and bottom of the box with the centre and the variance of the ink on white, and the ink
+    private static double[] inkBox(final BufferedImage image) {
+        double ink = 0, sumX = 0, sumY = 0, sumXX = 0, sumYY = 0;
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                final int rgb = image.getRGB(x, y);
+                final double weight = 3 * 255 - ((rgb >>> 16) & 0xFF) - ((rgb >>> 8) & 0xFF) - (rgb & 0xFF);
+                ink += weight;
+                sumX += weight * (x + 0.5);
+                sumY += weight * (y + 0.5);
+                sumXX += weight * (x + 0.5) * (x + 0.5);
+                sumYY += weight * (y + 0.5) * (y + 0.5);
+            }
+        }
+        final double centreX = sumX / ink;
+        final double centreY = sumY / ink;
+        // A uniform extent of width w has the variance w * w / 12
+        final double halfWidth = Math.sqrt(3 * (sumXX / ink - centreX * centreX));
+        final double halfHeight = Math.sqrt(3 * (sumYY / ink - centreY * centreY));
+        return new double[]{centreX - halfWidth, centreX + halfWidth, centreY - halfHeight, centreY + halfHeight, ink};
+    }
 }
@@ -0,0 +1,92 @@
+package io.openepcis.qrcode.generator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.openepcis.qrcode.generator.resource.service.QrCodeRenderExecutor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@TestProfile(QrCodeRenderExecutorTest.SingleRenderThread.class)
+public class QrCodeRenderExecutorTest {
+
+    @Inject
+    QrCodeRenderExecutor renderExecutor;
+
+    @Inject
+    MeterRegistry registry;
+
+    // One render thread with one queued render
+    public static class SingleRenderThread implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "qrcode.render.threads", "1",
+                    "qrcode.render.queue-size", "1",
+                    "qrcode.render.retry-after", "3");
+        }
+    }
+
+    @Test
+    public void rejectsRendersBeyondQueueTest() throws Exception {
+        final double rejected = registry.get("qrcode.render.rejected").counter().count();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+
+        try {
+            // Occupy the render thread, then the queue
+            block(started, release, done);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            block(new CountDownLatch(1), release, done);
+
+            given().when().get("/qr/01/09520123456788/10/REJECTED")
+                    .then()
+                    .statusCode(503)
+                    .header("Retry-After", "3");
+            assertEquals(rejected + 1, registry.get("qrcode.render.rejected").counter().count());
+        } finally {
+            release.countDown();
+        }
+
+        // Rendered again once the render thread is free
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        given().when().get("/qr/01/09520123456788/10/REJECTED")
+                .then()
+                .statusCode(200)
+                .header("ETag", notNullValue());
+    }
+
+    @Test
+    public void registersRenderMetersTest() {
+        assertNotNull(registry.find("qrcode.render.queue.depth").gauge());
+        assertNotNull(registry.find("qrcode.render.active").gauge());
+        assertNotNull(registry.find("qrcode.render.queue.time").timer());
+        assertNotNull(registry.find("qrcode.render.time").timer());
+        assertNotNull(registry.find("qrcode.render.rejected").counter());
+    }
+
+    // Submit a render blocking its thread until released
+    private void block(final CountDownLatch started, final CountDownLatch release, final CountDownLatch done) {
+        renderExecutor.submit(() -> {
+                    started.countDown();
+                    try {
+                        return release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                })
+                .subscribe().with(released -> done.countDown(), failure -> done.countDown());
+    }
+}
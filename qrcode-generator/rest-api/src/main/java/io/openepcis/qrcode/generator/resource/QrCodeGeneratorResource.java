@@ -72,7 +72,7 @@ public class QrCodeGeneratorResource implements QrCodeGeneratorApi {
         }
 
         final QrCodeConfig qrCodeConfig = QrCodeConfig.builder().data(dlUrl).build();
-        return qrCodeService.generate(params, qrCodeConfig);
+        return qrCodeService.fetch(params, qrCodeConfig);
     }
 
     // Method to provide various QR code generation options like img/png, img/svg, etc.
@@ -53,6 +53,10 @@ public class QrCodeGenerationParams {
     @Parameter(hidden = true, description = API_COMPRESSED_PARAMETER_DESCRIPTION, schema = @Schema(type = SchemaType.BOOLEAN, defaultValue = "false"))
     public boolean compressedQuery;
 
+    @HeaderParam("If-None-Match")
+    @Parameter(hidden = true)
+    public String ifNoneMatch;
+
     public String getDesignPresetHeader() {
         return StringUtils.isNotBlank(designPresetHeader) ? designPresetHeader : designPresetQuery;
     }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.qrcode.generator.resource.service;
+
+import io.openepcis.qrcode.generator.QrCodeConfig;
+import io.openepcis.qrcode.generator.QrCodeGenerator;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.awt.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of encoded QR code images, keyed on the effective {@link QrCodeConfig} of a request after the design
+ * preset defaults have been applied.
+ *
+ * <p>The key is the SHA-256 hash of a canonical form of all values the image depends on: the content encoded into
+ * the QR code instead of the data as given, so that data differing only in whitespace or, if converted to upper
+ * case, in case share the image, the data itself only if the HRI text is drawn below the code, and the version of
+ * the logo, so that a changed logo file or remote logo gets a new key. Images with a logo of unknown version, ex: a
+ * remote logo without ETag and Last-Modified, are not cached. The key doubles as strong ETag of the image, so a
+ * conditional request can be answered without rendering. The cache is bounded by the bytes of the cached images,
+ * the least recently used images are evicted first.
+ */
+@ApplicationScoped
+public class QrCodeRenderCache {
+
+    // Images larger than this share of the cache are not cached, so that a single image never evicts most others
+    private static final int MAX_ENTRY_SHARE = 8;
+
+    @ConfigProperty(name = "qrcode.render-cache.max-bytes", defaultValue = "67108864")
+    long maxBytes;
+
+    @ConfigProperty(name = "qrcode.render-cache.max-age", defaultValue = "86400")
+    int maxAge;
+
+    // Least recently used images are evicted first, guarded by itself
+    private final Map<String, byte[]> images = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedBytes;
+
+    /**
+     * Compute the cache key of the effective configuration.
+     *
+     * @param config    effective configuration, after {@code QrCodeConfigService.applyDefaultConfig}
+     * @param qrContent content encoded into the QR code, see {@link QrCodeGenerator#qrContent(QrCodeConfig)}
+     * @return hex encoded SHA-256 hash of the canonical configuration, null if the image must not be cached
+     */
+    public String key(final QrCodeConfig config, final String qrContent) {
+        String logoVersion = null;
+        if (StringUtils.isNotBlank(config.getLogoResourceUrl())) {
+            logoVersion = QrCodeGenerator.logoVersion(config.getLogoResourceUrl());
+            if (logoVersion == null) {
+                return null;
+            }
+        }
+
+        final StringBuilder canonical = new StringBuilder(256);
+        append(canonical, qrContent);
+        // The HRI text is taken from the data as given
+        append(canonical, config.isAddHri() ? config.getData() : null);
+        append(canonical, config.getDesignPreset());
+        append(canonical, config.getMimeType());
+        append(canonical, config.getQrWidth());
+        append(canonical, config.getQrHeight());
+        append(canonical, config.getMargin());
+        append(canonical, config.getBackgroundColor());
+        append(canonical, config.getGradientStart());
+        append(canonical, config.getGradientEnd());
+        append(canonical, config.isUseRadialGradient());
+        append(canonical, config.getFinderColor());
+        append(canonical, config.isDrawFinderGradient());
+        append(canonical, config.getModuleShape());
+        append(canonical, config.getModuleName());
+        append(canonical, config.isDrawShadows());
+        append(canonical, config.getShadowColor());
+        append(canonical, config.getShadowOffsetPct());
+        append(canonical, config.getLogoResourceUrl());
+        append(canonical, logoVersion);
+        append(canonical, config.getLogoScale());
+        append(canonical, config.getDisplayLabel());
+        append(canonical, config.getDisplayLabelFontColor());
+        append(canonical, config.isAddHri());
+
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 must be supported by every Java platform
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * @param key cache key of the effective configuration
+     * @return strong ETag of the image rendered for the key
+     */
+    public EntityTag entityTag(final String key) {
+        return new EntityTag(key);
+    }
+
+    /**
+     * @return Cache-Control of the rendered images
+     */
+    public CacheControl cacheControl() {
+        final CacheControl cacheControl = new CacheControl();
+        cacheControl.setMaxAge(maxAge);
+        return cacheControl;
+    }
+
+    /**
+     * Check if the {@code If-None-Match} header of a request lists the ETag of the key.
+     *
+     * @param key         cache key of the effective configuration
+     * @param ifNoneMatch value of the If-None-Match header, may be null
+     * @return true if the client holds the current image and a 304 response can be sent
+     */
+    public boolean isNotModified(final String key, final String ifNoneMatch) {
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            // If-None-Match uses the weak comparison, the weak indicator is ignored
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals('"' + key + '"')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param key cache key of the effective configuration
+     * @return cached image of the key or null if not cached
+     */
+    public byte[] get(final String key) {
+        synchronized (images) {
+            return images.get(key);
+        }
+    }
+
+    /**
+     * Cache the image rendered for the key, evicting the least recently used images beyond the size bound.
+     *
+     * @param key   cache key of the effective configuration
+     * @param image encoded image
+     */
+    public void put(final String key, final byte[] image) {
+        if (image.length > maxBytes / MAX_ENTRY_SHARE) {
+            return;
+        }
+        synchronized (images) {
+            final byte[] previous = images.put(key, image);
+            cachedBytes += image.length - (previous == null ? 0 : previous.length);
+            final Iterator<byte[]> eldest = images.values().iterator();
+            while (cachedBytes > maxBytes && eldest.hasNext()) {
+                cachedBytes -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    // Values are prefixed with their length, so that no two configurations share the canonical form
+    private static void append(final StringBuilder canonical, final Object value) {
+        if (value == null) {
+            canonical.append("-1:;");
+            return;
+        }
+        final String text = value instanceof Color color ? Integer.toHexString(color.getRGB()) : String.valueOf(value);
+        canonical.append(text.length()).append(':').append(text).append(';');
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.qrcode.generator.resource.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.runtime.Startup;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor rendering the QR codes off the Vert.x event loop, with bounded parallelism and a bounded queue.
+ *
+ * <p>Rendering is CPU bound and blocking, running it on the I/O threads stalls every connection of the event
+ * loop. Renders are therefore handed to a fixed number of platform or virtual threads. Once all threads are
+ * busy and the queue is full, further renders are rejected right away with a {@link RejectedExecutionException},
+ * which {@link QrCodeService} answers with 503 and {@code Retry-After} instead of queueing without bound.
+ *
+ * <p>Queue depth, busy threads, queue wait and render time as well as the rejected renders are reported as
+ * {@code qrcode.render.*} metrics, registered on startup.
+ */
+@Slf4j
+@Startup
+@ApplicationScoped
+public class QrCodeRenderExecutor {
+
+    // Number of render threads, the number of available processors if not positive
+    @ConfigProperty(name = "qrcode.render.threads", defaultValue = "0")
+    int threads;
+
+    // Renders waiting for a thread before further renders are rejected
+    @ConfigProperty(name = "qrcode.render.queue-size", defaultValue = "64")
+    int queueSize;
+
+    // Render on virtual threads instead of platform threads if the JVM supports them (Java 21 or later),
+    // the parallelism stays bounded by the threads
+    @ConfigProperty(name = "qrcode.render.virtual-threads", defaultValue = "false")
+    boolean virtualThreads;
+
+    // Seconds a client is asked to wait before retrying a rejected render
+    @ConfigProperty(name = "qrcode.render.retry-after", defaultValue = "1")
+    int retryAfter;
+
+    @Inject
+    MeterRegistry registry;
+
+    private ThreadPoolExecutor executor;
+    private Timer queueTimer;
+    private Timer renderTimer;
+    private Counter rejected;
+
+    @PostConstruct
+    void start() {
+        final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueSize, 1)), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("qrcode.render.queue.depth", executor, e -> e.getQueue().size())
+                .description("QR code renders waiting for a render thread")
+                .register(registry);
+        Gauge.builder("qrcode.render.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("QR code renders in progress")
+                .register(registry);
+        queueTimer = Timer.builder("qrcode.render.queue.time")
+                .description("Time QR code renders wait for a render thread")
+                .register(registry);
+        renderTimer = Timer.builder("qrcode.render.time")
+                .description("Time to render and encode a QR code")
+                .register(registry);
+        rejected = Counter.builder("qrcode.render.rejected")
+                .description("QR code renders rejected as the render queue was full")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * @return seconds a client is asked to wait before retrying a rejected render
+     */
+    public int getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Run the render on a render thread, with an active request context for the request scoped generator.
+     *
+     * @param render the blocking render
+     * @param <T>    type of the render result
+     * @return the result of the render, failing with {@link RejectedExecutionException} if the queue is full
+     */
+    public <T> Uni<T> submit(final Supplier<T> render) {
+        return Uni.createFrom().emitter(emitter -> {
+            final long queuedAt = System.nanoTime();
+            try {
+                executor.execute(() -> {
+                    final long startedAt = System.nanoTime();
+                    queueTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+
+                    final ManagedContext requestContext = Arc.container().requestContext();
+                    requestContext.activate();
+                    try {
+                        emitter.complete(render.get());
+                    } catch (Throwable t) {
+                        emitter.fail(t);
+                    } finally {
+                        requestContext.terminate();
+                        renderTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                emitter.fail(e);
+            }
+        });
+    }
+
+    private ThreadFactory threadFactory() {
+        if (virtualThreads) {
+            final ThreadFactory virtualThreadFactory = virtualThreadFactory();
+            if (virtualThreadFactory != null) {
+                return virtualThreadFactory;
+            }
+            log.warn("Virtual threads are not supported by Java {}, rendering on platform threads",
+                    Runtime.version().feature());
+        }
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "qrcode-render-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Thread.ofVirtual() is looked up at runtime, it is missing from the Java 17 API the project is built against
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Object namedBuilder = builderType.getMethod("name", String.class, long.class)
+                    .invoke(builder, "qrcode-render-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(namedBuilder);
+        } catch (ReflectiveOperationException e) {
+            // Missing before Java 19, a preview feature not enabled before Java 21
+            return null;
+        }
+    }
+}
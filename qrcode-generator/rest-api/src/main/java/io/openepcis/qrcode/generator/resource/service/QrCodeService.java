@@ -18,6 +18,9 @@ import io.openepcis.qrcode.generator.spi.service.QrCodeConfigService;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 
@@ -26,14 +29,36 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @ApplicationScoped
 public class QrCodeService {
 
+    // Request headers selecting the representation of the QR code
+    private static final String VARY_HEADERS = "Accept, Design-Preset, HRI, Compressed";
+
     @Inject
     QrCodeGenerator qrCodeGenerator;
 
+    @Inject
+    QrCodeRenderCache renderCache;
+
+    @Inject
+    QrCodeRenderExecutor renderExecutor;
+
     public Uni<Response> generate(final QrCodeGenerationParams params, final QrCodeConfig qrCodeConfig) {
+        return generate(params, qrCodeConfig, false);
+    }
+
+    /**
+     * Generate the QR code for a GET request, answering with 304 Not Modified when the If-None-Match header
+     * lists the ETag of the requested image.
+     */
+    public Uni<Response> fetch(final QrCodeGenerationParams params, final QrCodeConfig qrCodeConfig) {
+        return generate(params, qrCodeConfig, true);
+    }
+
+    private Uni<Response> generate(final QrCodeGenerationParams params, final QrCodeConfig qrCodeConfig, final boolean conditional) {
         // normalize accept header
         final String mime = validateMime(params.accept);
         qrCodeConfig.setMimeType(mime);
@@ -43,15 +68,63 @@ public class QrCodeService {
         qrCodeConfig.setAddHri(params.getHriHeader());
         qrCodeConfig.setCompressDigitalLink(params.getCompressedHeader());
 
-        // Generate and wrap in a Response
-        return Uni.createFrom().item(() -> {
-            try {
-                final byte[] qrBytes = qrCodeGenerator.generateQRCode(qrCodeConfig);
-                return Response.ok(qrBytes, qrCodeConfig.getMimeType()).build();
-            } catch (Exception e) {
-                throw new QrCodeGeneratorException("QR generation failed: " + e.getMessage(), e);
-            }
-        });
+        // The image is identified by the effective configuration, including the design preset defaults
+        final String cacheKey = cacheKey(qrCodeConfig);
+        final EntityTag entityTag = cacheKey != null ? renderCache.entityTag(cacheKey) : null;
+        if (conditional && cacheKey != null && renderCache.isNotModified(cacheKey, params.ifNoneMatch)) {
+            return Uni.createFrom().item(Response.notModified(entityTag)
+                    .cacheControl(renderCache.cacheControl())
+                    .header(HttpHeaders.VARY, VARY_HEADERS)
+                    .build());
+        }
+
+        // Reuse the cached image without waiting for a render thread
+        final byte[] cached = cacheKey != null ? renderCache.get(cacheKey) : null;
+        if (cached != null) {
+            return Uni.createFrom().item(imageResponse(cached, qrCodeConfig.getMimeType(), entityTag));
+        }
+
+        // Generate off the event loop and wrap in a Response, answer fast if all render threads are busy
+        return renderExecutor.submit(() -> {
+                    try {
+                        final byte[] qrBytes = qrCodeGenerator.generateQRCode(qrCodeConfig);
+                        if (cacheKey != null) {
+                            renderCache.put(cacheKey, qrBytes);
+                        }
+                        return imageResponse(qrBytes, qrCodeConfig.getMimeType(), entityTag);
+                    } catch (Exception e) {
+                        throw new QrCodeGeneratorException("QR generation failed: " + e.getMessage(), e);
+                    }
+                })
+                .onFailure(RejectedExecutionException.class)
+                .recoverWithItem(() -> Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, renderExecutor.getRetryAfter())
+                        .build());
+    }
+
+    // Cache key of the request, null if the image is not cached
+    private String cacheKey(final QrCodeConfig qrCodeConfig) {
+        final QrCodeConfig config = QrCodeConfigService.getInstance().applyDefaultConfig(qrCodeConfig);
+        final String qrContent;
+        try {
+            qrContent = qrCodeGenerator.qrContent(config);
+        } catch (RuntimeException e) {
+            // Data that cannot be encoded is reported by the render
+            return null;
+        }
+        return renderCache.key(config, qrContent);
+    }
+
+    private Response imageResponse(final byte[] qrBytes, final String mimeType, final EntityTag entityTag) {
+        final Response.ResponseBuilder response = Response.ok(qrBytes, mimeType)
+                .header(HttpHeaders.VARY, VARY_HEADERS);
+        if (entityTag == null) {
+            // Image not cached, ex: with a logo of unknown version, to be revalidated on every use
+            final CacheControl noCache = new CacheControl();
+            noCache.setNoCache(true);
+            return response.cacheControl(noCache).build();
+        }
+        return response.tag(entityTag).cacheControl(renderCache.cacheControl()).build();
     }
 
     public Uni<java.util.List<QrCodeConfig>> listPresets() {
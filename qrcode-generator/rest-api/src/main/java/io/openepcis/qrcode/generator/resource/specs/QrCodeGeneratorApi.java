@@ -58,6 +58,7 @@ public interface QrCodeGeneratorApi {
     @APIResponse(responseCode = "400", description = API_INVALID_REQUEST_RESPONSE)
     @APIResponse(responseCode = "406", description = API_UNSUPPORTED_ACCEPT_RESPONSE)
     @APIResponse(responseCode = "500", description = API__SERVER_ERROR_RESPONSE)
+    @APIResponse(responseCode = "503", description = API_SERVICE_UNAVAILABLE_RESPONSE)
     Uni<Response> generate(
             @BeanParam final QrCodeGenerationParams params,
             final QrCodeConfig qrCodeConfig);
@@ -67,9 +68,11 @@ public interface QrCodeGeneratorApi {
     @Produces("*/*")
     @Operation(summary = GET_API_OPERATION_SUMMARY, description = GET_API_OPERATION_DESCRIPTION)
     @APIResponse(responseCode = "200", description = API_SUCCESS_RESPONSE, content = @Content(mediaType = "image/*"))
+    @APIResponse(responseCode = "304", description = API_NOT_MODIFIED_RESPONSE)
     @APIResponse(responseCode = "400", description = API_INVALID_REQUEST_RESPONSE)
     @APIResponse(responseCode = "406", description = API_UNSUPPORTED_ACCEPT_RESPONSE)
     @APIResponse(responseCode = "500", description = API__SERVER_ERROR_RESPONSE)
+    @APIResponse(responseCode = "503", description = API_SERVICE_UNAVAILABLE_RESPONSE)
     Uni<Response> fetch(@BeanParam final QrCodeGenerationParams params,
                             @PathParam("linkPath")
                             @Parameter(description = GET_API_PATH_PARAMETER_DESCRIPTION) final String linkPath);
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.qrcode.generator.resource.service;
+
+import io.openepcis.qrcode.generator.QrCodeConfig;
+import io.openepcis.qrcode.generator.QrCodeGenerator;
+import io.openepcis.qrcode.generator.spi.service.QrCodeConfigService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QrCodeRenderCacheTest {
+
+    private static final String DATA = "https://id.gs1.org/01/09520123456788/10/ABC123";
+
+    @TempDir
+    Path tempDir;
+
+    private QrCodeRenderCache cache;
+    private QrCodeGenerator generator;
+
+    @BeforeEach
+    public void before() {
+        cache = new QrCodeRenderCache();
+        cache.maxBytes = 800;
+        cache.maxAge = 60;
+        generator = new QrCodeGenerator();
+    }
+
+    @Test
+    public void ifNoneMatchTest() {
+        final String key = key(QrCodeConfig.builder().data(DATA).build());
+
+        // Matching ETag, alone, weak or in a list
+        assertTrue(cache.isNotModified(key, '"' + key + '"'));
+        assertTrue(cache.isNotModified(key, "W/\"" + key + '"'));
+        assertTrue(cache.isNotModified(key, "\"other\", \"" + key + '"'));
+
+        // Non-matching ETag
+        assertFalse(cache.isNotModified(key, "\"other\""));
+        assertFalse(cache.isNotModified(key, key));
+        assertFalse(cache.isNotModified(key, null));
+        assertFalse(cache.isNotModified(key, " "));
+
+        // Any current image
+        assertTrue(cache.isNotModified(key, "*"));
+    }
+
+    // Configurations with the same effective values after the design preset defaults share the image
+    @Test
+    public void presetDefaultsTest() {
+        final String gs1 = key(QrCodeConfig.builder().data(DATA).designPreset("GS1").build());
+
+        // The width is replaced by the GS1 preset default, the preset name is matched ignoring case
+        assertEquals(gs1, key(QrCodeConfig.builder().data(DATA).designPreset("gs1").qrWidth(300).build()));
+
+        // Only the defaults of the preset differ
+        assertNotEquals(gs1, key(QrCodeConfig.builder().data(DATA).designPreset("OpenEPCIS").build()));
+        assertNotEquals(gs1, key(QrCodeConfig.builder().data(DATA).build()));
+    }
+
+    @Test
+    public void normalizedDataTest() {
+        final String key = key(QrCodeConfig.builder().data(DATA).build());
+        assertEquals(key, key(QrCodeConfig.builder().data("  " + DATA + "\n").build()));
+        assertNotEquals(key, key(QrCodeConfig.builder().data(DATA + "1").build()));
+
+        // Same encoded content once converted to upper case
+        assertEquals(key(QrCodeConfig.builder().data(DATA.toUpperCase()).compressWithUppercase(true).build()),
+                key(QrCodeConfig.builder().data(DATA).compressWithUppercase(true).build()));
+
+        // The HRI text is taken from the data as given
+        assertNotEquals(key(QrCodeConfig.builder().data(DATA).addHri(true).build()),
+                key(QrCodeConfig.builder().data(" " + DATA).addHri(true).build()));
+    }
+
+    @Test
+    public void logoVersionTest() throws Exception {
+        final File logoFile = tempDir.resolve("logo.png").toFile();
+        Files.write(logoFile.toPath(), new byte[]{1, 2, 3});
+        final QrCodeConfig config = QrCodeConfig.builder().data(DATA)
+                .logoResourceUrl(logoFile.toURI().toString()).logoScale(0.2f).build();
+
+        final String key = key(config);
+        assertNotNull(key);
+        assertEquals(key, key(config));
+
+        // Rewritten logo file
+        Files.write(logoFile.toPath(), new byte[]{1, 2, 3, 4});
+        assertTrue(logoFile.setLastModified(logoFile.lastModified() + 2000));
+        assertNotEquals(key, key(config));
+
+        // Remote logo of unknown version, not cached
+        config.setLogoResourceUrl("http://localhost:1/logo.png");
+        assertNull(key(config));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedImagesTest() {
+        // Room for 8 images of 100 bytes
+        for (int i = 0; i < 8; i++) {
+            cache.put("key" + i, new byte[100]);
+        }
+        for (int i = 0; i < 8; i++) {
+            assertNotNull(cache.get("key" + i));
+        }
+
+        // key0 has been used most recently before key1
+        cache.get("key0");
+        for (int i = 2; i < 8; i++) {
+            cache.get("key" + i);
+        }
+        cache.put("key8", new byte[100]);
+        assertNull(cache.get("key1"));
+        assertNotNull(cache.get("key0"));
+        assertNotNull(cache.get("key8"));
+
+        // Replacing an image only accounts the difference of the sizes
+        cache.put("key8", new byte[50]);
+        cache.put("key9", new byte[50]);
+        assertNotNull(cache.get("key2"));
+        assertNotNull(cache.get("key9"));
+
+        // Images beyond the share of a single image are not cached
+        cache.put("large", new byte[101]);
+        assertNull(cache.get("large"));
+        assertNotNull(cache.get("key2"));
+    }
+
+    private String key(final QrCodeConfig qrCodeConfig) {
+        final QrCodeConfig config = QrCodeConfigService.getInstance().applyDefaultConfig(qrCodeConfig);
+        return cache.key(config, generator.qrContent(config));
+    }
+}
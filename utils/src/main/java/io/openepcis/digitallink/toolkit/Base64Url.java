@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.toolkit;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * URI safe base64 alphabet used by the compressed GS1 Digital Link, as lookup tables in both
+ * directions so that characters are mapped without searching the alphabet.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class Base64Url {
+
+    static final int BITS_PER_CHARACTER = 6;
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    // VALUES[c] is the index of the ASCII character c in the alphabet, -1 if not part of it
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    /**
+     * @return the 6 bit value of the character, -1 if it is not part of the alphabet
+     */
+    static int value(final char c) {
+        return c < VALUES.length ? VALUES[c] : -1;
+    }
+
+    /**
+     * @return the character of the 6 bit value
+     */
+    static char character(final int value) {
+        return ALPHABET[value];
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.toolkit;
+
+/**
+ * Sequential reader over the bits of a compressed GS1 Digital Link, decoded from URI safe base64
+ * into big endian {@code long} words. Counterpart of {@link BitWriter}.
+ *
+ * <p>Instances are not thread safe, one reader is used per decompression.
+ */
+final class BitReader {
+
+    private static final String TRUNCATED_MESSAGE = "Decompression error: Compressed data ends unexpectedly at bit ";
+
+    // Base of the decimal digit groups
+    private static final int BILLION = 1_000_000_000;
+    private static final int DIGITS_PER_GROUP = 9;
+
+    private final long[] words;
+    private final int length;
+    private int position;
+
+    private BitReader(final long[] words, final int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    /**
+     * @param base64 URI safe base64 characters, 6 bits each
+     * @return reader positioned before the first bit
+     * @throws IllegalArgumentException if a character is not part of the URI safe base64 alphabet
+     */
+    static BitReader fromBase64(final CharSequence base64) {
+        final int length = base64.length() * Base64Url.BITS_PER_CHARACTER;
+        // One spare word so that reads never need a bounds check for the second word
+        final long[] words = new long[(length >>> 6) + 2];
+        int offset = 0;
+        for (int i = 0; i < base64.length(); i++) {
+            final int value = Base64Url.value(base64.charAt(i));
+            if (value < 0) {
+                throw new IllegalArgumentException(
+                        "Decompression error: Invalid base64 character: " + base64.charAt(i));
+            }
+            final int index = offset >>> 6;
+            final int free = 64 - (offset & 63);
+            if (free >= Base64Url.BITS_PER_CHARACTER) {
+                words[index] |= (long) value << (free - Base64Url.BITS_PER_CHARACTER);
+            } else {
+                words[index] |= (long) value >>> (Base64Url.BITS_PER_CHARACTER - free);
+                words[index + 1] |= (long) value << (64 - (Base64Url.BITS_PER_CHARACTER - free));
+            }
+            offset += Base64Url.BITS_PER_CHARACTER;
+        }
+        return new BitReader(words, length);
+    }
+
+    /**
+     * @return the number of bits not read yet
+     */
+    int remaining() {
+        return length - position;
+    }
+
+    /**
+     * Reads the next bits as unsigned value.
+     *
+     * @param width number of bits to read, 0 to 64
+     * @throws IllegalArgumentException if less bits are remaining
+     */
+    long read(final int width) {
+        final long value = peek(0, width);
+        position += width;
+        return value;
+    }
+
+    /**
+     * Reads bits ahead of the current position without consuming them.
+     *
+     * @param skip  number of bits after the current position to start reading at
+     * @param width number of bits to read, 0 to 64
+     * @throws IllegalArgumentException if less bits are remaining
+     */
+    long peek(final int skip, final int width) {
+        final int offset = position + skip;
+        if (offset + width > length) {
+            throw new IllegalArgumentException(TRUNCATED_MESSAGE + offset);
+        }
+        if (width == 0) {
+            return 0;
+        }
+        final int index = offset >>> 6;
+        final int shift = offset & 63;
+        long value = words[index] << shift;
+        if (shift + width > 64) {
+            value |= words[index + 1] >>> (64 - shift);
+        }
+        return value >>> (64 - width);
+    }
+
+    /**
+     * Reads the next bits as unsigned binary integer and appends it in decimal, left padded with
+     * zeros to the minimum number of digits. Values of up to 63 bits are converted with long
+     * arithmetic, longer ones with base 2^32 limbs.
+     *
+     * @param target    receives the decimal digits
+     * @param width     number of bits to read, at least 1
+     * @param minDigits minimum number of digits to append, 0 for no padding
+     * @throws IllegalArgumentException if the width is 0 or less bits are remaining
+     */
+    void readDecimal(final StringBuilder target, final int width, final int minDigits) {
+        if (width == 0) {
+            throw new IllegalArgumentException("Decompression error: Zero length numeric value at bit " + position);
+        }
+        if (width < 64) {
+            final long value = read(width);
+            appendZeros(target, minDigits - decimalLength(value));
+            target.append(value);
+            return;
+        }
+        if (width > remaining()) {
+            throw new IllegalArgumentException(TRUNCATED_MESSAGE + position);
+        }
+
+        // Magnitude in base 2^32, most significant limb first
+        final int[] limbs = new int[(width + 31) >>> 5];
+        int limbWidth = width - ((limbs.length - 1) << 5);
+        for (int i = 0; i < limbs.length; i++) {
+            limbs[i] = (int) read(limbWidth);
+            limbWidth = 32;
+        }
+
+        // Base 10^9 groups, least significant first, by repeated division of the limbs. A bit holds
+        // less than 0.31 decimal digits
+        final int[] groups = new int[width * 31 / 100 / DIGITS_PER_GROUP + 2];
+        int groupCount = 0;
+        int first = 0;
+        do {
+            long remainder = 0;
+            for (int i = first; i < limbs.length; i++) {
+                final long dividend = remainder << 32 | (limbs[i] & 0xFFFFFFFFL);
+                limbs[i] = (int) (dividend / BILLION);
+                remainder = dividend % BILLION;
+            }
+            groups[groupCount++] = (int) remainder;
+            while (first < limbs.length && limbs[first] == 0) {
+                first++;
+            }
+        } while (first < limbs.length);
+
+        final int digits = decimalLength(groups[groupCount - 1]) + (groupCount - 1) * DIGITS_PER_GROUP;
+        appendZeros(target, minDigits - digits);
+        target.append(groups[groupCount - 1]);
+        for (int i = groupCount - 2; i >= 0; i--) {
+            appendZeros(target, DIGITS_PER_GROUP - decimalLength(groups[i]));
+            target.append(groups[i]);
+        }
+    }
+
+    private static int decimalLength(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private static void appendZeros(final StringBuilder target, final int count) {
+        for (int i = 0; i < count; i++) {
+            target.append('0');
+        }
+    }
+}
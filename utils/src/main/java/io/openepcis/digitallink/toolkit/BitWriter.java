@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.toolkit;
+
+import java.util.Arrays;
+
+/**
+ * Append only bit sequence packed into big endian {@code long} words, the first bit being the most
+ * significant bit of the first word. Used to build the binary payload of a compressed GS1 Digital
+ * Link without going through strings of '0' and '1' characters.
+ *
+ * <p>Instances are not thread safe, one writer is used per compression.
+ */
+final class BitWriter {
+
+    // Largest number of decimal digits which always fits into a long
+    private static final int MAX_LONG_DIGITS = 18;
+
+    // Largest number of decimal digits which always fits into an int
+    private static final int MAX_INT_DIGITS = 9;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private long[] words = new long[4];
+    private int length;
+
+    /**
+     * @return the number of bits written
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Appends the lowest bits of the value.
+     *
+     * @param value value holding the bits in its lowest bits, higher bits are ignored
+     * @param width number of bits to append, 0 to 64
+     */
+    void write(final long value, final int width) {
+        if (width == 0) {
+            return;
+        }
+        ensureCapacity(length + width);
+        final long bits = width == 64 ? value : value & ((1L << width) - 1);
+        final int index = length >>> 6;
+        final int used = length & 63;
+        final int free = 64 - used;
+        if (width <= free) {
+            words[index] |= bits << (free - width);
+        } else {
+            // Spans two words, the high bits go to the end of the first one
+            words[index] |= bits >>> (width - free);
+            words[index + 1] |= bits << (64 - (width - free));
+        }
+        length += width;
+    }
+
+    /**
+     * Appends the non negative value left padded with zero bits to the minimum width. Values which
+     * need more bits than the minimum width are written with all of their bits, exactly like padding
+     * the binary representation of the value as string.
+     *
+     * @param value    non negative value
+     * @param minWidth minimum number of bits to append
+     */
+    void writePadded(final long value, final int minWidth) {
+        // The binary representation of 0 is one digit
+        final int valueWidth = Math.max(1, 64 - Long.numberOfLeadingZeros(value));
+        final int width = Math.max(minWidth, valueWidth);
+        if (width > 64) {
+            write(0, width - 64);
+            write(value, 64);
+        } else {
+            write(value, width);
+        }
+    }
+
+    /**
+     * Appends the decimal digits as binary integer of the given width, the value must fit into the
+     * width which is guaranteed for widths of at least {@code ceil(digits * log2(10))}. Numbers of
+     * up to 18 digits are converted with long arithmetic, longer ones with base 2^32 limbs.
+     *
+     * @param digits decimal digits
+     * @param start  index of the first digit
+     * @param end    index after the last digit
+     * @param width  number of bits to append
+     * @throws NumberFormatException if the range is empty or contains other characters than digits
+     */
+    void writeDecimal(final CharSequence digits, final int start, final int end, final int width) {
+        if (start >= end) {
+            throw new NumberFormatException("Zero length decimal value");
+        }
+        if (end - start <= MAX_LONG_DIGITS) {
+            writePadded(parseDigits(digits, start, end), width);
+            return;
+        }
+
+        // Magnitude in base 2^32, least significant limb first
+        final int[] limbs = new int[(width >>> 5) + 1];
+        for (int i = start; i < end; i += MAX_INT_DIGITS) {
+            final int chunkEnd = Math.min(end, i + MAX_INT_DIGITS);
+            final long factor = POWERS_OF_TEN[chunkEnd - i];
+            long carry = parseDigits(digits, i, chunkEnd);
+            for (int j = 0; j < limbs.length; j++) {
+                final long product = (limbs[j] & 0xFFFFFFFFL) * factor + carry;
+                limbs[j] = (int) product;
+                carry = product >>> 32;
+            }
+        }
+
+        int remaining = width;
+        while (remaining > 0) {
+            final int limb = (remaining - 1) >>> 5;
+            final int limbWidth = remaining - (limb << 5);
+            write(limbs[limb], limbWidth);
+            remaining -= limbWidth;
+        }
+    }
+
+    /**
+     * @return the bits as URI safe base64, the last character being padded with zero bits
+     */
+    String toBase64() {
+        final int characters = (length + Base64Url.BITS_PER_CHARACTER - 1) / Base64Url.BITS_PER_CHARACTER;
+        final char[] target = new char[characters];
+        // Writing up to the next multiple of 6 bits keeps the padding inside of the words
+        ensureCapacity(characters * Base64Url.BITS_PER_CHARACTER);
+        int offset = 0;
+        for (int i = 0; i < characters; i++) {
+            target[i] = Base64Url.character((int) read(offset, Base64Url.BITS_PER_CHARACTER));
+            offset += Base64Url.BITS_PER_CHARACTER;
+        }
+        return new String(target);
+    }
+
+    private long read(final int offset, final int width) {
+        final int index = offset >>> 6;
+        final int shift = offset & 63;
+        long value = words[index] << shift;
+        if (shift + width > 64) {
+            value |= words[index + 1] >>> (64 - shift);
+        }
+        return value >>> (64 - width);
+    }
+
+    private void ensureCapacity(final int bits) {
+        final int required = (bits + 63) >>> 6;
+        if (required > words.length) {
+            words = Arrays.copyOf(words, Math.max(required, words.length * 2));
+        }
+    }
+
+    private static long parseDigits(final CharSequence digits, final int start, final int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(
+                        "For input string: \"" + digits.subSequence(start, end) + "\"");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
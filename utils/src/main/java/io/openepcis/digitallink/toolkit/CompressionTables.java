@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.toolkit;
+
+import io.openepcis.digitallink.model.ApplicationIdentifier;
+import io.openepcis.digitallink.utils.AiEntries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable snapshot of the tables used by {@link GS1DigitalLinkCompression}: the AI table, the
+ * compiled AI syntax patterns and the compression, optimisation and semantics tables. The snapshot
+ * is built once per class loader when the class is initialised, which also publishes it safely to
+ * all threads. It only depends on the bundled AI table, so native images can initialise it at build
+ * time and carry the tables in the image heap.
+ *
+ * <p>All maps and lists are unmodifiable and {@link Pattern}s are thread safe, the snapshot can be
+ * read concurrently without synchronisation. The {@code aiFlags} array is never written after
+ * construction.
+ */
+final class CompressionTables {
+
+    /**
+     * Component of the value of an AI in the compression table.
+     *
+     * @param numeric     true for digits only, false for alphanumeric values
+     * @param fixedLength true if the component always has {@code length} characters, false if it has
+     *                    up to {@code length} characters
+     * @param length      fixed or maximum number of characters
+     */
+    record Component(boolean numeric, boolean fixedLength, int length) {
+
+        static Component fixed(final boolean numeric, final int length) {
+            return new Component(numeric, true, length);
+        }
+
+        static Component variable(final boolean numeric, final int maxLength) {
+            return new Component(numeric, false, maxLength);
+        }
+    }
+
+    // AI codes, short names and legacy names to take the application identifiers from
+    private static final String[] AI_CODES = {"00", "01", "02", "10", "11", "12", "13", "15", "16", "17", "20", "21", "22", "235", "240", "241", "242", "243", "250", "251", "253", "254", "255", "30", "310n", "311n", "312n", "313n", "314n", "315n", "316n", "320n", "321n", "322n", "323n", "324n", "325n", "326n", "327n", "328n", "329n", "330n", "331n", "332n", "333n", "334n", "335n", "336n", "337n", "340n", "341n", "342n", "343n", "344n", "345n", "346n", "347n", "348n", "349n", "350n", "351n", "352n", "353n", "354n", "355n", "356n", "357n", "360n", "361n", "362n", "363n", "364n", "365n", "366n", "367n", "368n", "369n", "37", "390n", "391n", "392n", "393n", "394n", "400", "401", "402", "403", "410", "411", "412", "413", "414", "415", "416", "417", "420", "421", "422", "423", "424", "425", "426", "427", "7001", "7002", "7003", "7004", "7005", "7006", "7007", "7008", "7009", "7010", "7020", "7021", "7022", "7023", "703s", "710", "711", "712", "713", "714", "723s", "7240", "8001", "8002", "8003", "8004", "8005", "8006", "8007", "8008", "8009", "8010", "8011", "8012", "8013", "8017", "8018", "8019", "8020", "8026", "8110", "8111", "8112", "8200", "90", "91", "92", "93", "94", "95", "96", "97", "98", "99", "gtin", "itip", "gmn", "cpid", "shipTo", "billTo", "purchasedFrom", "shipFor", "gln", "payTo", "glnProd", "gsrnp", "gsrn", "gcn", "sscc", "gdti", "ginc", "gsin", "grai", "giai"};
+
+    private static final CompressionTables INSTANCE = new CompressionTables();
+
+    final Map<String, List<Component>> tableF;
+    final Map<String, List<String>> tableOpt;
+    // Primary keys which identify instances, mapped to the qualifiers required for that, null if none
+    final Map<String, List<String>> tableS1;
+    final Map<String, List<String>> stringSemantics;
+    final Map<String, List<String>> classSemantics;
+    final Map<String, List<String>> dateSemantics;
+
+    final Map<String, Pattern> aiRegex;
+    final Map<String, String> aiShortCode;
+    final Map<String, List<String>> aiQualifiers;
+    final Map<String, String> aiCheckDigitPosition;
+    final Map<String, List<String>> aiMaps;
+    // AiEntries flags of the AIs in the table by AiEntries.aiIndex, 0 for other AIs
+    final byte[] aiFlags;
+    final Map<String, String> shortCodeToNumeric;
+    private final List<List<String>> aisByLength;
+
+    private CompressionTables() {
+        final List<ApplicationIdentifier> aitable = loadAiTable();
+
+        final Map<String, Pattern> regex = new HashMap<>();
+        final Map<String, String> shortCodes = new HashMap<>();
+        final Map<String, List<String>> qualifiers = new HashMap<>();
+        final Map<String, String> checkDigitPositions = new HashMap<>();
+        for (ApplicationIdentifier ai : aitable) {
+            regex.put(ai.getAi(), Pattern.compile("^" + ai.getRegex() + "$"));
+            if (ai.getShortcode() != null && !ai.getShortcode().isEmpty()) {
+                shortCodes.put(ai.getAi(), ai.getShortcode());
+            }
+            if (ai.getQualifiers() != null && !ai.getQualifiers().isEmpty()) {
+                qualifiers.put(ai.getAi(), Collections.unmodifiableList(new ArrayList<>(ai.getQualifiers())));
+            }
+            if (ai.getCheckDigit() != null && !ai.getCheckDigit().isEmpty()) {
+                checkDigitPositions.put(ai.getAi(), ai.getCheckDigit());
+            }
+        }
+        aiRegex = Collections.unmodifiableMap(regex);
+        aiShortCode = Collections.unmodifiableMap(shortCodes);
+        aiQualifiers = Collections.unmodifiableMap(qualifiers);
+        aiCheckDigitPosition = Collections.unmodifiableMap(checkDigitPositions);
+
+        final Map<String, List<String>> maps = new HashMap<>();
+        maps.put("identifiers", aitable.stream().filter(ai -> "I".equals(ai.getType())).map(ApplicationIdentifier::getAi).toList());
+        maps.put("qualifiers", aitable.stream().filter(ai -> "Q".equals(ai.getType())).map(ApplicationIdentifier::getAi).toList());
+        maps.put("dataAttributes", aitable.stream().filter(ai -> "D".equals(ai.getType())).map(ApplicationIdentifier::getAi).toList());
+        maps.put("fixedLength", aitable.stream().filter(ApplicationIdentifier::getFixedLength).map(ApplicationIdentifier::getAi).toList());
+        maps.put("variableLength", aitable.stream().filter(ai -> !ai.getFixedLength()).map(ApplicationIdentifier::getAi).toList());
+        aiMaps = Collections.unmodifiableMap(maps);
+
+        aiFlags = new byte[AiEntries.AI_INDEX_SIZE];
+        for (ApplicationIdentifier ai : aitable) {
+            aiFlags[AiEntries.aiIndex(ai.getAi(), 0, ai.getAi().length())] = (byte) AiEntries.getFlags(ai.getAi(), 0, ai.getAi().length());
+        }
+
+        final Map<String, String> numericCodes = new HashMap<>();
+        for (Map.Entry<String, String> entry : shortCodes.entrySet()) {
+            numericCodes.put(entry.getValue(), entry.getKey());
+        }
+        shortCodeToNumeric = Collections.unmodifiableMap(numericCodes);
+
+        final List<List<String>> byLength = new ArrayList<>(5);
+        for (int i = 0; i <= 4; i++) {
+            final int len = i;
+            byLength.add(i < 2 ? null : aitable.stream().filter(ai -> ai.getAi().length() == len).map(ApplicationIdentifier::getAi).toList());
+        }
+        aisByLength = Collections.unmodifiableList(byLength);
+
+        tableF = Collections.unmodifiableMap(createTableF());
+        tableOpt = Collections.unmodifiableMap(createTableOpt());
+        tableS1 = Collections.unmodifiableMap(createTableS1());
+
+        // Iteration order of the semantics tables determines the order of the JSON-LD output
+        final Map<String, List<String>> strings = new HashMap<>();
+        strings.put("01", List.of("gs1:gtin", "schema:gtin"));
+        strings.put("10", List.of("gs1:hasBatchLot"));
+        strings.put("21", List.of("gs1:hasSerialNumber"));
+        stringSemantics = Collections.unmodifiableMap(strings);
+
+        final Map<String, List<String>> classes = new HashMap<>();
+        classes.put("01", List.of("gs1:Product", "schema:Product"));
+        classes.put("414", List.of("gs1:Place", "schema:Place"));
+        classSemantics = Collections.unmodifiableMap(classes);
+
+        dateSemantics = Map.of("17", List.of("gs1:expirationDate"));
+    }
+
+    /**
+     * @return the snapshot shared by all compressors of the class loader
+     */
+    static CompressionTables getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return new array indexed by AI length holding the AIs of lengths 2 to 4, the lists are
+     * shared and unmodifiable
+     */
+    @SuppressWarnings("unchecked")
+    List<String>[] aisByLength() {
+        return aisByLength.toArray(new List[0]);
+    }
+
+    // Unique application identifiers of the AI codes
+    private static List<ApplicationIdentifier> loadAiTable() {
+        final Set<String> addedAis = new HashSet<>();
+        final List<ApplicationIdentifier> aitable = new ArrayList<>();
+        for (String code : AI_CODES) {
+            ApplicationIdentifier ai = AiEntries.getEntry(code);
+            if (ai != null && addedAis.add(ai.getAi())) {
+                aitable.add(ai);
+            }
+        }
+        return aitable;
+    }
+
+    private static Map<String, List<Component>> createTableF() {
+        final Map<String, List<Component>> table = new LinkedHashMap<>();
+        table.put("00", List.of(Component.fixed(true, 18)));
+        table.put("01", List.of(Component.fixed(true, 14)));
+        table.put("10", List.of(Component.variable(false, 20)));
+        table.put("17", List.of(Component.fixed(true, 6)));
+        table.put("21", List.of(Component.variable(false, 20)));
+        table.put("414", List.of(Component.fixed(true, 13)));
+        table.put("254", List.of(Component.variable(false, 20)));
+        table.put("8018", List.of(Component.fixed(true, 18)));
+        table.put("8019", List.of(Component.variable(true, 10)));
+        table.put("253", List.of(Component.fixed(true, 13), Component.variable(false, 17)));
+        table.put("255", List.of(Component.fixed(true, 13), Component.variable(true, 12)));
+        return table;
+    }
+
+    private static Map<String, List<String>> createTableOpt() {
+        final Map<String, List<String>> table = new LinkedHashMap<>();
+        table.put("0B", List.of("01", "10"));
+        table.put("0C", List.of("01", "21"));
+        table.put("0D", List.of("01", "17"));
+        table.put("9C", List.of("8018", "8019"));
+        table.put("9D", List.of("414", "254"));
+        return table;
+    }
+
+    private static Map<String, List<String>> createTableS1() {
+        final Map<String, List<String>> table = new LinkedHashMap<>();
+        table.put("01", List.of("21", "235"));
+        table.put("00", null);
+        return table;
+    }
+}
@@ -3,13 +3,12 @@ package io.openepcis.digitallink.toolkit;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.openepcis.digitallink.model.ApplicationIdentifier;
 import io.openepcis.digitallink.utils.AiEntries;
+import io.openepcis.digitallink.utils.GS1CheckDigit;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import java.io.UnsupportedEncodingException;
-import java.math.BigInteger;
 import java.net.URLDecoder;
 import java.time.LocalDate;
 import java.time.Year;
@@ -26,6 +25,12 @@ import java.util.stream.Collectors;
  * <p>
  * NOTE: This class requires the Jackson Databind library for JSON processing
  * in the analyseURIsemantics method.
+ * <p>
+ * Instances are immutable and thread safe, the same instance can be used concurrently from any
+ * number of threads, including virtual threads, without synchronisation. The data tables are built
+ * once per class loader and shared by all instances, creating an instance only copies a few
+ * references. The public {@code aiMaps}, {@code shortCodeToNumeric} and {@code AIsByLength} lists
+ * are unmodifiable.
  *
  * @version 1.2
  * @see <a href="https://github.com/gs1/GS1DigitalLink-Toolkit">Original JS Toolkit</a>
@@ -78,48 +83,51 @@ public class GS1DigitalLinkCompression {
         Map<String, String> nonId = new LinkedHashMap<>();
     }
 
-    /**
-     * Holds the result of a decoding operation.
-     */
-    private static class DecodeResult {
-        Map<String, String> gs1AIarray;
-        int cursor;
-        String s;
-    }
-
     //endregion
 
     //region Member Variables (Data Resources)
 
-    private final List<ApplicationIdentifier> aitable = new ArrayList<>();
-    private final Map<String, List<Map<String, String>>> tableF = new LinkedHashMap<>();
-    private final Map<String, String[]> tableOpt = new LinkedHashMap<>();
-    private final Map<String, Map<String, Object>> tableS1 = new LinkedHashMap<>();
-    private final Map<String, String[]> pathSequenceConstraints = new HashMap<>();
-    private final Map<String, String[]> stringSemantics = new HashMap<>();
-    private final Map<String, String[]> classSemantics = new HashMap<>();
-    private final Map<String, String[]> dateSemantics = new HashMap<>();
-    private final Map<String, String[]> dateTimeSecondsSemantics = new HashMap<>();
-    private final Map<String, String[]> dateTimeMinutesSemantics = new HashMap<>();
-    private final Map<String, String[]> dateRangeSemantics = new HashMap<>();
-    private final Map<String, Map<String, Object>> quantitativeValueSemantics = new LinkedHashMap<>();
-
-    private static final String safeBase64Alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
-    private static final String hexAlphabet = "0123456789ABCDEF";
-
-    private final Pattern regexAllNum = Pattern.compile("^[0-9]+$");
-    private final Pattern regexHexLower = Pattern.compile("^[0-9a-f]+$");
-    private final Pattern regexHexUpper = Pattern.compile("^[0-9A-F]+$");
-    private final Pattern regexSafe64 = Pattern.compile("^[A-Za-z0-9_-]+$");
-
-    private final Map<String, String> tableOptReverse = new HashMap<>();
-    private final Map<String, Pattern> aiRegex = new HashMap<>();
-    private final Map<String, String> aiShortCode = new HashMap<>();
-    private final Map<String, List<String>> aiQualifiers = new HashMap<>();
-    private final Map<String, String> aiCheckDigitPosition = new HashMap<>();
-
-    public final Map<String, List<String>> aiMaps = new HashMap<>();
-    public final Map<String, String> shortCodeToNumeric = new HashMap<>();
+    private final Map<String, List<CompressionTables.Component>> tableF;
+    private final Map<String, List<String>> tableOpt;
+    private final Map<String, List<String>> tableS1;
+    private final Map<String, List<String>> stringSemantics;
+    private final Map<String, List<String>> classSemantics;
+    private final Map<String, List<String>> dateSemantics;
+
+    private static final char[] hexAlphabet = "0123456789ABCDEF".toCharArray();
+
+    // Encodings of alphanumeric values, stored in 3 bits before the value
+    private static final int ENCODING_NUMERIC = 0;
+    private static final int ENCODING_HEX_LOWER = 1;
+    private static final int ENCODING_HEX_UPPER = 2;
+    private static final int ENCODING_BASE64 = 3;
+    private static final int ENCODING_ASCII = 4;
+    private static final int ENCODING_BITS = 3;
+
+    // Key of the non-GS1 key value pairs, 4 bits of 1 followed by 7 bits of key length
+    private static final int NON_GS1_KEY_FLAG = 0xF;
+    private static final int NON_GS1_LENGTH_BITS = 7;
+
+    // HEX_PAIRS[b] is the two hex characters of the byte b, as used for AI and optimisation codes
+    private static final String[] HEX_PAIRS = new String[256];
+
+    static {
+        for (int i = 0; i < HEX_PAIRS.length; i++) {
+            HEX_PAIRS[i] = new String(new char[]{hexAlphabet[i >>> 4], hexAlphabet[i & 0xF]});
+        }
+    }
+
+    private static final Pattern regexAllNum = Pattern.compile("^[0-9]+$");
+    private static final Pattern regexSafe64 = Pattern.compile("^[A-Za-z0-9_-]+$");
+
+    private final Map<String, Pattern> aiRegex;
+    private final Map<String, String> aiShortCode;
+    private final Map<String, List<String>> aiQualifiers;
+    private final Map<String, String> aiCheckDigitPosition;
+
+    public final Map<String, List<String>> aiMaps;
+    private final byte[] aiFlags;
+    public final Map<String, String> shortCodeToNumeric;
     public final List<String>[] AIsByLength;
     public final char groupSeparator = (char) 29;
 
@@ -127,52 +135,29 @@ public class GS1DigitalLinkCompression {
 
     /**
      * Constructor for the GS1DigitalLinkToolkit.
-     * Initializes all the necessary data tables and regular expressions.
+     * The data tables and regular expressions are taken from a snapshot shared by all instances,
+     * which is built once on first use.
      */
     @Inject
     public GS1DigitalLinkCompression() {
-        // Populate aitable from AiEntries
-        populateAiTableFromAiEntries();
-
-        // Initialize other tables
-        initializeHardcodedTables();
-
-        for (Map.Entry<String, String[]> entry : tableOpt.entrySet()) {
-            List<String> sortedValues = new ArrayList<>(Arrays.asList(entry.getValue()));
-            Collections.sort(sortedValues);
-            tableOptReverse.put(sortedValues.toString(), entry.getKey());
-        }
-
-        for (ApplicationIdentifier ai : aitable) {
-            if (ai != null) {
-                aiRegex.put(ai.getAi(), Pattern.compile("^" + ai.getRegex() + "$"));
-                if (ai.getShortcode() != null && !ai.getShortcode().isEmpty()) {
-                    aiShortCode.put(ai.getAi(), ai.getShortcode());
-                }
-                if (ai.getQualifiers() != null && !ai.getQualifiers().isEmpty()) {
-                    aiQualifiers.put(ai.getAi(), ai.getQualifiers());
-                }
-                if (ai.getCheckDigit() != null && !ai.getCheckDigit().isEmpty()) {
-                    aiCheckDigitPosition.put(ai.getAi(), ai.getCheckDigit());
-                }
-            }
-        }
-
-        aiMaps.put("identifiers", aitable.stream().filter(ai -> "I".equals(ai.getType())).map(ApplicationIdentifier::getAi).collect(Collectors.toList()));
-        aiMaps.put("qualifiers", aitable.stream().filter(ai -> "Q".equals(ai.getType())).map(ApplicationIdentifier::getAi).collect(Collectors.toList()));
-        aiMaps.put("dataAttributes", aitable.stream().filter(ai -> "D".equals(ai.getType())).map(ApplicationIdentifier::getAi).collect(Collectors.toList()));
-        aiMaps.put("fixedLength", aitable.stream().filter(ApplicationIdentifier::getFixedLength).map(ApplicationIdentifier::getAi).collect(Collectors.toList()));
-        aiMaps.put("variableLength", aitable.stream().filter(ai -> !ai.getFixedLength()).map(ApplicationIdentifier::getAi).collect(Collectors.toList()));
-
-        for (Map.Entry<String, String> entry : aiShortCode.entrySet()) {
-            shortCodeToNumeric.put(entry.getValue(), entry.getKey());
-        }
+        this(CompressionTables.getInstance());
+    }
 
-        AIsByLength = new ArrayList[5];
-        for (int i = 2; i <= 4; i++) {
-            final int len = i;
-            AIsByLength[i] = aitable.stream().filter(ai -> ai.getAi().length() == len).map(ApplicationIdentifier::getAi).collect(Collectors.toList());
-        }
+    private GS1DigitalLinkCompression(CompressionTables tables) {
+        tableF = tables.tableF;
+        tableOpt = tables.tableOpt;
+        tableS1 = tables.tableS1;
+        stringSemantics = tables.stringSemantics;
+        classSemantics = tables.classSemantics;
+        dateSemantics = tables.dateSemantics;
+        aiRegex = tables.aiRegex;
+        aiShortCode = tables.aiShortCode;
+        aiQualifiers = tables.aiQualifiers;
+        aiCheckDigitPosition = tables.aiCheckDigitPosition;
+        aiMaps = tables.aiMaps;
+        aiFlags = tables.aiFlags;
+        shortCodeToNumeric = tables.shortCodeToNumeric;
+        AIsByLength = tables.aisByLength();
     }
 
     //region Public API Methods
@@ -193,6 +178,12 @@ public class GS1DigitalLinkCompression {
         String pos = aiCheckDigitPosition.get(ai);
         l = "L".equals(pos) ? gs1IDValue.length() : Integer.parseInt(pos);
 
+        final int checkDigit = GS1CheckDigit.compute(gs1IDValue, 0, l - 1);
+        if (checkDigit >= 0) {
+            return checkDigit;
+        }
+
+        // Values with other characters than digits keep the former scalar result
         for (int i = l - 2; i >= 0; i--) {
             int d = Character.getNumericValue(gs1IDValue.charAt(i));
             int multiplier = ((counter % 2) == 0) ? 3 : 1;
@@ -284,12 +275,11 @@ public class GS1DigitalLinkCompression {
         List<String> qualifiers = new ArrayList<>();
         List<String> attributes = new ArrayList<>();
 
-        List<String> variableLengthAIs = aiMaps.get("variableLength");
-
         gs1AIarray.keySet().forEach(key -> {
-            if (aiMaps.get("identifiers").contains(key)) identifiers.add(key);
-            if (aiMaps.get("qualifiers").contains(key)) qualifiers.add(key);
-            if (aiMaps.get("dataAttributes").contains(key)) attributes.add(key);
+            final int flags = aiFlags(key);
+            if ((flags & AiEntries.IDENTIFIER) != 0) identifiers.add(key);
+            if ((flags & AiEntries.QUALIFIER) != 0) qualifiers.add(key);
+            if ((flags & AiEntries.DATA_ATTRIBUTE) != 0) attributes.add(key);
         });
 
         StringBuilder elementStrings = new StringBuilder();
@@ -321,8 +311,8 @@ public class GS1DigitalLinkCompression {
         } else {
             List<String> sortedAIs = new ArrayList<>(gs1AIarray.keySet());
             sortedAIs.sort((s1, s2) -> {
-                boolean s1IsVar = variableLengthAIs.contains(s1);
-                boolean s2IsVar = variableLengthAIs.contains(s2);
+                boolean s1IsVar = (aiFlags(s1) & AiEntries.VARIABLE_LENGTH) != 0;
+                boolean s2IsVar = (aiFlags(s2) & AiEntries.VARIABLE_LENGTH) != 0;
                 if (s1IsVar == s2IsVar) {
                     return s1.compareTo(s2);
                 }
@@ -332,7 +322,7 @@ public class GS1DigitalLinkCompression {
             for (int i = 0; i < sortedAIs.size(); i++) {
                 String ai = sortedAIs.get(i);
                 elementStrings.append(ai).append(padGTIN(ai, gs1AIarray.get(ai)));
-                if (variableLengthAIs.contains(ai) && i < sortedAIs.size() - 1) {
+                if ((aiFlags(ai) & AiEntries.VARIABLE_LENGTH) != 0 && i < sortedAIs.size() - 1) {
                     elementStrings.append(groupSeparator);
                 }
             }
@@ -355,9 +345,10 @@ public class GS1DigitalLinkCompression {
         List<String> attributes = new ArrayList<>();
 
         gs1AIarray.keySet().forEach(key -> {
-            if (aiMaps.get("identifiers").contains(key)) identifiers.add(key);
-            if (aiMaps.get("qualifiers").contains(key)) qualifiers.add(key);
-            if (aiMaps.get("dataAttributes").contains(key)) attributes.add(key);
+            final int flags = aiFlags(key);
+            if ((flags & AiEntries.IDENTIFIER) != 0) identifiers.add(key);
+            if ((flags & AiEntries.QUALIFIER) != 0) qualifiers.add(key);
+            if ((flags & AiEntries.DATA_ATTRIBUTE) != 0) attributes.add(key);
         });
 
         if (identifiers.size() != 1) {
@@ -468,7 +459,7 @@ public class GS1DigitalLinkCompression {
         for (int i = 0; i < pathSegments.length; i += 2) {
             String pcc = pathSegments[i];
             String numkey = regexAllNum.matcher(pcc).matches() ? pcc : shortCodeToNumeric.get(pcc);
-            if (numkey != null && aiMaps.get("identifiers").contains(numkey)) {
+            if ((aiFlags(numkey) & AiEntries.IDENTIFIER) != 0) {
                 primaryIdPathIndex = i;
                 numericPrimaryIdentifier = numkey;
                 break;
@@ -561,7 +552,7 @@ public class GS1DigitalLinkCompression {
 
         candidates.forEach((k, v) -> {
             String numkey = regexAllNum.matcher(k).matches() ? k : shortCodeToNumeric.get(k);
-            if (numkey != null && (aiMaps.get("identifiers").contains(numkey) || aiMaps.get("qualifiers").contains(numkey) || aiMaps.get("dataAttributes").contains(numkey))) {
+            if ((aiFlags(numkey) & (AiEntries.IDENTIFIER | AiEntries.QUALIFIER | AiEntries.DATA_ATTRIBUTE)) != 0) {
                 verifySyntax(numkey, v);
                 verifyCheckDigit(numkey, v);
                 rv.gs1.put(numkey, padGTIN(numkey, v));
@@ -586,11 +577,9 @@ public class GS1DigitalLinkCompression {
         final Map<String, String> decompressedAIs = new HashMap<>();
 
         if ("fully compressed GS1 Digital Link".equals(s.detected)) {
-            String binstr = base642bin(s.compressedPath);
-            decompressedAIs.putAll(decompressBinaryToGS1AIarray(binstr));
+            decompressedAIs.putAll(decompressBinaryToGS1AIarray(BitReader.fromBase64(s.compressedPath)));
         } else if ("partially compressed GS1 Digital Link".equals(s.detected)) {
-            String binstr = base642bin(s.compressedPath);
-            decompressedAIs.putAll(decompressBinaryToGS1AIarray(binstr));
+            decompressedAIs.putAll(decompressBinaryToGS1AIarray(BitReader.fromBase64(s.compressedPath)));
             // Add the uncompressed primary key from the path
             s.pathCandidates.forEach((key, value) -> {
                 String numkey = shortCodeToNumeric.getOrDefault(key, key);
@@ -601,7 +590,7 @@ public class GS1DigitalLinkCompression {
         // Handle query string parameters
         s.queryStringCandidates.forEach((key, value) -> {
             String numkey = shortCodeToNumeric.getOrDefault(key, key);
-            if (aiMaps.values().stream().anyMatch(list -> list.contains(numkey))) {
+            if (aiFlags(numkey) != 0) {
                 decompressedAIs.put(numkey, value);
             } else {
                 rv.other.put(key, value);
@@ -610,7 +599,7 @@ public class GS1DigitalLinkCompression {
 
         // Separate any non-GS1 keys that might have been decompressed
         decompressedAIs.forEach((key, value) -> {
-            if (aiMaps.values().stream().anyMatch(list -> list.contains(key))) {
+            if (aiFlags(key) != 0) {
                 rv.gs1.put(key, value);
             } else {
                 rv.other.put(key, value);
@@ -657,8 +646,8 @@ public class GS1DigitalLinkCompression {
         Map<String, String> nonGS1PairsToCompress = compressOtherKeyValuePairs ? extracted.other : new HashMap<>();
         Map<String, String> nonGS1PairsToKeepInQuery = compressOtherKeyValuePairs ? new HashMap<>() : extracted.other;
 
-        String binStr = compressGS1AIarrayToBinary(extracted.gs1, useOptimisations, nonGS1PairsToCompress);
-        String compressedPath = "/" + bin2base64(binStr);
+        BitWriter bits = compressGS1AIarrayToBinary(extracted.gs1, useOptimisations, nonGS1PairsToCompress);
+        String compressedPath = "/" + bits.toBase64();
 
         String finalURI = s.uriStem + compressedPath;
 
@@ -719,11 +708,10 @@ public class GS1DigitalLinkCompression {
 
         boolean isInstanceIdentifier = false;
         if (tableS1.containsKey(primaryIdentifier)) {
-            Map<String, Object> iiaqV = tableS1.get(primaryIdentifier);
-            if (iiaqV.get("requires") == null) {
+            List<String> requiredAIs = tableS1.get(primaryIdentifier);
+            if (requiredAIs == null) {
                 isInstanceIdentifier = true;
             } else {
-                List<String> requiredAIs = (List<String>) iiaqV.get("requires");
                 isInstanceIdentifier = requiredAIs.stream().anyMatch(elementStrings::containsKey);
             }
         }
@@ -733,7 +721,7 @@ public class GS1DigitalLinkCompression {
         ArrayNode otype = mapper.createArrayNode().add("rdfs:Class").add("owl:Class");
         classSemantics.entrySet().stream()
                 .filter(entry -> elementStrings.containsKey(entry.getKey()))
-                .forEach(entry -> Arrays.stream(entry.getValue()).forEach(otype::add));
+                .forEach(entry -> entry.getValue().forEach(otype::add));
         outputObject.set("@type", otype);
 
         stringSemantics.entrySet().stream()
@@ -766,11 +754,10 @@ public class GS1DigitalLinkCompression {
 
     //region Private and Helper Methods
 
-    private String padToLength(String input, int requiredLength) {
-        if (input.length() < requiredLength) {
-            return String.join("", Collections.nCopies(requiredLength - input.length(), "0")) + input;
-        }
-        return input;
+    // AiEntries flags of an AI of the compression tables, 0 if the key is no AI of the tables
+    private int aiFlags(String key) {
+        final int index = key == null ? -1 : AiEntries.aiIndex(key, 0, key.length());
+        return index < 0 ? 0 : aiFlags[index];
     }
 
     private String padGTIN(String ai, String value) {
@@ -841,36 +828,8 @@ public class GS1DigitalLinkCompression {
         return (int) Math.ceil(Math.log(maxLength) / Math.log(2) + 0.01);
     }
 
-    private String bin2base64(String binstr) {
-        StringBuilder rv = new StringBuilder();
-        if (binstr.length() % 6 > 0) {
-            int numberRightPadZeros = 6 - (binstr.length() % 6);
-            binstr += String.join("", Collections.nCopies(numberRightPadZeros, "0"));
-        }
-        for (int i = 0; i < binstr.length(); i += 6) {
-            String binFrag = binstr.substring(i, i + 6);
-            rv.append(safeBase64Alphabet.charAt(Integer.parseInt(binFrag, 2)));
-        }
-        return rv.toString();
-    }
-
-    private String base642bin(String base64str) {
-        StringBuilder rv = new StringBuilder();
-        for (char c : base64str.toCharArray()) {
-            int dec = safeBase64Alphabet.indexOf(c);
-            String bin = Integer.toBinaryString(dec);
-            rv.append(padToLength(bin, 6));
-        }
-        return rv.toString();
-    }
-
-    private String binstrToHex(String binstr) {
-        if (binstr.isEmpty()) return "";
-        return new BigInteger(binstr, 2).toString(16).toUpperCase();
-    }
-
-    private String compressGS1AIarrayToBinary(Map<String, String> gs1AIarray, boolean useOptimisations, Map<String, String> nonGS1keyvaluePairs) {
-        StringBuilder binstr = new StringBuilder();
+    private BitWriter compressGS1AIarrayToBinary(Map<String, String> gs1AIarray, boolean useOptimisations, Map<String, String> nonGS1keyvaluePairs) {
+        BitWriter bits = new BitWriter();
         List<String> akeysa = new ArrayList<>(gs1AIarray.keySet());
         Collections.sort(akeysa);
         List<String> optimisations = new ArrayList<>();
@@ -889,30 +848,30 @@ public class GS1DigitalLinkCompression {
         }
 
         for (String key : optimisations) {
-            binstr.append(binaryEncodingOfGS1AIKey(key));
+            binaryEncodingOfGS1AIKey(bits, key);
             for (String k : tableOpt.get(key)) {
-                binstr.append(binaryEncodingOfValue(gs1AIarray, k));
+                binaryEncodingOfValue(bits, gs1AIarray, k);
             }
         }
 
         for (String key : akeysa) {
-            binstr.append(binaryEncodingOfGS1AIKey(key));
-            binstr.append(binaryEncodingOfValue(gs1AIarray, key));
+            binaryEncodingOfGS1AIKey(bits, key);
+            binaryEncodingOfValue(bits, gs1AIarray, key);
         }
 
         if (nonGS1keyvaluePairs != null) {
             for (Map.Entry<String, String> entry : nonGS1keyvaluePairs.entrySet()) {
-                binstr.append(binaryEncodingOfNonGS1KeyValuePair(entry.getKey(), entry.getValue()));
+                binaryEncodingOfNonGS1KeyValuePair(bits, entry.getKey(), entry.getValue());
             }
         }
 
-        return binstr.toString();
+        return bits;
     }
 
     private Map<String, Integer> findCandidatesFromTableOpt(List<String> akeysa) {
         Map<String, Integer> candidates = new HashMap<>();
-        for (Map.Entry<String, String[]> entry : tableOpt.entrySet()) {
-            if (new HashSet<>(akeysa).containsAll(Arrays.asList(entry.getValue()))) {
+        for (Map.Entry<String, List<String>> entry : tableOpt.entrySet()) {
+            if (new HashSet<>(akeysa).containsAll(entry.getValue())) {
                 candidates.put(entry.getKey(), String.join("", entry.getValue()).length());
             }
         }
@@ -926,152 +885,146 @@ public class GS1DigitalLinkCompression {
                 .orElse("");
     }
 
-    private List<String> removeOptimisedKeysFromAIlist(List<String> akeysa, String[] toRemove) {
+    private List<String> removeOptimisedKeysFromAIlist(List<String> akeysa, List<String> toRemove) {
         List<String> remaining = new ArrayList<>(akeysa);
-        remaining.removeAll(Arrays.asList(toRemove));
+        remaining.removeAll(toRemove);
         return remaining;
     }
 
-    private String binaryEncodingOfGS1AIKey(String key) {
-        StringBuilder binAI = new StringBuilder();
-        for (char c : key.toCharArray()) {
-            binAI.append(padToLength(Integer.toBinaryString(Character.digit(c, 16)), 4));
+    private void binaryEncodingOfGS1AIKey(BitWriter bits, String key) {
+        for (int i = 0; i < key.length(); i++) {
+            // Characters which are no hex digits are written as 32 bits of 1, like the binary string of -1
+            bits.writePadded(Integer.toUnsignedLong(Character.digit(key.charAt(i), 16)), 4);
         }
-        return binAI.toString();
     }
 
-    private String binaryEncodingOfValue(Map<String, String> gs1AIarray, String key) {
-        StringBuilder binstr = new StringBuilder();
+    private void binaryEncodingOfValue(BitWriter bits, Map<String, String> gs1AIarray, String key) {
         if (tableF.containsKey(key)) {
             int cursor = 0;
             String value = gs1AIarray.get(key);
-            for (Map<String, String> tx : tableF.get(key)) {
-                if (tx.containsKey("L") && "N".equals(tx.get("E"))) {
-                    int len = Integer.parseInt(tx.get("L"));
-                    String charstr = value.substring(cursor, cursor + len);
+            for (CompressionTables.Component tx : tableF.get(key)) {
+                if (tx.fixedLength() && tx.numeric()) {
+                    int len = tx.length();
+                    Objects.checkFromToIndex(cursor, cursor + len, value.length());
+                    bits.writeDecimal(value, cursor, cursor + len, numberOfValueBits(len));
                     cursor += len;
-                    String binValue = padToLength(new BigInteger(charstr).toString(2), numberOfValueBits(len));
-                    binstr.append(binValue);
-                } else if (tx.containsKey("M") && "N".equals(tx.get("E"))) {
-                    int maxLen = Integer.parseInt(tx.get("M"));
-                    String charstr = value.substring(cursor);
-                    cursor += charstr.length();
-                    String lengthBits = padToLength(Integer.toBinaryString(charstr.length()), numberOfLengthBits(maxLen));
-                    String binValue = charstr.isEmpty() ? "" : padToLength(new BigInteger(charstr).toString(2), numberOfValueBits(charstr.length()));
-                    binstr.append(lengthBits).append(binValue);
-                } else if ("X".equals(tx.get("E"))) { // Alphanumeric
-                    String charstr;
-                    String lengthBits = "";
-                    if (tx.containsKey("L")) {
-                        int len = Integer.parseInt(tx.get("L"));
-                        charstr = value.substring(cursor, cursor + len);
-                        cursor += len;
+                } else if (tx.numeric()) {
+                    int maxLen = tx.length();
+                    int len = value.length() - cursor;
+                    bits.writePadded(len, numberOfLengthBits(maxLen));
+                    if (len > 0) {
+                        bits.writeDecimal(value, cursor, value.length(), numberOfValueBits(len));
+                    }
+                    cursor += len;
+                } else { // Alphanumeric
+                    int start = cursor;
+                    int lengthBits = -1;
+                    if (tx.fixedLength()) {
+                        cursor += tx.length();
+                        Objects.checkFromToIndex(start, cursor, value.length());
                     } else { // Variable length
-                        int maxLen = Integer.parseInt(tx.get("M"));
-                        charstr = value.substring(cursor);
-                        cursor += charstr.length();
-                        lengthBits = padToLength(Integer.toBinaryString(charstr.length()), numberOfLengthBits(maxLen));
+                        cursor = value.length();
+                        lengthBits = numberOfLengthBits(tx.length());
+                    }
+                    int enc = determineEncoding(value, start, cursor);
+                    bits.write(enc, ENCODING_BITS); // Encoding indicator
+                    if (lengthBits >= 0) {
+                        bits.writePadded(cursor - start, lengthBits); // Length bits (if variable)
                     }
-                    int enc = determineEncoding(charstr);
-                    binstr.append(padToLength(Integer.toBinaryString(enc), 3)); // Encoding indicator
-                    binstr.append(lengthBits); // Length bits (if variable)
-                    binstr.append(buildBinaryValue(charstr, enc));
+                    buildBinaryValue(bits, value, start, cursor, enc);
                 }
             }
         }
-        return binstr.toString();
     }
 
-    private String binaryEncodingOfNonGS1KeyValuePair(String key, String value) {
-        StringBuilder binstr = new StringBuilder();
+    private void binaryEncodingOfNonGS1KeyValuePair(BitWriter bits, String key, String value) {
         // Flag for non-GS1 key
-        binstr.append("1111");
+        bits.write(NON_GS1_KEY_FLAG, 4);
         // Key length (7 bits)
-        binstr.append(padToLength(Integer.toBinaryString(key.length()), 7));
+        bits.writePadded(key.length(), NON_GS1_LENGTH_BITS);
         // Key value (6 bits per char)
-        binstr.append(buildBinaryValue(key, 3)); // 3 is Base64 encoding
+        buildBinaryValue(bits, key, 0, key.length(), ENCODING_BASE64);
         // Value encoding
-        int enc = determineEncoding(value);
-        binstr.append(padToLength(Integer.toBinaryString(enc), 3));
+        int enc = determineEncoding(value, 0, value.length());
+        bits.write(enc, ENCODING_BITS);
         // Value length (7 bits)
-        binstr.append(padToLength(Integer.toBinaryString(value.length()), 7));
+        bits.writePadded(value.length(), NON_GS1_LENGTH_BITS);
         // Value
-        binstr.append(buildBinaryValue(value, enc));
-
-        return binstr.toString();
+        buildBinaryValue(bits, value, 0, value.length(), enc);
     }
 
-    private int determineEncoding(String charstr) {
-        if (regexAllNum.matcher(charstr).matches()) return 0;
-        if (regexHexLower.matcher(charstr).matches()) return 1;
-        if (regexHexUpper.matcher(charstr).matches()) return 2;
-        if (regexSafe64.matcher(charstr).matches()) return 3;
-        return 4; // Default to 7-bit ASCII
+    private int determineEncoding(String charstr, int start, int end) {
+        if (start == end) return ENCODING_ASCII;
+        boolean numeric = true;
+        boolean hexLower = true;
+        boolean hexUpper = true;
+        boolean base64 = true;
+        for (int i = start; i < end; i++) {
+            char c = charstr.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            numeric &= digit;
+            hexLower &= digit || (c >= 'a' && c <= 'f');
+            hexUpper &= digit || (c >= 'A' && c <= 'F');
+            base64 &= Base64Url.value(c) >= 0;
+        }
+        if (numeric) return ENCODING_NUMERIC;
+        if (hexLower) return ENCODING_HEX_LOWER;
+        if (hexUpper) return ENCODING_HEX_UPPER;
+        if (base64) return ENCODING_BASE64;
+        return ENCODING_ASCII; // Default to 7-bit ASCII
     }
 
-    private String buildBinaryValue(String charstr, int enc) {
-        StringBuilder binValue = new StringBuilder();
+    private void buildBinaryValue(BitWriter bits, String charstr, int start, int end, int enc) {
         switch (enc) {
-            case 0: // numeric
-                if (!charstr.isEmpty()) {
-                    binValue.append(padToLength(new BigInteger(charstr).toString(2), numberOfValueBits(charstr.length())));
+            case ENCODING_NUMERIC:
+                if (start < end) {
+                    bits.writeDecimal(charstr, start, end, numberOfValueBits(end - start));
                 }
                 break;
-            case 1: // hex lower
-            case 2: // hex upper
-                for (char c : charstr.toUpperCase().toCharArray()) {
-                    binValue.append(padToLength(Integer.toBinaryString(hexAlphabet.indexOf(c)), 4));
+            case ENCODING_HEX_LOWER:
+            case ENCODING_HEX_UPPER:
+                for (int i = start; i < end; i++) {
+                    bits.write(Character.digit(charstr.charAt(i), 16), 4);
                 }
                 break;
-            case 3: // base64
-                for (char c : charstr.toCharArray()) {
-                    binValue.append(padToLength(Integer.toBinaryString(safeBase64Alphabet.indexOf(c)), 6));
+            case ENCODING_BASE64:
+                for (int i = start; i < end; i++) {
+                    // Characters outside of the alphabet are written as 32 bits of 1, like the binary string of -1
+                    bits.writePadded(Integer.toUnsignedLong(Base64Url.value(charstr.charAt(i))), Base64Url.BITS_PER_CHARACTER);
                 }
                 break;
-            case 4: // ascii
-                for (char c : charstr.toCharArray()) {
-                    binValue.append(padToLength(Integer.toBinaryString(c), 7));
+            case ENCODING_ASCII:
+                for (int i = start; i < end; i++) {
+                    bits.writePadded(charstr.charAt(i), 7);
                 }
                 break;
         }
-        return binValue.toString();
     }
 
-    private Map<String, String> decompressBinaryToGS1AIarray(String binstr) {
+    private Map<String, String> decompressBinaryToGS1AIarray(BitReader bits) {
         Map<String, String> gs1AIarray = new LinkedHashMap<>();
-        int cursor = 0;
-
-        while ((binstr.length() - cursor) >= 8) {
-            String h1 = binstrToHex(binstr.substring(cursor, cursor + 4));
-            String h2 = binstrToHex(binstr.substring(cursor + 4, cursor + 8));
-            String h1h2 = h1 + h2;
-            cursor += 8;
-
-            if (regexAllNum.matcher(h1h2).matches()) { // Numeric AI
-                String ai = findAINumeric(h1h2, binstr, cursor);
-                cursor += (ai.length() - 2) * 4; // Advance cursor for 3 or 4 digit AIs
-                DecodeResult res = decodeBinaryValue(ai, binstr, cursor);
-                gs1AIarray.putAll(res.gs1AIarray);
-                cursor = res.cursor;
-            } else if ("F".equals(h1)) { // Non-GS1 Key
-                int keyLength = Integer.parseInt(binstr.substring(cursor - 4, cursor - 4 + 7), 2);
-                cursor += 3;
-                String key = buildString(keyLength, 3, binstr, cursor).s;
-                cursor += keyLength * 6;
-
-                int enc = Integer.parseInt(binstr.substring(cursor, cursor + 3), 2);
-                cursor += 3;
-                int valLength = Integer.parseInt(binstr.substring(cursor, cursor + 7), 2);
-                cursor += 7;
-                String value = buildString(valLength, enc, binstr, cursor).s;
-                cursor += getBitsForValue(valLength, enc);
+
+        while (bits.remaining() >= 8) {
+            int h1 = (int) bits.read(4);
+            int h2 = (int) bits.read(4);
+            String h1h2 = HEX_PAIRS[h1 << 4 | h2];
+
+            if (h1 <= 9 && h2 <= 9) { // Numeric AI
+                String ai = findAINumeric(h1h2, bits);
+                bits.read((ai.length() - 2) * 4); // Advance cursor for 3 or 4 digit AIs
+                gs1AIarray.put(ai, decodeBinaryValue(ai, bits));
+            } else if (h1 == NON_GS1_KEY_FLAG) { // Non-GS1 Key
+                int keyLength = (int) (h2 << 3 | bits.read(3));
+                String key = buildString(new StringBuilder(keyLength), keyLength, ENCODING_BASE64, bits).toString();
+
+                int enc = (int) bits.read(ENCODING_BITS);
+                int valLength = (int) bits.read(NON_GS1_LENGTH_BITS);
+                String value = buildString(new StringBuilder(valLength), valLength, enc, bits).toString();
                 gs1AIarray.put(key, value);
 
             } else if (tableOpt.containsKey(h1h2)) { // Optimisation
                 for (String ai : tableOpt.get(h1h2)) {
-                    DecodeResult res = decodeBinaryValue(ai, binstr, cursor);
-                    gs1AIarray.putAll(res.gs1AIarray);
-                    cursor = res.cursor;
+                    gs1AIarray.put(ai, decodeBinaryValue(ai, bits));
                 }
             } else {
                 throw new IllegalArgumentException("Decompression error: Unrecognized AI or optimisation code: " + h1h2);
@@ -1080,15 +1033,14 @@ public class GS1DigitalLinkCompression {
         return gs1AIarray;
     }
 
-    private String findAINumeric(String firstTwoDigits, String binstr, int cursor) {
+    // Looks ahead for 3 or 4 digit AIs without consuming their additional digits
+    private String findAINumeric(String firstTwoDigits, BitReader bits) {
         if (!tableF.containsKey(firstTwoDigits)) { // It could be a 3 or 4 digit AI
-            String h3 = binstrToHex(binstr.substring(cursor, cursor + 4));
-            String threeDigitAI = firstTwoDigits + h3;
+            String threeDigitAI = firstTwoDigits + hexAlphabet[(int) bits.peek(0, 4)];
             if (tableF.containsKey(threeDigitAI)) {
                 return threeDigitAI;
             }
-            String h4 = binstrToHex(binstr.substring(cursor + 4, cursor + 8));
-            String fourDigitAI = threeDigitAI + h4;
+            String fourDigitAI = threeDigitAI + hexAlphabet[(int) bits.peek(4, 4)];
             if (tableF.containsKey(fourDigitAI)) {
                 return fourDigitAI;
             }
@@ -1096,111 +1048,75 @@ public class GS1DigitalLinkCompression {
         return firstTwoDigits;
     }
 
-    private DecodeResult decodeBinaryValue(String key, String binstr, int cursor) {
-        DecodeResult res = new DecodeResult();
-        res.gs1AIarray = new LinkedHashMap<>();
+    private String decodeBinaryValue(String key, BitReader bits) {
         StringBuilder value = new StringBuilder();
 
         if (tableF.containsKey(key)) {
-            for (Map<String, String> tx : tableF.get(key)) {
-                if ("N".equals(tx.get("E"))) { // Numeric component
+            for (CompressionTables.Component tx : tableF.get(key)) {
+                if (tx.numeric()) { // Numeric component
                     int numDigits;
-                    if (tx.containsKey("L")) {
-                        numDigits = Integer.parseInt(tx.get("L"));
+                    if (tx.fixedLength()) {
+                        numDigits = tx.length();
                     } else { // Variable length
-                        int maxLen = Integer.parseInt(tx.get("M"));
-                        int lenBitsCount = numberOfLengthBits(maxLen);
-                        numDigits = Integer.parseInt(binstr.substring(cursor, cursor + lenBitsCount), 2);
-                        cursor += lenBitsCount;
+                        int maxLen = tx.length();
+                        numDigits = (int) bits.read(numberOfLengthBits(maxLen));
                     }
                     if (numDigits > 0) {
-                        int numBitsForValue = numberOfValueBits(numDigits);
-                        String rbv = binstr.substring(cursor, cursor + numBitsForValue);
-                        cursor += numBitsForValue;
-                        String s = new BigInteger(rbv, 2).toString();
-                        value.append(padToLength(s, numDigits));
+                        bits.readDecimal(value, numberOfValueBits(numDigits), numDigits);
                     }
-                } else if ("X".equals(tx.get("E"))) { // Alphanumeric
-                    int enc = Integer.parseInt(binstr.substring(cursor, cursor + 3), 2);
-                    cursor += 3;
+                } else { // Alphanumeric
+                    int enc = (int) bits.read(ENCODING_BITS);
                     int numChars;
-                    if (tx.containsKey("L")) {
-                        numChars = Integer.parseInt(tx.get("L"));
+                    if (tx.fixedLength()) {
+                        numChars = tx.length();
                     } else { // Variable
-                        int maxLen = Integer.parseInt(tx.get("M"));
-                        int lenBitsCount = numberOfLengthBits(maxLen);
-                        numChars = Integer.parseInt(binstr.substring(cursor, cursor + lenBitsCount), 2);
-                        cursor += lenBitsCount;
+                        int maxLen = tx.length();
+                        numChars = (int) bits.read(numberOfLengthBits(maxLen));
                     }
-                    DecodeResult strRes = buildString(numChars, enc, binstr, cursor);
-                    value.append(strRes.s);
-                    cursor = strRes.cursor;
+                    buildString(value, numChars, enc, bits);
                 }
             }
         }
-        res.gs1AIarray.put(key, value.toString());
-        res.cursor = cursor;
-        return res;
+        return value.toString();
     }
 
-    private DecodeResult buildString(int numChars, int enc, String binstr, int cursor) {
-        DecodeResult res = new DecodeResult();
-        StringBuilder s = new StringBuilder();
-        int bitsPerChar = getBitsPerChar(enc);
-
-        int numBitsForValue = numChars * bitsPerChar;
-        if (enc == 0) { // Special handling for numeric
-            numBitsForValue = numberOfValueBits(numChars);
-        }
-
-        String rbv = binstr.substring(cursor, cursor + numBitsForValue);
-
-        if (enc == 0) {
-            s.append(new BigInteger(rbv, 2).toString());
-        } else {
-            for (int i = 0; i < numChars; i++) {
-                String chunk = rbv.substring(i * bitsPerChar, (i + 1) * bitsPerChar);
-                int index = Integer.parseInt(chunk, 2);
-                if (enc == 4) { // ASCII
-                    s.append((char) index);
-                } else {
-                    String alphabet = (enc == 3) ? safeBase64Alphabet : hexAlphabet;
-                    s.append(alphabet.charAt(index));
-                }
-            }
-        }
-
-        res.s = s.toString();
-        res.cursor = cursor + numBitsForValue;
-        return res;
-    }
-
-    private int getBitsPerChar(int enc) {
+    private StringBuilder buildString(StringBuilder s, int numChars, int enc, BitReader bits) {
         switch (enc) {
-            case 1:
-            case 2:
-                return 4;
-            case 3:
-                return 6;
-            case 4:
-                return 7;
+            case ENCODING_NUMERIC: // Not padded, leading zeros are not preserved
+                bits.readDecimal(s, numberOfValueBits(numChars), 0);
+                break;
+            case ENCODING_HEX_LOWER:
+            case ENCODING_HEX_UPPER:
+                for (int i = 0; i < numChars; i++) {
+                    s.append(hexAlphabet[(int) bits.read(4)]);
+                }
+                break;
+            case ENCODING_BASE64:
+                for (int i = 0; i < numChars; i++) {
+                    s.append(Base64Url.character((int) bits.read(Base64Url.BITS_PER_CHARACTER)));
+                }
+                break;
+            case ENCODING_ASCII:
+                for (int i = 0; i < numChars; i++) {
+                    s.append((char) bits.read(7));
+                }
+                break;
             default:
-                return 0; // Numeric is variable
+                if (numChars > 0) {
+                    throw new IllegalArgumentException("Decompression error: Unrecognized encoding: " + enc);
+                }
         }
-    }
-
-    private int getBitsForValue(int numChars, int enc) {
-        if (enc == 0) return numberOfValueBits(numChars);
-        return numChars * getBitsPerChar(enc);
+        return s;
     }
 
     private StructuredOutput buildStructuredArray(Map<String, String> gs1AIarray, Map<String, String> otherArray) {
         StructuredOutput map = new StructuredOutput();
         gs1AIarray.forEach((key, value) -> {
             Map<String, String> entry = Collections.singletonMap(key, value);
-            if (aiMaps.get("identifiers").contains(key)) map.identifiers.add(entry);
-            else if (aiMaps.get("qualifiers").contains(key)) map.qualifiers.add(entry);
-            else if (aiMaps.get("dataAttributes").contains(key)) map.dataAttributes.add(entry);
+            final int flags = aiFlags(key);
+            if ((flags & AiEntries.IDENTIFIER) != 0) map.identifiers.add(entry);
+            else if ((flags & AiEntries.QUALIFIER) != 0) map.qualifiers.add(entry);
+            else if ((flags & AiEntries.DATA_ATTRIBUTE) != 0) map.dataAttributes.add(entry);
             else map.other.add(entry);
         });
         if (otherArray != null) {
@@ -1219,111 +1135,5 @@ public class GS1DigitalLinkCompression {
         return map;
     }
 
-    /**
-     * Populates the aitable from the AiEntries class.
-     * This method extracts all unique ApplicationIdentifier objects from AiEntries.
-     */
-    private void populateAiTableFromAiEntries() {
-        // Create a set to track AIs we've already added (to avoid duplicates)
-        Set<String> addedAis = new HashSet<>();
-
-        // List of all AI codes to check
-        String[] aiCodes = {"00", "01", "02", "10", "11", "12", "13", "15", "16", "17", "20", "21", "22", "235", "240", "241", "242", "243", "250", "251", "253", "254", "255", "30", "310n", "311n", "312n", "313n", "314n", "315n", "316n", "320n", "321n", "322n", "323n", "324n", "325n", "326n", "327n", "328n", "329n", "330n", "331n", "332n", "333n", "334n", "335n", "336n", "337n", "340n", "341n", "342n", "343n", "344n", "345n", "346n", "347n", "348n", "349n", "350n", "351n", "352n", "353n", "354n", "355n", "356n", "357n", "360n", "361n", "362n", "363n", "364n", "365n", "366n", "367n", "368n", "369n", "37", "390n", "391n", "392n", "393n", "394n", "400", "401", "402", "403", "410", "411", "412", "413", "414", "415", "416", "417", "420", "421", "422", "423", "424", "425", "426", "427", "7001", "7002", "7003", "7004", "7005", "7006", "7007", "7008", "7009", "7010", "7020", "7021", "7022", "7023", "703s", "710", "711", "712", "713", "714", "723s", "7240", "8001", "8002", "8003", "8004", "8005", "8006", "8007", "8008", "8009", "8010", "8011", "8012", "8013", "8017", "8018", "8019", "8020", "8026", "8110", "8111", "8112", "8200", "90", "91", "92", "93", "94", "95", "96", "97", "98", "99", "gtin", "itip", "gmn", "cpid", "shipTo", "billTo", "purchasedFrom", "shipFor", "gln", "payTo", "glnProd", "gsrnp", "gsrn", "gcn", "sscc", "gdti", "ginc", "gsin", "grai", "giai"};
-
-        // Add all unique ApplicationIdentifier objects to aitable
-        for (String code : aiCodes) {
-            ApplicationIdentifier ai = AiEntries.getEntry(code);
-            if (ai != null && !addedAis.contains(ai.getAi())) {
-                aitable.add(ai);
-                addedAis.add(ai.getAi());
-            }
-        }
-    }
-
-    /**
-     * Initializes the hardcoded tables used for GS1 Digital Link compression.
-     * This includes tableF, tableOpt, and tableS1.
-     */
-    private void initializeHardcodedTables() {
-        // --- tableF ---
-        tableF.put("00", Collections.singletonList(new HashMap<String, String>() {{
-            put("E", "N");
-            put("L", "18");
-        }}));
-        tableF.put("01", Collections.singletonList(new HashMap<String, String>() {{
-            put("E", "N");
-            put("L", "14");
-        }}));
-        tableF.put("10", Collections.singletonList(new HashMap<String, String>() {{
-            put("E", "X");
-            put("M", "20");
-        }}));
-        tableF.put("17", Collections.singletonList(new HashMap<String, String>() {{
-            put("E", "N");
-            put("L", "6");
-        }}));
-        tableF.put("21", Collections.singletonList(new HashMap<String, String>() {{
-            put("E", "X");
-            put("M", "20");
-        }}));
-        tableF.put("414", Collections.singletonList(new HashMap<String, String>() {{
-            put("E", "N");
-            put("L", "13");
-        }}));
-        tableF.put("254", Collections.singletonList(new HashMap<String, String>() {{
-            put("E", "X");
-            put("M", "20");
-        }}));
-        tableF.put("8018", Collections.singletonList(new HashMap<String, String>() {{
-            put("E", "N");
-            put("L", "18");
-        }}));
-        tableF.put("8019", Collections.singletonList(new HashMap<String, String>() {{
-            put("E", "N");
-            put("M", "10");
-        }}));
-        tableF.put("253", Arrays.asList(new HashMap<String, String>() {{
-            put("E", "N");
-            put("L", "13");
-        }}, new HashMap<String, String>() {{
-            put("E", "X");
-            put("M", "17");
-        }}));
-        tableF.put("255", Arrays.asList(new HashMap<String, String>() {{
-            put("E", "N");
-            put("L", "13");
-        }}, new HashMap<String, String>() {{
-            put("E", "N");
-            put("M", "12");
-        }}));
-
-        // --- tableOpt ---
-        tableOpt.put("0B", new String[]{"01", "10"});
-        tableOpt.put("0C", new String[]{"01", "21"});
-        tableOpt.put("0D", new String[]{"01", "17"});
-        tableOpt.put("9C", new String[]{"8018", "8019"});
-        tableOpt.put("9D", new String[]{"414", "254"});
-
-        // --- tableS1 ---
-        tableS1.put("01", new HashMap<String, Object>() {{
-            put("requires", Arrays.asList("21", "235"));
-        }});
-        tableS1.put("00", new HashMap<String, Object>() {{
-            put("requires", null);
-        }});
-
-        // --- pathSequenceConstraints ---
-        pathSequenceConstraints.put("01", new String[]{"22", "10", "21"});
-        pathSequenceConstraints.put("8006", new String[]{"22", "10", "21"});
-
-        // --- Semantics tables ---
-        stringSemantics.put("01", new String[]{"gs1:gtin", "schema:gtin"});
-        stringSemantics.put("10", new String[]{"gs1:hasBatchLot"});
-        stringSemantics.put("21", new String[]{"gs1:hasSerialNumber"});
-        classSemantics.put("01", new String[]{"gs1:Product", "schema:Product"});
-        classSemantics.put("414", new String[]{"gs1:Place", "schema:Place"});
-        dateSemantics.put("17", new String[]{"gs1:expirationDate"});
-    }
-
     //endregion
 }
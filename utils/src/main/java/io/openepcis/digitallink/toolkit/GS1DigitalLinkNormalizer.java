@@ -2,6 +2,8 @@ package io.openepcis.digitallink.toolkit;
 
 import io.openepcis.digitallink.model.ApplicationIdentifier;
 import io.openepcis.digitallink.utils.AiEntries;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.digitallink.utils.GS1DigitalLinkParser;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.apache.commons.lang3.StringUtils;
 
@@ -9,6 +11,7 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Utility class for normalizing GS1 Digital Link URLs by converting human-readable shortcodes
@@ -17,6 +20,22 @@ import java.net.URL;
 @ApplicationScoped
 public class GS1DigitalLinkNormalizer {
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * ASCII characters kept as-is in the path and in the query by the multi-argument {@link URI} constructor,
+     * all other ASCII characters are percent-encoded.
+     */
+    private static final boolean[] PATH_CHARACTERS = asciiCharacters("-_.!~*'()" + ":@&=+$,;/");
+    private static final boolean[] QUERY_CHARACTERS = asciiCharacters("-_.!~*'()" + ";/?:@&=+$,[]");
+
+    /**
+     * Buffers larger than this are not kept for reuse by {@link #normalize(CharSequence)}.
+     */
+    private static final int MAX_REUSED_CAPACITY = 4096;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
     /**
      * Normalizes Digital Link URLs by converting human-readable shortcodes to GS1 Application Identifiers (AI).
      * <p>
@@ -61,6 +80,244 @@ public class GS1DigitalLinkNormalizer {
         );
     }
 
+    /**
+     * Normalizes Digital Link URLs by converting human-readable shortcodes to GS1 Application Identifiers (AI) in a single
+     * pass over the characters.
+     * <p>
+     * For every valid URI the result is exactly the same as {@code normalize(new URI(digitalLink).toURL()).toString()}, see
+     * {@link #normalize(URL)}, without creating the intermediate {@link URI} and {@link URL} instances. The normalized
+     * characters are written to a buffer reused by the calling thread, and the given characters themselves are returned
+     * if nothing needs to be rewritten. Digital Links with user information, an IP literal or a scheme other than
+     * {@code http} and {@code https} are normalized through {@link #normalize(URL)}.
+     *
+     * @param digitalLink The Digital Link URL to normalize
+     * @return The given characters if they are normalized, else the normalized Digital Link URL
+     * @throws MalformedURLException If the characters have to be normalized through {@link URL} and are not a valid URL
+     */
+    public CharSequence normalize(CharSequence digitalLink) throws MalformedURLException {
+        // Handle null input
+        if (digitalLink == null) {
+            return null;
+        }
+
+        final StringBuilder normalized = BUFFER.get();
+        normalized.setLength(0);
+        try {
+            final CharSequence result = appendNormalized(digitalLink, normalized)
+                    ? normalized
+                    : normalize(toUrl(digitalLink)).toString();
+            return CharSequence.compare(result, digitalLink) == 0 ? digitalLink : result.toString();
+        } finally {
+            if (normalized.capacity() > MAX_REUSED_CAPACITY) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * Appends the normalized Digital Link the way {@link #normalize(URL)} builds it: the lower case scheme, the host and
+     * the explicit port, the path without trailing slashes and the query without trailing separators, both with
+     * shortcodes converted and quoted like the {@link URI} constructor does. The fragment is dropped.
+     *
+     * @return false if the Digital Link has to be normalized through {@link URL} as it uses a less common form
+     */
+    private boolean appendNormalized(CharSequence digitalLink, StringBuilder normalized) {
+        final int length = digitalLink.length();
+        // URL trims leading and trailing spaces and control characters
+        if (length == 0 || digitalLink.charAt(0) <= ' ' || digitalLink.charAt(length - 1) <= ' ') {
+            return false;
+        }
+
+        // Scheme
+        final int schemeEnd = indexOf(digitalLink, ':', 0, length);
+        if (!isHttpScheme(digitalLink, schemeEnd) || schemeEnd + 2 >= length
+                || digitalLink.charAt(schemeEnd + 1) != '/' || digitalLink.charAt(schemeEnd + 2) != '/') {
+            return false;
+        }
+        for (int i = 0; i < schemeEnd; i++) {
+            normalized.append(Character.toLowerCase(digitalLink.charAt(i)));
+        }
+        normalized.append("://");
+
+        // Authority: host and optional port
+        final int hostStart = schemeEnd + 3;
+        final int authorityEnd = Math.min(indexOf(digitalLink, '/', hostStart, length),
+                Math.min(indexOf(digitalLink, '?', hostStart, length), indexOf(digitalLink, '#', hostStart, length)));
+        final int hostEnd = indexOf(digitalLink, ':', hostStart, authorityEnd);
+        if (hostEnd == hostStart) {
+            return false;
+        }
+        for (int i = hostStart; i < hostEnd; i++) {
+            final char c = digitalLink.charAt(i);
+            if (!(isAlphanumeric(c) || c == '-' || c == '.')) {
+                // User information, IP literals and illegal host names
+                return false;
+            }
+        }
+        normalized.append(digitalLink, hostStart, hostEnd);
+        if (hostEnd < authorityEnd) {
+            if (authorityEnd - hostEnd - 1 > 5) {
+                return false;
+            }
+            int port = 0;
+            for (int i = hostEnd + 1; i < authorityEnd; i++) {
+                final char c = digitalLink.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+                port = port * 10 + c - '0';
+            }
+            // An empty port is no port
+            if (authorityEnd > hostEnd + 1) {
+                normalized.append(':').append(port);
+            }
+        }
+
+        // Path without trailing slashes
+        final int fragmentStart = indexOf(digitalLink, '#', authorityEnd, length);
+        final int pathEnd = indexOf(digitalLink, '?', authorityEnd, fragmentStart);
+        int end = pathEnd;
+        while (end > authorityEnd && digitalLink.charAt(end - 1) == '/') {
+            end--;
+        }
+        for (int segmentStart = authorityEnd; segmentStart < end; ) {
+            final int segmentEnd = indexOf(digitalLink, '/', segmentStart + 1, end);
+            final int nameStart = segmentStart + 1;
+            if (isDotSegment(digitalLink, nameStart, segmentEnd)) {
+                // URL resolves the dot segments of the path
+                return false;
+            }
+            normalized.append('/');
+            appendIdentifier(digitalLink, nameStart, segmentEnd, PATH_CHARACTERS, normalized);
+            segmentStart = segmentEnd;
+        }
+
+        // Query without trailing separators, an empty query is dropped
+        if (pathEnd < fragmentStart && pathEnd + 1 < fragmentStart) {
+            final int queryStart = pathEnd + 1;
+            int queryEnd = fragmentStart;
+            while (queryEnd > queryStart && digitalLink.charAt(queryEnd - 1) == '&') {
+                queryEnd--;
+            }
+            normalized.append('?');
+            for (int parameterStart = queryStart; parameterStart < queryEnd; ) {
+                final int parameterEnd = indexOf(digitalLink, '&', parameterStart, queryEnd);
+                final int keyEnd = indexOf(digitalLink, '=', parameterStart, parameterEnd);
+                if (parameterStart > queryStart) {
+                    normalized.append('&');
+                }
+                appendIdentifier(digitalLink, parameterStart, keyEnd, QUERY_CHARACTERS, normalized);
+                appendQuoted(digitalLink, keyEnd, parameterEnd, QUERY_CHARACTERS, normalized);
+                parameterStart = parameterEnd + 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Normalizes an already parsed Digital Link by converting human-readable shortcodes to GS1 Application Identifiers (AI),
+     * the same way as {@link #normalize(URL)} does for the path and query string.
+     * <p>
+     * Digital Links which are already normalized are returned as-is, so the common case neither copies the characters nor
+     * parses them again. Otherwise the normalized characters are parsed once. Unlike {@link #normalize(URL)} the scheme,
+     * authority and fragment are kept as they are and no characters are quoted.
+     *
+     * @param digitalLink The parsed Digital Link to normalize
+     * @return The given Digital Link if it is normalized, else the parsed normalized Digital Link
+     */
+    public GS1DigitalLink normalize(GS1DigitalLink digitalLink) {
+        // Handle null input
+        if (digitalLink == null) {
+            return null;
+        }
+
+        final CharSequence source = digitalLink.source();
+        final int pathStart = digitalLink.pathStart();
+        final int pathEnd = digitalLink.pathEnd();
+        final int queryStart = digitalLink.queryStart();
+        final int queryEnd = digitalLink.queryEnd();
+        if (isNormalizedPath(source, pathStart, pathEnd) && isNormalizedQuery(source, queryStart, queryEnd)) {
+            return digitalLink;
+        }
+
+        final StringBuilder normalized = new StringBuilder(source.length());
+        normalized.append(source, 0, pathStart);
+        normalized.append(normalizePath(source.subSequence(pathStart, pathEnd).toString()));
+        int rest = pathEnd;
+        if (queryStart >= 0) {
+            final String normalizedQuery = normalizeQuery(source.subSequence(queryStart, queryEnd).toString());
+            if (normalizedQuery != null) {
+                normalized.append('?').append(normalizedQuery);
+            }
+            rest = queryEnd;
+        }
+        normalized.append(source, rest, source.length());
+        return GS1DigitalLinkParser.parse(normalized.toString());
+    }
+
+    /**
+     * Checks whether {@link #normalizePath(String)} would leave the path unchanged.
+     */
+    private boolean isNormalizedPath(CharSequence source, int pathStart, int pathEnd) {
+        if (pathEnd > pathStart && source.charAt(pathEnd - 1) == '/') {
+            return false;
+        }
+
+        int segmentStart = pathStart;
+        for (int i = pathStart; i <= pathEnd; i++) {
+            if (i == pathEnd || source.charAt(i) == '/') {
+                if (!isNormalizedIdentifier(source, segmentStart, i)) {
+                    return false;
+                }
+                segmentStart = i + 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether {@link #normalizeQuery(String)} would leave the query unchanged, true if there is no query.
+     */
+    private boolean isNormalizedQuery(CharSequence source, int queryStart, int queryEnd) {
+        if (queryStart < 0) {
+            return true;
+        }
+        if (queryStart == queryEnd || source.charAt(queryEnd - 1) == '&') {
+            return false;
+        }
+
+        int parameterStart = queryStart;
+        int keyEnd = -1;
+        for (int i = queryStart; i <= queryEnd; i++) {
+            final char c = i == queryEnd ? '&' : source.charAt(i);
+            if (c == '=' && keyEnd < 0) {
+                keyEnd = i;
+            } else if (c == '&') {
+                if (!isNormalizedIdentifier(source, parameterStart, keyEnd < 0 ? i : keyEnd)) {
+                    return false;
+                }
+                parameterStart = i + 1;
+                keyEnd = -1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether {@link #normalizeIdentifier(String)} would leave the characters unchanged. Digits are either an AI
+     * or no identifier at all, only other characters can be a shortcode and need to be looked up.
+     */
+    private boolean isNormalizedIdentifier(CharSequence source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            final char c = source.charAt(i);
+            if (c < '0' || c > '9') {
+                final ApplicationIdentifier applicationIdentifier = AiEntries.getEntry(source, start, end);
+                return applicationIdentifier == null || applicationIdentifier.getAi() == null;
+            }
+        }
+        return true;
+    }
+
     /**
      * Normalizes the path component of a URL by converting shortcodes to GS1 Application Identifiers.
      *
@@ -148,6 +405,92 @@ public class GS1DigitalLinkNormalizer {
         return identifier;
     }
 
+    /**
+     * Appends the normalized identifier, see {@link #normalizeIdentifier(String)}. Only characters other than digits can
+     * be a shortcode, digits are either an AI or no identifier at all.
+     */
+    private void appendIdentifier(CharSequence source, int start, int end, boolean[] allowed, StringBuilder normalized) {
+        for (int i = start; i < end; i++) {
+            final char c = source.charAt(i);
+            if (c < '0' || c > '9') {
+                final ApplicationIdentifier applicationIdentifier = AiEntries.getEntry(source, start, end);
+                if (applicationIdentifier != null && applicationIdentifier.getAi() != null) {
+                    normalized.append(applicationIdentifier.getAi());
+                } else {
+                    appendQuoted(source, start, end, allowed, normalized);
+                }
+                return;
+            }
+        }
+        normalized.append(source, start, end);
+    }
+
+    /**
+     * Appends the characters quoted the way the multi-argument {@link URI} constructor quotes the path and query: ASCII
+     * characters which are not allowed, including {@code %}, as well as other space and control characters are
+     * percent-encoded in UTF-8.
+     */
+    private static void appendQuoted(CharSequence source, int start, int end, boolean[] allowed, StringBuilder normalized) {
+        for (int i = start; i < end; i++) {
+            final char c = source.charAt(i);
+            if (c < allowed.length ? allowed[c] : !(Character.isSpaceChar(c) || Character.isISOControl(c))) {
+                normalized.append(c);
+            } else {
+                for (byte b : String.valueOf(c).getBytes(StandardCharsets.UTF_8)) {
+                    normalized.append('%').append(HEX_DIGITS[(b >> 4) & 0x0F]).append(HEX_DIGITS[b & 0x0F]);
+                }
+            }
+        }
+    }
+
+    private static boolean[] asciiCharacters(String punctuation) {
+        final boolean[] allowed = new boolean[128];
+        for (char c = 0; c < allowed.length; c++) {
+            allowed[c] = isAlphanumeric(c) || punctuation.indexOf(c) >= 0;
+        }
+        return allowed;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+    }
+
+    private static boolean isHttpScheme(CharSequence source, int schemeEnd) {
+        if (schemeEnd != 4 && !(schemeEnd == 5 && (source.charAt(4) | 0x20) == 's')) {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            // Lower case ASCII letters
+            if ((source.charAt(i) | 0x20) != "http".charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDotSegment(CharSequence source, int start, int end) {
+        return end - start == 1 && source.charAt(start) == '.'
+                || end - start == 2 && source.charAt(start) == '.' && source.charAt(start + 1) == '.';
+    }
+
+    // Index of the character in the range, the end of the range if not found
+    private static int indexOf(CharSequence source, char c, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (source.charAt(i) == c) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static URL toUrl(CharSequence digitalLink) throws MalformedURLException {
+        try {
+            return new URI(digitalLink.toString()).toURL();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            throw new MalformedURLException("Invalid URL: " + e.getMessage());
+        }
+    }
+
     /**
      * Constructs a new URL from the given components.
      *
@@ -7,20 +7,67 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
 
+/**
+ * Application identifiers of the bundled AI table, looked up by AI or shortcode.
+ *
+ * <p>AIs are 2 to 4 digits and are looked up in an array indexed by their numeric value and
+ * length, shortcodes in a collision-free hash table built when the class is initialised. Both
+ * lookups work on a region of the characters, ex: a path segment of a Digital Link, without
+ * creating a string for it.
+ */
 public class AiEntries {
 
-    private static final Map<String, ApplicationIdentifier> aiEntriesMap;
+    /**
+     * Flag of primary identification keys, AI type I.
+     */
+    public static final int IDENTIFIER = 1;
+
+    /**
+     * Flag of key qualifiers, AI type Q.
+     */
+    public static final int QUALIFIER = 1 << 1;
+
+    /**
+     * Flag of data attributes, AI type D.
+     */
+    public static final int DATA_ATTRIBUTE = 1 << 2;
+
+    /**
+     * Flag of AIs whose values always have the same number of characters.
+     */
+    public static final int FIXED_LENGTH = 1 << 3;
+
+    /**
+     * Flag of AIs whose values have up to a maximum number of characters.
+     */
+    public static final int VARIABLE_LENGTH = 1 << 4;
+
+    /**
+     * Size of the AI index, see {@link #aiIndex(CharSequence, int, int)}.
+     */
+    public static final int AI_INDEX_SIZE = 100 + 1000 + 10000;
+
+    private static final int MIN_AI_LENGTH = 2;
+    private static final int MAX_AI_LENGTH = 4;
+
+    // First index of the AIs of each length, the length tells apart 01, 001 and 0001
+    private static final int[] AI_INDEX_OFFSETS = {0, 0, 0, 100, 1100};
+    private static final int[] AI_CODE_LIMITS = {0, 0, 100, 1000, 10000};
+
+    private static final ApplicationIdentifier[] aiEntries = new ApplicationIdentifier[AI_INDEX_SIZE];
+    private static final byte[] aiFlags = new byte[AI_INDEX_SIZE];
+    private static final ShortcodeTable shortcodes;
 
     // Static initializer to load the AI entries only once
     static {
-        aiEntriesMap = initializeAiEntries(new ObjectMapper());
+        shortcodes = initializeAiEntries(new ObjectMapper());
     }
 
-    private static Map<String, ApplicationIdentifier> initializeAiEntries(ObjectMapper objectMapper) {
+    private static ShortcodeTable initializeAiEntries(ObjectMapper objectMapper) {
         try (InputStream inputStream = AiEntries.class.getResourceAsStream("/aitable.json")) {
             if (Objects.isNull(inputStream)) {
                 // log.warn("AI entries configuration file not found");
-                return Collections.emptyMap();
+                return new ShortcodeTable(Collections.emptyMap());
             }
 
             final List<ApplicationIdentifier> entries = objectMapper.readValue(
@@ -34,17 +81,206 @@ public class AiEntries {
                 Optional.ofNullable(entry.getShortcode()).ifPresent(k -> entriesMap.put(k, entry));
             });
 
+            // AIs go to the array, all other keys to the shortcode table
+            final Map<String, ApplicationIdentifier> otherEntries = new HashMap<>();
+            entriesMap.forEach((key, entry) -> {
+                final int index = aiIndex(key, 0, key.length());
+                if (index < 0) {
+                    otherEntries.put(key, entry);
+                } else {
+                    aiEntries[index] = entry;
+                    aiFlags[index] = (byte) flagsOf(entry);
+                }
+            });
+
             // log.info("Loaded {} AI entries into map with {} keys", entries.size(), entriesMap.size());
-            return Collections.unmodifiableMap(entriesMap);
+            return new ShortcodeTable(otherEntries);
 
         } catch (IOException e) {
             //   log.error("Failed to load AI entries from JSON", e);
-            return Collections.emptyMap();
+            return new ShortcodeTable(Collections.emptyMap());
         }
     }
 
+    private static int flagsOf(ApplicationIdentifier entry) {
+        int flags = 0;
+        if ("I".equals(entry.getType())) {
+            flags |= IDENTIFIER;
+        } else if ("Q".equals(entry.getType())) {
+            flags |= QUALIFIER;
+        } else if ("D".equals(entry.getType())) {
+            flags |= DATA_ATTRIBUTE;
+        }
+        if (Boolean.TRUE.equals(entry.getFixedLength())) {
+            flags |= FIXED_LENGTH;
+        } else if (Boolean.FALSE.equals(entry.getFixedLength())) {
+            flags |= VARIABLE_LENGTH;
+        }
+        return flags;
+    }
+
     public static ApplicationIdentifier getEntry(String key) {
-        return aiEntriesMap.get(key);
+        return key == null ? null : getEntry(key, 0, key.length());
+    }
+
+    /**
+     * @param key   characters containing the AI or shortcode, ex: a Digital Link
+     * @param start index of the first character of the AI or shortcode
+     * @param end   index after the last character of the AI or shortcode
+     * @return the application identifier of the AI or shortcode, null if unknown
+     */
+    public static ApplicationIdentifier getEntry(CharSequence key, int start, int end) {
+        final int index = aiIndex(key, start, end);
+        return index >= 0 ? aiEntries[index] : shortcodes.get(key, start, end);
+    }
+
+    /**
+     * @param aiCode   numeric value of the AI, ex: 1 for 01
+     * @param aiLength number of digits of the AI, 2 to 4
+     * @return the application identifier of the AI, null if unknown
+     */
+    public static ApplicationIdentifier getEntry(int aiCode, int aiLength) {
+        final int index = aiIndex(aiCode, aiLength);
+        return index < 0 ? null : aiEntries[index];
+    }
+
+    /**
+     * @param key   characters containing the AI or shortcode
+     * @param start index of the first character of the AI or shortcode
+     * @param end   index after the last character of the AI or shortcode
+     * @return the {@link #IDENTIFIER}, {@link #QUALIFIER}, {@link #DATA_ATTRIBUTE}, {@link #FIXED_LENGTH} and
+     * {@link #VARIABLE_LENGTH} flags of the AI or shortcode, 0 if unknown
+     */
+    public static int getFlags(CharSequence key, int start, int end) {
+        final int index = aiIndex(key, start, end);
+        return index >= 0 ? aiFlags[index] : shortcodes.flags(key, start, end);
+    }
+
+    /**
+     * @param aiCode   numeric value of the AI, ex: 1 for 01
+     * @param aiLength number of digits of the AI, 2 to 4
+     * @return the flags of the AI, see {@link #getFlags(CharSequence, int, int)}, 0 if unknown
+     */
+    public static int getFlags(int aiCode, int aiLength) {
+        final int index = aiIndex(aiCode, aiLength);
+        return index < 0 ? 0 : aiFlags[index];
+    }
+
+    /**
+     * Index of an AI in tables of {@link #AI_INDEX_SIZE} entries, the AIs 00 to 99 have the indexes 0 to 99,
+     * 000 to 999 the indexes 100 to 1099 and 0000 to 9999 the indexes 1100 to 11099.
+     *
+     * @param key   characters containing the AI
+     * @param start index of the first digit of the AI
+     * @param end   index after the last digit of the AI
+     * @return index of the AI, -1 if the characters are not 2 to 4 digits
+     */
+    public static int aiIndex(CharSequence key, int start, int end) {
+        final int length = end - start;
+        if (length < MIN_AI_LENGTH || length > MAX_AI_LENGTH) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = key.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            code = code * 10 + digit;
+        }
+        return AI_INDEX_OFFSETS[length] + code;
     }
 
+    private static int aiIndex(int aiCode, int aiLength) {
+        if (aiLength < MIN_AI_LENGTH || aiLength > MAX_AI_LENGTH || aiCode < 0 || aiCode >= AI_CODE_LIMITS[aiLength]) {
+            return -1;
+        }
+        return AI_INDEX_OFFSETS[aiLength] + aiCode;
+    }
+
+    /**
+     * Hash table without collisions for the shortcodes, each key has a slot of its own so a lookup hashes the
+     * characters once and compares them with a single key.
+     */
+    private static final class ShortcodeTable {
+
+        private static final int MAX_BITS = 16;
+        private static final int ATTEMPTS = 256;
+
+        private final String[] keys;
+        private final ApplicationIdentifier[] entries;
+        private final byte[] flags;
+        private final int multiplier;
+        private final int shift;
+
+        ShortcodeTable(Map<String, ApplicationIdentifier> shortcodes) {
+            // Smallest table of at least twice the keys with a multiplier mapping all keys to distinct slots
+            int bits = 32 - Integer.numberOfLeadingZeros(Math.max(1, shortcodes.size() * 2 - 1));
+            for (; bits <= MAX_BITS; bits++) {
+                final int candidateShift = 32 - bits;
+                for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+                    final int candidate = 0x9E3779B9 + 2 * attempt;
+                    final String[] candidateKeys = new String[1 << bits];
+                    if (fill(shortcodes.keySet(), candidateKeys, candidate, candidateShift)) {
+                        keys = candidateKeys;
+                        entries = new ApplicationIdentifier[keys.length];
+                        flags = new byte[keys.length];
+                        for (int i = 0; i < keys.length; i++) {
+                            if (keys[i] != null) {
+                                entries[i] = shortcodes.get(keys[i]);
+                                flags[i] = (byte) flagsOf(entries[i]);
+                            }
+                        }
+                        multiplier = candidate;
+                        shift = candidateShift;
+                        return;
+                    }
+                }
+            }
+            throw new IllegalStateException("No collision-free hash table for the AI shortcodes " + shortcodes.keySet());
+        }
+
+        private static boolean fill(Set<String> shortcodes, String[] keys, int multiplier, int shift) {
+            for (String shortcode : shortcodes) {
+                final int slot = slot(shortcode, 0, shortcode.length(), multiplier, shift);
+                if (keys[slot] != null) {
+                    return false;
+                }
+                keys[slot] = shortcode;
+            }
+            return true;
+        }
+
+        private static int slot(CharSequence key, int start, int end, int multiplier, int shift) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + key.charAt(i);
+            }
+            return (hash * multiplier) >>> shift;
+        }
+
+        private int find(CharSequence key, int start, int end) {
+            final int slot = slot(key, start, end, multiplier, shift);
+            final String candidate = keys[slot];
+            if (candidate == null || candidate.length() != end - start) {
+                return -1;
+            }
+            for (int i = 0; i < candidate.length(); i++) {
+                if (candidate.charAt(i) != key.charAt(start + i)) {
+                    return -1;
+                }
+            }
+            return slot;
+        }
+
+        ApplicationIdentifier get(CharSequence key, int start, int end) {
+            final int slot = find(key, start, end);
+            return slot < 0 ? null : entries[slot];
+        }
+
+        int flags(CharSequence key, int start, int end) {
+            final int slot = find(key, start, end);
+            return slot < 0 ? 0 : flags[slot];
+        }
+    }
 }
@@ -48,15 +48,30 @@ public final class DefaultGCPLengthProvider implements GCPLengthProvider {
     private static final Set<String> PREFIXES_WITH_GCP = Set.of("/8010/", "/255/", "/253/", "/8004/", "/401/", "/402/", "/8018/", "/8017/", "/417/", "/414/");
 
     /**
-     * Immutable list sorted by <em>longest prefix first</em> for fast
-     * longest-match scanning.
+     * The AIs of {@link #PREFIXES_WITH_GCP} as element headers of {@link GS1DigitalLink}.
      */
-    private static final List<Entry> PREFIX_ENTRIES;
+    private static final int[] AIS_WITH_GCP = PREFIXES_WITH_GCP.stream()
+            .map(prefix -> prefix.substring(1, prefix.length() - 1))
+            .mapToInt(ai -> GS1DigitalLink.element(Integer.parseInt(ai), ai.length(), false))
+            .toArray();
+
+    /**
+     * Pattern locating the first <code>/&lt;AI&gt;/&lt;value&gt;</code> pair of a Digital Link URI.
+     */
+    private static final Pattern PRIMARY_KEY_PATTERN = Pattern.compile("(/|^)(\\d+/|/\\d+/)([^/]+)");
+
+    /**
+     * Longest-prefix-match index built from the entries sorted by <em>longest prefix first</em>.
+     */
+    private static final GCPPrefixIndex PREFIX_INDEX;
 
     static {
         log.info("Loading {}", RESOURCE);
-        PREFIX_ENTRIES = loadPrefixEntries();
-        log.info("Loaded {} GCP prefixes", PREFIX_ENTRIES.size());
+        final List<Entry> entries = loadPrefixEntries();
+        final GCPPrefixIndex.Builder builder = GCPPrefixIndex.builder();
+        entries.forEach(e -> builder.add(e.prefix(), e.len()));
+        PREFIX_INDEX = builder.build();
+        log.info("Loaded {} GCP prefixes", entries.size());
     }
 
     private static List<Entry> loadPrefixEntries() {
@@ -130,8 +145,7 @@ public final class DefaultGCPLengthProvider implements GCPLengthProvider {
         }
 
         // pattern: /<digits>/…  or  …/<digits>/…
-        final Pattern p = Pattern.compile("(/|^)(\\d+/|/\\d+/)([^/]+)");
-        final Matcher m = p.matcher(gs1DigitalLinkURI);
+        final Matcher m = PRIMARY_KEY_PATTERN.matcher(gs1DigitalLinkURI);
 
         if (m.find()) {
             final String prefix = m.group(2).startsWith("/") ? m.group(2) : "/" + m.group(2);
@@ -141,44 +155,166 @@ public final class DefaultGCPLengthProvider implements GCPLengthProvider {
         throw new UnsupportedGS1IdentifierException("GCP length not found for: " + gs1DigitalLinkURI + ". " + NO_GCP_HINT);
     }
 
+    /**
+     * Non-throwing lookup of the GCP length for a full Digital Link URI in the static prefix list
+     * only, neither SPI resolvers nor the JVM property default are consulted.
+     *
+     * @return the GCP length, or empty if the URI has no primary key or its prefix is not listed
+     */
+    public OptionalInt lookupGcpLength(final String gs1DigitalLinkURI) {
+        if (StringUtils.isBlank(gs1DigitalLinkURI) || gs1DigitalLinkURI.contains("urn:")) {
+            return OptionalInt.empty();
+        }
+
+        final Matcher m = PRIMARY_KEY_PATTERN.matcher(gs1DigitalLinkURI);
+        if (!m.find()) {
+            return OptionalInt.empty();
+        }
+
+        final String prefix = m.group(2).startsWith("/") ? m.group(2) : "/" + m.group(2);
+        final int tableLength = lookupPrefixTable(m.group(3), prefix);
+        return tableLength > 0 ? OptionalInt.of(tableLength) : OptionalInt.empty();
+    }
+
+    /**
+     * Resolve the GCP length for the primary key of a parsed Digital Link, the first AI element of
+     * its path. Listed prefixes are looked up directly in the parsed characters without copying them.
+     *
+     * @throws UnsupportedGS1IdentifierException if the Digital Link has no primary key,
+     *                                           or no matching GCP can be found and no default is configured
+     */
+    @Override
+    public int getGcpLength(final GS1DigitalLink digitalLink) {
+        final int primaryKey = primaryKey(digitalLink);
+        if (primaryKey < 0) {
+            throw new UnsupportedGS1IdentifierException("GCP length not found for: " + digitalLink + ". " + NO_GCP_HINT);
+        }
+
+        final int tableLength = lookupPrefixTable(digitalLink, primaryKey);
+        if (tableLength > 0) {
+            return tableLength;
+        }
+        return getGcpLength(digitalLink.toString(), rawValue(digitalLink, primaryKey), prefix(digitalLink, primaryKey));
+    }
+
+    /**
+     * Non-throwing lookup of the GCP length for the primary key of a parsed Digital Link in the
+     * static prefix list only, see {@link #lookupGcpLength(String)}.
+     *
+     * @return the GCP length, or empty if the Digital Link has no primary key or its prefix is not listed
+     */
+    public OptionalInt lookupGcpLength(final GS1DigitalLink digitalLink) {
+        final int primaryKey = primaryKey(digitalLink);
+        if (primaryKey < 0) {
+            return OptionalInt.empty();
+        }
+
+        final int tableLength = lookupPrefixTable(digitalLink, primaryKey);
+        return tableLength > 0 ? OptionalInt.of(tableLength) : OptionalInt.empty();
+    }
+
     /**
      * Core lookup that assumes the caller already split out the GS1 prefix.
      */
-    public int getGcpLength(final String gs1DigitalLinkURI, String identifier, final String gs1IdentifierPrefix) {
-        // Save original identifier before GTIN stripping (needed for SPI/verifier)
-        final String originalIdentifier = identifier;
+    public int getGcpLength(final String gs1DigitalLinkURI, final String identifier, final String gs1IdentifierPrefix) {
+        final int gcpLength = resolveGcpLength(identifier, gs1IdentifierPrefix, null);
+        if (gcpLength < 0) {
+            throw new UnsupportedGS1IdentifierException("GCP length not found for Digital Link URI: " + gs1DigitalLinkURI + ". " + NO_GCP_HINT);
+        }
+        return gcpLength;
+    }
 
-        // GTINs: ignore first digit unless prefix itself embeds full GCP
-        if (!PREFIXES_WITH_GCP.contains(gs1IdentifierPrefix) && identifier.length() > 13) {
-            identifier = identifier.substring(1);
+    /**
+     * Non-throwing variant of {@link #getGcpLength(String)}, consulting the static prefix list, the SPI
+     * resolvers and the JVM property default alike.
+     *
+     * @return the GCP length, or empty if the URI has no primary key or no GCP length can be resolved
+     */
+    public OptionalInt findGcpLength(final String gs1DigitalLinkURI) {
+        return findGcpLength(gs1DigitalLinkURI, null);
+    }
+
+    /**
+     * Variant of {@link #findGcpLength(String)} for many lookups in a row, ex: the identifiers of a
+     * batch. Company prefixes resolved by the SPI resolvers are kept in the memo, so the resolvers are
+     * called once per company prefix and not once per identifier.
+     *
+     * @param memo memo shared by the lookups of one task, null to call the SPI resolvers for every lookup
+     * @return the GCP length, or empty if the URI has no primary key or no GCP length can be resolved
+     */
+    public OptionalInt findGcpLength(final String gs1DigitalLinkURI, final GCPLengthMemo memo) {
+        if (StringUtils.isBlank(gs1DigitalLinkURI) || gs1DigitalLinkURI.contains("urn:")) {
+            return OptionalInt.empty();
         }
 
+        final Matcher m = PRIMARY_KEY_PATTERN.matcher(gs1DigitalLinkURI);
+        if (!m.find()) {
+            return OptionalInt.empty();
+        }
+
+        final String prefix = m.group(2).startsWith("/") ? m.group(2) : "/" + m.group(2);
+        final int gcpLength = resolveGcpLength(m.group(3), prefix, memo);
+        return gcpLength < 0 ? OptionalInt.empty() : OptionalInt.of(gcpLength);
+    }
+
+    // Steps 1 to 3 of the synchronous lookup, -1 if no GCP length can be resolved
+    private int resolveGcpLength(final String identifier, final String gs1IdentifierPrefix, final GCPLengthMemo memo) {
+        // The original identifier is kept intact for SPI/verifier, GTIN stripping is done by offset
+        final String originalIdentifier = identifier;
+
         // Step 1: Static prefix table lookup
-        for (Entry e : PREFIX_ENTRIES) {
-            if (identifier.startsWith(e.prefix())) {
-                if (e.len() > 0) {
-                    return e.len();
-                }
-                log.debug("Prefix table returned GCP length 0 for identifier {}, falling through to SPI resolution", originalIdentifier);
-                break;
-            }
+        final int tableLength = lookupPrefixTable(identifier, gs1IdentifierPrefix);
+        if (tableLength > 0) {
+            return tableLength;
         }
 
-        // Step 2: SPI-based resolution (e.g. Verified by GS1) - If applicable find from there
+        // Step 2: SPI-based resolution, once per company prefix with a memo
         final GCPLengthResolverManager resolverManager = GCPLengthResolverManager.getInstance();
         if (resolverManager.hasResolvers()) {
-            try {
-                final OptionalInt spiResult = resolverManager.resolve(originalIdentifier);
-                if (spiResult.isPresent()) {
-                    log.debug("GCP length resolved via SPI for identifier {}: {}", originalIdentifier, spiResult.getAsInt());
-                    return spiResult.getAsInt();
-                }
-            } catch (Exception ex) {
-                log.warn("SPI GCP length resolution failed for {}: {}", originalIdentifier, ex.getMessage());
+            final int spiLength = memo == null
+                    ? resolveWithResolvers(resolverManager, originalIdentifier)
+                    : resolveMemoized(resolverManager, originalIdentifier, companyPrefixOffset(identifier, gs1IdentifierPrefix), memo);
+            if (spiLength > 0) {
+                return spiLength;
             }
         }
 
         // Step 3: JVM property default
+        return defaultGcpLength();
+    }
+
+    private static int resolveMemoized(final GCPLengthResolverManager resolverManager, final String originalIdentifier,
+                                       final int offset, final GCPLengthMemo memo) {
+        final int memoLength = memo.companyPrefixLength(originalIdentifier, offset);
+        if (memoLength > 0 || memo.isUnresolved(originalIdentifier)) {
+            return memoLength;
+        }
+
+        final int spiLength = resolveWithResolvers(resolverManager, originalIdentifier);
+        if (spiLength > 0) {
+            memo.addCompanyPrefix(originalIdentifier, offset, spiLength);
+        } else {
+            memo.addUnresolved(originalIdentifier);
+        }
+        return spiLength;
+    }
+
+    // Step 2 of the synchronous lookup (e.g. Verified by GS1), -1 if no SPI resolver provides the GCP length
+    private static int resolveWithResolvers(final GCPLengthResolverManager resolverManager, final String originalIdentifier) {
+        try {
+            final OptionalInt spiResult = resolverManager.resolve(originalIdentifier);
+            if (spiResult.isPresent()) {
+                log.debug("GCP length resolved via SPI for identifier {}: {}", originalIdentifier, spiResult.getAsInt());
+                return spiResult.getAsInt();
+            }
+        } catch (Exception ex) {
+            log.warn("SPI GCP length resolution failed for {}: {}", originalIdentifier, ex.getMessage());
+        }
+        return -1;
+    }
+
+    // Step 3 of the synchronous lookup, -1 if the JVM property is not set
+    private int defaultGcpLength() {
         // optional JVM override: -Dio.openepcis...defaultGcpLength=9
         final String prop = System.getProperty(getClass().getName() + ".defaultGcpLength");
         if (prop != null) {
@@ -188,8 +324,7 @@ public final class DefaultGCPLengthProvider implements GCPLengthProvider {
                 throw new IllegalArgumentException("Invalid default GCP length value: " + prop, nfe);
             }
         }
-
-        throw new UnsupportedGS1IdentifierException("GCP length not found for Digital Link URI: " + gs1DigitalLinkURI + ". " + NO_GCP_HINT);
+        return -1;
     }
 
     /* ------------------------------------------------------------------ *
@@ -206,8 +341,7 @@ public final class DefaultGCPLengthProvider implements GCPLengthProvider {
                     new UnsupportedGS1IdentifierException("GCP length not found for: " + gs1DigitalLinkURI + ". " + NO_GCP_HINT));
         }
 
-        final Pattern p = Pattern.compile("(/|^)(\\d+/|/\\d+/)([^/]+)");
-        final Matcher m = p.matcher(gs1DigitalLinkURI);
+        final Matcher m = PRIMARY_KEY_PATTERN.matcher(gs1DigitalLinkURI);
 
         if (m.find()) {
             final String prefix = m.group(2).startsWith("/") ? m.group(2) : "/" + m.group(2);
@@ -218,26 +352,35 @@ public final class DefaultGCPLengthProvider implements GCPLengthProvider {
                 new UnsupportedGS1IdentifierException("GCP length not found for: " + gs1DigitalLinkURI + ". " + NO_GCP_HINT));
     }
 
+    /**
+     * Asynchronous variant of {@link #getGcpLength(GS1DigitalLink)} — never blocks the calling thread.
+     */
+    @Override
+    public CompletionStage<Integer> getGcpLengthAsync(final GS1DigitalLink digitalLink) {
+        final int primaryKey = primaryKey(digitalLink);
+        if (primaryKey < 0) {
+            return CompletableFuture.failedFuture(
+                    new UnsupportedGS1IdentifierException("GCP length not found for: " + digitalLink + ". " + NO_GCP_HINT));
+        }
+
+        final int tableLength = lookupPrefixTable(digitalLink, primaryKey);
+        if (tableLength > 0) {
+            return CompletableFuture.completedFuture(tableLength);
+        }
+        return getGcpLengthAsync(digitalLink.toString(), rawValue(digitalLink, primaryKey), prefix(digitalLink, primaryKey));
+    }
+
     /**
      * Asynchronous variant of {@link #getGcpLength(String, String, String)}.
      * Step 1 (static table) is synchronous and fast. Only Step 2 (SPI) goes async.
      */
-    public CompletionStage<Integer> getGcpLengthAsync(final String gs1DigitalLinkURI, String identifier, final String gs1IdentifierPrefix) {
+    public CompletionStage<Integer> getGcpLengthAsync(final String gs1DigitalLinkURI, final String identifier, final String gs1IdentifierPrefix) {
         final String originalIdentifier = identifier;
 
-        if (!PREFIXES_WITH_GCP.contains(gs1IdentifierPrefix) && identifier.length() > 13) {
-            identifier = identifier.substring(1);
-        }
-
         // Step 1: Static prefix table lookup (fast, synchronous)
-        for (Entry e : PREFIX_ENTRIES) {
-            if (identifier.startsWith(e.prefix())) {
-                if (e.len() > 0) {
-                    return CompletableFuture.completedFuture(e.len());
-                }
-                log.debug("Prefix table returned GCP length 0 for identifier {}, falling through to SPI resolution", originalIdentifier);
-                break;
-            }
+        final int tableLength = lookupPrefixTable(identifier, gs1IdentifierPrefix);
+        if (tableLength > 0) {
+            return CompletableFuture.completedFuture(tableLength);
         }
 
         // Step 2: SPI-based async resolution
@@ -262,6 +405,72 @@ public final class DefaultGCPLengthProvider implements GCPLengthProvider {
         }
     }
 
+    /**
+     * Step 1: longest prefix match in the static table. Returns the GCP length, or a value &lt;= 0
+     * when the table has no usable entry and resolution must continue with the SPI.
+     */
+    private static int lookupPrefixTable(final String identifier, final String gs1IdentifierPrefix) {
+        final int gcpLength = PREFIX_INDEX.lookup(identifier, companyPrefixOffset(identifier, gs1IdentifierPrefix));
+        if (gcpLength != GCPPrefixIndex.NOT_FOUND && gcpLength <= 0) {
+            log.debug("Prefix table returned GCP length 0 for identifier {}, falling through to SPI resolution", identifier);
+        }
+        return gcpLength;
+    }
+
+    /**
+     * Index of the company prefix in the identifier, GTINs: ignore first digit unless prefix itself embeds full GCP.
+     */
+    private static int companyPrefixOffset(final String identifier, final String gs1IdentifierPrefix) {
+        return !PREFIXES_WITH_GCP.contains(gs1IdentifierPrefix) && identifier.length() > 13 ? 1 : 0;
+    }
+
+    /**
+     * Step 1 for a parsed Digital Link, matching the value of the primary key in place.
+     */
+    private static int lookupPrefixTable(final GS1DigitalLink digitalLink, final int primaryKey) {
+        final int start = digitalLink.valueStart(primaryKey);
+        final int end = digitalLink.valueEnd(primaryKey);
+
+        // GTINs: ignore first digit unless prefix itself embeds full GCP
+        final int offset = !embedsGcp(digitalLink, primaryKey) && end - start > 13 ? 1 : 0;
+
+        final int gcpLength = PREFIX_INDEX.lookup(digitalLink.source(), start + offset, end);
+        if (gcpLength != GCPPrefixIndex.NOT_FOUND && gcpLength <= 0) {
+            log.debug("Prefix table returned GCP length 0 for {}, falling through to SPI resolution", digitalLink);
+        }
+        return gcpLength;
+    }
+
+    /**
+     * Index of the primary key, the first path element with a value, -1 if there is none.
+     */
+    private static int primaryKey(final GS1DigitalLink digitalLink) {
+        for (int i = 0; i < digitalLink.size() && !digitalLink.isQueryElement(i); i++) {
+            if (digitalLink.valueEnd(i) > digitalLink.valueStart(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean embedsGcp(final GS1DigitalLink digitalLink, final int index) {
+        final int header = GS1DigitalLink.element(digitalLink.aiCode(index), digitalLink.aiLength(index), false);
+        for (final int ai : AIS_WITH_GCP) {
+            if (ai == header) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String rawValue(final GS1DigitalLink digitalLink, final int index) {
+        return digitalLink.source().subSequence(digitalLink.valueStart(index), digitalLink.valueEnd(index)).toString();
+    }
+
+    private static String prefix(final GS1DigitalLink digitalLink, final int index) {
+        return "/" + digitalLink.ai(index) + "/";
+    }
+
     /**
      * Step 3: JVM property fallback, or throw if not configured.
      */
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Memo of the GS1 company prefixes which the static prefix table could not provide, passed to
+ * {@link DefaultGCPLengthProvider#findGcpLength(String, GCPLengthMemo)} by batch lookups.
+ *
+ * <p>A company prefix resolved by an SPI resolver is kept as such, so further identifiers of the
+ * same company are resolved from the memo, not by calling the SPI resolvers again. Identifiers no
+ * resolver knows are kept as well, so they are not sent to the resolvers twice.
+ *
+ * <p>Not thread-safe, every task of a batch uses its own memo.
+ */
+public final class GCPLengthMemo {
+
+    // Company prefixes resolved by the SPI resolvers, the GCP length is the length of the prefix
+    private final Set<String> companyPrefixes = new HashSet<>();
+
+    // Identifiers none of the SPI resolvers could resolve
+    private final Set<String> unresolved = new HashSet<>();
+
+    private int shortestPrefix = Integer.MAX_VALUE;
+    private int longestPrefix;
+
+    /**
+     * @param identifier identifier to look up, ex: 09889999999999
+     * @param offset     index of the first company prefix character in the identifier
+     * @return GCP length of the memoized company prefix of the identifier, -1 if there is none
+     */
+    int companyPrefixLength(final String identifier, final int offset) {
+        final int longest = Math.min(longestPrefix, identifier.length() - offset);
+        for (int length = shortestPrefix; length <= longest; length++) {
+            if (companyPrefixes.contains(identifier.substring(offset, offset + length))) {
+                return length;
+            }
+        }
+        return -1;
+    }
+
+    void addCompanyPrefix(final String identifier, final int offset, final int gcpLength) {
+        if (offset + gcpLength <= identifier.length()) {
+            companyPrefixes.add(identifier.substring(offset, offset + gcpLength));
+            shortestPrefix = Math.min(shortestPrefix, gcpLength);
+            longestPrefix = Math.max(longestPrefix, gcpLength);
+        }
+    }
+
+    boolean isUnresolved(final String identifier) {
+        return unresolved.contains(identifier);
+    }
+
+    void addUnresolved(final String identifier) {
+        unresolved.add(identifier);
+    }
+}
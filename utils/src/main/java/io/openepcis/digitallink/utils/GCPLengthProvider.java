@@ -23,4 +23,20 @@ public interface GCPLengthProvider {
      * Asynchronous GCP length resolution — never blocks the calling thread.
      */
     CompletionStage<Integer> getGcpLengthAsync(String gs1DigitalLinkURI);
+
+    /**
+     * Synchronous GCP length resolution for an already parsed Digital Link — may block.
+     * <p>The default implementation bridges to {@link #getGcpLength(String)}.
+     */
+    default int getGcpLength(final GS1DigitalLink digitalLink) {
+        return getGcpLength(digitalLink.toString());
+    }
+
+    /**
+     * Asynchronous GCP length resolution for an already parsed Digital Link — never blocks the calling thread.
+     * <p>The default implementation bridges to {@link #getGcpLengthAsync(String)}.
+     */
+    default CompletionStage<Integer> getGcpLengthAsync(final GS1DigitalLink digitalLink) {
+        return getGcpLengthAsync(digitalLink.toString());
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Longest-prefix-match index over the GS1 company prefix table.
+ *
+ * <p>Digit prefixes are stored in a 10-ary trie flattened into an {@code int[]}, so a lookup costs
+ * one array hop per identifier digit (at most the longest prefix length) and allocates nothing.
+ * Prefixes containing non-digit characters, which only a custom overlay could introduce, are kept
+ * in a small side table and only consulted when they are longer than the digit match.
+ *
+ * <p>Entries must be added in precedence order: when the same prefix is added twice the first
+ * entry wins, exactly like the first match of a scan over the sorted entry list.
+ */
+final class GCPPrefixIndex {
+
+    /**
+     * Returned by {@link #lookup(CharSequence, int)} when no prefix matches.
+     */
+    static final int NOT_FOUND = Integer.MIN_VALUE;
+
+    private static final int RADIX = 10;
+
+    // children[node * RADIX + digit] is the child node, 0 means no child as the root is never a child
+    private final int[] children;
+
+    // GCP length stored at a node, NOT_FOUND for inner nodes
+    private final int[] lengths;
+
+    // Non-digit prefixes sorted longest first, with their GCP length
+    private final String[] residualPrefixes;
+    private final int[] residualLengths;
+
+    private GCPPrefixIndex(final Builder builder) {
+        this.children = Arrays.copyOf(builder.children, builder.nodes * RADIX);
+        this.lengths = Arrays.copyOf(builder.lengths, builder.nodes);
+        this.residualPrefixes = builder.residualPrefixes.toArray(new String[0]);
+        this.residualLengths = builder.residualLengths.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Find the GCP length of the longest prefix matching the identifier from the given offset.
+     *
+     * @param identifier identifier to look up, ex: 4068194000004
+     * @param offset     index of the first identifier character to match
+     * @return GCP length of the longest matching prefix or {@link #NOT_FOUND}
+     */
+    int lookup(final CharSequence identifier, final int offset) {
+        return lookup(identifier, offset, identifier.length());
+    }
+
+    /**
+     * Find the GCP length of the longest prefix matching the characters from the given offset up to
+     * the end index, ex: the value of the primary key inside a Digital Link URI.
+     *
+     * @param identifier characters holding the identifier
+     * @param offset     index of the first identifier character to match
+     * @param end        index after the last identifier character
+     * @return GCP length of the longest matching prefix or {@link #NOT_FOUND}
+     */
+    int lookup(final CharSequence identifier, final int offset, final int end) {
+        int node = 0;
+        int found = lengths[0];
+        int matched = 0;
+
+        for (int i = offset; i < end; i++) {
+            final int digit = identifier.charAt(i) - '0';
+            if (digit < 0 || digit >= RADIX) {
+                break;
+            }
+            node = children[node * RADIX + digit];
+            if (node == 0) {
+                break;
+            }
+            if (lengths[node] != NOT_FOUND) {
+                found = lengths[node];
+                matched = i - offset + 1;
+            }
+        }
+
+        for (int r = 0; r < residualPrefixes.length && residualPrefixes[r].length() > matched; r++) {
+            if (startsWith(identifier, offset, end, residualPrefixes[r])) {
+                return residualLengths[r];
+            }
+        }
+        return found;
+    }
+
+    private static boolean startsWith(final CharSequence identifier, final int offset, final int end, final String prefix) {
+        if (end - offset < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (identifier.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(final String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            final char c = prefix.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static final class Builder {
+        private int[] children = new int[1024 * RADIX];
+        private int[] lengths = new int[1024];
+        private int nodes = 1;
+        private final List<String> residualPrefixes = new ArrayList<>();
+        private final List<Integer> residualLengths = new ArrayList<>();
+
+        private Builder() {
+            lengths[0] = NOT_FOUND;
+        }
+
+        /**
+         * Add a prefix entry, entries added earlier take precedence over duplicates added later.
+         */
+        Builder add(final String prefix, final int gcpLength) {
+            if (!isDigits(prefix)) {
+                if (!residualPrefixes.contains(prefix)) {
+                    // keep longest first, preserving the insertion order between equal lengths
+                    int at = 0;
+                    while (at < residualPrefixes.size() && residualPrefixes.get(at).length() >= prefix.length()) {
+                        at++;
+                    }
+                    residualPrefixes.add(at, prefix);
+                    residualLengths.add(at, gcpLength);
+                }
+                return this;
+            }
+
+            int node = 0;
+            for (int i = 0; i < prefix.length(); i++) {
+                final int slot = node * RADIX + (prefix.charAt(i) - '0');
+                if (children[slot] == 0) {
+                    // allocate first, growing the arrays must not lose the child reference
+                    final int child = newNode();
+                    children[slot] = child;
+                }
+                node = children[slot];
+            }
+            if (lengths[node] == NOT_FOUND) {
+                lengths[node] = gcpLength;
+            }
+            return this;
+        }
+
+        GCPPrefixIndex build() {
+            return new GCPPrefixIndex(this);
+        }
+
+        private int newNode() {
+            if (nodes == lengths.length) {
+                lengths = Arrays.copyOf(lengths, nodes * 2);
+                children = Arrays.copyOf(children, nodes * 2 * RADIX);
+            }
+            lengths[nodes] = NOT_FOUND;
+            return nodes++;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * GS1 mod-10 check digit of GTIN, SSCC, GLN, GRAI and the other numeric keys, computed on a region of a
+ * {@link CharSequence} without creating substrings.
+ *
+ * <p>Eight characters are packed as ASCII bytes into one long, checked for digits and summed with the
+ * alternating weights 3 and 1 using SWAR (SIMD within a register) arithmetic. The remaining characters
+ * are summed one at a time.
+ *
+ * <p>{@link #computeAll} and {@link #isValidAll} check the keys of a whole batch, ex: all keys of an event, given
+ * as regions of their characters. Summing the blocks of two keys in the same step, or padding the last block
+ * instead of summing the remaining digits one at a time, has been measured slower than one key at a time, so
+ * the keys are checked in turn.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GS1CheckDigit {
+
+    // Each byte set to 0x01, multiplying by it sums all bytes into the highest byte
+    private static final long ONES = 0x0101010101010101L;
+
+    // Highest bit of each byte
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    // '0' in each byte
+    private static final long ZEROS = 0x3030303030303030L;
+
+    // Added to each byte, sets the highest bit of the bytes above '9'
+    private static final long ABOVE_NINE = 0x4646464646464646L;
+
+    // Bytes 0, 2, 4 and 6 of a long
+    private static final long EVEN_BYTES = 0x00FF00FF00FF00FFL;
+
+    /**
+     * Compute the check digit of the payload digits, ex: {@code 0952012345678} of a GTIN-14 without its check
+     * digit.
+     *
+     * @param payload digits preceding the check digit
+     * @return the check digit 0-9 or -1 if the payload contains a character which is not a digit
+     */
+    public static int compute(final CharSequence payload) {
+        return compute(payload, 0, payload.length());
+    }
+
+    /**
+     * Compute the check digit of the payload digits in the region {@code [start, end)} of the characters.
+     *
+     * @param value characters containing the payload
+     * @param start index of the first payload digit
+     * @param end   index after the last payload digit, the position of the check digit
+     * @return the check digit 0-9 or -1 if the region contains a character which is not a digit
+     */
+    public static int compute(final CharSequence value, final int start, final int end) {
+        final int sum = weightedSum(value, start, end);
+        return sum < 0 ? -1 : (10 - sum % 10) % 10;
+    }
+
+    /**
+     * Check the digits in the region {@code [start, end)} of the characters, the last digit of the region is
+     * the check digit.
+     *
+     * @param value characters containing the key
+     * @param start index of the first digit
+     * @param end   index after the check digit
+     * @return true if the region contains digits only and ends with the matching check digit
+     */
+    public static boolean isValid(final CharSequence value, final int start, final int end) {
+        if (end <= start) {
+            return false;
+        }
+        final int checkDigit = value.charAt(end - 1) - '0';
+        if (checkDigit < 0 || checkDigit > 9) {
+            return false;
+        }
+        final int sum = weightedSum(value, start, end - 1);
+        return sum >= 0 && (sum + checkDigit) % 10 == 0;
+    }
+
+    /**
+     * Compute the check digits of many keys, see {@link #compute(CharSequence, int, int)}.
+     *
+     * @param values      characters containing the payload of each key
+     * @param starts      index of the first payload digit of each key
+     * @param ends        index after the last payload digit of each key, the position of its check digit
+     * @param count       number of keys
+     * @param checkDigits receives the check digit 0-9 of each key, -1 if its payload contains a character which
+     *                    is not a digit
+     * @return number of payloads containing a character which is not a digit
+     */
+    public static int computeAll(final CharSequence[] values, final int[] starts, final int[] ends, final int count,
+                                 final int[] checkDigits) {
+        int invalid = 0;
+        for (int k = 0; k < count; k++) {
+            checkDigits[k] = compute(values[k], starts[k], ends[k]);
+            invalid += checkDigits[k] >>> 31;
+        }
+        return invalid;
+    }
+
+    /**
+     * Check many keys ending with their check digit, see {@link #isValid(CharSequence, int, int)}.
+     *
+     * @param values characters containing each key
+     * @param starts index of the first digit of each key
+     * @param ends   index after the check digit of each key
+     * @param count  number of keys
+     * @param valid  receives whether each key is valid
+     * @return number of invalid keys
+     */
+    public static int isValidAll(final CharSequence[] values, final int[] starts, final int[] ends, final int count,
+                                 final boolean[] valid) {
+        int invalid = 0;
+        for (int k = 0; k < count; k++) {
+            valid[k] = isValid(values[k], starts[k], ends[k]);
+            invalid += valid[k] ? 0 : 1;
+        }
+        return invalid;
+    }
+
+    // Sum of the digits in [start, end) with weight 3 for the last digit and alternating towards the start,
+    // -1 if a character is not a digit
+    static int weightedSum(final CharSequence value, final int start, final int end) {
+        int sum = 0;
+        int i = start;
+        for (; end - i >= Long.BYTES; i += Long.BYTES) {
+            // Character k of the block is held by byte k, non-ASCII characters are remembered in wide
+            long packed = 0L;
+            int wide = 0;
+            for (int k = 0; k < Long.BYTES; k++) {
+                final char c = value.charAt(i + k);
+                wide |= c;
+                packed |= (long) (c & 0xFF) << (k << 3);
+            }
+
+            // Bytes are ASCII, none is above '9' and none is below '0'
+            if (wide >= 0x80
+                    || ((packed + ABOVE_NINE) & HIGH_BITS) != 0
+                    || (((packed | HIGH_BITS) - ZEROS) & HIGH_BITS) != HIGH_BITS) {
+                return -1;
+            }
+
+            // Digits weigh 3 where their distance to the last digit is even, each byte stays below 28
+            final long digits = packed - ZEROS;
+            final long tripled = ((end - 1 - i) & 1) == 0 ? EVEN_BYTES : ~EVEN_BYTES;
+            final long weighted = digits + ((digits & tripled) << 1);
+
+            // Sum of the 8 bytes, at most 216, ends up in the highest byte
+            sum += (int) ((weighted * ONES) >>> 56);
+        }
+        for (; i < end; i++) {
+            final int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            sum += ((end - 1 - i) & 1) == 0 ? 3 * digit : digit;
+        }
+        return sum;
+    }
+}
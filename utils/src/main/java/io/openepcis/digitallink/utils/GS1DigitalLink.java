@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Flyweight view of a parsed GS1 Digital Link, created by {@link GS1DigitalLinkParser#parse(CharSequence)}.
+ *
+ * <p>The view keeps a reference to the parsed characters and records the AI elements of the path
+ * and query string as AI codes and offsets into them, ex: for
+ * {@code https://id.gs1.org/01/09520123456788/10/ABC%2F1?17=201225} the elements are (01, 22..36),
+ * (10, 40..47) and (17, 51..57). Nothing is copied or decoded while parsing, values are only
+ * percent-decoded when requested with {@link #value(int)} or {@link #get(CharSequence)}.
+ *
+ * <p>Views created by {@link GS1DigitalLinkParser#parse(CharSequence)} are immutable as long as the parsed
+ * characters are not modified. Loops parsing many links without keeping them can parse into a reused
+ * {@link GS1DigitalLinkBuffer} instead, which allocates nothing. Its view, {@link GS1DigitalLinkBuffer#link()},
+ * is refilled by every parse into the buffer and must not be kept beyond the processing of the link.
+ */
+public final class GS1DigitalLink {
+
+    // Ints per element: header with AI code, AI length and query flag, value start, value end
+    static final int ELEMENT_SIZE = 3;
+
+    // Elements of a typical Digital Link: primary key, two qualifiers and a data attribute
+    static final int INITIAL_ELEMENTS = 4;
+
+    private static final int AI_LENGTH_SHIFT = 16;
+    private static final int QUERY_FLAG = 1 << 24;
+    private static final int AI_CODE_MASK = (1 << AI_LENGTH_SHIFT) - 1;
+
+    // Set by the parser, reassigned only for the view of a GS1DigitalLinkBuffer
+    private CharSequence source;
+    private int schemeEnd;
+    private int hostStart;
+    private int hostEnd;
+    private int port;
+    private int pathStart;
+    private int pathEnd;
+    private int queryStart;
+    private int queryEnd;
+    private int[] elements;
+    private int size;
+
+    // Empty view, without source and elements until the first parse
+    GS1DigitalLink() {
+        this.schemeEnd = -1;
+        this.hostStart = -1;
+        this.hostEnd = -1;
+        this.port = -1;
+        this.queryStart = -1;
+        this.queryEnd = -1;
+        this.elements = new int[INITIAL_ELEMENTS * ELEMENT_SIZE];
+    }
+
+    void set(final CharSequence source, final int schemeEnd, final int hostStart, final int hostEnd,
+             final int port, final int pathStart, final int pathEnd, final int queryStart,
+             final int queryEnd, final int[] elements, final int size) {
+        this.source = source;
+        this.schemeEnd = schemeEnd;
+        this.hostStart = hostStart;
+        this.hostEnd = hostEnd;
+        this.port = port;
+        this.pathStart = pathStart;
+        this.pathEnd = pathEnd;
+        this.queryStart = queryStart;
+        this.queryEnd = queryEnd;
+        this.elements = elements;
+        this.size = size;
+    }
+
+    // Elements array of the parser, reused by the next parse of a buffer
+    int[] elements() {
+        return elements;
+    }
+
+    static int element(final int aiCode, final int aiLength, final boolean query) {
+        return aiCode | aiLength << AI_LENGTH_SHIFT | (query ? QUERY_FLAG : 0);
+    }
+
+    static int aiCodeOf(final int header) {
+        return header & AI_CODE_MASK;
+    }
+
+    static int aiLengthOf(final int header) {
+        return (header & ~QUERY_FLAG) >>> AI_LENGTH_SHIFT;
+    }
+
+    static boolean isQueryElementOf(final int header) {
+        return (header & QUERY_FLAG) != 0;
+    }
+
+    // Last element of the AI among the first size elements, -1 if the AI is not present
+    static int indexOf(final int[] elements, final int size, final CharSequence ai) {
+        final int length = ai.length();
+        if (length < 2 || length > 4) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < length; i++) {
+            final int digit = ai.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            code = code * 10 + digit;
+        }
+        final int header = element(code, length, false);
+        for (int i = size - 1; i >= 0; i--) {
+            if ((elements[i * ELEMENT_SIZE] & ~QUERY_FLAG) == header) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the parsed characters, null for the view of a buffer before the first parse
+     */
+    public CharSequence source() {
+        return source;
+    }
+
+    /**
+     * @return the scheme ex: https, null if the link has no authority
+     */
+    public String scheme() {
+        return schemeEnd < 0 ? null : source.subSequence(0, schemeEnd).toString();
+    }
+
+    /**
+     * @return the host ex: id.gs1.org, null if the link has no authority
+     */
+    public String host() {
+        return hostStart < 0 ? null : source.subSequence(hostStart, hostEnd).toString();
+    }
+
+    /**
+     * @return the explicit port, -1 if none
+     */
+    public int port() {
+        return port;
+    }
+
+    /**
+     * @return index of the first character of the path, the path is empty if equal to {@link #pathEnd()}
+     */
+    public int pathStart() {
+        return pathStart;
+    }
+
+    /**
+     * @return index after the last character of the path
+     */
+    public int pathEnd() {
+        return pathEnd;
+    }
+
+    /**
+     * @return index of the first character of the query string after the {@code ?}, -1 if there is no query string
+     */
+    public int queryStart() {
+        return queryStart;
+    }
+
+    /**
+     * @return index after the last character of the query string, -1 if there is no query string
+     */
+    public int queryEnd() {
+        return queryEnd;
+    }
+
+    /**
+     * @return number of AI elements in the path and query string
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return numeric value of the AI digits, ex: 1 for AI 01 and 8003 for AI 8003
+     */
+    public int aiCode(final int index) {
+        return aiCodeOf(header(index));
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return number of AI digits, 2 to 4
+     */
+    public int aiLength(final int index) {
+        return aiLengthOf(header(index));
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return the AI digits ex: 01
+     */
+    public String ai(final int index) {
+        // The AI is followed by the '/' or '=' before the value
+        final int aiEnd = valueStart(index) - 1;
+        return source.subSequence(aiEnd - aiLength(index), aiEnd).toString();
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return true if the element is a query parameter, false if it is part of the path
+     */
+    public boolean isQueryElement(final int index) {
+        return isQueryElementOf(header(index));
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return index of the first character of the raw value
+     */
+    public int valueStart(final int index) {
+        return elements[offset(index) + 1];
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return index after the last character of the raw value
+     */
+    public int valueEnd(final int index) {
+        return elements[offset(index) + 2];
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return the value as it is in the parsed characters, without decoding
+     */
+    public String rawValue(final int index) {
+        return source.subSequence(valueStart(index), valueEnd(index)).toString();
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return the percent-decoded value, with {@code +} decoded as space like {@link URLDecoder}
+     * @throws IllegalArgumentException if the value contains an illegal escape sequence
+     */
+    public String value(final int index) {
+        final int start = valueStart(index);
+        final int end = valueEnd(index);
+        final String raw = rawValue(index);
+        for (int i = start; i < end; i++) {
+            final char c = source.charAt(i);
+            if (c == '%' || c == '+') {
+                return URLDecoder.decode(raw, StandardCharsets.UTF_8);
+            }
+        }
+        return raw;
+    }
+
+    /**
+     * Find the element of the AI, the last one if the AI occurs more than once.
+     *
+     * @param ai AI digits ex: 01
+     * @return element index, -1 if the AI is not present
+     */
+    public int indexOf(final CharSequence ai) {
+        return indexOf(elements, size, ai);
+    }
+
+    /**
+     * @param ai AI digits ex: 01
+     * @return the percent-decoded value of the AI, null if the AI is not present
+     */
+    public String get(final CharSequence ai) {
+        final int index = indexOf(ai);
+        return index < 0 ? null : value(index);
+    }
+
+    /**
+     * @return the decoded values by AI in the order of the elements, later occurrences of an AI
+     * replacing earlier ones
+     */
+    public Map<String, String> toMap() {
+        final Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(ai(i), value(i));
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(source);
+    }
+
+    private int header(final int index) {
+        return elements[offset(index)];
+    }
+
+    private int offset(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return index * ELEMENT_SIZE;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+/**
+ * Reusable buffer of the AI elements of one Digital Link at a time, filled by
+ * {@link GS1DigitalLinkParser#parse(CharSequence, GS1DigitalLinkBuffer)}.
+ *
+ * <p>The buffer holds one {@link GS1DigitalLink} view, owned by the caller and refilled for link after link, so
+ * parsing allocates nothing once the buffer has room for the elements of the links. The view can be passed
+ * to APIs taking a parsed link, ex: the validators, as long as they do not keep it.
+ *
+ * <p>Every parse replaces the content of the buffer. Instances are not thread-safe, use one buffer per thread.
+ */
+public final class GS1DigitalLinkBuffer {
+
+    private final GS1DigitalLink link = new GS1DigitalLink();
+
+    /**
+     * @return view of the last parse, refilled by the next parse into the buffer
+     */
+    public GS1DigitalLink link() {
+        return link;
+    }
+
+    /**
+     * @return the characters of the last parse, null if nothing was parsed yet
+     */
+    public CharSequence source() {
+        return link.source();
+    }
+
+    /**
+     * @return number of AI elements in the path and query string
+     */
+    public int size() {
+        return link.size();
+    }
+
+    public boolean isEmpty() {
+        return link.isEmpty();
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return numeric value of the AI digits, ex: 1 for AI 01 and 8003 for AI 8003
+     */
+    public int aiCode(final int index) {
+        return link.aiCode(index);
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return number of AI digits, 2 to 4
+     */
+    public int aiLength(final int index) {
+        return link.aiLength(index);
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return true if the element is a query parameter, false if it is part of the path
+     */
+    public boolean isQueryElement(final int index) {
+        return link.isQueryElement(index);
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return index of the first character of the raw value
+     */
+    public int valueStart(final int index) {
+        return link.valueStart(index);
+    }
+
+    /**
+     * @param index element index, 0 to {@link #size()} - 1
+     * @return index after the last character of the raw value
+     */
+    public int valueEnd(final int index) {
+        return link.valueEnd(index);
+    }
+
+    /**
+     * Find the element of the AI, the last one if the AI occurs more than once.
+     *
+     * @param ai AI digits ex: 01
+     * @return element index, -1 if the AI is not present
+     */
+    public int indexOf(final CharSequence ai) {
+        return link.indexOf(ai);
+    }
+}
@@ -2,24 +2,17 @@ package io.openepcis.digitallink.utils;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.commons.lang3.StringUtils;
 
 import java.net.URL;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GS1DigitalLinkParser {
 
-    // match /<AI>/<value> in the path
-    private static final Pattern PATH_PATTERN = Pattern.compile("/(\\d{2,4})/([^/]*)");
-
-    // match <AI>=<value> in query string
-    private static final Pattern QUERY_PATTERN = Pattern.compile("(\\d{2,4})=([^&]*)");
+    private static final int MIN_AI_LENGTH = 2;
+    private static final int MAX_AI_LENGTH = 4;
 
 
     /**
@@ -43,27 +36,8 @@ public class GS1DigitalLinkParser {
             extractedData.put("port", String.valueOf(digitalLink.getPort() == -1 ? digitalLink.getDefaultPort() : digitalLink.getPort()));
         }
 
-        // Extract path segments using the defined pattern
-        final String path = digitalLink.getPath();
-        final Matcher pathMatcher = PATH_PATTERN.matcher(path);
-
-        while (pathMatcher.find()) {
-            final String ai = pathMatcher.group(1);
-            final String value = URLDecoder.decode(pathMatcher.group(2), StandardCharsets.UTF_8);
-            extractedData.put(ai, value);
-        }
-
-
-        // Extract Query Parameters
-        final String query = digitalLink.getQuery();
-        if (StringUtils.isNotBlank(query)) {
-            final Matcher queryMatcher = QUERY_PATTERN.matcher(query);
-            while (queryMatcher.find()) {
-                final String ai = queryMatcher.group(1);
-                final String value = URLDecoder.decode(queryMatcher.group(2), StandardCharsets.UTF_8);
-                extractedData.put(ai, value);
-            }
-        }
+        // Extract path segments and query parameters
+        extractedData.putAll(parse(digitalLink.toString()).toMap());
 
         return extractedData;
     }
@@ -74,4 +48,185 @@ public class GS1DigitalLinkParser {
     public static Map<String, String> parse(final URL digitalLink) {
         return parse(digitalLink, false);
     }
+
+    /**
+     * Parses the AI elements of the Digital Link without copying or decoding any
+     * characters. The elements are the {@code /<AI>/<value>} pairs of the path and the
+     * {@code <AI>=<value>} parameters of the query string, an AI being 2 to 4 digits.
+     * Ex: https://id.gs1.org/01/09520123456788/10/ABC1?17=180426 has the elements 01, 10 and 17.
+     *
+     * @param digitalLink the full Digital Link URI, or its path and query string
+     * @return view of the Digital Link referencing the given characters
+     */
+    public static GS1DigitalLink parse(final CharSequence digitalLink) {
+        final GS1DigitalLink view = new GS1DigitalLink();
+        parse(digitalLink, view);
+        return view;
+    }
+
+    /**
+     * Parses the AI elements of the Digital Link into a buffer owned by the caller, the same elements as
+     * {@link #parse(CharSequence)}. Nothing is allocated once the buffer has room for the elements, so loops
+     * parsing many links can reuse one buffer. The parsed link is available as {@link GS1DigitalLinkBuffer#link()}.
+     *
+     * @param digitalLink the full Digital Link URI, or its path and query string
+     * @param buffer      buffer receiving the elements, its previous content is replaced
+     * @return number of AI elements, same as {@link GS1DigitalLinkBuffer#size()}
+     */
+    public static int parse(final CharSequence digitalLink, final GS1DigitalLinkBuffer buffer) {
+        return parse(digitalLink, buffer.link());
+    }
+
+    // Parse into the view, its elements array is reused if it has room for the elements
+    private static int parse(final CharSequence digitalLink, final GS1DigitalLink view) {
+        final int length = digitalLink.length();
+
+        // scheme://authority, the authority ends at the path, query string or fragment
+        int schemeEnd = -1;
+        int hostStart = -1;
+        int hostEnd = -1;
+        int port = -1;
+        int i = 0;
+        final int colon = indexOfSchemeSeparator(digitalLink);
+        if (colon > 0 && colon + 2 < length && digitalLink.charAt(colon + 1) == '/' && digitalLink.charAt(colon + 2) == '/') {
+            schemeEnd = colon;
+            hostStart = colon + 3;
+            int portSeparator = -1;
+            for (i = hostStart; i < length; i++) {
+                final char c = digitalLink.charAt(i);
+                if (isSegmentEnd(c)) {
+                    break;
+                }
+                if (c == '@') {
+                    hostStart = i + 1;
+                    portSeparator = -1;
+                } else if (c == ':') {
+                    portSeparator = i;
+                } else if (c < '0' || c > '9') {
+                    // Not a port, ex: the ':' of an IPv6 address
+                    portSeparator = -1;
+                }
+            }
+            hostEnd = i;
+            if (portSeparator >= 0) {
+                hostEnd = portSeparator;
+                port = parsePort(digitalLink, portSeparator + 1, i);
+            }
+        }
+        final int pathStart = i;
+
+        // Path: /<AI>/<value>, segments which are no AI followed by a value are skipped. The segments are scanned
+        // up to the query string or fragment, which end the path
+        int[] elements = view.elements();
+        int size = 0;
+        int segment = pathStart;
+        while (segment < length && !isSegmentEnd(digitalLink.charAt(segment))) {
+            segment++;
+        }
+        int ai = -1;
+        int aiLength = 0;
+        while (segment < length && digitalLink.charAt(segment) == '/') {
+            final int segmentStart = segment + 1;
+            segment = segmentStart;
+            while (segment < length && !isSegmentEnd(digitalLink.charAt(segment))) {
+                segment++;
+            }
+            if (ai >= 0) {
+                elements = put(elements, size++, GS1DigitalLink.element(ai, aiLength, false), segmentStart, segment);
+                ai = -1;
+            } else {
+                ai = parseAi(digitalLink, segmentStart, segment);
+                aiLength = segment - segmentStart;
+            }
+        }
+        final int pathEnd = segment;
+
+        // Query string: <AI>=<value>, other parameters are skipped. The query string ends at the fragment
+        int queryStart = -1;
+        int queryEnd = -1;
+        if (pathEnd < length && digitalLink.charAt(pathEnd) == '?') {
+            queryStart = pathEnd + 1;
+            int parameterStart = queryStart;
+            int equals = -1;
+            for (i = queryStart; ; i++) {
+                // The end of the characters ends the last parameter like a fragment
+                final char c = i < length ? digitalLink.charAt(i) : '#';
+                if (c == '=' && equals < 0) {
+                    equals = i;
+                } else if (c == '&' || c == '#') {
+                    final int code = equals < 0 ? -1 : parseAi(digitalLink, parameterStart, equals);
+                    if (code >= 0) {
+                        elements = put(elements, size++, GS1DigitalLink.element(code, equals - parameterStart, true), equals + 1, i);
+                    }
+                    if (c == '#') {
+                        break;
+                    }
+                    parameterStart = i + 1;
+                    equals = -1;
+                }
+            }
+            queryEnd = i;
+        }
+
+        view.set(digitalLink, schemeEnd, hostStart, hostEnd, port, pathStart, pathEnd, queryStart, queryEnd,
+                elements, size);
+        return size;
+    }
+
+    // End of the authority or of a path segment
+    private static boolean isSegmentEnd(final char c) {
+        return c == '/' || c == '?' || c == '#';
+    }
+
+    // Index of the ':' ending the scheme, -1 if the characters before the first ':' are no scheme
+    private static int indexOfSchemeSeparator(final CharSequence digitalLink) {
+        for (int i = 0; i < digitalLink.length(); i++) {
+            final char c = digitalLink.charAt(i);
+            if (c == ':') {
+                return i;
+            }
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '+' || c == '-' || c == '.')) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int parsePort(final CharSequence digitalLink, final int start, final int end) {
+        if (start == end || end - start > 5) {
+            return -1;
+        }
+        int port = 0;
+        for (int i = start; i < end; i++) {
+            port = port * 10 + digitalLink.charAt(i) - '0';
+        }
+        return port;
+    }
+
+    // Numeric value of an AI of 2 to 4 ASCII digits, -1 if the characters are no AI
+    private static int parseAi(final CharSequence digitalLink, final int start, final int end) {
+        final int length = end - start;
+        if (length < MIN_AI_LENGTH || length > MAX_AI_LENGTH) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = digitalLink.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            code = code * 10 + digit;
+        }
+        return code;
+    }
+
+    // Store the element, the array is grown if it is full
+    private static int[] put(final int[] elements, final int index, final int header, final int valueStart, final int valueEnd) {
+        final int offset = index * GS1DigitalLink.ELEMENT_SIZE;
+        final int[] target = offset < elements.length ? elements : Arrays.copyOf(elements, elements.length * 2);
+        target[offset] = header;
+        target[offset + 1] = valueStart;
+        target[offset + 2] = valueEnd;
+        return target;
+    }
 }
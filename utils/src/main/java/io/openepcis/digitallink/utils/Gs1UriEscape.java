@@ -12,9 +12,8 @@ package io.openepcis.digitallink.utils;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.commons.lang3.StringUtils;
 
-import java.util.Map;
+import java.util.Arrays;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class Gs1UriEscape {
@@ -22,30 +21,126 @@ public class Gs1UriEscape {
     // EPC TDS "URI Form" triplets that each stand for ONE logical character. It contains both:
     //   CSET-82 (X): " % & / < > ?   ->  %22 %25 %26 %2F %3C %3E %3F
     //   CPI    (Y): # /             ->  %23 %2F
-    private static final Map<String, String> ESCAPES = Map.of(
-            "%22", "\"",
-            "%23", "#",
-            "%25", "%",
-            "%26", "&",
-            "%2F", "/",
-            "%3C", "<",
-            "%3E", ">",
-            "%3F", "?");
+    private static final String ESCAPED_CHARACTERS = "\"#%&/<>?";
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    // Escaped ASCII characters, true for the characters of the triplets
+    private static final boolean[] ESCAPED = new boolean[128];
+
+    // Value of the hex digit characters, -1 for other ASCII characters
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        for (int i = 0; i < ESCAPED_CHARACTERS.length(); i++) {
+            ESCAPED[ESCAPED_CHARACTERS.charAt(i)] = true;
+        }
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < HEX_DIGITS.length; i++) {
+            HEX_VALUES[HEX_DIGITS[i]] = (byte) i;
+            HEX_VALUES[Character.toLowerCase(HEX_DIGITS[i])] = (byte) i;
+        }
+    }
 
     // Collapse escape triplets to logical characters
     public static String decode(final String value) {
-        // if the value is blank or does not contain any escape triplets, return it as-is
-        if (StringUtils.isBlank(value) || !value.contains("%")) {
+        return value == null ? null : decode((CharSequence) value).toString();
+    }
+
+    /**
+     * Collapses the escape triplets to the logical characters in a single pass, ex: {@code A%2Fb%26} to
+     * {@code A/b&}. The hex digits of the triplets are case-insensitive, other percent-encoded characters are kept
+     * as they are. Each triplet stands for one character, {@code %2526} is decoded to {@code %26}.
+     *
+     * @param value characters to decode, may be null
+     * @return the given characters if they contain no escape triplet, otherwise the decoded characters
+     */
+    public static CharSequence decode(final CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+        final int length = value.length();
+        StringBuilder decoded = null;
+        int copied = 0;
+        for (int i = indexOf(value, '%', 0); i + 2 < length; i = indexOf(value, '%', i + 1)) {
+            final int c = escapedCharacter(value.charAt(i + 1), value.charAt(i + 2));
+            if (c < 0) {
+                continue;
+            }
+            if (decoded == null) {
+                decoded = new StringBuilder(length);
+            }
+            decoded.append(value, copied, i).append((char) c);
+            copied = i + 3;
+            i += 2;
+        }
+        if (decoded == null) {
+            return value;
+        }
+        return decoded.append(value, copied, length).toString();
+    }
+
+    public static String encode(final String value) {
+        return value == null ? null : encode((CharSequence) value).toString();
+    }
+
+    /**
+     * Replaces the logical characters by their escape triplets with upper-case hex digits in a single pass, ex:
+     * {@code A/b&} to {@code A%2Fb%26}, the reverse of {@link #decode(CharSequence)}.
+     *
+     * @param value characters to encode, may be null
+     * @return the given characters if they contain no character to escape, otherwise the encoded characters
+     */
+    public static CharSequence encode(final CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+        final int length = value.length();
+        StringBuilder encoded = null;
+        int copied = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= ESCAPED.length || !ESCAPED[c]) {
+                continue;
+            }
+            if (encoded == null) {
+                // Room for a few triplets without growing
+                encoded = new StringBuilder(length + 16);
+            }
+            encoded.append(value, copied, i).append('%').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            copied = i + 1;
+        }
+        if (encoded == null) {
             return value;
         }
+        return encoded.append(value, copied, length).toString();
+    }
 
-        String out = value;
-        for (Map.Entry<String, String> e : ESCAPES.entrySet()) {
-            // replace both the upper-case and lower-case versions of the escape triplet
-            out = out.replace(e.getKey(), e.getValue())
-                    .replace(e.getKey().toLowerCase(), e.getValue());
+    // Character of the escape triplet with the hex digits, -1 if the hex digits are no escape triplet
+    private static int escapedCharacter(final char high, final char low) {
+        if (high >= HEX_VALUES.length || low >= HEX_VALUES.length) {
+            return -1;
+        }
+        final int highValue = HEX_VALUES[high];
+        final int lowValue = HEX_VALUES[low];
+        if (highValue < 0 || lowValue < 0) {
+            return -1;
         }
-        return out;
+        final int c = highValue << 4 | lowValue;
+        return c < ESCAPED.length && ESCAPED[c] ? c : -1;
     }
 
+    // Index of the character from the start, the length if not found
+    private static int indexOf(final CharSequence value, final char c, final int start) {
+        if (value instanceof String string) {
+            final int index = string.indexOf(c, start);
+            return index < 0 ? string.length() : index;
+        }
+        for (int i = start; i < value.length(); i++) {
+            if (value.charAt(i) == c) {
+                return i;
+            }
+        }
+        return value.length();
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled dispatch index selecting the target responsible for an identifier in a single pass over
+ * the input, instead of asking every candidate in turn. Shared by the validator and converter
+ * factories.
+ *
+ * <p>All tokens (ex: the URN scheme {@code :sgtin:}, the Digital Link AI path segment {@code /01/}
+ * or the query parameter {@code ?17=}) are compiled into one character trie. One scan of the
+ * identifier records which tokens it contains, the target is then selected from this token set:
+ *
+ * <ul>
+ *   <li>Each registration declares the tokens which all must be present and the tokens which must
+ *       not be present. A target supporting alternative token sets is registered once per
+ *       alternative.
+ *   <li>Registrations are evaluated in the order they were added, which gives a deterministic
+ *       precedence when more than one could apply (ex: LGTIN before SGTIN).
+ * </ul>
+ *
+ * <p>A token is found wherever it occurs in the identifier, the same way as a {@code contains}
+ * check. Instances are immutable once built and safe to share between threads.
+ *
+ * @param <T> type of the dispatch targets
+ */
+public final class TokenDispatchIndex<T> {
+
+    // Tokens are plain ASCII, anything outside this range can never continue a match
+    private static final int ALPHABET = 128;
+
+    // Token presence is tracked as bits of a single long
+    private static final int MAX_TOKENS = Long.SIZE;
+
+    // Flattened trie: transitions[state * ALPHABET + c] holds the next state. The root (state 0) is
+    // never the target of a transition, so 0 doubles as "no transition".
+    private final int[] transitions;
+
+    // Token bit accepted when reaching a state, 0 for inner states
+    private final long[] accepts;
+
+    // Registrations in precedence order
+    private final long[] required;
+    private final long[] excluded;
+    private final List<T> targets;
+
+    private TokenDispatchIndex(final Builder<T> builder) {
+        final List<String> tokens = new ArrayList<>(builder.tokens.keySet());
+
+        int stateCount = 1;
+        for (final String token : tokens) {
+            stateCount += token.length();
+        }
+
+        final int[] trie = new int[stateCount * ALPHABET];
+        final long[] accepting = new long[stateCount];
+
+        int states = 1;
+        for (int id = 0; id < tokens.size(); id++) {
+            final String token = tokens.get(id);
+            int state = 0;
+            for (int i = 0; i < token.length(); i++) {
+                final char c = token.charAt(i);
+                if (c >= ALPHABET) {
+                    throw new IllegalArgumentException("Dispatch tokens must be ASCII: " + token);
+                }
+                if (trie[state * ALPHABET + c] == 0) {
+                    trie[state * ALPHABET + c] = states++;
+                }
+                state = trie[state * ALPHABET + c];
+            }
+            accepting[state] |= 1L << id;
+        }
+
+        this.transitions = trie;
+        this.accepts = accepting;
+
+        final int rules = builder.targets.size();
+        this.required = new long[rules];
+        this.excluded = new long[rules];
+        this.targets = List.copyOf(builder.targets);
+        for (int r = 0; r < rules; r++) {
+            required[r] = builder.required.get(r);
+            excluded[r] = builder.excluded.get(r);
+        }
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Find the target responsible for the identifier.
+     *
+     * @param identifier the identifier in URN or Digital Link URI format
+     * @return the target of the first matching registration or null if none applies
+     */
+    public T select(final CharSequence identifier) {
+        long present = 0L;
+        final int length = identifier.length();
+        for (int i = 0; i < length; i++) {
+            present |= match(identifier, i);
+        }
+
+        for (int r = 0; r < required.length; r++) {
+            if ((present & required[r]) == required[r] && (present & excluded[r]) == 0) {
+                return targets.get(r);
+            }
+        }
+        return null;
+    }
+
+    // Walk the trie starting at the given offset and return the bits of all tokens starting there
+    private long match(final CharSequence value, final int from) {
+        long found = 0L;
+        int state = 0;
+        final int length = value.length();
+        for (int i = from; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= ALPHABET) {
+                return found;
+            }
+            state = transitions[state * ALPHABET + c];
+            if (state == 0) {
+                return found;
+            }
+            found |= accepts[state];
+        }
+        return found;
+    }
+
+    public static final class Builder<T> {
+        private final Map<String, Integer> tokens = new LinkedHashMap<>();
+        private final List<Long> required = new ArrayList<>();
+        private final List<Long> excluded = new ArrayList<>();
+        private final List<T> targets = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Register a target for identifiers containing the given tokens.
+         *
+         * @param target         target to dispatch to
+         * @param requiredTokens tokens which all must be present ex: :sgtin: or /01/, /21/
+         * @param excludedTokens tokens which must not be present ex: /10/
+         * @return this builder
+         */
+        public Builder<T> register(final T target, final List<String> requiredTokens, final List<String> excludedTokens) {
+            if (requiredTokens.isEmpty()) {
+                throw new IllegalArgumentException("At least one required token must be registered for " + target);
+            }
+            required.add(mask(requiredTokens));
+            excluded.add(mask(excludedTokens));
+            targets.add(target);
+            return this;
+        }
+
+        public TokenDispatchIndex<T> build() {
+            return new TokenDispatchIndex<>(this);
+        }
+
+        private long mask(final List<String> values) {
+            long mask = 0L;
+            for (final String value : values) {
+                mask |= 1L << token(value);
+            }
+            return mask;
+        }
+
+        private int token(final String token) {
+            final Integer existing = tokens.get(token);
+            if (existing != null) {
+                return existing;
+            }
+            if (tokens.size() == MAX_TOKENS) {
+                throw new IllegalStateException("Too many dispatch tokens, at most " + MAX_TOKENS + " are supported");
+            }
+            tokens.put(token, tokens.size());
+            return tokens.size() - 1;
+        }
+    }
+}
@@ -3,8 +3,14 @@ package io.openepcis.digitallink.test.compression;
 import io.openepcis.digitallink.toolkit.GS1DigitalLinkCompression;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class GS1DigitalLinkCompressionTest {
 
@@ -33,4 +39,71 @@ public class GS1DigitalLinkCompressionTest {
             Assertions.assertEquals(uri, decompressed);
         });
     }
+
+    /*
+        Compressed values produced by the former binary string implementation, the bit packed
+        implementation must produce identical output. The decompressed URI differs from the input
+        where the format is lossy: leading zeros of numeric serials, lower case hex values and the
+        order of the query string.
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "https://id.gs1.org/01/09520123456788, false, false, https://id.gs1.org/ARFRJydaKA, https://id.gs1.org/01/09520123456788",
+            "https://id.gs1.org/01/09520123456788/10/ABC123/21/12345, true, false, https://id.gs1.org/CxFRJydaKI1XgkZCCjA5, https://id.gs1.org/01/09520123456788/10/ABC123/21/12345",
+            "https://id.gs1.org/01/09520123456788/21/00001234567890123456, false, true, https://id.gs1.org/ARFRJydaKEIoAAEYtU8irrA, https://id.gs1.org/01/09520123456788/21/1234567890123456",
+            "https://id.gs1.org/01/09520123456788/10/abcdef0123/21/ABCDEF0123, true, true, https://id.gs1.org/CxFRJydaKFVXm94CRkKVV5veAkY, https://id.gs1.org/01/09520123456788/10/ABCDEF0123/21/ABCDEF0123",
+            "https://id.gs1.org/01/09520123456788/10/Lot-A_b9/21/x%2Fy%26z%25, false, false, https://id.gs1.org/ARFRJydaKCDQXRb8B-36Qw3hf5Teko, https://id.gs1.org/01/09520123456788/10/Lot-A_b9/21/x%2Fy%26z%25",
+            "https://id.gs1.org/01/09520123456788/10/ABC123?17=201225, true, false, https://id.gs1.org/CxFRJydaKI1XgkYuYkEg, https://id.gs1.org/01/09520123456788/10/ABC123?17=201225",
+            "https://example.com/some/path/01/09520123456788/21/12345678901234567890?17=201225, false, true, https://example.com/some/path/ARFRJydaKC5iQSQigq1SpjOsfCtI, https://example.com/some/path/01/09520123456788/21/12345678901234567890?17=201225",
+            "https://id.gs1.org/00/106141412345678908, true, true, https://id.gs1.org/ABeRcNWtKMPA, https://id.gs1.org/00/106141412345678908",
+            "https://id.gs1.org/414/9520123456788/254/Shelf-12, false, false, https://id.gs1.org/JUaEoXpX_tdkFIqJOTrRQ, https://id.gs1.org/414/9520123456788/254/Shelf-12",
+            "https://id.gs1.org/8018/952012345678901233?8019=1234567890, true, false, https://id.gs1.org/nNNjovNfov8aEmWAtI, https://id.gs1.org/8018/952012345678901233/8019/1234567890",
+            "https://id.gs1.org/253/9520123456788ABC%2F123, false, true, https://id.gs1.org/JTiok5OtFIeDChr2LJm, https://id.gs1.org/253/9520123456788ABC%2F123",
+            "https://id.gs1.org/255/95201234567880012345678, true, true, https://id.gs1.org/JViok5OtFKAC8YU4, https://id.gs1.org/255/95201234567880012345678",
+            "https://id.gs1.org/01/09520123456788/21/987?linkType=gs1:pip&context=dpp, false, true, https://id.gs1.org/ARFRJydaKEIH7fiJYp5E8qXoHz82Lrhp4eHcontextYN2mk, https://id.gs1.org/01/09520123456788/21/987?context=dpp&linkType=gs1%3Apip",
+            "https://id.gs1.org/01/09520123456788/21/987?ref=1234567890123456789012345678901234567890, true, true, https://id.gs1.org/DBFRJydaKAft-DrefCgdBkkDrgbfncVl4vy2cfhWk, https://id.gs1.org/01/09520123456788/21/987?ref=1234567890123456789012345678901234567890"
+    })
+    public void verifyCompressionCorpus(final String uri, final boolean useOptimisations, final boolean compressOtherKeyValuePairs,
+                                        final String compressed, final String decompressed) {
+        Assertions.assertEquals(compressed, compressor.compressGS1DigitalLink(uri, useOptimisations, compressOtherKeyValuePairs));
+        Assertions.assertEquals(decompressed, compressor.decompressGS1DigitalLink(compressed));
+    }
+
+    @Test
+    public void verifyTruncatedCompressedDigitalLink() {
+        // AI (01) needs 47 bits for its value, only 22 bits are present
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> compressor.decompressGS1DigitalLink("https://id.gs1.org/ARFRJ"));
+    }
+
+    @Test
+    public void verifyConcurrentUseOfSharedInstances() throws Exception {
+        final String uri = "https://id.gs1.org/01/09520123456788/10/ABC123/21/12345";
+        final String compressed = "https://id.gs1.org/CxFRJydaKI1XgkZCCjA5";
+        final GS1DigitalLinkCompression other = new GS1DigitalLinkCompression();
+        Assertions.assertSame(compressor.aiMaps, other.aiMaps);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> other.aiMaps.get("identifiers").add("99"));
+
+        final List<Future<Boolean>> results = new ArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 64; i++) {
+                final GS1DigitalLinkCompression instance = i % 2 == 0 ? compressor : new GS1DigitalLinkCompression();
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        if (!compressed.equals(instance.compressGS1DigitalLink(uri, true, false))
+                                || !uri.equals(instance.decompressGS1DigitalLink(compressed))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assertions.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -1,9 +1,12 @@
 package io.openepcis.digitallink.toolkit;
 
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.digitallink.utils.GS1DigitalLinkParser;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -12,6 +15,7 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class GS1DigitalLinkNormalizerTest {
 
@@ -25,9 +29,51 @@ public class GS1DigitalLinkNormalizerTest {
         assertEquals(expectedUrl, normalizedUrl.toString());
     }
 
+    @ParameterizedTest
+    @MethodSource("normalizationTestCases")
+    public void testNormalizeCharSequence(String inputUrl, String expectedUrl) throws MalformedURLException {
+        assertEquals(expectedUrl, normalizer.normalize((CharSequence) inputUrl).toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "https://id.gs1.org/01/09506000164908/10/ABC%2F1?17=230101",
+        "HTTPS://ID.gs1.org:443/gtin/09506000164908/ser/X-Y_Z~1/?lot=A(1)&&",
+        "https://id.gs1.org:/gtin/09506000164908/ser//#fragment",
+        "https://id.gs1.org/gtin/09506000164908/ser/%C3%A9t%C3%A9?exp=&lot=A+B&lot",
+        "https://user@id.gs1.org/gtin/09506000164908/./ser/1",
+        "https://id.gs1.org?&&"
+    })
+    public void testNormalizeCharSequenceSameAsUrl(String inputUrl) throws MalformedURLException {
+        URL url = URI.create(inputUrl).toURL();
+        assertEquals(normalizer.normalize(url).toString(), normalizer.normalize((CharSequence) inputUrl).toString());
+    }
+
+    @Test
+    public void testNormalizeCharSequenceUnchanged() throws MalformedURLException {
+        String digitalLink = "https://id.gs1.org/01/09506000164908/10/ABC123?17=230101&linktype=all";
+        assertSame(digitalLink, normalizer.normalize((CharSequence) digitalLink));
+    }
+
+    @ParameterizedTest
+    @MethodSource("normalizationTestCases")
+    public void testNormalizeParsedDigitalLink(String inputUrl, String expectedUrl) {
+        GS1DigitalLink normalizedLink = normalizer.normalize(GS1DigitalLinkParser.parse(inputUrl));
+        assertEquals(expectedUrl, normalizedLink.toString());
+        assertEquals(GS1DigitalLinkParser.parse(expectedUrl).toMap(), normalizedLink.toMap());
+    }
+
+    @Test
+    public void testNormalizeParsedDigitalLinkUnchanged() {
+        GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse("https://id.gs1.org/01/09506000164908/10/ABC123?17=230101&linktype=all");
+        assertSame(digitalLink, normalizer.normalize(digitalLink));
+    }
+
     @Test
     public void testNormalizeNullUrl() throws MalformedURLException {
-        assertNull(normalizer.normalize(null));
+        assertNull(normalizer.normalize((URL) null));
+        assertNull(normalizer.normalize((GS1DigitalLink) null));
+        assertNull(normalizer.normalize((CharSequence) null));
     }
 
     static Stream<Arguments> normalizationTestCases() {
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ */
+package io.openepcis.digitallink.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openepcis.digitallink.model.ApplicationIdentifier;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AiEntriesTest {
+
+    @Test
+    void testAllAisAndShortcodesAreFound() throws Exception {
+        final List<ApplicationIdentifier> entries;
+        try (InputStream inputStream = AiEntries.class.getResourceAsStream("/aitable.json")) {
+            final ObjectMapper objectMapper = new ObjectMapper();
+            entries = objectMapper.readValue(inputStream,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, ApplicationIdentifier.class));
+        }
+        assertFalse(entries.isEmpty());
+
+        for (ApplicationIdentifier entry : entries) {
+            final ApplicationIdentifier applicationIdentifier = AiEntries.getEntry(entry.getAi());
+            assertEquals(entry.getAi(), applicationIdentifier.getAi());
+            assertSame(applicationIdentifier, AiEntries.getEntry(Integer.parseInt(entry.getAi()), entry.getAi().length()));
+            if (entry.getShortcode() != null) {
+                assertSame(applicationIdentifier, AiEntries.getEntry(entry.getShortcode()));
+                // Region of a longer character sequence
+                final String path = "/" + entry.getShortcode() + "/1";
+                assertSame(applicationIdentifier, AiEntries.getEntry(path, 1, path.length() - 2));
+                assertEquals(AiEntries.getFlags(entry.getAi(), 0, entry.getAi().length()),
+                        AiEntries.getFlags(path, 1, path.length() - 2));
+            }
+        }
+    }
+
+    @Test
+    void testAiLengthIsPartOfTheIndex() {
+        assertEquals("01", AiEntries.getEntry("01").getAi());
+        assertNull(AiEntries.getEntry("001"));
+        assertNull(AiEntries.getEntry("0001"));
+        assertNotEquals(AiEntries.aiIndex("01", 0, 2), AiEntries.aiIndex("001", 0, 3));
+        assertNotEquals(AiEntries.aiIndex("001", 0, 3), AiEntries.aiIndex("0001", 0, 4));
+        assertEquals(-1, AiEntries.aiIndex("1", 0, 1));
+        assertEquals(-1, AiEntries.aiIndex("10000", 0, 5));
+        assertEquals(-1, AiEntries.aiIndex("0a", 0, 2));
+        assertNull(AiEntries.getEntry(1, 5));
+        assertNull(AiEntries.getEntry(100, 2));
+    }
+
+    @Test
+    void testFlags() {
+        assertEquals(AiEntries.IDENTIFIER | AiEntries.FIXED_LENGTH, AiEntries.getFlags("gtin", 0, 4));
+        assertEquals(AiEntries.QUALIFIER | AiEntries.VARIABLE_LENGTH, AiEntries.getFlags("21", 0, 2));
+        assertEquals(AiEntries.DATA_ATTRIBUTE | AiEntries.FIXED_LENGTH, AiEntries.getFlags(17, 2));
+        assertEquals(0, AiEntries.getFlags("unknown", 0, 7));
+        assertEquals(0, AiEntries.getFlags("", 0, 0));
+    }
+
+    @Test
+    void testUnknownKeys() {
+        assertNull(AiEntries.getEntry(null));
+        assertNull(AiEntries.getEntry(""));
+        assertNull(AiEntries.getEntry("GTIN"));
+        assertNull(AiEntries.getEntry("gtinx"));
+        assertNull(AiEntries.getEntry("linkType"));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import org.junit.jupiter.api.TestReporter;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Harness shared by the benchmark tests of this module, which are enabled with the number of operations per
+ * case, ex: {@code mvn test -Dtest=GS1CheckDigitBenchmarkTest -Dbenchmark.iterations=20000000}.
+ *
+ * <p>Every case is run twice, the first round warms up the JIT. Time and allocation per operation of the
+ * second round are published to the JUnit {@link TestReporter}. The allocation is measured with the thread
+ * allocation counter of HotSpot, -1 if not supported by the JVM.
+ */
+final class Benchmarks {
+
+    // System property holding the number of operations per case
+    static final String ITERATIONS = "benchmark.iterations";
+
+    // Results of all operations, read by nobody, so that the JIT cannot drop the operations
+    private static volatile long blackhole;
+
+    private final TestReporter reporter;
+    private final int inputs;
+    private final Map<String, IntUnaryOperator> cases = new LinkedHashMap<>();
+
+    /**
+     * @param reporter reporter of the benchmark test
+     * @param inputs   number of inputs, the operations are called with the input indexes in turn
+     */
+    Benchmarks(final TestReporter reporter, final int inputs) {
+        this.reporter = reporter;
+        this.inputs = inputs;
+    }
+
+    /**
+     * @param name      name of the case in the report
+     * @param operation operation called with the index of an input, returning a value depending on the result
+     * @return this harness
+     */
+    Benchmarks add(final String name, final IntUnaryOperator operation) {
+        cases.put(name, operation);
+        return this;
+    }
+
+    void run() {
+        final int iterations = Integer.getInteger(ITERATIONS);
+        for (int round = 0; round < 2; round++) {
+            for (final Map.Entry<String, IntUnaryOperator> benchmark : cases.entrySet()) {
+                final String result = measure(benchmark.getValue(), iterations);
+                if (round == 1) {
+                    reporter.publishEntry(benchmark.getKey(), result);
+                }
+            }
+        }
+    }
+
+    private String measure(final IntUnaryOperator operation, final int iterations) {
+        final long allocatedBefore = allocatedBytes();
+        final long start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < iterations; i++) {
+            sum += operation.applyAsInt(i % inputs);
+        }
+        final long nanos = System.nanoTime() - start;
+        final long allocated = allocatedBytes() - allocatedBefore;
+        blackhole += sum;
+
+        return String.format("%.1f ns/op, %d bytes/op",
+                (double) nanos / iterations, allocatedBefore < 0 ? -1 : allocated / iterations);
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
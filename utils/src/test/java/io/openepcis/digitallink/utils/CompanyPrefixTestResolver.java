@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import io.openepcis.digitallink.utils.resolver.GCPLengthResolver;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SPI resolver of the tests, knows the company prefix {@link #COMPANY_PREFIX} only and counts its calls.
+ */
+public class CompanyPrefixTestResolver implements GCPLengthResolver {
+
+    static final String COMPANY_PREFIX = "988777123";
+
+    static final AtomicInteger CALLS = new AtomicInteger();
+
+    @Override
+    public OptionalInt resolve(final String identifier) {
+        CALLS.incrementAndGet();
+        return identifier.startsWith(COMPANY_PREFIX, 1) ? OptionalInt.of(COMPANY_PREFIX.length()) : OptionalInt.empty();
+    }
+}
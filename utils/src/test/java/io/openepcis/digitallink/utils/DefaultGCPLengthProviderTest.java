@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.OptionalInt;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DefaultGCPLengthProviderTest {
@@ -33,6 +35,31 @@ class DefaultGCPLengthProviderTest {
         assertTrue(gcpLength >= 4 && gcpLength <= 12, "GCP length should be 4-12, got " + gcpLength + " for " + uri);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "https://id.gs1.org/01/04068194000004",
+            "https://id.gs1.org/01/04012345000009/21/ABC123?17=251231",
+            "https://id.gs1.org/414/4068194000004/254/1",
+            "https://id.gs1.org/00/040681940000000017",
+    })
+    void testParsedDigitalLink_SameAsUri(String uri) {
+        final DefaultGCPLengthProvider provider = DefaultGCPLengthProvider.getInstance();
+        final GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse(uri);
+
+        assertEquals(provider.getGcpLength(uri), provider.getGcpLength(digitalLink));
+        assertEquals(provider.lookupGcpLength(uri), provider.lookupGcpLength(digitalLink));
+        assertEquals(provider.getGcpLength(uri), provider.getGcpLengthAsync(digitalLink).toCompletableFuture().join());
+    }
+
+    @Test
+    void testParsedDigitalLinkWithoutPrimaryKey_Throws() {
+        final DefaultGCPLengthProvider provider = DefaultGCPLengthProvider.getInstance();
+        final GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse("https://id.gs1.org?01=04068194000004");
+
+        assertThrows(UnsupportedGS1IdentifierException.class, () -> provider.getGcpLength(digitalLink));
+        assertTrue(provider.lookupGcpLength(digitalLink).isEmpty());
+    }
+
     @Test
     void testStep3_JvmPropertyDefault() {
         System.setProperty(SYS_PROP, "9");
@@ -47,6 +74,32 @@ class DefaultGCPLengthProviderTest {
         }
     }
 
+    @Test
+    void testMemo_ResolvesCompanyPrefixOnce() {
+        final DefaultGCPLengthProvider provider = DefaultGCPLengthProvider.getInstance();
+        final GCPLengthMemo memo = new GCPLengthMemo();
+        final int calls = CompanyPrefixTestResolver.CALLS.get();
+
+        // GTINs and an SSCC of the same company, the SPI resolver is called for the first one only
+        for (int item = 0; item < 100; item++) {
+            final String uri = String.format("https://id.gs1.org/01/0%s%03d0", CompanyPrefixTestResolver.COMPANY_PREFIX, item);
+            assertEquals(OptionalInt.of(9), provider.findGcpLength(uri, memo), uri);
+        }
+        assertEquals(OptionalInt.of(9), provider.findGcpLength("https://id.gs1.org/00/1" + CompanyPrefixTestResolver.COMPANY_PREFIX + "00000010", memo));
+        assertEquals(calls + 1, CompanyPrefixTestResolver.CALLS.get());
+
+        // Unknown identifiers are only sent to the SPI resolver once
+        assertTrue(provider.findGcpLength("https://id.gs1.org/01/09889999999999", memo).isEmpty());
+        assertTrue(provider.findGcpLength("https://id.gs1.org/01/09889999999999/21/1", memo).isEmpty());
+        assertEquals(calls + 2, CompanyPrefixTestResolver.CALLS.get());
+
+        // Without a memo every lookup calls the SPI resolver
+        final String uri = "https://id.gs1.org/01/0" + CompanyPrefixTestResolver.COMPANY_PREFIX + "0010";
+        assertEquals(OptionalInt.of(9), provider.findGcpLength(uri));
+        assertEquals(OptionalInt.of(9), provider.findGcpLength(uri));
+        assertEquals(calls + 4, CompanyPrefixTestResolver.CALLS.get());
+    }
+
     @Test
     void testNoMatchNoDefault_Throws() {
         System.clearProperty(SYS_PROP);
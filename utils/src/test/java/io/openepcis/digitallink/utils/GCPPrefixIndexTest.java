@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ */
+package io.openepcis.digitallink.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GCPPrefixIndexTest {
+
+    private record Entry(String prefix, int len) {
+    }
+
+    @Test
+    void testLongestPrefixWins() {
+        final GCPPrefixIndex index = GCPPrefixIndex.builder()
+                .add("4068194", 7)
+                .add("40681", 5)
+                .add("406", 3)
+                .build();
+
+        assertEquals(7, index.lookup("4068194000004", 0));
+        assertEquals(5, index.lookup("4068100000004", 0));
+        assertEquals(3, index.lookup("4069999999999", 0));
+        assertEquals(GCPPrefixIndex.NOT_FOUND, index.lookup("5068194000004", 0));
+
+        // Offset skips the GTIN indicator digit without a substring
+        assertEquals(7, index.lookup("04068194000004", 1));
+    }
+
+    @Test
+    void testFirstDuplicateAndZeroLengthAreKept() {
+        final GCPPrefixIndex index = GCPPrefixIndex.builder()
+                .add("98899", 0)
+                .add("98899", 9)
+                .add("988", 6)
+                .build();
+
+        // Length 0 of the longest match is returned as is so that the caller falls through to the SPI
+        assertEquals(0, index.lookup("9889999999999", 0));
+        assertEquals(6, index.lookup("9881111111111", 0));
+    }
+
+    @Test
+    void testMatchesLinearScanOfSortedEntries() {
+        final Random random = new Random(42);
+        final List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            final StringBuilder prefix = new StringBuilder();
+            final int length = 1 + random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                prefix.append((char) ('0' + random.nextInt(10)));
+            }
+            // custom overlay entries are not guaranteed to be purely numeric
+            if (random.nextInt(200) == 0) {
+                prefix.append('X');
+            }
+            entries.add(new Entry(prefix.toString(), random.nextInt(13)));
+        }
+        entries.sort(Comparator.comparingInt((Entry e) -> e.prefix().length()).reversed().thenComparing(Entry::prefix));
+
+        final GCPPrefixIndex.Builder builder = GCPPrefixIndex.builder();
+        entries.forEach(e -> builder.add(e.prefix(), e.len()));
+        final GCPPrefixIndex index = builder.build();
+
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder identifier = new StringBuilder();
+            final int length = random.nextInt(15);
+            for (int j = 0; j < length; j++) {
+                identifier.append(random.nextInt(40) == 0 ? 'X' : (char) ('0' + random.nextInt(10)));
+            }
+            final String value = identifier.toString();
+
+            int expected = GCPPrefixIndex.NOT_FOUND;
+            for (final Entry e : entries) {
+                if (value.startsWith(e.prefix())) {
+                    expected = e.len();
+                    break;
+                }
+            }
+            assertEquals(expected, index.lookup(value, 0), value);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Time and allocation per key of the SWAR check digit computation compared to the scalar loop over a
+ * substring, as done by the former validators, ex: {@code mvn test -Dtest=GS1CheckDigitBenchmarkTest
+ * -Dbenchmark.iterations=20000000}, see {@link Benchmarks}.
+ */
+@EnabledIfSystemProperty(named = Benchmarks.ITERATIONS, matches = "\\d+")
+class GS1CheckDigitBenchmarkTest {
+
+    // GTIN-14, SSCC, GLN, GRAI and GSRN in Digital Link URIs, the check digit is the last digit of the key
+    private static final String[] URIS = {
+            "https://id.gs1.org/01/09520123456788/21/12345",
+            "https://id.gs1.org/00/106141412345678908",
+            "https://id.gs1.org/414/0614141123452/254/400",
+            "https://id.gs1.org/8003/006141411234524000",
+            "https://id.gs1.org/8018/061414112345678902"
+    };
+
+    // Offset and length including the check digit of the key in each URI
+    private static final int[][] KEYS = {{22, 14}, {22, 18}, {23, 13}, {24, 14}, {24, 18}};
+
+    // Regions of the payloads of the keys, for the batch
+    private static final int[] STARTS = new int[URIS.length];
+    private static final int[] PAYLOAD_ENDS = new int[URIS.length];
+
+    static {
+        for (int i = 0; i < URIS.length; i++) {
+            STARTS[i] = KEYS[i][0];
+            PAYLOAD_ENDS[i] = KEYS[i][0] + KEYS[i][1] - 1;
+        }
+    }
+
+    private final int[] checkDigits = new int[URIS.length];
+
+    @Test
+    void benchmarkCheckDigit(final TestReporter reporter) {
+        for (int i = 0; i < URIS.length; i++) {
+            final int start = KEYS[i][0];
+            final int end = start + KEYS[i][1] - 1;
+            assertEquals(URIS[i].charAt(end) - '0', GS1CheckDigit.compute(URIS[i], start, end), URIS[i]);
+            assertEquals(scalar(URIS[i].substring(start, end)), GS1CheckDigit.compute(URIS[i], start, end));
+        }
+
+        new Benchmarks(reporter, URIS.length)
+                // Substring of the payload and one digit at a time
+                .add("scalar", i -> scalar(URIS[i].substring(KEYS[i][0], KEYS[i][0] + KEYS[i][1] - 1)))
+                // Region of the URI, 8 digits at a time
+                .add("swar", i -> GS1CheckDigit.compute(URIS[i], KEYS[i][0], KEYS[i][0] + KEYS[i][1] - 1))
+                // All five keys per operation
+                .add("swar-batch", i -> GS1CheckDigit.computeAll(URIS, STARTS, PAYLOAD_ENDS, URIS.length, checkDigits))
+                .run();
+    }
+
+    // Former computation of the validators: weight 3 for the last digit, alternating towards the start
+    private static int scalar(final String payload) {
+        int sum = 0;
+        for (int i = 0; i < payload.length(); i++) {
+            final int digit = payload.charAt(i) - '0';
+            sum += ((payload.length() - 1 - i) & 1) == 0 ? 3 * digit : digit;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ */
+package io.openepcis.digitallink.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GS1CheckDigitTest {
+
+    @Test
+    void testCompute() {
+        // GTIN-14, SSCC, GLN and GRAI payloads
+        assertEquals(8, GS1CheckDigit.compute("0952012345678"));
+        assertEquals(8, GS1CheckDigit.compute("10614141234567890"));
+        assertEquals(2, GS1CheckDigit.compute("061414112345"));
+        assertEquals(2, GS1CheckDigit.compute("0061414112345"));
+        assertEquals(0, GS1CheckDigit.compute(""));
+        // Region of a Digital Link URI
+        final String uri = "https://id.gs1.org/01/09520123456788/21/12345";
+        assertEquals(8, GS1CheckDigit.compute(uri, 22, 35));
+        assertEquals(8, GS1CheckDigit.compute(new StringBuilder(uri), 22, 35));
+    }
+
+    @Test
+    void testNonDigits() {
+        assertEquals(-1, GS1CheckDigit.compute("095201234567A"));
+        assertEquals(-1, GS1CheckDigit.compute("0952012/45678"));
+        assertEquals(-1, GS1CheckDigit.compute("09520123:5678"));
+        // Characters above ASCII sharing the low byte of a digit
+        assertEquals(-1, GS1CheckDigit.compute("0952\u08301234567"));
+        assertEquals(-1, GS1CheckDigit.compute("0952012345\u0138"));
+    }
+
+    @Test
+    void testIsValid() {
+        final String uri = "https://id.gs1.org/01/09520123456788/21/12345";
+        assertTrue(GS1CheckDigit.isValid(uri, 22, 36));
+        assertFalse(GS1CheckDigit.isValid("09520123456787", 0, 14));
+        assertFalse(GS1CheckDigit.isValid("0952012345678A", 0, 14));
+        assertFalse(GS1CheckDigit.isValid("", 0, 0));
+        assertTrue(GS1CheckDigit.isValid("0", 0, 1));
+    }
+
+    @Test
+    void testBatch() {
+        final CharSequence[] values = {"https://id.gs1.org/01/09520123456788/21/12345", "106141412345678908",
+                "0614141123453", "06141411234A5", ""};
+        final int[] starts = {22, 0, 0, 0, 0};
+        final int[] ends = {36, 18, 13, 13, 0};
+
+        final boolean[] valid = new boolean[values.length];
+        assertEquals(3, GS1CheckDigit.isValidAll(values, starts, ends, values.length, valid));
+        assertArrayEquals(new boolean[]{true, true, false, false, false}, valid);
+
+        // Payloads without the check digit, only the first four keys
+        final int[] payloadEnds = {35, 17, 12, 12};
+        final int[] checkDigits = new int[values.length];
+        assertEquals(1, GS1CheckDigit.computeAll(values, starts, payloadEnds, 4, checkDigits));
+        assertArrayEquals(new int[]{8, 8, 2, -1, 0}, checkDigits);
+    }
+
+    @Test
+    void testMatchesScalarComputation() {
+        final Random random = new Random(20);
+        final String other = "/:A\u0130\u0830";
+        for (int n = 0; n < 100_000; n++) {
+            final StringBuilder value = new StringBuilder();
+            final int length = random.nextInt(40);
+            for (int i = 0; i < length; i++) {
+                value.append(random.nextInt(30) == 0
+                        ? other.charAt(random.nextInt(other.length()))
+                        : (char) ('0' + random.nextInt(10)));
+            }
+            final int start = random.nextInt(length + 1);
+            final int end = start + random.nextInt(length - start + 1);
+            assertEquals(scalar(value, start, end), GS1CheckDigit.compute(value, start, end), value + " " + start + " " + end);
+        }
+    }
+
+    // Check digit computed one digit at a time, weight 3 for the last digit
+    static int scalar(final CharSequence value, final int start, final int end) {
+        int sum = 0;
+        int weight = 3;
+        for (int i = end - 1; i >= start; i--) {
+            final int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            sum += weight * digit;
+            weight = 4 - weight;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Time and allocation per Digital Link of the single-pass parser compared to the former regular
+ * expression parser, ex: {@code mvn test -Dtest=GS1DigitalLinkParserBenchmarkTest
+ * -Dbenchmark.iterations=5000000}, see {@link Benchmarks}.
+ */
+@EnabledIfSystemProperty(named = Benchmarks.ITERATIONS, matches = "\\d+")
+class GS1DigitalLinkParserBenchmarkTest {
+
+    private static final Pattern PATH_PATTERN = Pattern.compile("/(\\d{2,4})/([^/]*)");
+    private static final Pattern QUERY_PATTERN = Pattern.compile("(\\d{2,4})=([^&]*)");
+
+    private static final String[] DIGITAL_LINKS = {
+            "https://id.gs1.org/01/09520123456788",
+            "https://id.gs1.org/01/09520123456788/10/ABC123/21/12345?17=201225",
+            "https://brand.example.com/products/01/09520123456788/21/S%2F12%26A?linkType=gs1:pip",
+            "https://id.gs1.org/414/9520123456788/254/Shelf-12",
+            "https://id.gs1.org/00/106141412345678908"
+    };
+
+    @Test
+    void benchmarkParse(final TestReporter reporter) throws Exception {
+        final URL[] urls = new URL[DIGITAL_LINKS.length];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = URI.create(DIGITAL_LINKS[i]).toURL();
+            assertEquals(regexParse(urls[i]), GS1DigitalLinkParser.parse(DIGITAL_LINKS[i]).toMap());
+        }
+        final GS1DigitalLinkBuffer buffer = new GS1DigitalLinkBuffer();
+
+        new Benchmarks(reporter, DIGITAL_LINKS.length)
+                // URL based regular expressions, as done by the former GS1DigitalLinkParser.parse(URL)
+                .add("regex", i -> regexParse(urls[i]).size())
+                // Single pass over the characters, without decoding the values
+                .add("view", i -> GS1DigitalLinkParser.parse(DIGITAL_LINKS[i]).size())
+                // Single pass over the characters into a buffer reused for all links
+                .add("buffer", i -> GS1DigitalLinkParser.parse(DIGITAL_LINKS[i], buffer))
+                // Single pass over the characters, decoding all values
+                .add("view+decode", i -> {
+                    final GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse(DIGITAL_LINKS[i]);
+                    int length = 0;
+                    for (int j = 0; j < digitalLink.size(); j++) {
+                        length += digitalLink.value(j).length();
+                    }
+                    return length;
+                })
+                .run();
+    }
+
+    private static Map<String, String> regexParse(final URL digitalLink) {
+        final Map<String, String> extractedData = new LinkedHashMap<>();
+        final Matcher pathMatcher = PATH_PATTERN.matcher(digitalLink.getPath());
+        while (pathMatcher.find()) {
+            extractedData.put(pathMatcher.group(1), URLDecoder.decode(pathMatcher.group(2), StandardCharsets.UTF_8));
+        }
+        final String query = digitalLink.getQuery();
+        if (query != null) {
+            final Matcher queryMatcher = QUERY_PATTERN.matcher(query);
+            while (queryMatcher.find()) {
+                extractedData.put(queryMatcher.group(1), URLDecoder.decode(queryMatcher.group(2), StandardCharsets.UTF_8));
+            }
+        }
+        return extractedData;
+    }
+}
@@ -1,5 +1,6 @@
 package io.openepcis.digitallink.utils;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -11,6 +12,10 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class Gs1DigitalLinkParserTest {
@@ -32,6 +37,94 @@ public class Gs1DigitalLinkParserTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("digitalLinkTestCases")
+    public void testParseCharSequence(final String dlURL,
+                                      final boolean includeMeta,
+                                      final Map<String, String> expected,
+                                      final boolean valid) {
+        final GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse(dlURL);
+
+        assertEquals(valid ? expected.size() - (includeMeta ? 3 : 0) : 0, digitalLink.size());
+        digitalLink.toMap().forEach((ai, value) -> assertEquals(expected.get(ai), value));
+    }
+
+    @Test
+    public void testParseView() {
+        final String dlURL = "https://id.gs1.org:8443/01/09520123456788/10/ABC%2F1?17=201225&linkType=gs1:pip#top";
+        final GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse(dlURL);
+
+        assertEquals("https", digitalLink.scheme());
+        assertEquals("id.gs1.org", digitalLink.host());
+        assertEquals(8443, digitalLink.port());
+        assertEquals("/01/09520123456788/10/ABC%2F1", dlURL.substring(digitalLink.pathStart(), digitalLink.pathEnd()));
+        assertEquals("17=201225&linkType=gs1:pip", dlURL.substring(digitalLink.queryStart(), digitalLink.queryEnd()));
+
+        assertEquals(3, digitalLink.size());
+        assertEquals(1, digitalLink.aiCode(0));
+        assertEquals(2, digitalLink.aiLength(0));
+        assertEquals("01", digitalLink.ai(0));
+        assertEquals("09520123456788", dlURL.substring(digitalLink.valueStart(0), digitalLink.valueEnd(0)));
+        assertEquals("ABC%2F1", dlURL.substring(digitalLink.valueStart(1), digitalLink.valueEnd(1)));
+        assertEquals("ABC/1", digitalLink.value(1));
+        assertFalse(digitalLink.isQueryElement(1));
+        assertTrue(digitalLink.isQueryElement(2));
+
+        assertEquals(2, digitalLink.indexOf("17"));
+        assertEquals("201225", digitalLink.get("17"));
+        assertEquals(-1, digitalLink.indexOf("017"));
+        assertNull(digitalLink.get("21"));
+    }
+
+    @Test
+    public void testParseQueryParameterNames() {
+        // Only parameters named by an AI are elements, not the digits at the end of other names
+        final GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse("https://example.com/01/09520123456788?ref12=1&3103=000189&lot10");
+
+        assertEquals(Map.of("01", "09520123456788", "3103", "000189"), digitalLink.toMap());
+    }
+
+    @Test
+    public void testParseIntoBuffer() {
+        // One buffer reused for all links, including links with more elements than the initial capacity
+        final GS1DigitalLinkBuffer buffer = new GS1DigitalLinkBuffer();
+        final GS1DigitalLink view = buffer.link();
+        assertNull(view.source());
+        assertTrue(view.isEmpty());
+        final Stream<String> links = Stream.concat(
+                digitalLinkTestCases().map(arguments -> (String) arguments.get()[0]),
+                Stream.of("https://id.gs1.org/01/09520123456788/22/2A/10/ABC1/21/12345?17=180426&3103=000189&11=201225",
+                        "https://id.gs1.org/01/09520123456788",
+                        "/01/09520123456788/10/ABC1?15=210101"));
+
+        links.forEach(link -> {
+            final GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse(link);
+            assertEquals(digitalLink.size(), GS1DigitalLinkParser.parse(link, buffer));
+            assertEquals(digitalLink.size(), buffer.size());
+            assertSame(link, buffer.source());
+            for (int i = 0; i < digitalLink.size(); i++) {
+                assertEquals(digitalLink.aiCode(i), buffer.aiCode(i));
+                assertEquals(digitalLink.aiLength(i), buffer.aiLength(i));
+                assertEquals(digitalLink.isQueryElement(i), buffer.isQueryElement(i));
+                assertEquals(digitalLink.valueStart(i), buffer.valueStart(i));
+                assertEquals(digitalLink.valueEnd(i), buffer.valueEnd(i));
+                assertEquals(digitalLink.indexOf(digitalLink.ai(i)), buffer.indexOf(digitalLink.ai(i)));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> buffer.aiCode(buffer.size()));
+
+            // The view of the buffer is refilled with the same values as a view of its own
+            assertSame(view, buffer.link());
+            assertEquals(digitalLink.scheme(), view.scheme());
+            assertEquals(digitalLink.host(), view.host());
+            assertEquals(digitalLink.port(), view.port());
+            assertEquals(digitalLink.pathStart(), view.pathStart());
+            assertEquals(digitalLink.pathEnd(), view.pathEnd());
+            assertEquals(digitalLink.queryStart(), view.queryStart());
+            assertEquals(digitalLink.queryEnd(), view.queryEnd());
+            assertEquals(digitalLink.toMap(), view.toMap());
+        });
+    }
+
     static Stream<Arguments> digitalLinkTestCases() {
         return Stream.of(
                 // 1. Canonical GTIN only
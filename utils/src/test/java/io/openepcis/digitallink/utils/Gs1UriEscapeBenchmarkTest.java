@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.digitallink.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Time and allocation per value of the single-pass escape decoder compared to the former
+ * {@link String#replace} decoder, ex: {@code mvn test -Dtest=Gs1UriEscapeBenchmarkTest
+ * -Dbenchmark.iterations=5000000}, see {@link Benchmarks}.
+ */
+@EnabledIfSystemProperty(named = Benchmarks.ITERATIONS, matches = "\\d+")
+class Gs1UriEscapeBenchmarkTest {
+
+    private static final Map<String, String> ESCAPES = Map.of(
+            "%22", "\"",
+            "%23", "#",
+            "%25", "%",
+            "%26", "&",
+            "%2F", "/",
+            "%3C", "<",
+            "%3E", ">",
+            "%3F", "?");
+
+    private static final String[] VALUES = {
+            "urn:epc:id:sgtin:4068194.000000.ABC123",
+            "urn:epc:id:sgtin:4068194.000000.S%2F12%26A",
+            "https://id.gs1.org/01/09520123456788/21/X%22Y%25Z%3C1%3E",
+            "urn:epc:id:cpi:0614141.5PQ7%2FZ43.12345",
+            "https://id.gs1.org/01/09520123456788/21/12345%2f6789%26abc"
+    };
+
+    @Test
+    void benchmarkDecode(final TestReporter reporter) {
+        for (String value : VALUES) {
+            assertEquals(replaceDecode(value), Gs1UriEscape.decode(value));
+        }
+
+        new Benchmarks(reporter, VALUES.length)
+                // 16 String.replace passes, as done by the former Gs1UriEscape.decode
+                .add("replace", i -> replaceDecode(VALUES[i]).length())
+                // Single pass over the characters
+                .add("single-pass", i -> Gs1UriEscape.decode(VALUES[i]).length())
+                .add("single-pass+encode", i -> Gs1UriEscape.encode(Gs1UriEscape.decode(VALUES[i])).length())
+                .run();
+    }
+
+    private static String replaceDecode(final String value) {
+        if (value.isBlank() || !value.contains("%")) {
+            return value;
+        }
+        String out = value;
+        for (Map.Entry<String, String> e : ESCAPES.entrySet()) {
+            out = out.replace(e.getKey(), e.getValue())
+                    .replace(e.getKey().toLowerCase(), e.getValue());
+        }
+        return out;
+    }
+}
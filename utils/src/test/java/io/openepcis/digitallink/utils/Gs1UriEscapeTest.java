@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ */
+package io.openepcis.digitallink.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Gs1UriEscapeTest {
+
+    @Test
+    void testDecode() {
+        assertEquals("A/b&c\"d%e<f>g?h#i", Gs1UriEscape.decode("A%2Fb%26c%22d%25e%3Cf%3Eg%3Fh%23i"));
+        // Lower-case hex digits
+        assertEquals("/&<>?", Gs1UriEscape.decode("%2f%26%3c%3e%3f"));
+        // Other percent-encoded characters and incomplete triplets are kept
+        assertEquals("%20A%41/%2", Gs1UriEscape.decode("%20A%41%2F%2"));
+        assertEquals("%", Gs1UriEscape.decode("%"));
+        assertEquals("%%26", Gs1UriEscape.decode("%%2526"));
+        // Each triplet is one character, the decoded characters are not decoded again
+        assertEquals("%26", Gs1UriEscape.decode("%2526"));
+    }
+
+    @Test
+    void testDecodeUnchanged() {
+        final String value = "urn:epc:id:sgtin:4068194.000000.ABC%20123";
+        assertSame(value, Gs1UriEscape.decode(value));
+        assertSame(value, Gs1UriEscape.decode((CharSequence) value));
+        assertSame("", Gs1UriEscape.decode(""));
+        assertNull(Gs1UriEscape.decode((String) null));
+        assertNull(Gs1UriEscape.decode((CharSequence) null));
+    }
+
+    @Test
+    void testDecodeCharSequence() {
+        final StringBuilder value = new StringBuilder("S%2F12%26A");
+        assertEquals("S/12&A", Gs1UriEscape.decode(value).toString());
+    }
+
+    @Test
+    void testEncode() {
+        assertEquals("A%2Fb%26c%22d%25e%3Cf%3Eg%3Fh%23i", Gs1UriEscape.encode("A/b&c\"d%e<f>g?h#i"));
+        final String value = "ABC-123_x.y";
+        assertSame(value, Gs1UriEscape.encode(value));
+        assertNull(Gs1UriEscape.encode((String) null));
+    }
+
+    @Test
+    void testRoundTrip() {
+        for (String value : new String[]{"", "%", "%25", "100%/2", "a&b#c?d<e>f\"g", "%2F", "\u00e4\u00f6/\u20ac"}) {
+            assertEquals(value, Gs1UriEscape.decode(Gs1UriEscape.encode(value)));
+        }
+    }
+}
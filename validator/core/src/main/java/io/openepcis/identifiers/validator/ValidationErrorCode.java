@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.validator;
+
+/**
+ * Reason why an identifier was rejected by {@link ValidationResult}.
+ */
+public enum ValidationErrorCode {
+    /**
+     * The identifier does not match the syntax pattern of its GS1 identifier type.
+     */
+    INVALID_FORMAT,
+
+    /**
+     * The identifier matches the syntax but fails a further rule such as its length, the GCP length
+     * or the check digit.
+     */
+    INVALID_VALUE,
+
+    /**
+     * A Digital Link URI was provided without a GCP length, or its GCP length could not be resolved.
+     */
+    MISSING_GCP_LENGTH,
+
+    /**
+     * The identifier does not belong to any supported GS1 identifier type.
+     */
+    UNSUPPORTED_IDENTIFIER
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.validator;
+
+import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
+import io.openepcis.core.exception.ValidationException;
+
+/**
+ * Outcome of a non-throwing identifier check.
+ *
+ * <p>A failed check carries an error code and the message the throwing API would have reported.
+ * The message is only formatted when {@link #getMessage()} is called, so rejecting an identifier
+ * costs neither an exception nor a String.format.
+ */
+public final class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult(null, null, null, null);
+
+    // Marks a message which is used as is instead of being a format
+    private static final Object NO_ARGUMENT = new Object();
+
+    private final ValidationErrorCode code;
+    private final String messageFormat;
+    private final Object messageArgument;
+    private final RuntimeException cause;
+
+    private ValidationResult(final ValidationErrorCode code, final String messageFormat,
+                             final Object messageArgument, final RuntimeException cause) {
+        this.code = code;
+        this.messageFormat = messageFormat;
+        this.messageArgument = messageArgument;
+        this.cause = cause;
+    }
+
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    /**
+     * @param code            reason of the failure
+     * @param messageFormat   message format with at most one %s placeholder
+     * @param messageArgument value for the placeholder, usually the identifier
+     */
+    public static ValidationResult invalid(final ValidationErrorCode code, final String messageFormat,
+                                           final Object messageArgument) {
+        return new ValidationResult(code, messageFormat, messageArgument, null);
+    }
+
+    /**
+     * @param code    reason of the failure
+     * @param message complete failure message
+     */
+    public static ValidationResult invalid(final ValidationErrorCode code, final String message) {
+        return new ValidationResult(code, message, NO_ARGUMENT, null);
+    }
+
+    /**
+     * Failure reported by an exception of a rule which only exists in the throwing form.
+     */
+    public static ValidationResult invalid(final ValidationErrorCode code, final RuntimeException cause) {
+        return new ValidationResult(code, null, null, cause);
+    }
+
+    public boolean isValid() {
+        return code == null;
+    }
+
+    /**
+     * @return reason of the failure, null if the identifier is valid
+     */
+    public ValidationErrorCode getCode() {
+        return code;
+    }
+
+    /**
+     * @return formatted failure message, null if the identifier is valid
+     */
+    public String getMessage() {
+        if (cause != null) {
+            return cause.getMessage();
+        }
+        if (messageFormat == null) {
+            return null;
+        }
+        return messageArgument == NO_ARGUMENT ? messageFormat : String.format(messageFormat, messageArgument);
+    }
+
+    /**
+     * @return the exception the throwing API raises for this failure, null if the identifier is valid
+     */
+    public RuntimeException toException() {
+        if (isValid()) {
+            return null;
+        }
+        if (cause != null) {
+            return cause;
+        }
+        return code == ValidationErrorCode.UNSUPPORTED_IDENTIFIER
+                ? new UnsupportedGS1IdentifierException(getMessage())
+                : new ValidationException(getMessage());
+    }
+
+    /**
+     * Bridge to the throwing API.
+     *
+     * @throws RuntimeException the exception of {@link #toException()} if the identifier is invalid
+     */
+    public void throwIfInvalid() {
+        if (!isValid()) {
+            throw toException();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "ValidationResult[valid]" : "ValidationResult[" + code + ": " + getMessage() + "]";
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.validator;
+
+import io.openepcis.digitallink.utils.TokenDispatchIndex;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dispatch index selecting the {@link ApplicationIdentifierValidator} responsible for an identifier
+ * in a single pass over the input, see {@link TokenDispatchIndex}.
+ *
+ * <p>Registrations are evaluated in the order they were added, which keeps the precedence of the
+ * former validator chain (ex: the GS1 Digital Link only GTIN validators before SGTIN). Validators
+ * which are not EPCIS compliant are only registered in the index used when EPCIS compliance is not
+ * required.
+ */
+final class ValidatorDispatchIndex {
+
+    private final TokenDispatchIndex<ApplicationIdentifierValidator> compliant;
+    private final TokenDispatchIndex<ApplicationIdentifierValidator> all;
+
+    // Distinct validators in registration order, the former validator chain
+    private final List<ApplicationIdentifierValidator> validators;
+
+    private ValidatorDispatchIndex(final Builder builder) {
+        this.compliant = builder.compliant.build();
+        this.all = builder.all.build();
+        this.validators = List.copyOf(builder.validators);
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Find the validator responsible for the identifier.
+     *
+     * @param identifier       the GS1 identifier in URN or Digital Link URI format
+     * @param isEpcisCompliant flag indicating if EPCIS compliant validation should be applied
+     * @return the first matching validator in registration order or null if none applies
+     */
+    ApplicationIdentifierValidator forIdentifier(final CharSequence identifier, final boolean isEpcisCompliant) {
+        return (isEpcisCompliant ? compliant : all).select(identifier);
+    }
+
+    /**
+     * @return the registered validators in registration order
+     */
+    List<ApplicationIdentifierValidator> validators() {
+        return validators;
+    }
+
+    static final class Builder {
+        private final TokenDispatchIndex.Builder<ApplicationIdentifierValidator> compliant = TokenDispatchIndex.builder();
+        private final TokenDispatchIndex.Builder<ApplicationIdentifierValidator> all = TokenDispatchIndex.builder();
+        private final List<ApplicationIdentifierValidator> validators = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Register an EPCIS compliant validator for identifiers containing the given tokens.
+         *
+         * @param validator      validator to dispatch to
+         * @param requiredTokens tokens which all must be present ex: :sgtin: or /01/, /21/
+         * @param excludedTokens tokens which must not be present ex: /10/
+         * @return this builder
+         */
+        Builder register(final ApplicationIdentifierValidator validator,
+                         final List<String> requiredTokens,
+                         final List<String> excludedTokens) {
+            compliant.register(validator, requiredTokens, excludedTokens);
+            return registerNonCompliant(validator, requiredTokens, excludedTokens);
+        }
+
+        /**
+         * Register an EPCIS compliant validator for identifiers containing either its URN scheme token
+         * or its Digital Link primary key AI token.
+         *
+         * @param validator validator to dispatch to
+         * @param urnToken  URN scheme token ex: :sscc:
+         * @param uriToken  Digital Link AI path segment ex: /00/
+         * @return this builder
+         */
+        Builder register(final ApplicationIdentifierValidator validator,
+                         final String urnToken,
+                         final String uriToken) {
+            return register(validator, List.of(urnToken), List.of())
+                    .register(validator, List.of(uriToken), List.of());
+        }
+
+        /**
+         * Register a validator which is only applied when EPCIS compliance is not required, see
+         * {@link #register(ApplicationIdentifierValidator, List, List)}.
+         */
+        Builder registerNonCompliant(final ApplicationIdentifierValidator validator,
+                                     final List<String> requiredTokens,
+                                     final List<String> excludedTokens) {
+            all.register(validator, requiredTokens, excludedTokens);
+            if (!validators.contains(validator)) {
+                validators.add(validator);
+            }
+            return this;
+        }
+
+        ValidatorDispatchIndex build() {
+            return new ValidatorDispatchIndex(this);
+        }
+    }
+}
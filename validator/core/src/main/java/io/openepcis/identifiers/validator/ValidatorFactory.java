@@ -15,6 +15,9 @@ import io.openepcis.core.exception.UnsupportedGS1IdentifierException;
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.toolkit.GS1DigitalLinkNormalizer;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.digitallink.utils.GS1DigitalLinkBuffer;
+import io.openepcis.digitallink.utils.GS1DigitalLinkParser;
 import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
 import io.openepcis.identifiers.validator.core.epcis.compliant.*;
 import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINCPVValidator;
@@ -23,55 +26,75 @@ import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINWeightAmou
 import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINWeightValidator;
 
 import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.List;
+
+import static io.openepcis.constants.ApplicationIdentifierConstants.*;
 
 /**
  * Factory class for managing GS1 Application Identifier validators.
  *
- * <p>This class initializes and holds a collection of validator implementations. It provides a
- * method to validate a given identifier by delegating the validation process to the appropriate
- * validator class.
+ * <p>This class initializes the validator implementations and indexes them by URN scheme and Digital
+ * Link AI. It provides a method to validate a given identifier by delegating the validation process
+ * to the appropriate validator class.
  */
 public class ValidatorFactory {
-    // Collection of all available validators.
-    private final Set<ApplicationIdentifierValidator> validators;
+    // Parsed links of the URL validation, only used until the validation returns
+    private static final ThreadLocal<GS1DigitalLinkBuffer> LINK_BUFFER = ThreadLocal.withInitial(GS1DigitalLinkBuffer::new);
+
+    // Dispatch index selecting the validator of an identifier in one pass.
+    private final ValidatorDispatchIndex dispatchIndex;
     private final GS1DigitalLinkNormalizer gs1DigitalLinkNormalizer;
     private final DefaultGCPLengthProvider gcpLengthProvider;
 
     public ValidatorFactory(GS1DigitalLinkNormalizer gs1DigitalLinkNormalizer, DefaultGCPLengthProvider gcpLengthProvider) {
-        this.validators = new LinkedHashSet<>();
+        this.dispatchIndex = createDispatchIndex();
         this.gs1DigitalLinkNormalizer = gs1DigitalLinkNormalizer;
         this.gcpLengthProvider = gcpLengthProvider;
-        initializeValidators();
     }
 
-    // Initializes all known GS1 identifier validators.
-    private void initializeValidators() {
-        // Validators not compliant with EPCIS but compliant with GS1 Digital Link
-        this.validators.add(new GTINWeightAmountBestBeforeValidator());
-        this.validators.add(new GTINLotSerialExpiryValidator());
-        this.validators.add(new GTINCPVValidator());
-        this.validators.add(new GTINWeightValidator());
-
-        // Initialize all well known EPC validator implementations which are compliant with EPCIS
-        this.validators.add(new CPIValidator());
-        this.validators.add(new GCNValidator());
-        this.validators.add(new GDTIValidator());
-        this.validators.add(new GIAIValidator());
-        this.validators.add(new GINCValidator());
-        this.validators.add(new GRAIValidator());
-        this.validators.add(new GSINValidator());
-        this.validators.add(new GSRNPValidator());
-        this.validators.add(new GSRNValidator());
-        this.validators.add(new ITIPValidator());
-        this.validators.add(new PGLNValidator());
-        this.validators.add(new SGLNValidator());
-        this.validators.add(new SSCCValidator());
-        this.validators.add(new LGTINValidator());
-        this.validators.add(new UPUIValidator());
-        this.validators.add(new SGTINValidator());
+    // Initializes all known GS1 identifier validators, registration order defines the precedence.
+    static ValidatorDispatchIndex createDispatchIndex() {
+        final ApplicationIdentifierValidator lgtinValidator = new LGTINValidator();
+        final ApplicationIdentifierValidator upuiValidator = new UPUIValidator();
+        final ApplicationIdentifierValidator sgtinValidator = new SGTINValidator();
+        final ApplicationIdentifierValidator lotSerialExpiryValidator = new GTINLotSerialExpiryValidator();
+
+        return ValidatorDispatchIndex.builder()
+                // Validators not compliant with EPCIS but compliant with GS1 Digital Link
+                .registerNonCompliant(new GTINWeightAmountBestBeforeValidator(),
+                        List.of(SGTIN_AI_URI_PREFIX, EXPIRY_DATE_AI_PARAM, NET_WEIGHT_AI_PARAM, AMOUNT_PAYABLE_AI_PARAM), List.of())
+                .registerNonCompliant(lotSerialExpiryValidator, List.of(SGTIN_AI_URI_PREFIX, LGTIN_AI_BATCH_LOT_PREFIX), List.of())
+                .registerNonCompliant(lotSerialExpiryValidator, List.of(SGTIN_AI_URI_PREFIX, SGTIN_AI_URI_SERIAL_PREFIX), List.of())
+                .registerNonCompliant(new GTINCPVValidator(), List.of(SGTIN_AI_URI_PREFIX, CPV_AI_URI_PREFIX), List.of())
+                .registerNonCompliant(new GTINWeightValidator(), List.of(SGTIN_AI_URI_PREFIX, NET_WEIGHT_AI_PARAM), List.of())
+
+                // All well known EPC validator implementations which are compliant with EPCIS, by URN scheme or DL URI AI
+                .register(new CPIValidator(), CPI_AI_URN_PREFIX, CPI_AI_URI_PREFIX)
+                .register(new GCNValidator(), GCN_AI_URN_PREFIX, GCN_AI_URI_PREFIX)
+                .register(new GDTIValidator(), GDTI_AI_URN_PREFIX, GDTI_AI_URI_PREFIX)
+                .register(new GIAIValidator(), GIAI_AI_URN_PREFIX, GIAI_AI_URI_PREFIX)
+                .register(new GINCValidator(), GINC_AI_URN_PREFIX, GINC_AI_URI_PREFIX)
+                .register(new GRAIValidator(), GRAI_AI_URN_PREFIX, GRAI_AI_URI_PREFIX)
+                .register(new GSINValidator(), GSIN_AI_URN_PREFIX, GSIN_AI_URI_PREFIX)
+                .register(new GSRNPValidator(), GSRNP_AI_URN_PREFIX, GSRNP_AI_URI_PREFIX)
+                .register(new GSRNValidator(), GSRN_AI_URN_PREFIX, GSRN_AI_URI_PREFIX)
+                .register(new ITIPValidator(), ITIP_AI_URN_PREFIX, ITIP_AI_URI_PREFIX)
+                .register(new PGLNValidator(), PGLN_AI_URN_PREFIX, PGLN_AI_URI_PREFIX)
+                .register(new SGLNValidator(), SGLN_AI_URN_PREFIX, SGLN_AI_URI_PREFIX)
+                .register(new SSCCValidator(), SSCC_AI_URN_PREFIX, SSCC_AI_URI_PREFIX)
+
+                // GTIN based identifiers are told apart by their qualifiers, LGTIN and UPUI before SGTIN
+                .register(lgtinValidator, List.of(LGTIN_AI_URN_PREFIX), List.of())
+                .register(lgtinValidator, List.of(LGTIN_AI_URI_PREFIX, LGTIN_AI_BATCH_LOT_PREFIX),
+                        List.of(SGTIN_AI_URI_SERIAL_PREFIX, EXPIRY_DATE_AI_PARAM))
+                .register(upuiValidator, List.of(UPUI_AI_URN_PREFIX), List.of())
+                .register(upuiValidator, List.of(UPUI_AI_URI_PREFIX, UPUI_AI_URI_SERIAL_PREFIX), List.of())
+                .register(sgtinValidator, List.of(SGTIN_AI_URN_PREFIX), List.of())
+                .register(sgtinValidator, List.of(SGTIN_AI_URI_PREFIX), List.of(LGTIN_AI_BATCH_LOT_PREFIX, EXPIRY_DATE_AI_PARAM))
+                .build();
     }
 
 
@@ -90,11 +113,10 @@ public class ValidatorFactory {
      */
     public boolean validateIdentifier(final String identifier,
                                       final ValidationContext validationContext) {
-        // Iterate through all registered validators and check if they support the identifier.
-        for (final ApplicationIdentifierValidator validator : validators) {
-            if (validator.supportsValidation(identifier, validationContext.isEpcisCompliant())) {
-                return validator.validate(identifier, validationContext);
-            }
+        // Look up the validator supporting the identifier in the dispatch index.
+        final ApplicationIdentifierValidator validator = validatorFor(identifier, validationContext.isEpcisCompliant());
+        if (validator != null) {
+            return validator.validate(identifier, validationContext);
         }
 
         // If no validator supports the identifier, throw an exception.
@@ -103,17 +125,81 @@ public class ValidatorFactory {
 
 
     /**
-     * Validate GS1 identifier from Digital Link URI using default ValidationContext.
+     * Check a GS1 identifier string without throwing for invalid or unsupported identifiers.
+     *
+     * <p>Invalid data is reported through the returned {@link ValidationResult} carrying a
+     * {@link ValidationErrorCode}, the message is only formatted when requested. Use this instead of
+     * {@link #validateIdentifier(String, ValidationContext)} when a noticeable share of the
+     * identifiers is expected to be invalid.
+     *
+     * @param identifier        the raw GS1 identifier to check (URN or Digital Link URI)
+     * @param validationContext the validation flags, see {@link #validateIdentifier(String, ValidationContext)}
+     * @return valid result or the reason why the identifier was rejected
+     */
+    public ValidationResult check(final String identifier, final ValidationContext validationContext) {
+        final ApplicationIdentifierValidator validator = validatorFor(identifier, validationContext.isEpcisCompliant());
+        if (validator != null) {
+            return validator.check(identifier, validationContext);
+        }
+
+        return ValidationResult.invalid(ValidationErrorCode.UNSUPPORTED_IDENTIFIER,
+                "Identifier did not match any GS1 identifiers format: %s", identifier);
+    }
+
+    /**
+     * Validate an already parsed GS1 Digital Link using the provided options, see
+     * {@link #validateIdentifier(String, ValidationContext)}. The parsed link is handed to the
+     * validators as-is, it is expected to be normalized.
+     *
+     * @param digitalLink       the parsed GS1 Digital Link URI to validate
+     * @param validationContext the validation flags, see {@link #validateIdentifier(String, ValidationContext)}
+     * @return true if the Digital Link passes all checks in the first matching validator
+     * @throws UnsupportedGS1IdentifierException if no registered validator supports this Digital Link under the
+     *                                           given epcisCompliant setting
+     */
+    public boolean validateIdentifier(final GS1DigitalLink digitalLink,
+                                      final ValidationContext validationContext) {
+        final ApplicationIdentifierValidator validator = validatorFor(digitalLink, validationContext.isEpcisCompliant());
+        if (validator != null) {
+            return validator.validate(digitalLink, validationContext);
+        }
+
+        throw new UnsupportedGS1IdentifierException(String.format("Identifier did not match any GS1 identifiers format: %s", digitalLink));
+    }
+
+    /**
+     * Check an already parsed GS1 Digital Link without throwing for invalid or unsupported
+     * identifiers, see {@link #check(String, ValidationContext)}.
+     *
+     * @param digitalLink       the parsed GS1 Digital Link URI to check
+     * @param validationContext the validation flags, see {@link #validateIdentifier(String, ValidationContext)}
+     * @return valid result or the reason why the Digital Link was rejected
+     */
+    public ValidationResult check(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        final ApplicationIdentifierValidator validator = validatorFor(digitalLink, validationContext.isEpcisCompliant());
+        if (validator != null) {
+            return validator.check(digitalLink, validationContext);
+        }
+
+        return ValidationResult.invalid(ValidationErrorCode.UNSUPPORTED_IDENTIFIER,
+                "Identifier did not match any GS1 identifiers format: %s", digitalLink);
+    }
+
+    /**
+     * Validate GS1 identifier from Digital Link URI using default ValidationContext. The normalized
+     * URI is parsed once into a buffer reused by the calling thread, the GCP length lookup and the
+     * validators share the parsed link.
      */
     public URL validateIdentifier(final URL digitalLink) throws MalformedURLException {
-        final URL normalizedUrl = gs1DigitalLinkNormalizer.normalize(digitalLink);
-        final String normalizedIdentifier = normalizedUrl.toString();
+        final String identifier = digitalLink.toString();
+        final CharSequence normalized = gs1DigitalLinkNormalizer.normalize(identifier);
+        final GS1DigitalLink normalizedLink = parseReused(normalized);
         final ValidationContext contextWithGcp = ValidationContext.builder()
-                .gcpLength(gcpLengthProvider.getGcpLength(normalizedIdentifier))
+                .gcpLength(gcpLengthProvider.getGcpLength(normalizedLink))
                 .build();
 
-        if (validateIdentifier(normalizedIdentifier, contextWithGcp)) {
-            return normalizedUrl;
+        if (validateIdentifier(normalizedLink, contextWithGcp)) {
+            return normalized == identifier ? digitalLink : toUrl(normalized);
         }
 
         throw new UnsupportedGS1IdentifierException("Identifier did not match any GS1 identifier format: " + digitalLink);
@@ -125,11 +211,12 @@ public class ValidatorFactory {
     public URL validateIdentifier(final URL digitalLink,
                                   final ValidationContext context) {
         try {
-            final URL normalizedUrl = gs1DigitalLinkNormalizer.normalize(digitalLink);
-            final String normalizedIdentifier = normalizedUrl.toString();
+            final String identifier = digitalLink.toString();
+            final CharSequence normalized = gs1DigitalLinkNormalizer.normalize(identifier);
+            final GS1DigitalLink normalizedLink = parseReused(normalized);
 
-            if (validateIdentifier(normalizedIdentifier, context)) {
-                return normalizedUrl;
+            if (validateIdentifier(normalizedLink, context)) {
+                return normalized == identifier ? digitalLink : toUrl(normalized);
             }
 
             throw new UnsupportedGS1IdentifierException("Identifier did not match any GS1 identifier format: " + digitalLink);
@@ -139,6 +226,55 @@ public class ValidatorFactory {
 
     }
 
+    /**
+     * Find the validator responsible for the identifier in the dispatch index.
+     *
+     * @param identifier       the GS1 identifier in URN or Digital Link URI format
+     * @param isEpcisCompliant flag indicating if EPCIS compliant validation should be applied
+     * @return the first matching validator in registration order or null if none applies
+     */
+    ApplicationIdentifierValidator validatorFor(final CharSequence identifier, final boolean isEpcisCompliant) {
+        return dispatchIndex.forIdentifier(identifier, isEpcisCompliant);
+    }
+
+    /**
+     * Find the validator responsible for the parsed Digital Link. The candidate of the dispatch index
+     * must confirm with {@link ApplicationIdentifierValidator#supportsValidation(GS1DigitalLink, boolean)},
+     * if it declines the validators are asked in registration order.
+     *
+     * @param digitalLink      the parsed GS1 Digital Link URI
+     * @param isEpcisCompliant flag indicating if EPCIS compliant validation should be applied
+     * @return the validator supporting the Digital Link or null if none applies
+     */
+    ApplicationIdentifierValidator validatorFor(final GS1DigitalLink digitalLink, final boolean isEpcisCompliant) {
+        final ApplicationIdentifierValidator candidate = dispatchIndex.forIdentifier(digitalLink.source(), isEpcisCompliant);
+        if (candidate != null && candidate.supportsValidation(digitalLink, isEpcisCompliant)) {
+            return candidate;
+        }
+        for (final ApplicationIdentifierValidator validator : dispatchIndex.validators()) {
+            if (validator != candidate && validator.supportsValidation(digitalLink, isEpcisCompliant)) {
+                return validator;
+            }
+        }
+        return null;
+    }
+
+    // Parse into the buffer of the calling thread, neither the validators nor the GCP length lookup keep the link
+    private static GS1DigitalLink parseReused(final CharSequence digitalLink) {
+        final GS1DigitalLinkBuffer buffer = LINK_BUFFER.get();
+        GS1DigitalLinkParser.parse(digitalLink, buffer);
+        return buffer.link();
+    }
+
+    // The normalizer quotes the characters the same way as URI does, the normalized URI is valid
+    private static URL toUrl(final CharSequence normalized) throws MalformedURLException {
+        try {
+            return new URI(normalized.toString()).toURL();
+        } catch (URISyntaxException e) {
+            throw new MalformedURLException("Invalid URL: " + e.getMessage());
+        }
+    }
+
     /**
      * Validate a GS1 identifier string using the provided options.
      *
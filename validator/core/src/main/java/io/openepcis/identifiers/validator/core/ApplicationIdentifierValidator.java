@@ -10,7 +10,11 @@
  */
 package io.openepcis.identifiers.validator.core;
 
+import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
 import io.openepcis.identifiers.validator.ValidationContext;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
 
 /**
  * Interface for validating GS1 Application Identifiers (AI).
@@ -69,6 +73,73 @@ public interface ApplicationIdentifierValidator {
      */
     boolean validate(final String identifier, final ValidationContext validationContext);
 
+    /**
+     * Non-throwing variant of {@link #validate(String, ValidationContext)} which reports a rejected
+     * identifier through the returned {@link ValidationResult} instead of an exception. The failure
+     * message is only formatted when requested.
+     *
+     * <p>The default implementation bridges to {@link #validate(String, ValidationContext)}, the
+     * built-in validators override it and check the syntax patterns without creating exceptions.
+     *
+     * @param identifier        the GS1 identifier string to check
+     * @param validationContext a {@link ValidationContext} instance containing all validation flags
+     * @return valid result or the reason why the identifier was rejected
+     */
+    default ValidationResult check(final String identifier, final ValidationContext validationContext) {
+        try {
+            return validate(identifier, validationContext)
+                    ? ValidationResult.valid()
+                    : ValidationResult.invalid(ValidationErrorCode.INVALID_VALUE, "Invalid GS1 identifier: %s", identifier);
+        } catch (ValidationException exception) {
+            return ValidationResult.invalid(ValidationErrorCode.INVALID_VALUE, exception);
+        }
+    }
+
+    /**
+     * Determines if the already parsed Digital Link is supported by this validator, see
+     * {@link #supportsValidation(String, boolean)}.
+     *
+     * <p>Compatibility bridge only: the default implementation checks the URI string with
+     * {@link #supportsValidation(String, boolean)} and none of the built-in validators overrides it.
+     * Validators may override it to decide on the parsed AI elements instead of the characters.
+     *
+     * @param digitalLink      the parsed GS1 Digital Link URI to check
+     * @param isEpcisCompliant flag indicating if EPCIS compliant validation should be applied
+     * @return true if this validator supports validating the Digital Link, false otherwise
+     */
+    default boolean supportsValidation(final GS1DigitalLink digitalLink, final boolean isEpcisCompliant) {
+        return supportsValidation(digitalLink.toString(), isEpcisCompliant);
+    }
+
+    /**
+     * Validates the already parsed Digital Link, see {@link #validate(String, ValidationContext)}.
+     *
+     * <p>The default implementation validates the URI string with {@link #validate(String, ValidationContext)},
+     * the built-in validators check the parsed AI elements first, see {@link CompiledValidator}.
+     *
+     * @param digitalLink       the parsed GS1 Digital Link URI to validate
+     * @param validationContext a {@link ValidationContext} instance containing all validation flags
+     * @return {@code true} if the Digital Link satisfies all applicable validation rules
+     */
+    default boolean validate(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return validate(digitalLink.toString(), validationContext);
+    }
+
+    /**
+     * Non-throwing variant of {@link #validate(GS1DigitalLink, ValidationContext)}, see
+     * {@link #check(String, ValidationContext)}.
+     *
+     * <p>The default implementation checks the URI string with {@link #check(String, ValidationContext)}, the
+     * built-in validators check the parsed AI elements first, see {@link CompiledValidator}.
+     *
+     * @param digitalLink       the parsed GS1 Digital Link URI to check
+     * @param validationContext a {@link ValidationContext} instance containing all validation flags
+     * @return valid result or the reason why the Digital Link was rejected
+     */
+    default ValidationResult check(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return check(digitalLink.toString(), validationContext);
+    }
+
     default boolean validate(final String identifier) {
         return validate(identifier, ValidationContext.defaultContext());
     }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.validator.core;
+
+import io.openepcis.digitallink.utils.GS1CheckDigit;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.validator.ValidationContext;
+
+/**
+ * Form of a {@link CompiledMatcher} for an already parsed {@link GS1DigitalLink}: the AI elements expected in the
+ * path, checked at the offsets recorded by the parser without running a pattern over the URI again.
+ *
+ * <p>Only links of the plain form {@code http(s)://<host>/<AI>/<value>/<AI>/<value>} are accepted: the path consists
+ * of the expected elements, there is no query string or fragment and no percent sign anywhere. The pattern of the
+ * corresponding {@link CompiledMatcher} accepts all of them, so links of other forms are left to the patterns and
+ * the matchers, which tell whether and why they are invalid.
+ */
+public class CompiledLinkMatcher {
+
+    /**
+     * Additional rules of a list of {@link Matcher}s, tested after the elements of the link matched.
+     */
+    @FunctionalInterface
+    public interface Rule {
+        boolean test(GS1DigitalLink digitalLink, ValidationContext validationContext);
+    }
+
+    // Characters of the AI 82 character set accepted by the patterns, except the percent sign of escape triplets
+    private static final boolean[] CHARACTERS = characterSet("!\"&'()*+,-./0123456789:;<=>?ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz");
+
+    // Characters of the AI 39 character set of the CPI
+    private static final boolean[] CPI_CHARACTERS = characterSet("#-/0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+
+    private static final boolean[] DIGITS = characterSet("0123456789");
+
+    private final Element[] elements;
+    private final Rule rule;
+
+    public CompiledLinkMatcher(final Element... elements) {
+        this((digitalLink, validationContext) -> true, elements);
+    }
+
+    public CompiledLinkMatcher(final Rule rule, final Element... elements) {
+        this.elements = elements;
+        this.rule = rule;
+    }
+
+    /**
+     * @return true if the link consists of the elements and matches the rules, false if the URI has to be checked
+     * with the patterns to tell whether and why it is invalid
+     */
+    public boolean matches(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        final CharSequence uri = digitalLink.source();
+        if (uri == null || digitalLink.size() != elements.length || digitalLink.queryStart() >= 0
+                || digitalLink.pathEnd() != uri.length() || !hasHttpAuthority(uri, digitalLink.pathStart())) {
+            return false;
+        }
+
+        // Each AI directly follows the value of the previous element, the first one the start of the path
+        int aiStart = digitalLink.pathStart() + 1;
+        for (int i = 0; i < elements.length; i++) {
+            final Element element = elements[i];
+            final int valueStart = digitalLink.valueStart(i);
+            final int valueEnd = digitalLink.valueEnd(i);
+            if (digitalLink.isQueryElement(i) || digitalLink.aiCode(i) != element.aiCode
+                    || digitalLink.aiLength(i) != element.aiLength || valueStart != aiStart + element.aiLength + 1
+                    || !element.matches(uri, valueStart, valueEnd)) {
+                return false;
+            }
+            aiStart = valueEnd + 1;
+        }
+        return aiStart == uri.length() + 1 && rule.test(digitalLink, validationContext);
+    }
+
+    /**
+     * Element of the AI with a value of digits only.
+     *
+     * @param aiPrefix AI path prefix, ex: {@code /01/}
+     */
+    public static Element digits(final String aiPrefix, final int minDigits, final int maxDigits) {
+        return new Element(aiPrefix, minDigits, maxDigits, DIGITS, 0, 0);
+    }
+
+    /**
+     * Element of the AI with a value of characters of the AI 82 character set.
+     *
+     * @param aiPrefix AI path prefix, ex: {@code /21/}
+     */
+    public static Element characters(final String aiPrefix, final int minCharacters, final int maxCharacters) {
+        return new Element(aiPrefix, 0, 0, CHARACTERS, minCharacters, maxCharacters);
+    }
+
+    /**
+     * Element of the AI with a value of digits followed by characters of the AI 82 character set.
+     *
+     * @param aiPrefix AI path prefix, ex: {@code /8003/}
+     */
+    public static Element digitsAndCharacters(final String aiPrefix, final int minDigits, final int maxDigits,
+                                              final int minCharacters, final int maxCharacters) {
+        return new Element(aiPrefix, minDigits, maxDigits, CHARACTERS, minCharacters, maxCharacters);
+    }
+
+    /**
+     * Element of the AI with a value of characters of the AI 39 character set of the CPI.
+     *
+     * @param aiPrefix AI path prefix, ex: {@code /8010/}
+     */
+    public static Element cpiCharacters(final String aiPrefix, final int minCharacters, final int maxCharacters) {
+        return new Element(aiPrefix, 0, 0, CPI_CHARACTERS, minCharacters, maxCharacters);
+    }
+
+    /**
+     * @return length of the value of the element
+     */
+    public static int valueLength(final GS1DigitalLink digitalLink, final int index) {
+        return digitalLink.valueEnd(index) - digitalLink.valueStart(index);
+    }
+
+    /**
+     * Check digit rule of the matchers validating with a {@link ValidationContext}, for the value of the element.
+     */
+    public static boolean hasCheckDigit(final GS1DigitalLink digitalLink, final int index, final int payloadLength,
+                                        final ValidationContext validationContext) {
+        final int start = digitalLink.valueStart(index);
+        return !validationContext.isValidateCheckDigit()
+                || start + payloadLength < digitalLink.valueEnd(index)
+                && GS1CheckDigit.isValid(digitalLink.source(), start, start + payloadLength + 1);
+    }
+
+    // The scheme is http or https and the authority has printable characters only, same as the ".*." of the patterns
+    private static boolean hasHttpAuthority(final CharSequence uri, final int pathStart) {
+        final int authorityStart;
+        if (startsWith(uri, "https://")) {
+            authorityStart = 8;
+        } else if (startsWith(uri, "http://")) {
+            authorityStart = 7;
+        } else {
+            return false;
+        }
+        if (authorityStart >= pathStart) {
+            return false;
+        }
+        for (int i = authorityStart; i < pathStart; i++) {
+            final char c = uri.charAt(i);
+            if (c <= ' ' || c >= 0x7F || c == '%') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(final CharSequence uri, final String prefix) {
+        if (uri.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (uri.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean[] characterSet(final String characters) {
+        final boolean[] set = new boolean[128];
+        for (int i = 0; i < characters.length(); i++) {
+            set[characters.charAt(i)] = true;
+        }
+        return set;
+    }
+
+    /**
+     * AI element of the path with a value of {@code minDigits} to {@code maxDigits} digits followed by
+     * {@code minCharacters} to {@code maxCharacters} characters of a character set containing the digits, ex:
+     * {@code [0-9]{6,12}[...]{1,24}} of the GIAI.
+     */
+    public static final class Element {
+
+        private final int aiCode;
+        private final int aiLength;
+        private final int minDigits;
+        private final int maxDigits;
+        private final boolean[] characters;
+        private final int minCharacters;
+        private final int maxCharacters;
+
+        private Element(final String aiPrefix, final int minDigits, final int maxDigits, final boolean[] characters,
+                        final int minCharacters, final int maxCharacters) {
+            // The AI digits between the slashes of the prefix
+            this.aiCode = Integer.parseInt(aiPrefix.substring(1, aiPrefix.length() - 1));
+            this.aiLength = aiPrefix.length() - 2;
+            this.minDigits = minDigits;
+            this.maxDigits = maxDigits;
+            this.characters = characters;
+            this.minCharacters = minCharacters;
+            this.maxCharacters = maxCharacters;
+        }
+
+        private boolean matches(final CharSequence uri, final int start, final int end) {
+            int digits = 0;
+            while (start + digits < end && isDigit(uri.charAt(start + digits))) {
+                digits++;
+            }
+            for (int i = start + digits; i < end; i++) {
+                final char c = uri.charAt(i);
+                if (c >= characters.length || !characters[c]) {
+                    return false;
+                }
+            }
+
+            // The characters include the digits, the digits part may end anywhere within the leading digits
+            final int length = end - start;
+            final int shortest = Math.max(minDigits, length - maxCharacters);
+            final int longest = Math.min(Math.min(maxDigits, digits), length - minCharacters);
+            return shortest <= longest;
+        }
+
+        private static boolean isDigit(final char c) {
+            return c >= '0' && c <= '9';
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.validator.core;
+
+import io.openepcis.identifiers.validator.ValidationContext;
+import io.openepcis.identifiers.validator.core.util.CheckDigitValidator;
+
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass form of a list of {@link Matcher}s: one pattern with capture groups and the additional rules of the
+ * list as a boolean test, checked without creating exceptions or substrings.
+ *
+ * <p>It accepts the same identifiers as the whole list, {@link CompiledValidator}s run it first and only walk the
+ * list to report why an identifier is invalid.
+ */
+public class CompiledMatcher {
+
+    /**
+     * Additional rules of a list of {@link Matcher}s, tested after the pattern matched the whole identifier.
+     */
+    @FunctionalInterface
+    public interface Rule {
+        boolean test(String identifier, MatchResult groups, ValidationContext validationContext);
+    }
+
+    private final Pattern compiledPattern;
+    private final Rule rule;
+
+    public CompiledMatcher(final String pattern) {
+        this(pattern, (identifier, groups, validationContext) -> true);
+    }
+
+    public CompiledMatcher(final String pattern, final Rule rule) {
+        this.compiledPattern = Pattern.compile(pattern);
+        this.rule = rule;
+    }
+
+    /**
+     * @return true if the identifier matches the pattern and the rules, false if the list of matchers has to tell
+     * whether and why it is invalid
+     */
+    public boolean matches(final String identifier, final ValidationContext validationContext) {
+        final java.util.regex.Matcher matcher = compiledPattern.matcher(identifier);
+        return matcher.matches() && rule.test(identifier, matcher, validationContext);
+    }
+
+    /**
+     * @return true if the identifier starts with the URN scheme, the compiled URN patterns cannot match otherwise and
+     * the compiled URI patterns cannot match if it does
+     */
+    public static boolean startsWithUrnScheme(final String identifier) {
+        return identifier.startsWith("urn:");
+    }
+
+    public static int groupLength(final MatchResult groups, final int group) {
+        return groups.end(group) - groups.start(group);
+    }
+
+    public static boolean isGcpLength(final int gcpLength) {
+        return gcpLength >= 6 && gcpLength <= 12;
+    }
+
+    /**
+     * @return index after the first occurrence of the AI prefix, where the matchers read the value of the AI, -1 if
+     * the identifier does not contain the prefix
+     */
+    public static int valueStart(final String identifier, final String aiPrefix) {
+        final int idx = identifier.indexOf(aiPrefix);
+        return idx < 0 ? -1 : idx + aiPrefix.length();
+    }
+
+    public static boolean isDigits(final CharSequence value, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check digit rule of the matchers validating with a {@link ValidationContext}.
+     */
+    public static boolean hasCheckDigit(final String uri, final String aiPrefix, final int payloadLength,
+                                        final ValidationContext validationContext) {
+        return !validationContext.isValidateCheckDigit() || CheckDigitValidator.isValid(uri, aiPrefix, payloadLength);
+    }
+}
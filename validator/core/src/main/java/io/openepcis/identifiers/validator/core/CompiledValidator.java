@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.validator.core;
+
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.identifiers.validator.ValidationContext;
+import io.openepcis.identifiers.validator.ValidationResult;
+
+/**
+ * Validator checking the identifiers with its {@link CompiledMatcher}s first, before the identifier is classified.
+ * Its lists of {@link Matcher}s only run for identifiers the compiled matchers reject, to tell whether and why they
+ * are invalid.
+ *
+ * <p>Both paths must accept the same identifiers, the compiled matchers only make the common valid identifiers
+ * cheaper to check. Already parsed Digital Links are checked at the offsets of their AI elements with
+ * {@link CompiledLinkMatcher}s first, the URI string is only checked if they reject the link.
+ */
+public interface CompiledValidator extends ApplicationIdentifierValidator {
+
+    /**
+     * Single pass over the identifier with the compiled matchers, without classifying it and without creating
+     * substrings or exceptions.
+     *
+     * @param identifier        the GS1 identifier string to check
+     * @param validationContext a {@link ValidationContext} instance containing all validation flags
+     * @return true if the identifier is valid, false if {@link #checkMatchers(String, ValidationContext)} has to tell
+     * whether and why it is invalid
+     */
+    boolean matchesCompiled(final String identifier, final ValidationContext validationContext);
+
+    /**
+     * Classify the identifier and check it with the list of {@link Matcher}s of its kind.
+     *
+     * @param identifier        the GS1 identifier string to check
+     * @param validationContext a {@link ValidationContext} instance containing all validation flags
+     * @return valid result or the reason why the identifier was rejected
+     */
+    ValidationResult checkMatchers(final String identifier, final ValidationContext validationContext);
+
+    /**
+     * Check of the already parsed Digital Link with the compiled link matchers, reading the AI values at the offsets
+     * of the parsed elements instead of matching the URI string.
+     *
+     * <p>The default implementation rejects every link, so that the URI string is checked.
+     *
+     * @param digitalLink       the parsed GS1 Digital Link URI to check
+     * @param validationContext a {@link ValidationContext} instance containing all validation flags
+     * @return true if the Digital Link is valid, false if the URI string has to be checked with
+     * {@link #check(String, ValidationContext)}
+     */
+    default boolean matchesCompiled(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return false;
+    }
+
+    /**
+     * {@link #matchesCompiled(GS1DigitalLink, ValidationContext)} with the GCP length and without check digit
+     * verification, same as {@link #validate(String, Integer)}.
+     */
+    default boolean matchesCompiled(final GS1DigitalLink digitalLink, final int gcpLength) {
+        return matchesCompiled(digitalLink, ValidationContext.builder().validateCheckDigit(false).gcpLength(gcpLength).build());
+    }
+
+    @Override
+    default ValidationResult check(final String identifier, final ValidationContext validationContext) {
+        if (matchesCompiled(identifier, validationContext)) {
+            return ValidationResult.valid();
+        }
+        return checkMatchers(identifier, validationContext);
+    }
+
+    @Override
+    default ValidationResult check(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        if (matchesCompiled(digitalLink, validationContext)) {
+            return ValidationResult.valid();
+        }
+        return check(digitalLink.toString(), validationContext);
+    }
+
+    @Override
+    default boolean validate(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return matchesCompiled(digitalLink, validationContext) || validate(digitalLink.toString(), validationContext);
+    }
+}
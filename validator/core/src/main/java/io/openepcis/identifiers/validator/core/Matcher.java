@@ -12,6 +12,8 @@ package io.openepcis.identifiers.validator.core;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.identifiers.validator.ValidationContext;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
 
 import java.util.regex.Pattern;
 
@@ -19,9 +21,13 @@ public class Matcher {
     private final Pattern compiledPattern;
     private final String message;
 
+    // Subclasses add rules beyond the pattern which are only available in the throwing form
+    private final boolean hasAdditionalRules;
+
     public Matcher(final String pattern, final String message) {
         this.compiledPattern = Pattern.compile(pattern);
         this.message = message;
+        this.hasAdditionalRules = getClass() != Matcher.class;
     }
 
     /**
@@ -40,4 +46,59 @@ public class Matcher {
     public void validate(final String uri, final ValidationContext validationContext) throws ValidationException {
         this.validate(uri, validationContext.getGcpLength());
     }
+
+    /**
+     * Non-throwing variant of {@link #validate(String)}. A pattern mismatch is reported without
+     * creating an exception, further rules of subclasses still run through {@link #validate(String)}.
+     */
+    public ValidationResult check(final String urn) {
+        if (!compiledPattern.matcher(urn).matches()) {
+            return ValidationResult.invalid(ValidationErrorCode.INVALID_FORMAT, message, urn);
+        }
+        if (!hasAdditionalRules) {
+            return ValidationResult.valid();
+        }
+        try {
+            validate(urn);
+            return ValidationResult.valid();
+        } catch (ValidationException exception) {
+            return ValidationResult.invalid(ValidationErrorCode.INVALID_VALUE, exception);
+        }
+    }
+
+    /**
+     * Non-throwing variant of {@link #validate(String, int)}.
+     */
+    public ValidationResult check(final String uri, final int gcpLength) {
+        if (!compiledPattern.matcher(uri).matches()) {
+            return ValidationResult.invalid(ValidationErrorCode.INVALID_FORMAT, message, uri);
+        }
+        if (!hasAdditionalRules) {
+            return ValidationResult.valid();
+        }
+        try {
+            validate(uri, gcpLength);
+            return ValidationResult.valid();
+        } catch (ValidationException exception) {
+            return ValidationResult.invalid(ValidationErrorCode.INVALID_VALUE, exception);
+        }
+    }
+
+    /**
+     * Non-throwing variant of {@link #validate(String, ValidationContext)}.
+     */
+    public ValidationResult check(final String uri, final ValidationContext validationContext) {
+        if (!compiledPattern.matcher(uri).matches()) {
+            return ValidationResult.invalid(ValidationErrorCode.INVALID_FORMAT, message, uri);
+        }
+        if (!hasAdditionalRules) {
+            return ValidationResult.valid();
+        }
+        try {
+            validate(uri, validationContext);
+            return ValidationResult.valid();
+        } catch (ValidationException exception) {
+            return ValidationResult.invalid(ValidationErrorCode.INVALID_VALUE, exception);
+        }
+    }
 }
@@ -11,9 +11,14 @@
 package io.openepcis.identifiers.validator.core.epcis.compliant;
 
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
 import io.openepcis.digitallink.utils.Gs1UriEscape;
 import io.openepcis.identifiers.validator.ValidationContext;
-import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.core.CompiledLinkMatcher;
+import io.openepcis.identifiers.validator.core.CompiledMatcher;
+import io.openepcis.identifiers.validator.core.CompiledValidator;
 import io.openepcis.identifiers.validator.core.Matcher;
 
 
@@ -22,14 +27,40 @@ import java.util.List;
 import java.util.regex.Pattern;
 
 import static io.openepcis.constants.ApplicationIdentifierConstants.*;
+import static io.openepcis.identifiers.validator.core.CompiledLinkMatcher.*;
+import static io.openepcis.identifiers.validator.core.CompiledMatcher.*;
 
-public class CPIValidator implements ApplicationIdentifierValidator {
+public class CPIValidator implements CompiledValidator {
 
     private static final List<Matcher> URN_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URI_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URN_WITHOUT_SERIAL_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URI_WITHOUT_SERIAL_MATCHERS = new ArrayList<>();
 
+    // CPI rules of the matcher lists in a single pass each, see CompiledMatcher
+    private static final CompiledMatcher URN_CHECK = new CompiledMatcher(
+            "urn:epc:id:cpi:([0-9]{6,12})\\.([\\x23\\x2D\\x2F\\x30-\\x39\\x41-\\x5A]{1,24})\\.[0-9]{1,12}",
+            (urn, groups, validationContext) -> groupLength(groups, 1) + groupLength(groups, 2) <= 30);
+    private static final CompiledMatcher URN_WITHOUT_SERIAL_CHECK = new CompiledMatcher(
+            "urn:epc:idpat:cpi:([\\x23\\x2D\\x2F\\x30-\\x39\\x41-\\x5A]{6,12})\\.([\\x23\\x2D\\x2F\\x30-\\x39\\x41-\\x5A]{0,24})\\.\\*",
+            (urn, groups, validationContext) -> groupLength(groups, 1) + groupLength(groups, 2) <= 29);
+    private static final CompiledMatcher URI_CHECK = new CompiledMatcher(
+            "(http|https)://.*./8010/[\\x23\\x2D\\x2F\\x30-\\x39\\x41-\\x5A]{7,30}/8011/[0-9]{1,12}",
+            (uri, groups, validationContext) -> isCpiWithGcp(uri, validationContext.getGcpLength()));
+    private static final CompiledMatcher URI_WITHOUT_SERIAL_CHECK = new CompiledMatcher(
+            "(http|https)://.*./8010/[\\x23\\x2D\\x2F\\x30-\\x39\\x41-\\x5A]{7,30}",
+            (uri, groups, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && uri.length() - valueStart(uri, CPI_AI_URI_PREFIX) >= validationContext.getGcpLength());
+
+    // CPI rules of the compiled URI patterns for the elements of a parsed Digital Link, see CompiledLinkMatcher
+    private static final CompiledLinkMatcher URI_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isCpiWithGcp(digitalLink, validationContext.getGcpLength()),
+            cpiCharacters(CPI_AI_URI_PREFIX, 7, 30), digits(CPI_AI_URI_SERIAL_PREFIX, 1, 12));
+    private static final CompiledLinkMatcher URI_WITHOUT_SERIAL_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && valueLength(digitalLink, 0) >= validationContext.getGcpLength(),
+            cpiCharacters(CPI_AI_URI_PREFIX, 7, 30));
+
     public CPIValidator() {
         super();
     }
@@ -196,7 +227,30 @@ public class CPIValidator implements ApplicationIdentifierValidator {
     }
 
     @Override
-    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+    public boolean matchesCompiled(final String identifier, final ValidationContext validationContext) {
+        // Escape triplets are decoded first, same as by the matchers, identifiers without any are used as they are
+        final String normalized = Gs1UriEscape.decode(identifier);
+
+        // URN and URI patterns exclude each other, a URI without serial is only class level without "/8011/"
+        if (startsWithUrnScheme(normalized)) {
+            return URN_CHECK.matches(normalized, validationContext)
+                    || URN_WITHOUT_SERIAL_CHECK.matches(normalized, validationContext);
+        }
+        return validationContext.getGcpLength() != null
+                && (URI_CHECK.matches(normalized, validationContext)
+                || identifier.indexOf(CPI_AI_URI_SERIAL_PREFIX) < 0
+                && URI_WITHOUT_SERIAL_CHECK.matches(normalized, validationContext));
+    }
+
+    @Override
+    public boolean matchesCompiled(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return validationContext.getGcpLength() != null
+                && (URI_LINK_CHECK.matches(digitalLink, validationContext)
+                || URI_WITHOUT_SERIAL_LINK_CHECK.matches(digitalLink, validationContext));
+    }
+
+    @Override
+    public ValidationResult checkMatchers(final String identifier, final ValidationContext validationContext) {
         // Determine identifier type directly from the provided identifier
         boolean isUrn = identifier.contains(CPI_AI_URN_PREFIX);
 
@@ -219,20 +273,38 @@ public class CPIValidator implements ApplicationIdentifierValidator {
         } else {
             // For Digital Link URIs, ensure a valid GCP length is provided.
             if (validationContext.getGcpLength() == null) {
-                throw new ValidationException("Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
+                return ValidationResult.invalid(ValidationErrorCode.MISSING_GCP_LENGTH, "Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
             }
             matchers = isClassLevel ? URI_WITHOUT_SERIAL_MATCHERS : URI_MATCHERS;
         }
 
         // Iterate over the chosen matchers and validate the identifier.
         for (Matcher m : matchers) {
-            if (isUrn) {
-                m.validate(normalized);
-            } else {
-                m.validate(normalized, validationContext.getGcpLength());
+            final ValidationResult result = isUrn ? m.check(normalized) : m.check(normalized, validationContext.getGcpLength());
+            if (!result.isValid()) {
+                return result;
             }
         }
 
+        return ValidationResult.valid();
+    }
+
+    @Override
+    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+        check(identifier, validationContext).throwIfInvalid();
         return true;
     }
+
+    // CPI between "/8010/" and "/8011/" starting with the GCP digits, the rules of the URI matchers
+    private static boolean isCpiWithGcp(final String uri, final int gcpLength) {
+        final int start = valueStart(uri, CPI_AI_URI_PREFIX);
+        final int end = uri.indexOf(CPI_AI_URI_SERIAL_PREFIX);
+        return isGcpLength(gcpLength) && end - start >= gcpLength && isDigits(uri, start, start + gcpLength);
+    }
+
+    private static boolean isCpiWithGcp(final GS1DigitalLink digitalLink, final int gcpLength) {
+        final int start = digitalLink.valueStart(0);
+        return isGcpLength(gcpLength) && valueLength(digitalLink, 0) >= gcpLength
+                && isDigits(digitalLink.source(), start, start + gcpLength);
+    }
 }
@@ -11,8 +11,13 @@
 package io.openepcis.identifiers.validator.core.epcis.compliant;
 
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
 import io.openepcis.identifiers.validator.ValidationContext;
-import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.core.CompiledLinkMatcher;
+import io.openepcis.identifiers.validator.core.CompiledMatcher;
+import io.openepcis.identifiers.validator.core.CompiledValidator;
 import io.openepcis.identifiers.validator.core.Matcher;
 import io.openepcis.identifiers.validator.core.util.CheckDigitValidator;
 
@@ -20,8 +25,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static io.openepcis.constants.ApplicationIdentifierConstants.*;
+import static io.openepcis.identifiers.validator.core.CompiledLinkMatcher.*;
+import static io.openepcis.identifiers.validator.core.CompiledMatcher.*;
 
-public class GDTIValidator implements ApplicationIdentifierValidator {
+public class GDTIValidator implements CompiledValidator {
 
     private static final List<Matcher> URN_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URI_MATCHERS = new ArrayList<>();
@@ -31,6 +38,34 @@ public class GDTIValidator implements ApplicationIdentifierValidator {
     private static final String CPI_ERROR_MESSAGE = "GCP Length cannot be more than the CPI length, Please check the provided URI : %s";
     private static final String URI_PREFIX = "(http|https)://.*";
 
+    // GDTI rules of the matcher lists in a single pass each, see CompiledMatcher
+    private static final CompiledMatcher URN_CHECK = new CompiledMatcher(
+            "urn:epc:id:gdti:([0-9]{6,12})\\.([0-9]{0,6})\\.[\\x21-\\x22\\x25-\\x2F\\x30-\\x39\\x3A-\\x3F\\x41-\\x5A\\x5F\\x61-\\x7A]{1,17}",
+            (urn, groups, validationContext) -> urn.lastIndexOf('.') - groups.start(1) == 13);
+    private static final CompiledMatcher URN_WITHOUT_SERIAL_CHECK = new CompiledMatcher(
+            "urn:epc:idpat:gdti:([0-9]{6,12})\\.([0-9]{0,6})\\.\\*",
+            (urn, groups, validationContext) -> groupLength(groups, 1) + groupLength(groups, 2) == 12);
+    private static final CompiledMatcher URI_CHECK = new CompiledMatcher(
+            "(http|https)://.*./253/[0-9]{13}[\\x21-\\x22\\x25-\\x2F\\x30-\\x39\\x3A-\\x3F\\x41-\\x5A\\x5F\\x61-\\x7A]{1,17}",
+            (uri, groups, validationContext) -> valueStart(uri, GDTI_AI_URI_PREFIX) + 13 <= uri.length()
+                    && isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(uri, GDTI_AI_URI_PREFIX, 12, validationContext));
+    private static final CompiledMatcher URI_WITHOUT_SERIAL_CHECK = new CompiledMatcher(
+            "(http|https)://.*./253/[0-9]{13}",
+            (uri, groups, validationContext) -> valueStart(uri, GDTI_AI_URI_PREFIX) + 13 <= uri.length()
+                    && isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(uri, GDTI_AI_URI_PREFIX, 12, validationContext));
+
+    // GDTI rules of the compiled URI patterns for the elements of a parsed Digital Link, see CompiledLinkMatcher
+    private static final CompiledLinkMatcher URI_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(digitalLink, 0, 12, validationContext),
+            digitsAndCharacters(GDTI_AI_URI_PREFIX, 13, 13, 1, 17));
+    private static final CompiledLinkMatcher URI_WITHOUT_SERIAL_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(digitalLink, 0, 12, validationContext),
+            digits(GDTI_AI_URI_PREFIX, 13, 13));
+
     static {
         // GDTI EPC URN identifier validation rules
         URN_MATCHERS.add(
@@ -211,7 +246,26 @@ public class GDTIValidator implements ApplicationIdentifierValidator {
     }
 
     @Override
-    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+    public boolean matchesCompiled(final String identifier, final ValidationContext validationContext) {
+        // URN and URI patterns exclude each other, a URI is only checked with a GCP length
+        if (startsWithUrnScheme(identifier)) {
+            return URN_CHECK.matches(identifier, validationContext)
+                    || URN_WITHOUT_SERIAL_CHECK.matches(identifier, validationContext);
+        }
+        return validationContext.getGcpLength() != null
+                && (URI_CHECK.matches(identifier, validationContext)
+                || URI_WITHOUT_SERIAL_CHECK.matches(identifier, validationContext));
+    }
+
+    @Override
+    public boolean matchesCompiled(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return validationContext.getGcpLength() != null
+                && (URI_LINK_CHECK.matches(digitalLink, validationContext)
+                || URI_WITHOUT_SERIAL_LINK_CHECK.matches(digitalLink, validationContext));
+    }
+
+    @Override
+    public ValidationResult checkMatchers(final String identifier, final ValidationContext validationContext) {
         // Determine identifier type directly from the provided identifier
         boolean isUrn = identifier.contains(GDTI_AI_URN_PREFIX);
 
@@ -240,21 +294,25 @@ public class GDTIValidator implements ApplicationIdentifierValidator {
         } else {
             // For Digital Link URIs, ensure a valid GCP length is provided.
             if (validationContext.getGcpLength() == null) {
-                throw new ValidationException("Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
+                return ValidationResult.invalid(ValidationErrorCode.MISSING_GCP_LENGTH, "Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
             }
             matchers = isClassLevel ? URI_WITHOUT_SERIAL_MATCHERS : URI_MATCHERS;
         }
 
         // Iterate over the chosen matchers and validate the identifier.
         for (Matcher m : matchers) {
-            if (isUrn) {
-                m.validate(identifier);
-            } else {
-                m.validate(identifier, validationContext);
+            final ValidationResult result = isUrn ? m.check(identifier) : m.check(identifier, validationContext);
+            if (!result.isValid()) {
+                return result;
             }
         }
 
-        return true;
+        return ValidationResult.valid();
     }
 
+    @Override
+    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+        check(identifier, validationContext).throwIfInvalid();
+        return true;
+    }
 }
@@ -11,8 +11,13 @@
 package io.openepcis.identifiers.validator.core.epcis.compliant;
 
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
 import io.openepcis.identifiers.validator.ValidationContext;
-import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.core.CompiledLinkMatcher;
+import io.openepcis.identifiers.validator.core.CompiledMatcher;
+import io.openepcis.identifiers.validator.core.CompiledValidator;
 import io.openepcis.identifiers.validator.core.Matcher;
 
 import java.util.ArrayList;
@@ -20,12 +25,28 @@ import java.util.List;
 
 import static io.openepcis.constants.ApplicationIdentifierConstants.GIAI_AI_URI_PREFIX;
 import static io.openepcis.constants.ApplicationIdentifierConstants.GIAI_AI_URN_PREFIX;
+import static io.openepcis.identifiers.validator.core.CompiledLinkMatcher.*;
+import static io.openepcis.identifiers.validator.core.CompiledMatcher.*;
 
-public class GIAIValidator implements ApplicationIdentifierValidator {
+public class GIAIValidator implements CompiledValidator {
 
     private static final List<Matcher> URN_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URI_MATCHERS = new ArrayList<>();
 
+    // GIAI rules of the matcher lists in a single pass each, see CompiledMatcher
+    private static final CompiledMatcher URN_CHECK = new CompiledMatcher(
+            "urn:epc:id:giai:[0-9]{6,12}\\.[\\x21-\\x22\\x25-\\x2F\\x30-\\x39\\x3A-\\x3F\\x41-\\x5A\\x5F\\x61-\\x7A]{1,24}");
+    private static final CompiledMatcher URI_CHECK = new CompiledMatcher(
+            "(http|https)://.*./8004/[0-9]{6,12}[\\x21-\\x22\\x25-\\x2F\\x30-\\x39\\x3A-\\x3F\\x41-\\x5A\\x5F\\x61-\\x7A]{1,24}",
+            (uri, groups, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && uri.length() - valueStart(uri, GIAI_AI_URI_PREFIX) >= validationContext.getGcpLength());
+
+    // GIAI rules of the compiled URI patterns for the elements of a parsed Digital Link, see CompiledLinkMatcher
+    private static final CompiledLinkMatcher URI_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && valueLength(digitalLink, 0) >= validationContext.getGcpLength(),
+            digitsAndCharacters(GIAI_AI_URI_PREFIX, 6, 12, 1, 24));
+
     static {
         // GIAI EPC URN identifier validation rules
         URN_MATCHERS.add(
@@ -95,7 +116,21 @@ public class GIAIValidator implements ApplicationIdentifierValidator {
     }
 
     @Override
-    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+    public boolean matchesCompiled(final String identifier, final ValidationContext validationContext) {
+        // URN and URI patterns exclude each other, a URI is only checked with a GCP length
+        if (startsWithUrnScheme(identifier)) {
+            return URN_CHECK.matches(identifier, validationContext);
+        }
+        return validationContext.getGcpLength() != null && URI_CHECK.matches(identifier, validationContext);
+    }
+
+    @Override
+    public boolean matchesCompiled(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return validationContext.getGcpLength() != null && URI_LINK_CHECK.matches(digitalLink, validationContext);
+    }
+
+    @Override
+    public ValidationResult checkMatchers(final String identifier, final ValidationContext validationContext) {
         // Determine identifier type directly from the provided identifier
         boolean isUrn = identifier.contains(GIAI_AI_URN_PREFIX);
 
@@ -108,21 +143,25 @@ public class GIAIValidator implements ApplicationIdentifierValidator {
         } else {
             // For Digital Link URIs, ensure a valid GCP length is provided.
             if (validationContext.getGcpLength() == null) {
-                throw new ValidationException(
-                        "Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
+                return ValidationResult.invalid(ValidationErrorCode.MISSING_GCP_LENGTH, "Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
             }
             matchers = URI_MATCHERS;
         }
 
         // Iterate over the chosen matchers and validate the identifier.
         for (Matcher m : matchers) {
-            if (isUrn) {
-                m.validate(identifier);
-            } else {
-                m.validate(identifier, validationContext.getGcpLength());
+            final ValidationResult result = isUrn ? m.check(identifier) : m.check(identifier, validationContext.getGcpLength());
+            if (!result.isValid()) {
+                return result;
             }
         }
 
+        return ValidationResult.valid();
+    }
+
+    @Override
+    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+        check(identifier, validationContext).throwIfInvalid();
         return true;
     }
 }
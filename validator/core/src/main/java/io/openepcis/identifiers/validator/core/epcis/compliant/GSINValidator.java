@@ -11,8 +11,13 @@
 package io.openepcis.identifiers.validator.core.epcis.compliant;
 
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
 import io.openepcis.identifiers.validator.ValidationContext;
-import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.core.CompiledLinkMatcher;
+import io.openepcis.identifiers.validator.core.CompiledMatcher;
+import io.openepcis.identifiers.validator.core.CompiledValidator;
 import io.openepcis.identifiers.validator.core.Matcher;
 import io.openepcis.identifiers.validator.core.util.CheckDigitValidator;
 
@@ -21,12 +26,29 @@ import java.util.List;
 
 import static io.openepcis.constants.ApplicationIdentifierConstants.GSIN_AI_URI_PREFIX;
 import static io.openepcis.constants.ApplicationIdentifierConstants.GSIN_AI_URN_PREFIX;
+import static io.openepcis.identifiers.validator.core.CompiledLinkMatcher.*;
+import static io.openepcis.identifiers.validator.core.CompiledMatcher.*;
 
-public class GSINValidator implements ApplicationIdentifierValidator {
+public class GSINValidator implements CompiledValidator {
 
     private static final List<Matcher> URN_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URI_MATCHERS = new ArrayList<>();
 
+    // GSIN rules of the matcher lists in a single pass each, see CompiledMatcher
+    private static final CompiledMatcher URN_CHECK = new CompiledMatcher(
+            "urn:epc:id:gsin:([0-9]{6,12})\\.([0-9]{4,10})",
+            (urn, groups, validationContext) -> groupLength(groups, 1) + groupLength(groups, 2) == 16);
+    private static final CompiledMatcher URI_CHECK = new CompiledMatcher(
+            "(http|https)://.*./402/[0-9]{17}",
+            (uri, groups, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(uri, GSIN_AI_URI_PREFIX, 16, validationContext));
+
+    // GSIN rules of the compiled URI patterns for the elements of a parsed Digital Link, see CompiledLinkMatcher
+    private static final CompiledLinkMatcher URI_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(digitalLink, 0, 16, validationContext),
+            digits(GSIN_AI_URI_PREFIX, 17, 17));
+
     static {
         // GSIN Instance EPC URN identifier validation rules
         URN_MATCHERS.add(
@@ -112,7 +134,21 @@ public class GSINValidator implements ApplicationIdentifierValidator {
      * Validate without gcpLength. This method is intended for URN validations.
      */
     @Override
-    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+    public boolean matchesCompiled(final String identifier, final ValidationContext validationContext) {
+        // URN and URI patterns exclude each other, a URI is only checked with a GCP length
+        if (startsWithUrnScheme(identifier)) {
+            return URN_CHECK.matches(identifier, validationContext);
+        }
+        return validationContext.getGcpLength() != null && URI_CHECK.matches(identifier, validationContext);
+    }
+
+    @Override
+    public boolean matchesCompiled(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return validationContext.getGcpLength() != null && URI_LINK_CHECK.matches(digitalLink, validationContext);
+    }
+
+    @Override
+    public ValidationResult checkMatchers(final String identifier, final ValidationContext validationContext) {
         // Determine identifier type directly from the provided identifier
         boolean isUrn = identifier.contains(GSIN_AI_URN_PREFIX);
 
@@ -125,20 +161,25 @@ public class GSINValidator implements ApplicationIdentifierValidator {
         } else {
             // For Digital Link URIs, ensure a valid GCP length is provided.
             if (validationContext.getGcpLength() == null) {
-                throw new ValidationException("Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
+                return ValidationResult.invalid(ValidationErrorCode.MISSING_GCP_LENGTH, "Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
             }
             matchers = URI_MATCHERS;
         }
 
         // Iterate over the chosen matchers and validate the identifier.
         for (Matcher m : matchers) {
-            if (isUrn) {
-                m.validate(identifier);
-            } else {
-                m.validate(identifier, validationContext);
+            final ValidationResult result = isUrn ? m.check(identifier) : m.check(identifier, validationContext);
+            if (!result.isValid()) {
+                return result;
             }
         }
 
+        return ValidationResult.valid();
+    }
+
+    @Override
+    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+        check(identifier, validationContext).throwIfInvalid();
         return true;
     }
 }
@@ -11,8 +11,13 @@
 package io.openepcis.identifiers.validator.core.epcis.compliant;
 
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
 import io.openepcis.identifiers.validator.ValidationContext;
-import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.core.CompiledLinkMatcher;
+import io.openepcis.identifiers.validator.core.CompiledMatcher;
+import io.openepcis.identifiers.validator.core.CompiledValidator;
 import io.openepcis.identifiers.validator.core.Matcher;
 import org.apache.commons.lang3.StringUtils;
 
@@ -20,14 +25,38 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static io.openepcis.constants.ApplicationIdentifierConstants.*;
+import static io.openepcis.identifiers.validator.core.CompiledLinkMatcher.*;
+import static io.openepcis.identifiers.validator.core.CompiledMatcher.*;
 
-public class ITIPValidator implements ApplicationIdentifierValidator {
+public class ITIPValidator implements CompiledValidator {
 
     private static final List<Matcher> URN_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URI_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URN_WITHOUT_SERIAL_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URI_WITHOUT_SERIAL_MATCHERS = new ArrayList<>();
 
+    // ITIP rules of the matcher lists in a single pass each, see CompiledMatcher
+    private static final CompiledMatcher URN_CHECK = new CompiledMatcher(
+            "urn:epc:id:itip:([0-9]{6,12})\\.([0-9]{1,7})\\.[0-9]{2}\\.[0-9]{2}\\.[\\x21-\\x22\\x25-\\x2F\\x30-\\x39\\x3A-\\x3F\\x41-\\x5A\\x5F\\x61-\\x7A]{1,20}",
+            (urn, groups, validationContext) -> groupLength(groups, 1) + groupLength(groups, 2) == 13);
+    private static final CompiledMatcher URN_WITHOUT_SERIAL_CHECK = new CompiledMatcher(
+            "urn:epc:idpat:itip:([0-9]{6,12})\\.([0-9]{1,7})\\.[0-9]{2}\\.[0-9]{2}\\.\\*",
+            (urn, groups, validationContext) -> groupLength(groups, 1) + groupLength(groups, 2) == 13);
+    private static final CompiledMatcher URI_CHECK = new CompiledMatcher(
+            "(http|https)://.*./8006/[0-9]{18}/21/[\\x21-\\x22\\x25-\\x2F\\x30-\\x39\\x3A-\\x3F\\x41-\\x5A\\x5F\\x61-\\x7A]{1,20}",
+            (uri, groups, validationContext) -> isGcpLength(validationContext.getGcpLength()));
+    private static final CompiledMatcher URI_WITHOUT_SERIAL_CHECK = new CompiledMatcher(
+            "(http|https)://.*./8006/[0-9]{18}",
+            (uri, groups, validationContext) -> isGcpLength(validationContext.getGcpLength()));
+
+    // ITIP rules of the compiled URI patterns for the elements of a parsed Digital Link, see CompiledLinkMatcher
+    private static final CompiledLinkMatcher URI_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isGcpLength(validationContext.getGcpLength()),
+            digits(ITIP_AI_URI_PREFIX, 18, 18), characters(ITIP_AI_URI_SERIAL_PREFIX, 1, 20));
+    private static final CompiledLinkMatcher URI_WITHOUT_SERIAL_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isGcpLength(validationContext.getGcpLength()),
+            digits(ITIP_AI_URI_PREFIX, 18, 18));
+
     static {
         // ITIP EPC URN identifier validation rules
         URN_MATCHERS.add(
@@ -172,8 +201,26 @@ public class ITIPValidator implements ApplicationIdentifierValidator {
     }
 
     @Override
-    public boolean validate(final String identifier, final ValidationContext validationContext)
-            throws ValidationException {
+    public boolean matchesCompiled(final String identifier, final ValidationContext validationContext) {
+        // URN and URI patterns exclude each other, a URI is only checked with a GCP length
+        if (startsWithUrnScheme(identifier)) {
+            return URN_CHECK.matches(identifier, validationContext)
+                    || URN_WITHOUT_SERIAL_CHECK.matches(identifier, validationContext);
+        }
+        return validationContext.getGcpLength() != null
+                && (URI_CHECK.matches(identifier, validationContext)
+                || URI_WITHOUT_SERIAL_CHECK.matches(identifier, validationContext));
+    }
+
+    @Override
+    public boolean matchesCompiled(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return validationContext.getGcpLength() != null
+                && (URI_LINK_CHECK.matches(digitalLink, validationContext)
+                || URI_WITHOUT_SERIAL_LINK_CHECK.matches(digitalLink, validationContext));
+    }
+
+    @Override
+    public ValidationResult checkMatchers(final String identifier, final ValidationContext validationContext) {
         // Determine identifier type directly from the provided identifier
         boolean isUrn = identifier.contains(ITIP_AI_URN_PREFIX);
 
@@ -202,7 +249,7 @@ public class ITIPValidator implements ApplicationIdentifierValidator {
         } else {
             // For Digital Link URIs, ensure a valid GCP length is provided.
             if (validationContext.getGcpLength() == null) {
-                throw new ValidationException(
+                return ValidationResult.invalid(ValidationErrorCode.MISSING_GCP_LENGTH,
                         "Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
             }
 
@@ -211,13 +258,18 @@ public class ITIPValidator implements ApplicationIdentifierValidator {
 
         // Iterate over the chosen matchers and validate the identifier.
         for (Matcher m : matchers) {
-            if (isUrn) {
-                m.validate(identifier);
-            } else {
-                m.validate(identifier, validationContext.getGcpLength());
+            final ValidationResult result = isUrn ? m.check(identifier) : m.check(identifier, validationContext.getGcpLength());
+            if (!result.isValid()) {
+                return result;
             }
         }
 
+        return ValidationResult.valid();
+    }
+
+    @Override
+    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+        check(identifier, validationContext).throwIfInvalid();
         return true;
     }
 }
@@ -11,9 +11,14 @@
 package io.openepcis.identifiers.validator.core.epcis.compliant;
 
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
 import io.openepcis.digitallink.utils.Gs1UriEscape;
 import io.openepcis.identifiers.validator.ValidationContext;
-import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.core.CompiledLinkMatcher;
+import io.openepcis.identifiers.validator.core.CompiledMatcher;
+import io.openepcis.identifiers.validator.core.CompiledValidator;
 import io.openepcis.identifiers.validator.core.Matcher;
 import io.openepcis.identifiers.validator.core.util.CheckDigitValidator;
 import org.apache.commons.lang3.StringUtils;
@@ -22,14 +27,43 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static io.openepcis.constants.ApplicationIdentifierConstants.*;
+import static io.openepcis.identifiers.validator.core.CompiledLinkMatcher.*;
+import static io.openepcis.identifiers.validator.core.CompiledMatcher.*;
 
-public class SGTINValidator implements ApplicationIdentifierValidator {
+public class SGTINValidator implements CompiledValidator {
 
     private static final List<Matcher> URN_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URI_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URN_WITHOUT_SERIAL_MATCHERS = new ArrayList<>();
     private static final List<Matcher> URI_WITHOUT_SERIAL_MATCHERS = new ArrayList<>();
 
+    // SGTIN rules of the matcher lists in a single pass each, see CompiledMatcher
+    private static final CompiledMatcher URN_CHECK = new CompiledMatcher(
+            "urn:epc:id:sgtin:([0-9]{6,12})\\.([0-9]{1,7})\\.[\\x21-\\x22\\x25-\\x2F\\x30-\\x39\\x3A-\\x3F\\x41-\\x5A\\x5F\\x61-\\x7A]{1,20}",
+            (urn, groups, validationContext) -> groupLength(groups, 1) + groupLength(groups, 2) == 13);
+    private static final CompiledMatcher URN_WITHOUT_SERIAL_CHECK = new CompiledMatcher(
+            "urn:epc:idpat:sgtin:([0-9]{6,12})\\.([0-9]{1,7})\\.\\*",
+            (urn, groups, validationContext) -> groupLength(groups, 1) + groupLength(groups, 2) == 13);
+    private static final CompiledMatcher URI_CHECK = new CompiledMatcher(
+            "(http|https)://.*./01/[0-9]{14}/21/[\\x21-\\x22\\x25-\\x2F\\x30-\\x39\\x3A-\\x3F\\x41-\\x5A\\x5F\\x61-\\x7A]{1,20}",
+            (uri, groups, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(uri, SGTIN_AI_URI_PREFIX, 13, validationContext));
+    private static final CompiledMatcher URI_WITHOUT_SERIAL_CHECK = new CompiledMatcher(
+            "(http|https)://.*./01/[0-9]{14}",
+            (uri, groups, validationContext) -> valueStart(uri, SGTIN_AI_URI_PREFIX) + 14 == uri.length()
+                    && isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(uri, SGTIN_AI_URI_PREFIX, 13, validationContext));
+
+    // SGTIN rules of the compiled URI patterns for the elements of a parsed Digital Link, see CompiledLinkMatcher
+    private static final CompiledLinkMatcher URI_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(digitalLink, 0, 13, validationContext),
+            digits(SGTIN_AI_URI_PREFIX, 14, 14), characters(SGTIN_AI_URI_SERIAL_PREFIX, 1, 20));
+    private static final CompiledLinkMatcher URI_WITHOUT_SERIAL_LINK_CHECK = new CompiledLinkMatcher(
+            (digitalLink, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(digitalLink, 0, 13, validationContext),
+            digits(SGTIN_AI_URI_PREFIX, 14, 14));
+
     static {
         // SGTIN Instance EPC URN identifier validation rules
         URN_MATCHERS.add(
@@ -216,7 +250,29 @@ public class SGTINValidator implements ApplicationIdentifierValidator {
     }
 
     @Override
-    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+    public boolean matchesCompiled(final String identifier, final ValidationContext validationContext) {
+        // Escape triplets are decoded first, same as by the matchers, identifiers without any are used as they are
+        final String normalized = Gs1UriEscape.decode(identifier);
+
+        // URN and URI patterns exclude each other, a URI is only checked with a GCP length
+        if (startsWithUrnScheme(normalized)) {
+            return URN_CHECK.matches(normalized, validationContext)
+                    || URN_WITHOUT_SERIAL_CHECK.matches(normalized, validationContext);
+        }
+        return validationContext.getGcpLength() != null
+                && (URI_CHECK.matches(normalized, validationContext)
+                || URI_WITHOUT_SERIAL_CHECK.matches(normalized, validationContext));
+    }
+
+    @Override
+    public boolean matchesCompiled(final GS1DigitalLink digitalLink, final ValidationContext validationContext) {
+        return validationContext.getGcpLength() != null
+                && (URI_LINK_CHECK.matches(digitalLink, validationContext)
+                || URI_WITHOUT_SERIAL_LINK_CHECK.matches(digitalLink, validationContext));
+    }
+
+    @Override
+    public ValidationResult checkMatchers(final String identifier, final ValidationContext validationContext) {
         // Determine identifier type directly from the provided identifier
         boolean isUrn = identifier.contains(SGTIN_AI_URN_PREFIX);
 
@@ -248,20 +304,25 @@ public class SGTINValidator implements ApplicationIdentifierValidator {
         } else {
             // For Digital Link URIs, ensure a valid GCP length is provided.
             if (validationContext.getGcpLength() == null) {
-                throw new ValidationException("Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
+                return ValidationResult.invalid(ValidationErrorCode.MISSING_GCP_LENGTH, "Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
             }
             matchers = isClassLevel ? URI_WITHOUT_SERIAL_MATCHERS : URI_MATCHERS;
         }
 
         // Iterate over the chosen matchers and validate the identifier.
         for (Matcher m : matchers) {
-            if (isUrn) {
-                m.validate(normalized);
-            } else {
-                m.validate(normalized, validationContext);
+            final ValidationResult result = isUrn ? m.check(normalized) : m.check(normalized, validationContext);
+            if (!result.isValid()) {
+                return result;
             }
         }
 
+        return ValidationResult.valid();
+    }
+
+    @Override
+    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+        check(identifier, validationContext).throwIfInvalid();
         return true;
     }
 }
@@ -2,7 +2,10 @@ package io.openepcis.identifiers.validator.core.epcis.noncompliant;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.identifiers.validator.ValidationContext;
-import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.core.CompiledMatcher;
+import io.openepcis.identifiers.validator.core.CompiledValidator;
 import io.openepcis.identifiers.validator.core.Matcher;
 import io.openepcis.identifiers.validator.core.util.CheckDigitValidator;
 
@@ -10,15 +13,23 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static io.openepcis.constants.ApplicationIdentifierConstants.*;
+import static io.openepcis.identifiers.validator.core.CompiledMatcher.*;
 
 /**
  * Additional class to validate the identifiers: GTIN + Batch/Lot + Serial Number + Expiry Date.
  * Example: <a href="https://id.gs1.org/01/09520123456788/10/ABC1/21/12345?17=180426">https://id.gs1.org/01/09520123456788/10/ABC1/21/12345?17=180426</a>
  * These types of are not supported by the EPCIS 2.0.0 specification but valid according to the GS1
  */
-public class GTINLotSerialExpiryValidator implements ApplicationIdentifierValidator {
+public class GTINLotSerialExpiryValidator implements CompiledValidator {
     private static final List<Matcher> URI_MATCHERS = new ArrayList<>();
 
+    // GTINLotSerialExpiry rules of the matcher lists in a single pass each, see CompiledMatcher
+    private static final CompiledMatcher URI_CHECK = new CompiledMatcher(
+            "(?:http|https)://.*/01/\\d{14}(?:[/?#].*)?",
+            (uri, groups, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(uri, SGTIN_AI_URI_PREFIX, 13, validationContext)
+                    && hasLotOrSerial(uri) && hasValidDates(uri));
+
     static {
         // For DL URI identifier check if identifier contains DL URI part: "/01/" with Lot "/10/" and/or Serial "/21/" and optional dates:
         /*
@@ -156,17 +167,105 @@ public class GTINLotSerialExpiryValidator implements ApplicationIdentifierValida
     }
 
     @Override
-    public boolean validate(final String identifier, final ValidationContext validationContext) {
+    public boolean matchesCompiled(final String identifier, final ValidationContext validationContext) {
+        // Digital Link URIs are only checked with a GCP length
+        return validationContext.getGcpLength() != null && URI_CHECK.matches(identifier, validationContext);
+    }
+
+    @Override
+    public ValidationResult checkMatchers(final String identifier, final ValidationContext validationContext) {
         // For Digital Link URIs, ensure a valid GCP length is provided.
         if (validationContext.getGcpLength() == null) {
-            throw new ValidationException("Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
+            return ValidationResult.invalid(ValidationErrorCode.MISSING_GCP_LENGTH, "Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
         }
 
         for (final Matcher matcher : URI_MATCHERS) {
-            matcher.validate(identifier, validationContext);
+            final ValidationResult result = matcher.check(identifier, validationContext);
+            if (!result.isValid()) {
+                return result;
+            }
         }
 
         // if validation success then return true
+        return ValidationResult.valid();
+    }
+
+    @Override
+    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+        check(identifier, validationContext).throwIfInvalid();
+        return true;
+    }
+
+    // At most one /10 {lot} and one /21 {serial}, at least one of them, the rule of the lot and serial matcher
+    private static boolean hasLotOrSerial(final String uri) {
+        final int lots = countValidSegments(uri, "/10/");
+        final int serials = countValidSegments(uri, "/21/");
+        return lots >= 0 && serials >= 0 && lots <= 1 && serials <= 1 && lots + serials >= 1;
+    }
+
+    // Number of non-empty values up to the next '/', '?' or '#' after the AI prefix, -1 if a value is invalid
+    private static int countValidSegments(final String uri, final String aiPrefix) {
+        int count = 0;
+        for (int idx = uri.indexOf(aiPrefix); idx >= 0; idx = uri.indexOf(aiPrefix, idx + 1)) {
+            final int start = idx + aiPrefix.length();
+            int end = start;
+            while (end < uri.length() && "/?#".indexOf(uri.charAt(end)) < 0) {
+                end++;
+            }
+            if (end == start) {
+                continue;
+            }
+            if (end - start > 20 || !isSegmentCharacters(uri, start, end)) {
+                return -1;
+            }
+            count++;
+            idx = end - 1;
+        }
+        return count;
+    }
+
+    // Characters of [!%-?A-Z_a-z\x22]
+    private static boolean isSegmentCharacters(final String uri, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = uri.charAt(i);
+            if (!(c == '!' || c == '"' || c >= '%' && c <= '?' || c >= 'A' && c <= 'Z' || c == '_' || c >= 'a' && c <= 'z')) {
+                return false;
+            }
+        }
         return true;
     }
+
+    // YYMMDD values of the date AIs in the query string, the rule of the date matcher
+    private static boolean hasValidDates(final String uri) {
+        final int q = uri.indexOf('?');
+        if (q < 0) {
+            return true;
+        }
+        for (int start = q + 1; start < uri.length(); ) {
+            int end = uri.indexOf('&', start);
+            if (end < 0) {
+                end = uri.length();
+            }
+            final int eq = uri.indexOf('=', start);
+            if (eq - start == 2 && eq < end && isDateAi(uri.charAt(start), uri.charAt(start + 1)) && !isDate(uri, eq + 1, end)) {
+                return false;
+            }
+            start = end + 1;
+        }
+        return true;
+    }
+
+    // Date AIs 11, 12, 13, 15, 16 and 17
+    private static boolean isDateAi(final char first, final char second) {
+        return first == '1' && second >= '1' && second <= '7' && second != '4';
+    }
+
+    private static boolean isDate(final String uri, final int start, final int end) {
+        if (end - start != 6 || !isDigits(uri, start, end)) {
+            return false;
+        }
+        final int month = (uri.charAt(start + 2) - '0') * 10 + uri.charAt(start + 3) - '0';
+        final int day = (uri.charAt(start + 4) - '0') * 10 + uri.charAt(start + 5) - '0';
+        return month >= 1 && month <= 12 && day >= 1 && day <= 31;
+    }
 }
@@ -2,7 +2,10 @@ package io.openepcis.identifiers.validator.core.epcis.noncompliant;
 
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.identifiers.validator.ValidationContext;
-import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.ValidationErrorCode;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.core.CompiledMatcher;
+import io.openepcis.identifiers.validator.core.CompiledValidator;
 import io.openepcis.identifiers.validator.core.Matcher;
 import io.openepcis.identifiers.validator.core.util.CheckDigitValidator;
 
@@ -11,14 +14,21 @@ import java.util.List;
 
 import static io.openepcis.constants.ApplicationIdentifierConstants.NET_WEIGHT_AI_PARAM;
 import static io.openepcis.constants.ApplicationIdentifierConstants.SGTIN_AI_URI_PREFIX;
+import static io.openepcis.identifiers.validator.core.CompiledMatcher.*;
 
 /**
  * Additional class to validate the Non-EPCIS compliant DL identifiers: GTIN + Net Weight. Example: https://example.com/01/09520123456788?3103=000195
  * These types of are not supported by the EPCIS 2.0.0 specification but valid according to the GS1
  */
-public class GTINWeightValidator implements ApplicationIdentifierValidator {
+public class GTINWeightValidator implements CompiledValidator {
     private static final List<Matcher> DIGITAL_LINK_VALIDATION_RULES = new ArrayList<>();
 
+    // GTINWeight rules of the matcher lists in a single pass each, see CompiledMatcher
+    private static final CompiledMatcher DIGITAL_LINK_CHECK = new CompiledMatcher(
+            "(http|https)://.*./01/[0-9]{14}\\?3103=(\\d{6})",
+            (uri, groups, validationContext) -> isGcpLength(validationContext.getGcpLength())
+                    && hasCheckDigit(uri, SGTIN_AI_URI_PREFIX, 13, validationContext));
+
     static {
         // GTIN + Net Weight Digital Link URI identifier validation rules
 
@@ -79,17 +89,32 @@ public class GTINWeightValidator implements ApplicationIdentifierValidator {
     }
 
     @Override
-    public boolean validate(final String identifier, final ValidationContext validationContext) {
+    public boolean matchesCompiled(final String identifier, final ValidationContext validationContext) {
+        // Digital Link URIs are only checked with a GCP length
+        return validationContext.getGcpLength() != null && DIGITAL_LINK_CHECK.matches(identifier, validationContext);
+    }
+
+    @Override
+    public ValidationResult checkMatchers(final String identifier, final ValidationContext validationContext) {
         // For Digital Link URIs, ensure a valid GCP length is provided.
         if (validationContext.getGcpLength() == null) {
-            throw new ValidationException("Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
+            return ValidationResult.invalid(ValidationErrorCode.MISSING_GCP_LENGTH, "Digital Link URI detected. Use validate(String, int) to validate Digital Link URIs with a GCP length.");
         }
 
         for (final Matcher matcher : DIGITAL_LINK_VALIDATION_RULES) {
-            matcher.validate(identifier, validationContext);
+            final ValidationResult result = matcher.check(identifier, validationContext);
+            if (!result.isValid()) {
+                return result;
+            }
         }
 
         // if validation success then return true
+        return ValidationResult.valid();
+    }
+
+    @Override
+    public boolean validate(final String identifier, final ValidationContext validationContext) throws ValidationException {
+        check(identifier, validationContext).throwIfInvalid();
         return true;
     }
 }
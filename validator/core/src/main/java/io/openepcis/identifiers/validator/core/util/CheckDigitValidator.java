@@ -1,6 +1,7 @@
 package io.openepcis.identifiers.validator.core.util;
 
 import io.openepcis.core.exception.ValidationException;
+import io.openepcis.digitallink.utils.GS1CheckDigit;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.krysalis.barcode4j.impl.upcean.UPCEANLogicImpl;
@@ -30,19 +31,42 @@ public class CheckDigitValidator {
         }
 
 
-        final String segment = uri.substring(start, end);
-        final String data = segment.substring(0, payloadLength);
-        final char checksumChar = UPCEANLogicImpl.calcChecksum(data);
-
-        // compute the expected and actual check digit
-        final int expected = Character.getNumericValue(checksumChar);
-        final int actual = segment.charAt(payloadLength) - '0';
+        // compute the expected and actual check digit, payloads with other characters than digits take the scalar path
+        final int checkDigit = GS1CheckDigit.compute(uri, start, end - 1);
+        final int expected = checkDigit >= 0
+                ? checkDigit
+                : Character.getNumericValue(UPCEANLogicImpl.calcChecksum(uri.substring(start, end - 1)));
+        final int actual = uri.charAt(end - 1) - '0';
 
         if (expected != actual) {
             throw new ValidationException(String.format("%s has invalid check digit: expected %d but found %d in %s", elementName, expected, actual, uri));
         }
     }
 
+    /**
+     * Non-throwing check of the digits after the first occurrence of the AI prefix, false wherever the throwing
+     * validations fail.
+     *
+     * @param uri           Digital Link URI
+     * @param aiPrefix      AI path prefix, ex: {@code /01/}
+     * @param payloadLength number of digits before the check digit
+     * @return true if the payload and the check digit are digits and the GS1 mod-10 check digit matches
+     */
+    public static boolean isValid(final String uri, final String aiPrefix, final int payloadLength) {
+        final int idx = uri.indexOf(aiPrefix);
+        if (idx < 0) {
+            return false;
+        }
+
+        final int start = idx + aiPrefix.length();
+        final int checkDigitIndex = start + payloadLength;
+        if (checkDigitIndex >= uri.length()) {
+            return false;
+        }
+
+        return GS1CheckDigit.isValid(uri, start, checkDigitIndex + 1);
+    }
+
     /**
      * Validate GTIN (AI /01/, 13-digit + check digit).
      */
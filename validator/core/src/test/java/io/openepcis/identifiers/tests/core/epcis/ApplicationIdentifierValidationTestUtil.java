@@ -13,12 +13,24 @@ package io.openepcis.identifiers.tests.core.epcis;
 import io.openepcis.core.exception.ValidationException;
 import io.openepcis.digitallink.toolkit.GS1DigitalLinkNormalizer;
 import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLink;
+import io.openepcis.digitallink.utils.GS1DigitalLinkParser;
 import io.openepcis.identifiers.validator.ValidationContext;
+import io.openepcis.identifiers.validator.ValidationResult;
+import io.openepcis.identifiers.validator.ValidatorDispatchIndexTest;
 import io.openepcis.identifiers.validator.ValidatorFactory;
+import io.openepcis.identifiers.validator.core.CompiledValidator;
+import io.openepcis.identifiers.validator.core.epcis.compliant.*;
+import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINCPVValidator;
+import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINLotSerialExpiryValidator;
+import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINWeightAmountBestBeforeValidator;
+import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINWeightValidator;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.Assertions;
 
+import java.util.List;
+
 /**
  * Utility for asserting validity or invalidity of GS1 application identifiers.
  */
@@ -28,6 +40,14 @@ public class ApplicationIdentifierValidationTestUtil {
     // Create a shared ValidatorFactory instance for all tests.
     private static final ValidatorFactory VALIDATOR_FACTORY = new ValidatorFactory(new GS1DigitalLinkNormalizer(), DefaultGCPLengthProvider.getInstance());
 
+    // All validators, each fixture is checked with the compiled matchers and the matcher lists of the ones supporting it
+    private static final List<CompiledValidator> VALIDATORS = List.of(
+            new CPIValidator(), new GCNValidator(), new GDTIValidator(), new GIAIValidator(), new GINCValidator(),
+            new GRAIValidator(), new GSINValidator(), new GSRNPValidator(), new GSRNValidator(), new ITIPValidator(),
+            new LGTINValidator(), new PGLNValidator(), new SGLNValidator(), new SGTINValidator(), new SSCCValidator(),
+            new UPUIValidator(), new GTINCPVValidator(), new GTINLotSerialExpiryValidator(),
+            new GTINWeightAmountBestBeforeValidator(), new GTINWeightValidator());
+
 
     /**
      * Asserts that the given identifier is valid. If a ValidationException is thrown, the test will fail.
@@ -64,6 +84,20 @@ public class ApplicationIdentifierValidationTestUtil {
             //System.out.println(e.getMessage());
             Assertions.fail("Did not expect ValidationException for identifier: " + identifier + " - " + e.getMessage());
         }
+
+        // The non-throwing check must accept the identifier as well
+        final ValidationResult result = VALIDATOR_FACTORY.check(identifier, validationContext);
+        Assertions.assertTrue(result.isValid(), "Identifier should pass the check: " + identifier + " - " + result.getMessage());
+
+        // The parsed Digital Link must be accepted the same way
+        if (isDigitalLink(identifier)) {
+            final GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse(identifier);
+            Assertions.assertTrue(VALIDATOR_FACTORY.validateIdentifier(digitalLink, validationContext), "Digital Link should be valid: " + identifier);
+            Assertions.assertTrue(VALIDATOR_FACTORY.check(digitalLink, validationContext).isValid(), "Digital Link should pass the check: " + identifier);
+        }
+
+        assertCompiledMatchesMatchers(identifier, validationContext);
+        ValidatorDispatchIndexTest.assertDispatchedLikeChain(VALIDATOR_FACTORY, identifier, validationContext.isEpcisCompliant());
     }
 
 
@@ -98,6 +132,41 @@ public class ApplicationIdentifierValidationTestUtil {
             // Expected exception; test passes.
             //System.out.println(e.getMessage());
         }
+
+        // The non-throwing check must reject the identifier as well
+        try {
+            final ValidationResult result = VALIDATOR_FACTORY.check(identifier, validationContext);
+            Assertions.assertFalse(result.isValid(), "Identifier should fail the check: " + identifier);
+            Assertions.assertNotNull(result.getCode());
+            Assertions.assertNotNull(result.getMessage());
+        } catch (RuntimeException e) {
+            // Malformed input may break a rule which only exists in the throwing form, same as above
+        }
+
+        // The parsed Digital Link must be rejected the same way
+        if (isDigitalLink(identifier)) {
+            final GS1DigitalLink digitalLink = GS1DigitalLinkParser.parse(identifier);
+            Assertions.assertThrows(Exception.class, () -> VALIDATOR_FACTORY.validateIdentifier(digitalLink, validationContext),
+                    "Expected ValidationException for Digital Link: " + identifier);
+        }
+
+        assertCompiledMatchesMatchers(identifier, validationContext);
+        ValidatorDispatchIndexTest.assertDispatchedLikeChain(VALIDATOR_FACTORY, identifier, validationContext.isEpcisCompliant());
+    }
+
+    // The compiled fast path of every validator supporting the identifier accepts it exactly if its matchers do
+    private static void assertCompiledMatchesMatchers(final String identifier, final ValidationContext validationContext) {
+        for (final CompiledValidator validator : VALIDATORS) {
+            if (validator.supportsValidation(identifier, validationContext.isEpcisCompliant())) {
+                Assertions.assertEquals(validator.checkMatchers(identifier, validationContext).isValid(),
+                        validator.matchesCompiled(identifier, validationContext),
+                        () -> validator.getClass().getSimpleName() + " compiled matchers and matchers disagree on: " + identifier);
+            }
+        }
+    }
+
+    private static boolean isDigitalLink(final String identifier) {
+        return identifier != null && identifier.startsWith("http");
     }
 
     /**
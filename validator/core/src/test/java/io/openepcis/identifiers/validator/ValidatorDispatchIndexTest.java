@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2022-2026 benelog GmbH & Co. KG
+ * All rights reserved.
+ *
+ * Unauthorized copying, modification, distribution,
+ * or use of this work, via any medium, is strictly prohibited.
+ *
+ * benelog GmbH & Co. KG reserves all rights not expressly granted herein,
+ * including the right to sell licenses for using this work.
+ */
+package io.openepcis.identifiers.validator;
+
+import io.openepcis.digitallink.toolkit.GS1DigitalLinkNormalizer;
+import io.openepcis.digitallink.utils.DefaultGCPLengthProvider;
+import io.openepcis.digitallink.utils.GS1DigitalLinkParser;
+import io.openepcis.identifiers.validator.core.ApplicationIdentifierValidator;
+import io.openepcis.identifiers.validator.core.epcis.compliant.*;
+import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINCPVValidator;
+import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINLotSerialExpiryValidator;
+import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINWeightAmountBestBeforeValidator;
+import io.openepcis.identifiers.validator.core.epcis.noncompliant.GTINWeightValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidatorDispatchIndexTest {
+
+    // Validators in the precedence of the former chain of the ValidatorFactory
+    private static final List<ApplicationIdentifierValidator> VALIDATORS = List.of(
+            new GTINWeightAmountBestBeforeValidator(),
+            new GTINLotSerialExpiryValidator(),
+            new GTINCPVValidator(),
+            new GTINWeightValidator(),
+            new CPIValidator(),
+            new GCNValidator(),
+            new GDTIValidator(),
+            new GIAIValidator(),
+            new GINCValidator(),
+            new GRAIValidator(),
+            new GSINValidator(),
+            new GSRNPValidator(),
+            new GSRNValidator(),
+            new ITIPValidator(),
+            new PGLNValidator(),
+            new SGLNValidator(),
+            new SSCCValidator(),
+            new LGTINValidator(),
+            new UPUIValidator(),
+            new SGTINValidator());
+
+    private static final List<String> IDENTIFIERS = List.of(
+            "urn:epc:id:cpi:3813667.83201294-5A.489332",
+            "urn:epc:idpat:cpi:438483.74387483.*",
+            "urn:epc:id:sgcn:1234567890.12.1234",
+            "urn:epc:id:gdti:434934948984..4",
+            "urn:epc:id:giai:839495849585.0",
+            "urn:epc:id:ginc:1234567890.1234",
+            "urn:epc:id:grai:123456789012..!\"%&'()*+,-.",
+            "urn:epc:id:gsin:0614141.123456789",
+            "urn:epc:id:gsrnp:0614141.1234567890",
+            "urn:epc:id:gsrn:673674637437.47783",
+            "urn:epc:id:itip:583483473847.7.34.74.5785",
+            "urn:epc:idpat:itip:164759476414.5.56.34.*",
+            "urn:epc:id:pgln:1234567.89012",
+            "urn:epc:id:sgln:4374736473.64.0",
+            "urn:epc:id:sscc:9403940349.9034903",
+            "urn:epc:class:lgtin:234567.1890123.ABC",
+            "urn:epc:id:upui:787587.5483743.19:;<=>?AZ_az",
+            "urn:epc:id:sgtin:387583784374.7.9302932",
+            "urn:epc:idpat:sgtin:234567.1890123.*",
+            "https://id.gs1.org/8010/123456789012/8011/1010",
+            "https://id.gs1.org/255/43943943493924",
+            "https://google.fb.org/253/8438489238239",
+            "https://id.gs1.org/8004/061414112345400",
+            "https://eclipse.org/401/12345678901234A",
+            "https://id.gs1.org/8003/08493394839844",
+            "https://benelog.com/horrem/402/12345678905123456",
+            "https://google.com/8017/123456789012345678",
+            "https://hp.com/laptop/8018/654673483739829829",
+            "https://id.gs1.org/8006/123456789012345678",
+            "https://horrem.kerpen.de/417/1234567890128",
+            "https://id.gs1.org/414/6880009384938/254/12",
+            "https://marriot.in/blr/123/00/893594046673734737",
+            "https://id.gs1.org/01/59046477538590/10/2z32746",
+            "https://id.gs1.org/01/10614141234564/235/51qIgY)%3C%26Jp3*j7'SDB",
+            "https://lidl.de/food/frozen/01/59046539203740/21/9302932",
+            "https://id.gs1.org/01/88853849384934",
+            "https://id.gs1.org/01/09520123456784/22/22A",
+            "https://id.gs1.org/01/09520123456788/10/1/21/12345?17=180426",
+            "https://id.gs1.org/01/09520123456788/21/XYZ/10/AB",
+            "https://id.gs1.org/01/09520123456788/10/ABCD?11=250101&17=251231",
+            "https://id.gs1.org/01/09520123456788/21/ZZ9?12=241231&13=241001&15=241220",
+            "https://id.gs1.org/01/09520123456788?3103=000189",
+            "https://id.gs1.org/01/09520123456788?17=201225&3103=000195&3922=0299",
+            "https://id.gs1.org/01/09520123456788?17=201225",
+            // Identifiers carrying tokens of more than one validator
+            "urn:epc:id:sgtin:0614141.112345.A/00/B",
+            "https://example.com/8003/01/09520123456788/21/1",
+            "https://example.com/10/ABC/01/09520123456788",
+            // Identifiers not supported by any validator
+            "urn:epc:id:unknown:1234567.89012",
+            "https://id.gs1.org/9999/12345678901231",
+            "");
+
+    private final ValidatorDispatchIndex index = ValidatorFactory.createDispatchIndex();
+
+    private final ValidatorFactory validatorFactory =
+            new ValidatorFactory(new GS1DigitalLinkNormalizer(), DefaultGCPLengthProvider.getInstance());
+
+    /**
+     * Asserts the validator factory selects the same validator as asking every validator of the former chain in
+     * turn, for the identifier and for the parsed Digital Link. Called for every fixture of the validator tests,
+     * so that the registration table cannot drift from the supportsValidation methods of the validators.
+     *
+     * @param validatorFactory the validator factory under test
+     * @param identifier       the GS1 identifier
+     * @param isEpcisCompliant flag indicating if EPCIS compliant validation should be applied
+     */
+    public static void assertDispatchedLikeChain(final ValidatorFactory validatorFactory, final String identifier,
+                                                 final boolean isEpcisCompliant) {
+        final Class<?> expected = probe(identifier, isEpcisCompliant);
+        assertSame(expected, type(validatorFactory.validatorFor(identifier, isEpcisCompliant)),
+                () -> identifier + " epcisCompliant=" + isEpcisCompliant);
+        if (identifier.startsWith("http")) {
+            assertSame(expected, type(validatorFactory.validatorFor(GS1DigitalLinkParser.parse(identifier), isEpcisCompliant)),
+                    () -> "parsed " + identifier + " epcisCompliant=" + isEpcisCompliant);
+        }
+    }
+
+    @Test
+    void indexSelectsSameValidatorAsChain() {
+        for (final String identifier : IDENTIFIERS) {
+            for (final boolean isEpcisCompliant : new boolean[]{true, false}) {
+                assertSame(probe(identifier, isEpcisCompliant), type(index.forIdentifier(identifier, isEpcisCompliant)),
+                        identifier + " epcisCompliant=" + isEpcisCompliant);
+                assertDispatchedLikeChain(validatorFactory, identifier, isEpcisCompliant);
+            }
+        }
+    }
+
+    @Test
+    void indexKeepsOrderOfFormerChain() {
+        assertEquals(VALIDATORS.stream().map(Object::getClass).toList(),
+                index.validators().stream().map(Object::getClass).toList());
+    }
+
+    @Test
+    void precedenceOfFormerChain() {
+        // GS1 Digital Link only validators come first when EPCIS compliance is not required
+        assertDispatch(GTINLotSerialExpiryValidator.class, LGTINValidator.class,
+                "https://id.gs1.org/01/59046477538590/10/2z32746");
+        assertDispatch(GTINLotSerialExpiryValidator.class, SGTINValidator.class,
+                "https://id.gs1.org/01/59046539203740/21/9302932");
+        assertDispatch(GTINCPVValidator.class, SGTINValidator.class,
+                "https://id.gs1.org/01/09520123456784/22/22A");
+
+        // Lot and serial together are not EPCIS compliant
+        assertDispatch(GTINLotSerialExpiryValidator.class, null,
+                "https://id.gs1.org/01/09520123456788/10/AB/21/XYZ");
+
+        // UPUI precedes SGTIN, lot or serial qualifiers only matter without EPCIS compliance
+        assertDispatch(UPUIValidator.class, UPUIValidator.class,
+                "https://id.gs1.org/01/10614141234564/235/51qIgY");
+
+        // URNs are dispatched on their scheme regardless of EPCIS compliance
+        assertDispatch(SSCCValidator.class, SSCCValidator.class,
+                "urn:epc:id:sscc:9403940349.9034903");
+        assertDispatch(LGTINValidator.class, LGTINValidator.class,
+                "urn:epc:class:lgtin:234567.1890123.ABC");
+    }
+
+    // Asserts the chain and the index agree, and select the expected validator types
+    private void assertDispatch(final Class<?> nonCompliant, final Class<?> compliant, final String identifier) {
+        assertSame(nonCompliant, probe(identifier, false), identifier);
+        assertSame(nonCompliant, type(index.forIdentifier(identifier, false)), identifier);
+        assertSame(compliant, probe(identifier, true), identifier);
+        assertSame(compliant, type(index.forIdentifier(identifier, true)), identifier);
+    }
+
+    // Type of the first validator of the former chain supporting the identifier
+    private static Class<?> probe(final String identifier, final boolean isEpcisCompliant) {
+        for (final ApplicationIdentifierValidator validator : VALIDATORS) {
+            if (validator.supportsValidation(identifier, isEpcisCompliant)) {
+                return validator.getClass();
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> type(final ApplicationIdentifierValidator validator) {
+        return validator == null ? null : validator.getClass();
+    }
+}